@@ -0,0 +1,84 @@
+package com.neb.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.neb.constants.WorkStatus;
+import com.neb.dto.DailyReportRow;
+import com.neb.entity.Employee;
+import com.neb.entity.Work;
+
+/**
+ * Test data shared by the benchmarks. Values look like real employees
+ * (same field lengths) so PDF sizes and mapping costs are realistic.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static Employee employee(long id) {
+        Employee emp = new Employee();
+        emp.setId(id);
+        emp.setFirstName("Employee" + id);
+        emp.setLastName("Nebulytix");
+        emp.setEmail("employee" + id + "@nebulytix.com");
+        emp.setMobile("98765" + String.format("%05d", id % 100000));
+        emp.setCardNumber("NEB" + String.format("%05d", id));
+        emp.setLoginRole("employee");
+        emp.setJobRole(id % 3 == 0 ? "intern" : "developer");
+        emp.setDomain(id % 2 == 0 ? "Java" : "Python");
+        emp.setGender(id % 2 == 0 ? "Male" : "Female");
+        emp.setJoiningDate(LocalDate.of(2023, 1, 1).plusDays(id % 700));
+        emp.setSalary(25000.0 + (id % 50) * 1500);
+        emp.setDaysPresent(22);
+        emp.setPaidLeaves(2);
+        emp.setBankAccountNumber("1234567890" + id);
+        emp.setBankName("State Bank of India");
+        emp.setPfNumber("PF" + id);
+        emp.setPanNumber("ABCDE" + String.format("%04d", id % 10000) + "F");
+        emp.setUanNumber("UAN" + id);
+        emp.setEpsNumber("EPS" + id);
+        emp.setEsiNumber("ESI" + id);
+        return emp;
+    }
+
+    static List<Employee> employees(int count) {
+        List<Employee> list = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            list.add(employee(i));
+        }
+        return list;
+    }
+
+    static List<Work> works(int count, LocalDate submittedDate) {
+        List<Employee> employees = employees(Math.max(1, Math.min(count, 500)));
+        List<Work> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Work w = new Work();
+            w.setId((long) i + 1);
+            w.setTitle("Task " + (i + 1) + " - implement module");
+            w.setDescription("Implement the module and write unit tests");
+            w.setAssignedDate(submittedDate.minusDays(3));
+            w.setDueDate(submittedDate.plusDays(2));
+            w.setStatus(WorkStatus.COMPLETED);
+            w.setReportDetails("Finished the implementation, tests are passing and the PR is raised for review.");
+            w.setSubmittedDate(submittedDate);
+            w.setEmployee(employees.get(i % employees.size()));
+            list.add(w);
+        }
+        return list;
+    }
+
+    // the works above as the daily report query returns them
+    static List<DailyReportRow> dailyReportRows(int count, LocalDate submittedDate) {
+        List<DailyReportRow> list = new ArrayList<>(count);
+        for (Work w : works(count, submittedDate)) {
+            Employee e = w.getEmployee();
+            list.add(new DailyReportRow(e.getCardNumber(), e.getFirstName(), e.getLastName(), e.getJobRole(),
+                    w.getTitle(), w.getStatus(), w.getReportDetails()));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,58 @@
+package com.neb.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * ---------------------------------------------------------------------
+ * Entry point for the JMH benchmarks.
+ *
+ * Usage :
+ *   mvn -Pbenchmark test-compile exec:exec
+ *   mvn -Pbenchmark test-compile exec:exec -Djmh.args="DailyReport -p rows=1000"
+ *
+ * Defaults :
+ *   - Throughput mode, 1 fork, 3 warmup + 5 measurement iterations.
+ *   - GC profiler on, so every result also has gc.alloc.rate and
+ *     gc.alloc.rate.norm (bytes allocated per operation).
+ *   - Results written to target/jmh-result.json.
+ *   Any standard JMH command line option overrides these.
+ * ---------------------------------------------------------------------
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+
+        OptionsBuilder builder = new OptionsBuilder();
+        if (cli.getIncludes().isEmpty()) {
+            builder.include("com\\.neb\\.benchmark\\..*");
+        }
+        // defaults only where the command line did not say otherwise
+        if (!cli.getForkCount().hasValue()) {
+            builder.forks(1);
+        }
+        if (!cli.getWarmupIterations().hasValue()) {
+            builder.warmupIterations(3);
+        }
+        if (!cli.getMeasurementIterations().hasValue()) {
+            builder.measurementIterations(5);
+        }
+        if (!cli.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            builder.result("target/jmh-result.json");
+        }
+        Options options = builder
+                .parent(cli)
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,44 @@
+package com.neb.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.neb.dto.DailyReportRow;
+import com.neb.util.ReportGeneratorPdf;
+
+/**
+ * Daily work report PDF (ReportGeneratorPdf.generateDailyReportPDF)
+ * for a small, a normal and a very busy day.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DailyReportPdfBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int rows;
+
+    private final LocalDate date = LocalDate.of(2025, 11, 5);
+    private final ReportGeneratorPdf generator = new ReportGeneratorPdf();
+    private List<DailyReportRow> works;
+
+    @Setup
+    public void setUp() {
+        works = BenchmarkData.dailyReportRows(rows, date);
+    }
+
+    @Benchmark
+    public byte[] generateDailyReportPDF() throws Exception {
+        return generator.generateDailyReportPDF(works, date);
+    }
+}
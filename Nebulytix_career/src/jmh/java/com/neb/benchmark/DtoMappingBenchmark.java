@@ -0,0 +1,94 @@
+package com.neb.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.neb.dto.EmployeeDetailsResponseDto;
+import com.neb.dto.WorkResponseDto;
+import com.neb.entity.Employee;
+import com.neb.entity.Work;
+import com.neb.mapper.EmployeeMapper;
+import com.neb.mapper.EmployeeMapperImpl;
+import com.neb.mapper.WorkMapper;
+import com.neb.mapper.WorkMapperImpl;
+
+/**
+ * The mapping behind the employee and task list endpoints:
+ * ModelMapper (used by the services before com.neb.mapper) against
+ * the MapStruct-generated mappers used now.
+ *
+ * Compare throughput and gc.alloc.rate.norm (bytes per call):
+ *   mvn -Pbenchmark test-compile exec:exec -Djmh.args="DtoMapping -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DtoMappingBenchmark {
+
+    // rows on one list page
+    @Param({"1", "100"})
+    private int rows;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final EmployeeMapper employeeMapper = new EmployeeMapperImpl();
+    private final WorkMapper workMapper = new WorkMapperImpl();
+
+    private List<Employee> employees;
+    private List<Work> works;
+
+    @Setup
+    public void setUp() {
+        employees = BenchmarkData.employees(rows);
+        works = BenchmarkData.works(rows, LocalDate.of(2025, 8, 14));
+        // employeeName matches several Employee properties; ModelMapper needs it skipped explicitly
+        modelMapper.emptyTypeMap(Work.class, WorkResponseDto.class)
+                .addMappings(m -> m.skip(WorkResponseDto::setEmployeeName))
+                .implicitMappings();
+        // first map builds ModelMapper's type maps; keep it out of the measurement
+        modelMapper.map(employees.get(0), EmployeeDetailsResponseDto.class);
+        modelMapper.map(works.get(0), WorkResponseDto.class);
+    }
+
+    @Benchmark
+    public List<EmployeeDetailsResponseDto> employeesModelMapper() {
+        List<EmployeeDetailsResponseDto> result = new ArrayList<>(employees.size());
+        for (Employee employee : employees) {
+            result.add(modelMapper.map(employee, EmployeeDetailsResponseDto.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<EmployeeDetailsResponseDto> employeesGenerated() {
+        return employeeMapper.toDetailsDtos(employees);
+    }
+
+    @Benchmark
+    public List<WorkResponseDto> worksModelMapper() {
+        List<WorkResponseDto> result = new ArrayList<>(works.size());
+        for (Work work : works) {
+            WorkResponseDto dto = modelMapper.map(work, WorkResponseDto.class);
+            // ModelMapper cannot build "First Last" on its own (skipped in setUp)
+            dto.setEmployeeName(work.getEmployee().getFirstName() + " " + work.getEmployee().getLastName());
+            result.add(dto);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<WorkResponseDto> worksGenerated() {
+        return workMapper.toDtos(works);
+    }
+}
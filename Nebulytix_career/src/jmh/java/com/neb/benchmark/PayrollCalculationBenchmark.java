@@ -0,0 +1,85 @@
+package com.neb.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.neb.entity.Employee;
+import com.neb.entity.Payslip;
+import com.neb.util.PayslipCalculator;
+import com.neb.util.payroll.PayrollBatch;
+import com.neb.util.payroll.PayrollEngine;
+import com.neb.util.payroll.PayrollRule;
+import com.neb.util.payroll.PayrollRules;
+
+/**
+ * Salary breakdown, measured per employee:
+ *   boxedDoubles → the inline Double maths PayslipCalculator used before PayrollEngine
+ *   buildPayslip → one Payslip per employee through the engine (generate endpoint)
+ *   engineBatch  → the whole company in one columnar batch (payroll run, preview)
+ *
+ *   mvn -Pbenchmark test-compile exec:exec -Djmh.args="PayrollCalculation -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PayrollCalculationBenchmark {
+
+    private static final int EMPLOYEES = 1000;
+
+    private List<Employee> employees;
+    private PayrollEngine engine;
+
+    @Setup
+    public void setUp() {
+        employees = BenchmarkData.employees(EMPLOYEES);
+        // a few overrides, so the rule lookup is part of the measurement
+        engine = new PayrollEngine(PayrollRules.standard()
+                .put("role:intern", PayrollRule.STANDARD.with("basic=60,hra=20,flexi=20,prof-tax=0"))
+                .put("Java/developer", PayrollRule.STANDARD.with("basic=50,hra=25,flexi=25")));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public void boxedDoubles(Blackhole bh) {
+        for (Employee emp : employees) {
+            Payslip p = new Payslip();
+            double salary = emp.getSalary() != null ? emp.getSalary() : 0.0;
+            p.setBasic(salary * 0.53);
+            p.setHra(salary * 0.20);
+            p.setFlexi(salary * 0.27);
+            double gross = p.getBasic() + p.getHra() + p.getFlexi();
+            p.setGrossSalary(gross);
+            p.setPfDeduction(p.getBasic() * 0.12);
+            p.setProfTaxDeduction(200.0);
+            double ded = p.getPfDeduction() + p.getProfTaxDeduction();
+            p.setTotalDeductions(ded);
+            p.setNetSalary(gross - ded);
+            p.setTaxCredit((gross - ded) * 0.05);
+            bh.consume(p);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public void buildPayslip(Blackhole bh) {
+        for (Employee emp : employees) {
+            bh.consume(PayslipCalculator.buildPayslip(emp, "August 2025", engine));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EMPLOYEES)
+    public PayrollBatch engineBatch() {
+        return engine.calculate(employees);
+    }
+}
@@ -0,0 +1,40 @@
+package com.neb.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.neb.entity.Employee;
+import com.neb.entity.Payslip;
+import com.neb.util.PayslipCalculator;
+import com.neb.util.PdfGeneratorUtil;
+import com.neb.util.payroll.PayrollEngine;
+
+/**
+ * Rendering of one payslip PDF (PdfGeneratorUtil.createPayslipPdf).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PayslipPdfBenchmark {
+
+    private Employee employee;
+    private Payslip payslip;
+
+    @Setup
+    public void setUp() {
+        employee = BenchmarkData.employee(42);
+        payslip = PayslipCalculator.buildPayslip(employee, "August 2025", PayrollEngine.standard());
+    }
+
+    @Benchmark
+    public byte[] createPayslipPdf() throws Exception {
+        return PdfGeneratorUtil.createPayslipPdf(employee, payslip);
+    }
+}
@@ -1,17 +1,11 @@
 package com.neb;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
 
 @SpringBootApplication
 public class NebulytixCareerApplication {
 
-	@Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
 	public static void main(String[] args) {
 		SpringApplication.run(NebulytixCareerApplication.class, args);
 	}
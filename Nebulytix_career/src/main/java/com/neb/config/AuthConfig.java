@@ -0,0 +1,37 @@
+package com.neb.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neb.service.AuthTokenService;
+import com.neb.util.PasswordHasher;
+
+/**
+ * Token authentication for the admin, HR, employee, job and payroll
+ * run APIs
+ * (see AuthTokenFilter). No HttpSession is used, so requests can be
+ * served by any node.
+ *
+ * - auth.password.iterations is the PBKDF2 cost of new password
+ *   hashes (at least PasswordHasher.MIN_ITERATIONS).
+ */
+@Configuration
+public class AuthConfig {
+
+    @Bean
+    public FilterRegistrationBean<AuthTokenFilter> authTokenFilter(AuthTokenService tokenService,
+                                                                   ObjectMapper objectMapper) {
+        FilterRegistrationBean<AuthTokenFilter> registration =
+                new FilterRegistrationBean<>(new AuthTokenFilter(tokenService, objectMapper));
+        registration.addUrlPatterns("/api/admin/*", "/api/hr/*", "/api/employee/*", "/api/jobs/*", "/api/payslip/*");
+        return registration;
+    }
+
+    @Bean
+    public PasswordHasher passwordHasher(@Value("${auth.password.iterations:310000}") int iterations) {
+        return new PasswordHasher(iterations);
+    }
+}
@@ -0,0 +1,120 @@
+package com.neb.config;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neb.dto.AuthUser;
+import com.neb.dto.ResponseMessage;
+import com.neb.service.AuthTokenService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Checks the access token of every /api/admin, /api/hr,
+ * /api/employee, /api/jobs and /api/payslip request (replaces the
+ * HttpSession role checks).
+ *
+ * - The token is sent as "Authorization: Bearer <token>" (returned
+ *   by the login endpoints, which are the only ones left open).
+ * - Each prefix needs its own role(s): admin, hr or employee; any
+ *   logged-in user may use /api/jobs (the job service checks the
+ *   owner), only admin / HR may start a payroll run.
+ * - The path is taken from the servlet path (decoded, ";params"
+ *   removed, normalized), which is what Spring routes on. A request
+ *   whose raw URI differs from it ("/api/admin;x/..", "/api/%61dmin/..")
+ *   is rejected with 400, so no spelling of a path can skip the check.
+ * - No / invalid / expired / revoked token → 401, wrong role → 403.
+ * - The caller is put in the request as AuthUser.REQUEST_ATTRIBUTE.
+ * - CORS preflight (OPTIONS) requests are passed through.
+ *
+ * Registered for those paths in AuthConfig.
+ */
+public class AuthTokenFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    // the only paths under the protected prefixes that need no token
+    private static final Set<String> OPEN_PATHS = Set.of(
+            "/api/admin/login", "/api/hr/login", "/api/employee/login");
+
+    // path prefix → roles allowed there
+    private static final Map<String, Set<String>> ROLES = Map.of(
+            "/api/admin/", Set.of("admin"),
+            "/api/hr/", Set.of("hr"),
+            "/api/employee/", Set.of("employee"),
+            "/api/jobs/", Set.of("admin", "hr", "employee"),
+            "/api/payslip/", Set.of("admin", "hr"));
+
+    private final AuthTokenService tokenService;
+    private final ObjectMapper objectMapper;
+
+    public AuthTokenFilter(AuthTokenService tokenService, ObjectMapper objectMapper) {
+        this.tokenService = tokenService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String path = request.getServletPath() + (request.getPathInfo() != null ? request.getPathInfo() : "");
+        String rawPath = request.getRequestURI().substring(request.getContextPath().length());
+        if (!rawPath.equals(path)) {
+            reject(response, HttpStatus.BAD_REQUEST, "Encoded characters or path parameters are not allowed in this URL");
+            return;
+        }
+        Set<String> allowedRoles = allowedRoles(path);
+        if (allowedRoles == null || HttpMethod.OPTIONS.matches(request.getMethod()) || OPEN_PATHS.contains(path)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String header = request.getHeader("Authorization");
+        AuthUser user = header != null && header.startsWith(BEARER)
+                ? tokenService.verify(header.substring(BEARER.length()).trim())
+                : null;
+        if (user == null) {
+            reject(response, HttpStatus.UNAUTHORIZED, "Login required: access token missing, invalid or expired");
+            return;
+        }
+        if (!allowedRoles.contains(user.role())) {
+            reject(response, HttpStatus.FORBIDDEN, "Access denied! Please login as "
+                    + String.join(" or ", new TreeSet<>(allowedRoles)) + ".");
+            return;
+        }
+
+        request.setAttribute(AuthUser.REQUEST_ATTRIBUTE, user);
+        chain.doFilter(request, response);
+    }
+
+    private static Set<String> allowedRoles(String path) {
+        for (Map.Entry<String, Set<String>> e : ROLES.entrySet()) {
+            String prefix = e.getKey();
+            if (path.startsWith(prefix) || path.equals(prefix.substring(0, prefix.length() - 1))) {
+                return e.getValue();
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (status == HttpStatus.UNAUTHORIZED) {
+            response.setHeader("WWW-Authenticate", "Bearer");
+        }
+        objectMapper.writeValue(response.getOutputStream(),
+                new ResponseMessage<>(status.value(), status.name(), message, null));
+    }
+}
@@ -0,0 +1,13 @@
+package com.neb.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns on @Cacheable / @CacheEvict. The cache provider (Caffeine),
+ * cache names and size/expiry come from spring.cache.* properties.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,33 @@
+package com.neb.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.neb.util.payroll.PayrollEngine;
+import com.neb.util.payroll.PayrollRules;
+
+/**
+ * Payroll calculation setup.
+ *
+ * - payroll.rules.default changes the default split (53/20/27, PF 12%,
+ *   professional tax 200, tax credit 5%).
+ * - payroll.rules.overrides adds rules per domain / job role.
+ * A bad rule stops the application at startup instead of producing
+ * wrong payslips.
+ */
+@Configuration
+public class PayrollConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollConfig.class);
+
+    @Bean
+    public PayrollEngine payrollEngine(@Value("${payroll.rules.default:}") String defaults,
+                                       @Value("${payroll.rules.overrides:}") String overrides) {
+        PayrollRules rules = PayrollRules.parse(defaults, overrides);
+        log.info("Payroll rules loaded: default {} + {} override(s)", rules.getDefaultRule(), rules.size() - 1);
+        return new PayrollEngine(rules);
+    }
+}
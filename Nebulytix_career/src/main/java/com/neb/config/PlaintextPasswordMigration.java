@@ -0,0 +1,64 @@
+package com.neb.config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.neb.util.PasswordHasher;
+
+/**
+ * Replaces the plaintext passwords left from before hashing.
+ *
+ * - Login already accepts and upgrades them, but accounts that never
+ *   log in again would keep a readable password in the table. This
+ *   hashes all of them once, after startup.
+ * - Runs on its own thread: each hash takes the full PBKDF2 cost,
+ *   and startup does not wait for it. Later starts find nothing left.
+ * - Each row is replaced only if it still holds the plaintext that
+ *   was read, so a password changed or upgraded by a login in the
+ *   meantime is kept.
+ * - Native SQL: inactive employees are migrated too.
+ */
+@Component
+public class PlaintextPasswordMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaintextPasswordMigration.class);
+
+    private record StoredPassword(long id, String password) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::migrate, "plaintext-password-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public int migrate() {
+        List<StoredPassword> plaintext = jdbc.query(
+                "select id, password from employees where password is not null and password not like ?",
+                (rs, i) -> new StoredPassword(rs.getLong("id"), rs.getString("password")),
+                PasswordHasher.PREFIX + "%");
+        int migrated = 0;
+        for (StoredPassword p : plaintext) {
+            migrated += jdbc.update("update employees set password = ? where id = ? and password = ?",
+                    passwordHasher.hash(p.password()), p.id(), p.password());
+        }
+        if (migrated > 0) {
+            log.info("Hashed {} plaintext password(s)", migrated);
+        }
+        return migrated;
+    }
+}
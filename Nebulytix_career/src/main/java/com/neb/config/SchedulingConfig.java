@@ -0,0 +1,14 @@
+package com.neb.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Turns on @Scheduled methods (monthly payslips, email outbox dispatch,
+ * schedule status timer).
+ * Pool size is set with spring.task.scheduling.pool.size.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
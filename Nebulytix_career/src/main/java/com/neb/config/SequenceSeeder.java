@@ -0,0 +1,78 @@
+package com.neb.config;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Moves the id sequences past the ids already in their tables.
+ *
+ * - employees and payslips used IDENTITY before they switched to the
+ *   pooled sequences employee_seq / payslip_seq. ddl-auto creates
+ *   those sequences starting at 1, so on an existing database the
+ *   first inserts would reuse taken ids.
+ * - Runs once per start, after the schema update and before any
+ *   request or scheduler: a sequence below max(id) + allocation size
+ *   is restarted there; a sequence already past it is not touched.
+ * - Works for real sequences (H2, PostgreSQL, MariaDB) and for the
+ *   one-row tables Hibernate uses on MySQL instead.
+ */
+@Component
+public class SequenceSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceSeeder.class);
+
+    // sequence, table, allocationSize of its @SequenceGenerator
+    private record IdSequence(String sequence, String table, int allocationSize) {
+    }
+
+    private static final IdSequence[] SEQUENCES = {
+        new IdSequence("employee_seq", "employees", 50),
+        new IdSequence("payslip_seq", "payslips", 50),
+        new IdSequence("payroll_item_seq", "payroll_run_items", 50)
+    };
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    // the schema is created while this factory is built, so it is ready here
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void seedSequences() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+        for (IdSequence seq : SEQUENCES) {
+            // native query: also counts rows hidden by @SQLRestriction (inactive employees)
+            Long maxId = jdbc.queryForObject("select max(id) from " + seq.table(), Long.class);
+            if (maxId == null) {
+                continue;
+            }
+            // the pooled optimizer hands out (value - allocationSize, value]
+            long target = maxId + seq.allocationSize();
+            if (seed(dialect, seq, target)) {
+                log.info("Moved {} past id {} of {}", seq.sequence(), maxId, seq.table());
+            }
+        }
+    }
+
+    private boolean seed(Dialect dialect, IdSequence seq, long target) {
+        if (!dialect.getSequenceSupport().supportsSequences()) {
+            return jdbc.update("update " + seq.sequence() + " set next_val = ? where next_val < ?", target, target) > 0;
+        }
+        Long next = jdbc.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(seq.sequence()), Long.class);
+        if (next != null && next >= target) {
+            return false;
+        }
+        jdbc.execute("alter sequence " + seq.sequence() + " restart with " + target);
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package com.neb.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+
+import com.neb.service.StorageService;
+import com.neb.util.PdfGeneratorUtil;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+/**
+ * File storage setup.
+ *
+ * - storage.type=s3 creates the S3 client. storage.s3.endpoint and
+ *   path-style access let a local MinIO stand in for S3; without
+ *   access/secret keys the default AWS credential chain is used.
+ * - Loads the payslip logo (payslip.logo) from storage once the
+ *   application has started.
+ */
+@Configuration
+public class StorageConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageConfig.class);
+
+    @Autowired
+    private StorageService storage;
+
+    @Value("${payslip.logo:}")
+    private String logoKey;
+
+    // static so the client does not depend on this class (which needs the StorageService)
+    @Bean
+    @ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+    public static S3Client s3Client(@Value("${storage.s3.region:us-east-1}") String region,
+                                    @Value("${storage.s3.endpoint:}") String endpoint,
+                                    @Value("${storage.s3.path-style:false}") boolean pathStyle,
+                                    @Value("${storage.s3.access-key:}") String accessKey,
+                                    @Value("${storage.s3.secret-key:}") String secretKey) {
+
+        AwsCredentialsProvider credentials = accessKey.isEmpty()
+                ? DefaultCredentialsProvider.builder().build()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials)
+                .forcePathStyle(pathStyle);
+        if (!endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPayslipLogo() {
+        if (logoKey.isEmpty()) {
+            return;
+        }
+        try {
+            Resource logo = storage.load(logoKey);
+            if (!logo.exists()) {
+                log.warn("Payslip logo not found in storage: {}", logoKey);
+                return;
+            }
+            try (InputStream in = logo.getInputStream()) {
+                PdfGeneratorUtil.setLogo(in.readAllBytes());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load payslip logo {}", logoKey, e);
+        }
+    }
+}
@@ -22,22 +22,12 @@ package com.neb.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry
-            .addResourceHandler("/uploads/tasks/**")
-            .addResourceLocations("file:E:/NEBULYTIX TECHNOLOGIES/task attachments/");
-
-        registry
-            .addResourceHandler("/uploads/resumes/**")
-            .addResourceLocations("file:E:/NEBULYTIX TECHNOLOGIES/application resumes/");
-    }
+    // /uploads/tasks/** and /uploads/resumes/** are served by FileController from the StorageService
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
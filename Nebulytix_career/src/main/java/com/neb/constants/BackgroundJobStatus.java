@@ -0,0 +1,9 @@
+package com.neb.constants;
+
+public enum BackgroundJobStatus {
+    QUEUED,      // Accepted, waiting for a free worker
+    RUNNING,     // Picked up by a worker
+    COMPLETED,   // Finished; the result (if any) can be downloaded
+    FAILED,      // Threw an error, or the server stopped while it was running
+    CANCELLED    // Cancelled before or while running
+}
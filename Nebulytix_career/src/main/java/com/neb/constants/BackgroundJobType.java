@@ -0,0 +1,7 @@
+package com.neb.constants;
+
+public enum BackgroundJobType {
+    PAYROLL_RUN,     // Payslips for all employees for one month
+    PAYSLIP,         // Payslip for one employee and month
+    DAILY_REPORT     // Daily work report PDF for one date
+}
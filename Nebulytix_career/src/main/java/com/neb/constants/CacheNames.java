@@ -0,0 +1,14 @@
+package com.neb.constants;
+
+/**
+ * Names of the application caches (Caffeine, see spring.cache.* in
+ * application.properties).
+ */
+public final class CacheNames {
+
+    // pages of the public job listing, cleared when a job is added or expires
+    public static final String JOB_LISTINGS = "jobListings";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,8 @@
+package com.neb.constants;
+
+public enum EmailStatus {
+    PENDING,   // Waiting in the outbox (new or retry scheduled)
+    SENDING,   // Claimed by a dispatcher; re-sent if the claim expires
+    SENT,      // Accepted by the SMTP server
+    FAILED     // Gave up after the maximum number of attempts
+}
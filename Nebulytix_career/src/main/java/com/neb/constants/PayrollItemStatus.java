@@ -0,0 +1,7 @@
+package com.neb.constants;
+
+public enum PayrollItemStatus {
+    PENDING,     // Planned, payslip not generated yet
+    COMPLETED,   // Payslip saved for the month
+    FAILED       // Last attempt failed, retried on the next run
+}
@@ -0,0 +1,8 @@
+package com.neb.constants;
+
+public enum PayrollRunStatus {
+    RUNNING,                 // Run started (or crashed before finishing)
+    COMPLETED,               // Every employee has a payslip for the month
+    COMPLETED_WITH_ERRORS,   // Finished, but some employees failed
+    CANCELLED                // Stopped by a cancel; finished employees are kept, a new trigger resumes
+}
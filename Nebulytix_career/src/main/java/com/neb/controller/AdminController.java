@@ -6,8 +6,8 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,28 +17,48 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.neb.dto.AddEmployeeRequestDto;
 import com.neb.dto.AddEmployeeResponseDto;
 import com.neb.dto.AddWorkRequestDto;
+import com.neb.dto.AuthUser;
+import com.neb.dto.BackgroundJobDto;
 import com.neb.dto.EmployeeDetailsResponseDto;
+import com.neb.dto.EmployeeDirectoryPageDto;
+import com.neb.dto.EmployeeDirectoryQuery;
+import com.neb.dto.EmployeeImportReportDto;
 import com.neb.dto.EmployeeResponseDto;
 import com.neb.dto.GeneratePayslipRequest;
 import com.neb.dto.LoginRequestDto;
+import com.neb.dto.PayrollPreviewDto;
 import com.neb.dto.PayslipDto;
 import com.neb.dto.ResponseMessage;
 import com.neb.dto.UpdateEmployeeRequestDto;
 import com.neb.dto.UpdateEmployeeResponseDto;
 import com.neb.dto.WorkResponseDto;
-import com.neb.entity.Payslip;
+import com.neb.exception.CustomeException;
 import com.neb.service.AdminService;
-import com.neb.service.EmployeeService;
+import com.neb.service.AuthTokenService;
+import com.neb.service.AuthenticationService;
+import com.neb.service.EmployeeImportService;
+import com.neb.service.GenerationJobService;
 import com.neb.service.HrService;
+import com.neb.service.PayrollRunService;
+import com.neb.service.ReportExportService;
+import com.neb.util.DownloadResponseUtil;
+import com.neb.util.JobResponseUtil;
+import com.neb.util.PayslipCalculator;
+import com.neb.util.export.ReportFormat;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 
 @RestController
@@ -52,16 +72,43 @@ public class AdminController {
 	private HrService hrService;
 	
 	@Autowired
-	private EmployeeService employeeService;
+	private GenerationJobService generationJobService;
+
+	@Autowired
+	private PayrollRunService payrollRunService;
+
+	@Autowired
+	private ReportExportService reportExportService;
+
+	@Autowired
+	private EmployeeImportService employeeImportService;
+
+	@Autowired
+	private AuthTokenService authTokenService;
+
+	@Autowired
+	private AuthenticationService authenticationService;
 	
 	@PostMapping("/login")
-	public ResponseEntity<ResponseMessage<EmployeeResponseDto>> login(@RequestBody LoginRequestDto loginReq){
+	public ResponseEntity<ResponseMessage<EmployeeResponseDto>> login(@RequestBody LoginRequestDto loginReq, HttpServletRequest request){
 		
-		EmployeeResponseDto loginRes = adminService.login(loginReq);
+		// the returned token goes in "Authorization: Bearer <token>" on every /api/admin request
+		EmployeeResponseDto loginRes = authenticationService.login(loginReq, request.getRemoteAddr());
 		
 		return ResponseEntity.ok(new ResponseMessage<EmployeeResponseDto>(HttpStatus.OK.value(), HttpStatus.OK.name(), "admin login successfully", loginRes));
 	}
 	
+	/**
+	 * Logs the admin out: the access token is revoked until it expires.
+	 */
+	@GetMapping("/logout")
+	public ResponseEntity<ResponseMessage<String>> logout(@RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user){
+		
+		authTokenService.revoke(user);
+		
+		return ResponseEntity.ok(new ResponseMessage<String>(HttpStatus.OK.value(), HttpStatus.OK.name(), "admin logged out successfully", null));
+	}
+	
 	/**
      * Adds a new HR employee to the system.
      * 
@@ -90,6 +137,42 @@ public class AdminController {
 		
 		return ResponseEntity.ok(new ResponseMessage<List<EmployeeDetailsResponseDto>>(HttpStatus.OK.value(), HttpStatus.OK.name(), "All Employee fetched successfully", employeeList));
 	}
+	
+	/**
+     * Employee directory, one page at a time (keyset pagination).
+     * Filters: domain, jobRole, status. Sort: name, joiningDate or id.
+     * Pass nextCursor from the response to get the following page.
+     */
+	@GetMapping("/employees")
+	public ResponseEntity<ResponseMessage<EmployeeDirectoryPageDto>> getEmployeeDirectory(EmployeeDirectoryQuery query){
+		
+		EmployeeDirectoryPageDto page = adminService.getEmployeeDirectory(query);
+		
+		return ResponseEntity.ok(new ResponseMessage<EmployeeDirectoryPageDto>(HttpStatus.OK.value(), HttpStatus.OK.name(), "Employees fetched successfully", page));
+	}
+
+	/**
+     * Adds many employees at once from a CSV file (header row with the
+     * AddEmployeeRequestDto field names) or a JSON array.
+     * Invalid rows and existing emails are skipped and listed in the report.
+     *
+     * @param file         the .csv or .json file
+     * @param loginRole    role of the imported rows: employee (default) or hr
+     * @param validateOnly check the file without saving anything
+     * @return counts and the rejected rows
+     */
+	@PostMapping(value = "/employees/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<ResponseMessage<EmployeeImportReportDto>> importEmployees(
+			@RequestPart("file") MultipartFile file,
+			@RequestParam(defaultValue = "employee") String loginRole,
+			@RequestParam(defaultValue = "false") boolean validateOnly){
+		
+		EmployeeImportReportDto report = employeeImportService.importEmployees(file, loginRole, validateOnly);
+		String message = (validateOnly ? "Valid: " : "Imported: ") + report.getImported()
+				+ " of " + report.getTotalRows() + " employees";
+		
+		return ResponseEntity.ok(new ResponseMessage<EmployeeImportReportDto>(HttpStatus.OK.value(), HttpStatus.OK.name(), message, report));
+	}
 	 @PostMapping(value = "/work/add", consumes = { MediaType.MULTIPART_FORM_DATA_VALUE })
 	 
 	    public ResponseEntity<ResponseMessage<String>> addWork(
@@ -147,20 +230,17 @@ public class AdminController {
 			return ResponseEntity.ok(new ResponseMessage<EmployeeDetailsResponseDto>(HttpStatus.OK.value(), HttpStatus.OK.name(), " Employee fetched successfully", employee));
 		}
 		
+	    /**
+	     * Streams a payslip PDF from disk. Supports Range requests and
+	     * conditional GET (ETag / Last-Modified).
+	     *
+	     * @param id the payslip ID
+	     * @return the payslip PDF as an attachment
+	     */
 		@GetMapping("/payslip/{id}/download")
-	    public ResponseEntity<byte[]> download(@PathVariable Long id) throws Exception {
-	        byte[] pdf = hrService.downloadPayslip(id);
-
-	        HttpHeaders headers = new HttpHeaders();
-	        headers.setContentType(MediaType.APPLICATION_PDF);
-	        headers.setContentDisposition(ContentDisposition
-	            .attachment()
-	            .filename("payslip_" + id + ".pdf")
-	            .build());
-
-	        return ResponseEntity.ok()
-	                             .headers(headers)
-	                             .body(pdf);
+	    public ResponseEntity<Resource> download(@PathVariable Long id) {
+	        Resource pdf = hrService.downloadPayslip(id);
+	        return DownloadResponseUtil.pdfAttachment(pdf, "payslip_" + id + ".pdf");
 	    }
 
 	    /**
@@ -176,19 +256,43 @@ public class AdminController {
 	    }
 	    
 	    /**
-	     * Generates a new payslip for a specific employee and month.
+	     * Starts generating a payslip for a specific employee and month.
 	     *
 	     * @param request contains employee ID and month-year
-	     * @return generated payslip details
-	     * @throws Exception if payslip generation fails
+	     * @return 202 with the background job; poll /api/jobs/{id}, the PDF
+	     *         is then at /api/jobs/{id}/result
 	     */
 	    @PostMapping("/payslip/generate")
-	    public ResponseEntity<PayslipDto> generate(@RequestBody GeneratePayslipRequest request) throws Exception {
-	        Payslip p = employeeService.generatePayslip(request.getEmployeeId(), request.getMonthYear());
-	        PayslipDto dto = PayslipDto.fromEntity(p);
-	        return ResponseEntity.ok(dto);
+	    public ResponseEntity<ResponseMessage<BackgroundJobDto>> generate(@RequestBody GeneratePayslipRequest request,
+	    		@RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user) {
+	        BackgroundJobDto job = generationJobService.submitPayslip(request.getEmployeeId(), request.getMonthYear(), user);
+	        return JobResponseUtil.accepted(job, "Payslip generation started");
 	    }
 		 
+	    /**
+	     * Payroll preview: what the monthly run would pay, calculated in memory.
+	     * No payslip, PDF or run checkpoint is written.
+	     * e.g. /api/admin/payroll/preview?monthYear=November 2025&domain=Java&lines=false
+	     *
+	     * @param monthYear month to preview (current month if not given)
+	     * @param domain    only employees of this domain (optional)
+	     * @param jobRole   only employees with this job role (optional)
+	     * @param lines     include one line per employee (default true)
+	     * @return totals and per-employee amounts
+	     */
+	    @GetMapping("/payroll/preview")
+	    public ResponseEntity<ResponseMessage<PayrollPreviewDto>> previewPayroll(
+	            @RequestParam(required = false) String monthYear,
+	            @RequestParam(required = false) String domain,
+	            @RequestParam(required = false) String jobRole,
+	            @RequestParam(defaultValue = "true") boolean lines) {
+
+	    	String month = monthYear != null ? monthYear : PayslipCalculator.monthYear(LocalDate.now());
+	    	PayrollPreviewDto preview = payrollRunService.previewMonthlyPayroll(month, domain, jobRole, lines);
+	    	return ResponseEntity.ok(new ResponseMessage<>(HttpStatus.OK.value(), HttpStatus.OK.name(),
+	    			"Payroll preview for " + month, preview));
+	    }
+
 	    /**
 	     * Updates the attendance (number of working days) for an employee.
 	     *
@@ -204,18 +308,81 @@ public class AdminController {
 	    	return ResponseEntity.ok(new ResponseMessage<EmployeeDetailsResponseDto>(HttpStatus.OK.value(), HttpStatus.OK.name(), "employee details updated", updatedEmp));
 	    }
 	    
+	    /**
+	     * Daily work report PDF for the given submitted date (today if not given),
+	     * e.g. /api/admin/reports/daily?date=2025-11-05.
+	     * The PDF is written to the response while the rows are read, so large
+	     * days start downloading at once and are never held in memory.
+	     */
 	    @GetMapping("/reports/daily")
-	    public ResponseEntity<byte[]> generateReport() throws Exception {
-	    		    	
-	    	LocalDate date = LocalDate.of(2025, 11, 05);
-	        byte[] pdfBytes = adminService.generateDailyReport(date);
-	        HttpHeaders headers = new HttpHeaders();
-	        headers.setContentType(MediaType.APPLICATION_PDF);
-	        headers.setContentDisposition(ContentDisposition
-	            .attachment()
-	            .filename("DailyReport_" + date + ".pdf")
-	            .build());
-	        System.out.println("pdf generated");
-	        return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
+	    public ResponseEntity<StreamingResponseBody> generateReport(
+	            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+
+	    	LocalDate reportDate = date != null ? date : LocalDate.now();
+	        StreamingResponseBody body = out -> adminService.writeDailyReport(reportDate, out);
+	        return DownloadResponseUtil.streamedAttachment(body, MediaType.APPLICATION_PDF,
+	                "DailyReport_" + reportDate + ".pdf");
+	    }
+
+	    /**
+	     * Same report generated as a background job, for days too large to
+	     * wait for: returns 202 with the job at once; poll /api/jobs/{id} and
+	     * download the PDF from /api/jobs/{id}/result.
+	     */
+	    @PostMapping("/reports/daily")
+	    public ResponseEntity<ResponseMessage<BackgroundJobDto>> submitDailyReport(
+	            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+	            @RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user) {
+
+	    	LocalDate reportDate = date != null ? date : LocalDate.now();
+	    	BackgroundJobDto job = generationJobService.submitDailyReport(reportDate, user);
+	    	return JobResponseUtil.accepted(job, "Daily report for " + reportDate + " started");
+	    }
+
+	    /**
+	     * Work report export for a date range (both days included, at most a year),
+	     * e.g. /api/admin/reports/work?from=2025-11-01&to=2025-11-30&format=xlsx.
+	     * Formats: csv (default), xlsx, pdf.
+	     */
+	    @GetMapping("/reports/work")
+	    public ResponseEntity<StreamingResponseBody> exportWorkReport(
+	            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+	            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+	            @RequestParam(required = false) String format) {
+
+	    	LocalDate end = to != null ? to : from;
+	    	if (end.isBefore(from) || end.isAfter(from.plusYears(1))) {
+	    		throw new CustomeException("'to' must be on or after 'from' and at most one year later");
+	    	}
+	    	ReportFormat reportFormat = ReportFormat.from(format);
+	        StreamingResponseBody body = out -> reportExportService.exportWorkReport(from, end, reportFormat, out);
+	        return DownloadResponseUtil.streamedAttachment(body, reportFormat.getMediaType(),
+	                "WorkReport_" + from + "_" + end + "." + reportFormat.getExtension());
+	    }
+
+	    /**
+	     * Payroll register of one month (all payslips with amounts and bank details),
+	     * e.g. /api/admin/reports/payroll?month=November 2025&format=xlsx.
+	     */
+	    @GetMapping("/reports/payroll")
+	    public ResponseEntity<StreamingResponseBody> exportPayrollRegister(
+	            @RequestParam String month,
+	            @RequestParam(required = false) String format) {
+
+	    	String payslipMonth = month.trim();
+	    	ReportFormat reportFormat = ReportFormat.from(format);
+	        StreamingResponseBody body = out -> reportExportService.exportPayrollRegister(payslipMonth, reportFormat, out);
+	        return DownloadResponseUtil.streamedAttachment(body, reportFormat.getMediaType(),
+	                "PayrollRegister_" + payslipMonth.replace(" ", "_") + "." + reportFormat.getExtension());
+	    }
+
+	    /** Active employees per domain and job role. */
+	    @GetMapping("/reports/headcount")
+	    public ResponseEntity<StreamingResponseBody> exportHeadcount(@RequestParam(required = false) String format) {
+
+	    	ReportFormat reportFormat = ReportFormat.from(format);
+	        StreamingResponseBody body = out -> reportExportService.exportHeadcount(reportFormat, out);
+	        return DownloadResponseUtil.streamedAttachment(body, reportFormat.getMediaType(),
+	                "Headcount_" + LocalDate.now() + "." + reportFormat.getExtension());
 	    }
 }
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,6 +20,8 @@ import com.neb.dto.AddJobApplicationRequestDto;
 import com.neb.dto.AddJobApplicationResponseDto;
 import com.neb.dto.JobApplicationDto;
 import com.neb.dto.JobDetailsDto;
+import com.neb.dto.JobSummaryDto;
+import com.neb.dto.PagedResponseDto;
 import com.neb.dto.ResponseMessage;
 import com.neb.service.CareerPageService;
 
@@ -48,6 +51,31 @@ public class CareerPageController {
                         job));
     }
 
+    /**
+     * Public job listing: filter by domain, jobType, experienceLevel and
+     * active (all optional), newest first. Rows leave out the long job
+     * texts; use /job/{id} for those. Max page size is 100.
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<ResponseMessage<PagedResponseDto<JobSummaryDto>>> listJobs(
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String experienceLevel,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        PagedResponseDto<JobSummaryDto> jobs = service.listJobs(blankToNull(domain), blankToNull(jobType),
+                blankToNull(experienceLevel), active, Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+
+        return ResponseEntity.ok(
+                new ResponseMessage<>(
+                        HttpStatus.OK.value(),
+                        HttpStatus.OK.name(),
+                        "Jobs fetched successfully",
+                        jobs));
+    }
+
     @PostMapping(path = "/applyJob", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ResponseMessage<AddJobApplicationResponseDto>> applyForJob(
             @RequestPart("data") AddJobApplicationRequestDto requestDto,
@@ -78,4 +106,8 @@ public class CareerPageController {
                 )
         );
     }  
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
 }
@@ -11,26 +11,30 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.neb.dto.AuthUser;
+import com.neb.dto.BackgroundJobDto;
 import com.neb.dto.EmployeeDetailsResponseDto;
 import com.neb.dto.EmployeeResponseDto;
 import com.neb.dto.GeneratePayslipRequest;
 import com.neb.dto.LoginRequestDto;
-import com.neb.dto.PayslipDto;
 import com.neb.dto.ResponseMessage;
 import com.neb.dto.WorkResponseDto;
 import com.neb.entity.Employee;
-import com.neb.entity.Payslip;
 import com.neb.entity.Work;
+import com.neb.service.AuthTokenService;
+import com.neb.service.AuthenticationService;
 import com.neb.service.EmployeeService;
-import com.neb.util.SessionUtil;
+import com.neb.service.GenerationJobService;
+import com.neb.util.JobResponseUtil;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api/employee")
@@ -39,33 +43,37 @@ public class EmployeeController {
 	/** Injected service layer dependency for employee operations */
 	@Autowired
 	private EmployeeService employeeService;
+
+	@Autowired
+	private GenerationJobService generationJobService;
+
+	@Autowired
+	private AuthTokenService authTokenService;
+
+	@Autowired
+	private AuthenticationService authenticationService;
 	
 	@PostMapping("/login")
-	public ResponseEntity<ResponseMessage<EmployeeResponseDto>> login(@RequestBody LoginRequestDto loginReq){
+	public ResponseEntity<ResponseMessage<EmployeeResponseDto>> login(@RequestBody LoginRequestDto loginReq, HttpServletRequest request){
 		
-		EmployeeResponseDto loginRes = employeeService.login(loginReq);
+		// the returned token goes in "Authorization: Bearer <token>" on every /api/employee request
+		EmployeeResponseDto loginRes = authenticationService.login(loginReq, request.getRemoteAddr());
 		
 		return ResponseEntity.ok(new ResponseMessage<EmployeeResponseDto>(HttpStatus.OK.value(), HttpStatus.OK.name(), "Employee login successfully", loginRes));
 	}
 	
+	// runs in the background; poll /api/jobs/{id}, the PDF is then at /api/jobs/{id}/result
 	@PostMapping("/payslip/generate")
-    public ResponseEntity<PayslipDto> generate(@RequestBody GeneratePayslipRequest request) throws Exception {
-        System.out.println(request);
-		Payslip p = employeeService.generatePayslip(request.getEmployeeId(), request.getMonthYear());
-        PayslipDto dto = PayslipDto.fromEntity(p);
-        return ResponseEntity.ok(dto);
+    public ResponseEntity<ResponseMessage<BackgroundJobDto>> generate(@RequestBody GeneratePayslipRequest request,
+                                                                      @RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user) {
+        BackgroundJobDto job = generationJobService.submitPayslip(request.getEmployeeId(), request.getMonthYear(), user);
+        return JobResponseUtil.accepted(job, "Payslip generation started");
     }
 	
 	 // Get employee details
     @GetMapping("/get/{id}")
     public ResponseEntity<?> getEmployee(
-            @PathVariable Long id,
-            HttpSession session) {
-
-        if (!SessionUtil.isLoggedIn(session) || !SessionUtil.isEmployee(session)) {
-            return ResponseEntity.status(401)
-                    .body("Unauthorized: Employee session not found or expired");
-        }
+            @PathVariable Long id) {
 
         Employee emp = employeeService.getEmployeeById(id);
         return ResponseEntity.ok(
@@ -75,13 +83,7 @@ public class EmployeeController {
     
     @GetMapping("/details/{email}")
     public ResponseEntity<?> getEmployeeByEmail(
-            @PathVariable String email,
-            HttpSession session) {
-
-        if (!SessionUtil.isLoggedIn(session) || !SessionUtil.isEmployee(session)) {
-            return ResponseEntity.status(401)
-                    .body("Unauthorized: Employee session not found or expired");
-        }
+            @PathVariable String email) {
 
         EmployeeDetailsResponseDto emp = employeeService.getEmployeeByEmail(email);
         if (emp == null) {
@@ -96,13 +98,7 @@ public class EmployeeController {
     // Get tasks assigned to employee
     @GetMapping("/tasks/{employeeId}")
     public ResponseEntity<?> getTasks(
-            @PathVariable Long employeeId,
-            HttpSession session) {
-
-        if (!SessionUtil.isLoggedIn(session) || !SessionUtil.isEmployee(session)) {
-            return ResponseEntity.status(401)
-                    .body("Unauthorized: Employee session not found or expired");
-        }
+            @PathVariable Long employeeId) {
 
         List<Work> tasks = employeeService.getTasksByEmployee(employeeId);
         return ResponseEntity.ok(
@@ -116,13 +112,7 @@ public class EmployeeController {
             @PathVariable Long taskId,
             @RequestParam("status") String status,
             @RequestParam("reportDetails") String reportDetails,
-            @RequestParam(value = "reportAttachment", required = false) MultipartFile reportAttachment,
-            HttpSession session) {
-
-        if (!SessionUtil.isLoggedIn(session) || !SessionUtil.isEmployee(session)) {
-            return ResponseEntity.status(401)
-                    .body("Unauthorized: Employee session not found or expired");
-        }
+            @RequestParam(value = "reportAttachment", required = false) MultipartFile reportAttachment) {
 
         WorkResponseDto updatedTask = employeeService.submitReport(
                 taskId, status, reportDetails, reportAttachment, LocalDate.now());
@@ -138,11 +128,11 @@ public class EmployeeController {
     }
 
     // ============================================================
-    //LOGOUT — added
+    //LOGOUT — the access token is revoked until it expires
     // ============================================================
     @GetMapping("/logout")
-    public ResponseEntity<String> logout(HttpSession session) {
-        session.invalidate();   //  MODIFIED
+    public ResponseEntity<String> logout(@RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user) {
+        authTokenService.revoke(user);
         return ResponseEntity.ok("Employee logged out successfully");
     }
 }
@@ -0,0 +1,64 @@
+package com.neb.controller;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.neb.service.StorageService;
+import com.neb.util.DownloadResponseUtil;
+
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Serves uploaded task attachments and resumes from the
+ *   configured StorageService.
+ *
+ * Description :
+ *   - Keeps the URLs stored in the database working:
+ *       /uploads/tasks/{fileName}   → task attachments / reports
+ *       /uploads/resumes/{fileName} → job application resumes
+ *   - Replaces the static resource mappings to the local drive, so
+ *     files can also come from S3 when running on several nodes.
+ *   - Responses support ETag / Last-Modified and Range requests.
+ * --------------------------------------------------------------
+ */
+@RestController
+public class FileController {
+
+    @Autowired
+    private StorageService storage;
+
+    @Value("${task.attachment}")
+    private String taskFolder;
+
+    @Value("${application.resume}")
+    private String resumeFolder;
+
+    @GetMapping("/uploads/tasks/{fileName:.+}")
+    public ResponseEntity<Resource> taskAttachment(@PathVariable String fileName) throws IOException {
+        return serve(taskFolder, fileName);
+    }
+
+    @GetMapping("/uploads/resumes/{fileName:.+}")
+    public ResponseEntity<Resource> resume(@PathVariable String fileName) throws IOException {
+        return serve(resumeFolder, fileName);
+    }
+
+    private ResponseEntity<Resource> serve(String folder, String fileName) throws IOException {
+        // only plain file names, never paths
+        if (fileName.contains("/") || fileName.contains("\\") || fileName.startsWith(".")) {
+            return ResponseEntity.notFound().build();
+        }
+        Resource file = storage.load(folder + "/" + fileName);
+        if (!file.exists()) {
+            return ResponseEntity.notFound().build();
+        }
+        return DownloadResponseUtil.inlineFile(file, fileName);
+    }
+}
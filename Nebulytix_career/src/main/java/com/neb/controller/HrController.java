@@ -1,10 +1,10 @@
 package com.neb.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ContentDisposition;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,28 +14,44 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.neb.dto.AddEmployeeRequestDto;
 import com.neb.dto.AddEmployeeResponseDto;
 import com.neb.dto.AddJobRequestDto;
+import com.neb.dto.AuthUser;
+import com.neb.dto.BackgroundJobDto;
 import com.neb.dto.EmployeeDetailsResponseDto;
+import com.neb.dto.EmployeeDirectoryPageDto;
+import com.neb.dto.EmployeeDirectoryQuery;
+import com.neb.dto.EmployeeImportReportDto;
 import com.neb.dto.EmployeeResponseDto;
 import com.neb.dto.GeneratePayslipRequest;
 import com.neb.dto.JobDetailsDto;
 import com.neb.dto.LoginRequestDto;
+import com.neb.dto.PayrollPreviewDto;
 import com.neb.dto.PayslipDto;
 import com.neb.dto.ResponseMessage;
 import com.neb.dto.UpdateBankDetailsRequestDto;
 import com.neb.dto.UpdateEmployeeRequestDto;
 import com.neb.dto.UpdatePasswordRequestDto;
-import com.neb.entity.Payslip;
-import com.neb.service.EmployeeService;
+import com.neb.service.AuthTokenService;
+import com.neb.service.AuthenticationService;
+import com.neb.service.EmployeeImportService;
+import com.neb.service.GenerationJobService;
 import com.neb.service.HrService;
+import com.neb.service.PayrollRunService;
+import com.neb.util.DownloadResponseUtil;
+import com.neb.util.JobResponseUtil;
+import com.neb.util.PayslipCalculator;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/api/hr")
@@ -46,75 +62,87 @@ public class HrController {
     private HrService service;
 
     @Autowired
-    private EmployeeService employeeService;
+    private GenerationJobService generationJobService;
+
+    @Autowired
+    private PayrollRunService payrollRunService;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Autowired
+    private AuthenticationService authenticationService;
 
     /** ------------------------------
-     *  HR LOGIN  (CREATES SESSION)
+     *  HR LOGIN  (RETURNS ACCESS TOKEN)
+     *  Send it as "Authorization: Bearer <token>" on every /api/hr request
+     *  (checked by AuthTokenFilter).
      *  ------------------------------
      */
     @PostMapping("/login")
     public ResponseEntity<ResponseMessage<EmployeeResponseDto>> login(
-            @RequestBody LoginRequestDto loginReq,
-            HttpSession session) {
+            @RequestBody LoginRequestDto loginReq, HttpServletRequest request) {
 
-        EmployeeResponseDto loginRes = service.login(loginReq);
-
-        session.setAttribute("userId", loginRes.getId());
-        session.setAttribute("role", "HR");
-        session.setAttribute("email", loginRes.getEmail());
+        EmployeeResponseDto loginRes = authenticationService.login(loginReq, request.getRemoteAddr());
 
         return ResponseEntity.ok(
                 new ResponseMessage<>(HttpStatus.OK.value(), HttpStatus.OK.name(),
                         "HR login successfully", loginRes));
     }
 
-    /** ------------------------------
-     *  SESSION VALIDATION FOR HR
-     *  ------------------------------
-     */
-    private ResponseEntity<ResponseMessage<String>> validateHr(HttpSession session) {
-        String role = (String) session.getAttribute("role");
-
-        if (role == null || !role.equals("HR")) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(new ResponseMessage<>(401, "UNAUTHORIZED",
-                            "Access denied! Please login as HR.", null));
-        }
-        return null;
+    /** LOGOUT (the token is revoked until it expires) */
+    @GetMapping("/logout")
+    public ResponseEntity<?> logout(@RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user) {
+        authTokenService.revoke(user);
+        return ResponseEntity.ok(
+                new ResponseMessage<>(200, "OK", "HR logged out successfully", null));
     }
 
     /** ADD EMPLOYEE */
     @PostMapping("/add")
-    public ResponseEntity<?> addEmployee(@RequestBody AddEmployeeRequestDto addEmpReq,
-                                         HttpSession session) {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+    public ResponseEntity<?> addEmployee(@RequestBody AddEmployeeRequestDto addEmpReq) {
 
         AddEmployeeResponseDto addEmpRes = service.addEmployee(addEmpReq);
         return ResponseEntity.ok(
                 new ResponseMessage<>(200, "OK", "Employee added successfully", addEmpRes));
     }
 
+    /** BULK IMPORT EMPLOYEES (CSV or JSON file; validateOnly=true checks without saving) */
+    @PostMapping(value = "/employees/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importEmployees(@RequestPart("file") MultipartFile file,
+                                             @RequestParam(defaultValue = "false") boolean validateOnly) {
+
+        EmployeeImportReportDto report = employeeImportService.importEmployees(file, "employee", validateOnly);
+        String message = (validateOnly ? "Valid: " : "Imported: ") + report.getImported()
+                + " of " + report.getTotalRows() + " employees";
+        return ResponseEntity.ok(
+                new ResponseMessage<>(200, "OK", message, report));
+    }
+
     /** GET EMPLOYEE LIST */
     @GetMapping("/getEmpList")
-    public ResponseEntity<?> getEmployeeList(HttpSession session) {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+    public ResponseEntity<?> getEmployeeList() {
 
         List<EmployeeDetailsResponseDto> employeeList = service.getEmployeeList();
         return ResponseEntity.ok(
                 new ResponseMessage<>(200, "OK", "All employees fetched successfully", employeeList));
     }
 
+    /** EMPLOYEE DIRECTORY (keyset pagination: pass nextCursor to get the next page) */
+    @GetMapping("/employees")
+    public ResponseEntity<?> getEmployeeDirectory(EmployeeDirectoryQuery query) {
+
+        EmployeeDirectoryPageDto page = service.getEmployeeDirectory(query);
+        return ResponseEntity.ok(
+                new ResponseMessage<>(200, "OK", "Employees fetched successfully", page));
+    }
+
     /** GET ONE EMPLOYEE */
     @GetMapping("/getEmp/{id}")
-    public ResponseEntity<?> getEmployee(@PathVariable Long id,
-                                         HttpSession session) {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+    public ResponseEntity<?> getEmployee(@PathVariable Long id) {
 
         EmployeeDetailsResponseDto employee = service.getEmployee(id);
         return ResponseEntity.ok(
@@ -123,44 +151,24 @@ public class HrController {
 
     /** DELETE EMPLOYEE */
     @DeleteMapping("/delete/{id}")
-    public ResponseEntity<?> deleteEmployee(@PathVariable Long id,
-                                            HttpSession session) {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+    public ResponseEntity<?> deleteEmployee(@PathVariable Long id) {
 
         String deleteById = service.deleteById(id);
         return ResponseEntity.ok(
                 new ResponseMessage<>(200, "OK", "Employee deleted successfully", deleteById));
     }
 
-    /** DOWNLOAD PAYSLIP */
+    /** DOWNLOAD PAYSLIP (streamed, supports Range / ETag) */
     @GetMapping("/payslip/{id}/download")
-    public ResponseEntity<?> download(@PathVariable Long id,
-                                      HttpSession session) throws Exception {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
-
-        byte[] pdf = service.downloadPayslip(id);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
-        headers.setContentDisposition(ContentDisposition
-                .attachment()
-                .filename("payslip_" + id + ".pdf")
-                .build());
+    public ResponseEntity<?> download(@PathVariable Long id) {
 
-        return ResponseEntity.ok().headers(headers).body(pdf);
+        Resource pdf = service.downloadPayslip(id);
+        return DownloadResponseUtil.pdfAttachment(pdf, "payslip_" + id + ".pdf");
     }
 
     /** LIST ALL PAYSLIPS FOR EMPLOYEE */
     @GetMapping("/payslip/{employeeId}")
-    public ResponseEntity<?> listPayslips(@PathVariable Long employeeId,
-                                          HttpSession session) {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+    public ResponseEntity<?> listPayslips(@PathVariable Long employeeId) {
 
         List<PayslipDto> payslips = service.listPayslipsForEmployee(employeeId);
         return ResponseEntity.ok(payslips);
@@ -169,25 +177,31 @@ public class HrController {
     /** GENERATE PAYSLIP */
     @PostMapping("/payslip/generate")
     public ResponseEntity<?> generate(@RequestBody GeneratePayslipRequest request,
-                                      HttpSession session) throws Exception {
+                                      @RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user) {
+
+        // runs in the background; poll /api/jobs/{id}
+        BackgroundJobDto job = generationJobService.submitPayslip(request.getEmployeeId(), request.getMonthYear(), user);
+        return JobResponseUtil.accepted(job, "Payslip generation started");
+    }
 
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+    /** PAYROLL PREVIEW (nothing is saved; optional domain / jobRole filter) */
+    @GetMapping("/payroll/preview")
+    public ResponseEntity<?> previewPayroll(@RequestParam(required = false) String monthYear,
+                                            @RequestParam(required = false) String domain,
+                                            @RequestParam(required = false) String jobRole,
+                                            @RequestParam(defaultValue = "true") boolean lines) {
 
-        Payslip p = employeeService.generatePayslip(request.getEmployeeId(), request.getMonthYear());
-        PayslipDto dto = PayslipDto.fromEntity(p);
+        String month = monthYear != null ? monthYear : PayslipCalculator.monthYear(LocalDate.now());
+        PayrollPreviewDto preview = payrollRunService.previewMonthlyPayroll(month, domain, jobRole, lines);
 
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok(
+                new ResponseMessage<>(200, "OK", "Payroll preview for " + month, preview));
     }
 
     /** UPDATE ATTENDANCE */
     @PutMapping("/editEmp/{empId}/{days}")
     public ResponseEntity<?> addAttendence(@PathVariable Long empId,
-                                           @PathVariable int days,
-                                           HttpSession session) {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+                                           @PathVariable int days) {
 
         EmployeeDetailsResponseDto updatedEmp = service.addAttendence(empId, days);
 
@@ -210,11 +224,7 @@ public class HrController {
     /** UPDATE PASSWORD */
     @PutMapping("/updatePassword/{id}")
     public ResponseEntity<?> updatePassword(@PathVariable Long id,
-                                            @RequestBody UpdatePasswordRequestDto updatePasswordRequestDto,
-                                            HttpSession session) {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+                                            @RequestBody UpdatePasswordRequestDto updatePasswordRequestDto) {
 
         EmployeeDetailsResponseDto updatedEmp = service.updatePassword(id, updatePasswordRequestDto);
 
@@ -225,11 +235,7 @@ public class HrController {
     /** UPDATE BANK DETAILS */
     @PutMapping("/updateBankDetails/{id}")
     public ResponseEntity<?> updateBankDetails(@PathVariable Long id,
-                                               @RequestBody UpdateBankDetailsRequestDto bankDetailsDto,
-                                               HttpSession session) {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+                                               @RequestBody UpdateBankDetailsRequestDto bankDetailsDto) {
 
         EmployeeDetailsResponseDto updatedEmp = service.updateBankDetails(id, bankDetailsDto);
 
@@ -239,11 +245,7 @@ public class HrController {
 
     /** ADD JOB */
     @PostMapping("/addJob")
-    public ResponseEntity<?> addJob(@RequestBody AddJobRequestDto jobRequest,
-                                    HttpSession session) {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+    public ResponseEntity<?> addJob(@RequestBody AddJobRequestDto jobRequest) {
 
         JobDetailsDto jobRes = service.addJob(jobRequest);
 
@@ -253,10 +255,7 @@ public class HrController {
 
     /** GET ALL JOBS */
     @GetMapping("/allJobs")
-    public ResponseEntity<?> getJobList(HttpSession session) {
-
-        ResponseEntity<ResponseMessage<String>> validation = validateHr(session);
-        if (validation != null) return validation;
+    public ResponseEntity<?> getJobList() {
 
         List<JobDetailsDto> allJobs = service.getAllJobs();
 
@@ -0,0 +1,71 @@
+package com.neb.controller;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.neb.dto.AuthUser;
+import com.neb.dto.BackgroundJobDto;
+import com.neb.dto.ResponseMessage;
+import com.neb.entity.BackgroundJob;
+import com.neb.service.BackgroundJobService;
+import com.neb.util.DownloadResponseUtil;
+
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Status, result and cancellation of background jobs started by
+ *   the payslip / report endpoints.
+ *
+ * Endpoints :
+ *   ✅ GET    /api/jobs/{id}        → Status and progress (poll this)
+ *   ✅ GET    /api/jobs/{id}/result → Download the produced file
+ *   ✅ DELETE /api/jobs/{id}        → Cancel a queued or running job
+ *
+ * Access :
+ *   Any access token (AuthTokenFilter); a job is only visible to the
+ *   user who started it and to admin / HR.
+ * --------------------------------------------------------------
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@CrossOrigin(origins = "http://localhost:5173")
+public class JobController {
+
+    @Autowired
+    private BackgroundJobService jobService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ResponseMessage<BackgroundJobDto>> getJob(@PathVariable Long id,
+                                                                    @RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user) {
+        BackgroundJobDto job = jobService.getJob(id, user);
+        return ResponseEntity.ok(new ResponseMessage<>(HttpStatus.OK.value(), HttpStatus.OK.name(),
+                "Job is " + job.getStatus(), job));
+    }
+
+    @GetMapping("/{id}/result")
+    public ResponseEntity<Resource> downloadResult(@PathVariable Long id,
+                                                   @RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user) throws IOException {
+        BackgroundJob job = jobService.getCompletedJobWithResult(id, user);
+        Resource file = jobService.loadResult(job);
+        return DownloadResponseUtil.attachment(file, job.getResultContentType(), job.getResultFileName());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ResponseMessage<BackgroundJobDto>> cancelJob(@PathVariable Long id,
+                                                                       @RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user) {
+        BackgroundJobDto job = jobService.cancel(id, user);
+        return ResponseEntity.ok(new ResponseMessage<>(HttpStatus.OK.value(), HttpStatus.OK.name(),
+                "Job is " + job.getStatus(), job));
+    }
+}
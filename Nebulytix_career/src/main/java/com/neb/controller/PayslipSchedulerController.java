@@ -1,7 +1,13 @@
 package com.neb.controller;
 
-import com.neb.exception.PayslipGenerationException; // ✅ Import your custom exception
-import com.neb.scheduler.PayslipScheduler;
+import java.time.LocalDate;
+
+import com.neb.dto.AuthUser;
+import com.neb.dto.BackgroundJobDto;
+import com.neb.dto.ResponseMessage;
+import com.neb.service.GenerationJobService;
+import com.neb.util.JobResponseUtil;
+import com.neb.util.PayslipCalculator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -15,7 +21,11 @@ import org.springframework.web.bind.annotation.*;
  *   via REST API (useful for testing or admin control through Postman).
  *
  * Endpoint:
- *   ✅ POST /api/payslip/generate-all → Generate payslips for all employees
+ *   ✅ POST /api/payslip/generate-all → Start payslip generation for all employees
+ *                                      (background job, poll /api/jobs/{id})
+ *
+ * Access:
+ *   Admin or HR access token (AuthTokenFilter).
  * -----------------------------------------------------------------
  */
 @RestController
@@ -23,7 +33,7 @@ import org.springframework.web.bind.annotation.*;
 public class PayslipSchedulerController {
 
     @Autowired
-    private PayslipScheduler payslipScheduler;
+    private GenerationJobService generationJobService;
 
     /**
      * -----------------------------------------------------------------
@@ -33,24 +43,25 @@ public class PayslipSchedulerController {
      *   - Allows manual triggering of monthly payslip generation.
      *   - Useful for testing via Postman instead of waiting for the
      *     scheduled task to run automatically.
+     *   - The run is queued as a background job and 202 Accepted is
+     *     returned at once with the job; its progress and the final
+     *     counts are read from GET /api/jobs/{id}.
+     *   - Calling it again for the same month resumes the run: employees
+     *     who already have a payslip are skipped, no duplicates are made.
+     *     While a run for the month is still going, the same job is returned.
      *
      * Example (Postman):
      *   POST → http://localhost:8080/api/payslip/generate-all
+     *   POST → http://localhost:8080/api/payslip/generate-all?monthYear=August 2025
      * -----------------------------------------------------------------
      */
     @PostMapping("/generate-all")
-    public ResponseEntity<String> generateAllPayslips() {
-        try {
-            payslipScheduler.generateMonthlyPayslips();
-            return ResponseEntity.ok("✅ Payslips generated successfully for all employees.");
-        } catch (PayslipGenerationException ex) {
-            // Custom exception from PayslipScheduler
-            return ResponseEntity.internalServerError()
-                    .body("❌ Payslip generation failed: " + ex.getMessage());
-        } catch (Exception e) {
-            // Catch any unexpected errors
-            return ResponseEntity.internalServerError()
-                    .body("⚠ Unexpected error during payslip generation: " + e.getMessage());
-        }
+    public ResponseEntity<ResponseMessage<BackgroundJobDto>> generateAllPayslips(
+            @RequestParam(required = false) String monthYear,
+            @RequestAttribute(AuthUser.REQUEST_ATTRIBUTE) AuthUser user) {
+
+        String month = monthYear != null ? monthYear : PayslipCalculator.monthYear(LocalDate.now());
+        BackgroundJobDto job = generationJobService.submitPayrollRun(month, user);
+        return JobResponseUtil.accepted(job, "Payslip generation for " + month + " started");
     }
 }
@@ -7,28 +7,41 @@ package com.neb.controller;
  *
  * Description :
  *   - Allows Admin or HR to create, view, and delete schedules.
- *   - Converts between Schedule entities and ScheduleDTOs to
- *     prevent circular references in JSON responses.
+ *   - Converts between Schedule entities and ScheduleDTOs (ScheduleMapper)
+ *     to prevent circular references in JSON responses.
+ *   - from / to are optional; without them the window is around today
+ *     (see ScheduleServiceImpl).
  *
  * Endpoints :
  *   ✅ POST   /api/schedules              → Create a new schedule
+ *                                           (?allowOverlap=true saves a double booking
+ *                                            and lists the conflicting schedules)
  *   ✅ GET    /api/schedules              → Get all schedules
- *   ✅ GET    /api/schedules/employee/{id} → Get schedules by employee ID
+ *   ✅ GET    /api/schedules/employee/{id} → Schedules of an employee in a window (?from=&to=)
+ *   ✅ GET    /api/schedules/calendar     → Team calendar (?employeeIds= and/or ?domain=)
+ *   ✅ GET    /api/schedules/feed         → Same as a feed (?format=json|ics),
+ *                                           answers If-None-Match with 304
+ *   ✅ GET    /api/schedules/free-slots   → Free time shared by several employees
  *   ✅ DELETE /api/schedules/{id}         → Delete a schedule by ID
  * --------------------------------------------------------------
  */
 
+import com.neb.dto.FreeSlotDto;
 import com.neb.dto.ScheduleDTO;
-import com.neb.entity.Employee;
 import com.neb.entity.Schedule;
+import com.neb.mapper.ScheduleMapper;
 import com.neb.service.ScheduleService;
+import com.neb.util.ICalendarUtil;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/schedules")
@@ -38,30 +51,15 @@ public class ScheduleController {
     @Autowired
     private ScheduleService scheduleService;
 
+    @Autowired
+    private ScheduleMapper scheduleMapper;
+
     // ✅ Create a new schedule
     @PostMapping
-    public ResponseEntity<ScheduleDTO> createSchedule(@RequestBody ScheduleDTO dto) {
-        Schedule schedule = new Schedule();
-        schedule.setTitle(dto.getTitle());
-        schedule.setDescription(dto.getDescription());
-        schedule.setStartTime(dto.getStartTime());
-        schedule.setEndTime(dto.getEndTime());
-        schedule.setLocation(dto.getLocation());
-        schedule.setStatus(dto.getStatus());
-
-//        // Link the Admin/HR who created this schedule
-//        AdminAndHr admin = new AdminAndHr();
-//        admin.setId(dto.getCreatedById());
-//        schedule.setCreatedBy(admin);
-
-        // Link the Employee for whom the schedule is created
-        Employee employee = new Employee();
-        employee.setId(dto.getEmployeeId());
-        schedule.setEmployee(employee);
-
-        Schedule saved = scheduleService.createSchedule(schedule);
-
-        ScheduleDTO response = convertToDTO(saved);
+    public ResponseEntity<ScheduleDTO> createSchedule(@RequestBody ScheduleDTO dto,
+                                                      @RequestParam(defaultValue = "false") boolean allowOverlap) {
+        // the employee is linked by id only
+        ScheduleDTO response = scheduleService.createSchedule(dto, allowOverlap);
         return ResponseEntity.ok(response);
     }
 
@@ -73,41 +71,65 @@ public class ScheduleController {
 	 * .map(this::convertToDTO) .collect(Collectors.toList()); return
 	 * ResponseEntity.ok(schedules); }
 	 */
-    // ✅ Get schedules by employee ID
+    // ✅ Get schedules by employee ID, e.g. ?from=2025-06-01T00:00&to=2025-07-01T00:00
     @GetMapping("/employee/{employeeId}")
-    public ResponseEntity<List<ScheduleDTO>> getSchedulesByEmployee(@PathVariable Long employeeId) {
-        List<ScheduleDTO> schedules = scheduleService.getSchedulesByEmployee(employeeId)
-                .stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    public ResponseEntity<List<ScheduleDTO>> getSchedulesByEmployee(
+            @PathVariable Long employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<ScheduleDTO> schedules = scheduleMapper.toDtos(scheduleService.getSchedulesByEmployee(employeeId, from, to));
         return ResponseEntity.ok(schedules);
     }
 
-	
+    // ✅ Team calendar: several employees and/or a whole domain in one query
+    @GetMapping("/calendar")
+    public ResponseEntity<List<ScheduleDTO>> getTeamCalendar(
+            @RequestParam(required = false) List<Long> employeeIds,
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(scheduleMapper.toDtos(scheduleService.getTeamCalendar(employeeIds, domain, from, to)));
+    }
+
+    // ✅ Calendar feed for polling / subscriptions; unchanged window → 304 without loading schedules
+    @GetMapping("/feed")
+    public ResponseEntity<?> getCalendarFeed(
+            @RequestParam(required = false) List<Long> employeeIds,
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "json") String format,
+            WebRequest webRequest) {
+        boolean ics = "ics".equalsIgnoreCase(format);
+        String eTag = scheduleService.getTeamCalendarETag(employeeIds, domain, from, to) + (ics ? "-ics" : "-json");
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
+        List<Schedule> schedules = scheduleService.getTeamCalendar(employeeIds, domain, from, to);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate());
+        if (ics) {
+            return response.contentType(ICalendarUtil.TEXT_CALENDAR).body(ICalendarUtil.toICalendar(schedules));
+        }
+        return response.body(scheduleMapper.toDtos(schedules));
+    }
+
+    // ✅ Free slots, e.g. ?employeeIds=1,2,3&from=2025-06-02T09:00&to=2025-06-02T18:00&minMinutes=30
+    @GetMapping("/free-slots")
+    public ResponseEntity<List<FreeSlotDto>> getFreeSlots(
+            @RequestParam List<Long> employeeIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "30") int minMinutes) {
+        return ResponseEntity.ok(scheduleService.findFreeSlots(employeeIds, from, to, minMinutes));
+    }
+
 	/* // ✅ Delete schedule by ID
 	 * 
 	 * @DeleteMapping("/{id}") public ResponseEntity<Void>
 	 * deleteSchedule(@PathVariable Long id) { scheduleService.deleteSchedule(id);
 	 * return ResponseEntity.noContent().build(); }
 	 */
-
-    // ✅ Convert Entity to DTO
-    private ScheduleDTO convertToDTO(Schedule schedule) {
-        ScheduleDTO dto = new ScheduleDTO();
-        dto.setId(schedule.getId());
-        dto.setTitle(schedule.getTitle());
-        dto.setDescription(schedule.getDescription());
-        dto.setStartTime(schedule.getStartTime());
-        dto.setEndTime(schedule.getEndTime());
-        dto.setLocation(schedule.getLocation());
-        dto.setStatus(schedule.getStatus());
-
-   
-
-        if (schedule.getEmployee() != null) {
-            dto.setEmployeeId(schedule.getEmployee().getId());
-        }
-
-        return dto;
-    }
 }
@@ -0,0 +1,18 @@
+package com.neb.dto;
+
+import java.time.Instant;
+
+/**
+ * The caller of a request, read from its signed access token
+ * (see AuthTokenService). Stored as request attribute
+ * AuthUser.REQUEST_ATTRIBUTE by AuthTokenFilter.
+ */
+public record AuthUser(
+        Long id,
+        String email,
+        String role,        // loginRole: admin / hr / employee
+        String tokenId,
+        Instant expiresAt) {
+
+    public static final String REQUEST_ATTRIBUTE = "authUser";
+}
@@ -0,0 +1,23 @@
+package com.neb.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+
+@Data
+public class BackgroundJobDto {
+    private Long id;
+    private String type;             // PAYROLL_RUN / PAYSLIP / DAILY_REPORT
+    private String params;
+    private String status;           // QUEUED / RUNNING / COMPLETED / FAILED / CANCELLED
+    private int progress;            // 0..100
+    private String message;
+    private boolean cancelRequested; // cancel asked while running, the job stops at its next check
+    private Long submittedBy;        // id of the user who started the job
+    private Long resultId;           // payslip id or payroll run id, when the job produces one
+    private String resultFileName;
+    private String resultUrl;        // set once a downloadable result exists
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
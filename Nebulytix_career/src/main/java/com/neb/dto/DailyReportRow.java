@@ -0,0 +1,19 @@
+package com.neb.dto;
+
+import com.neb.constants.WorkStatus;
+
+/**
+ * One line of the daily work report: the submitted task and the few
+ * employee columns printed next to it. Built straight from the query
+ * (JPQL constructor projection), so no Work or Employee entities are
+ * loaded for the report.
+ */
+public record DailyReportRow(
+        String cardNumber,
+        String firstName,
+        String lastName,
+        String jobRole,
+        String title,
+        WorkStatus status,
+        String reportDetails) {
+}
@@ -0,0 +1,22 @@
+package com.neb.dto;
+
+import java.time.LocalDate;
+
+/**
+ * One row of the employee directory. Built straight from the query
+ * (JPQL constructor projection), so bank, PAN and password columns
+ * and the works/payslips collections are never loaded.
+ */
+public record EmployeeDirectoryEntry(
+        Long id,
+        String firstName,
+        String lastName,
+        String email,
+        String mobile,
+        String cardNumber,
+        String loginRole,
+        String jobRole,
+        String domain,
+        LocalDate joiningDate,
+        String empStatus) {
+}
@@ -0,0 +1,22 @@
+package com.neb.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of the employee directory. Pass nextCursor back to get the
+ * following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeDirectoryPageDto {
+
+    private List<EmployeeDirectoryEntry> items;
+    private int size;
+    private boolean hasMore;
+    private String nextCursor;
+}
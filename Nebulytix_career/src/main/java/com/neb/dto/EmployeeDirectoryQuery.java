@@ -0,0 +1,24 @@
+package com.neb.dto;
+
+import lombok.Data;
+
+/**
+ * Query parameters of the employee directory endpoints.
+ *
+ * - domain, jobRole, status: optional exact-match filters
+ * - sort: "name" (first name), "joiningDate" or "id" (default)
+ * - direction: "asc" (default) or "desc"
+ * - cursor: nextCursor of the previous page; empty for the first page
+ * - size: rows per page (1..200, default 50)
+ */
+@Data
+public class EmployeeDirectoryQuery {
+
+    private String domain;
+    private String jobRole;
+    private String status;
+    private String sort = "id";
+    private String direction = "asc";
+    private String cursor;
+    private int size = 50;
+}
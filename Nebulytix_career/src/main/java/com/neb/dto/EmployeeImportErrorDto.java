@@ -0,0 +1,14 @@
+package com.neb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeImportErrorDto {
+    private int row;            // CSV: line in the file, JSON: position in the array (1 = first)
+    private String email;
+    private String reason;
+}
@@ -0,0 +1,20 @@
+package com.neb.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class EmployeeImportReportDto {
+    private String format;           // CSV or JSON
+    private boolean validateOnly;    // true = checked only, nothing saved
+    private int totalRows;
+    private int imported;            // saved (or valid, when validateOnly)
+    private int duplicates;          // email already used by an employee or earlier in the file
+    private int invalid;             // missing / malformed values
+    private int failed;              // valid rows whose insert batch failed
+    private long durationMillis;
+    private boolean errorsTruncated; // more errors than listed below
+    private List<EmployeeImportErrorDto> errors = new ArrayList<>();
+}
@@ -20,5 +20,7 @@ public class EmployeeResponseDto {
     private Double salary;
     private int daysPresent;
     private int paidLeaves;
-    
+
+    // access token, set by the login endpoints
+    private String token;
 }
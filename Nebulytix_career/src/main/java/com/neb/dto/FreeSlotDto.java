@@ -0,0 +1,12 @@
+package com.neb.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A time range in which none of the requested employees has a
+ * schedule (free slot search).
+ */
+public record FreeSlotDto(
+        LocalDateTime start,
+        LocalDateTime end) {
+}
@@ -0,0 +1,11 @@
+package com.neb.dto;
+
+/**
+ * Number of active employees with the given domain and job role
+ * (headcount report).
+ */
+public record HeadcountRow(
+        String domain,
+        String jobRole,
+        Long headcount) {
+}
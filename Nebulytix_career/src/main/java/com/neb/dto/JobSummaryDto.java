@@ -0,0 +1,28 @@
+package com.neb.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the job listing: everything except the long
+ * description / requirements / responsibilities texts, which are
+ * loaded only on the job details page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummaryDto {
+
+    private Long id;
+    private String jobTitle;
+    private String domain;
+    private String jobType;
+    private String experienceLevel;
+    private String salaryRange;
+    private Boolean isActive;
+    private LocalDate postedDate;
+    private LocalDate closingDate;
+}
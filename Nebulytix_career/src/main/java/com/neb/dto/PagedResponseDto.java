@@ -0,0 +1,30 @@
+package com.neb.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of a list plus the paging information, with a stable JSON
+ * shape (Spring's Page is not meant to be serialized as-is).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PagedResponseDto<T> {
+
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    public static <T> PagedResponseDto<T> of(Page<T> page) {
+        return new PagedResponseDto<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+}
@@ -0,0 +1,14 @@
+package com.neb.dto;
+
+/**
+ * The employee columns the payroll calculation needs (payroll preview).
+ */
+public record PayrollInputRow(
+        Long id,
+        String cardNumber,
+        String firstName,
+        String lastName,
+        String domain,
+        String jobRole,
+        Double salary) {
+}
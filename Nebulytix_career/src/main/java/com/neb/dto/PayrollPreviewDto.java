@@ -0,0 +1,21 @@
+package com.neb.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class PayrollPreviewDto {
+    private String monthYear;        // e.g., "August 2025"
+    private String domain;           // filter used, null = all
+    private String jobRole;          // filter used, null = all
+    private int employees;
+    private int payslipsExisting;    // employees the run would skip
+    private BigDecimal totalGross;
+    private BigDecimal totalDeductions;
+    private BigDecimal totalNet;
+    private long durationMillis;
+    private List<PayrollPreviewLineDto> lines = new ArrayList<>();   // empty when lines=false
+}
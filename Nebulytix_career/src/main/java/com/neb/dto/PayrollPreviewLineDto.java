@@ -0,0 +1,28 @@
+package com.neb.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollPreviewLineDto {
+    private Long employeeId;
+    private String cardNumber;
+    private String employeeName;
+    private String domain;
+    private String jobRole;
+    private BigDecimal salary;
+    private BigDecimal basic;
+    private BigDecimal hra;
+    private BigDecimal flexi;
+    private BigDecimal grossSalary;
+    private BigDecimal pfDeduction;
+    private BigDecimal profTaxDeduction;
+    private BigDecimal totalDeductions;
+    private BigDecimal netSalary;
+    private boolean payslipExists;   // already has a payslip for the month (the run would skip it)
+}
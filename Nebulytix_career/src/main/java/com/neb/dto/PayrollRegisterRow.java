@@ -0,0 +1,26 @@
+package com.neb.dto;
+
+/**
+ * One line of the monthly payroll register: a payslip's amounts and
+ * the employee's bank / PAN / UAN details. Built straight from the
+ * query (JPQL constructor projection), no PDF involved.
+ */
+public record PayrollRegisterRow(
+        String cardNumber,
+        String firstName,
+        String lastName,
+        String domain,
+        String jobRole,
+        String bankName,
+        String bankAccountNumber,
+        String panNumber,
+        String uanNumber,
+        Double basic,
+        Double hra,
+        Double flexi,
+        Double grossSalary,
+        Double pfDeduction,
+        Double profTaxDeduction,
+        Double totalDeductions,
+        Double netSalary) {
+}
@@ -0,0 +1,20 @@
+package com.neb.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class PayrollRunReportDto {
+    private Long runId;
+    private String monthYear;        // e.g., "August 2025"
+    private String status;           // RUNNING / COMPLETED / COMPLETED_WITH_ERRORS
+    private int attempt;             // 1 for a fresh run, >1 when resumed
+    private int totalEmployees;
+    private int skipped;             // already had a payslip for the month
+    private int generated;
+    private int failed;
+    private long durationMillis;
+    private List<PayslipFailureDto> failures = new ArrayList<>();
+}
@@ -0,0 +1,14 @@
+package com.neb.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PayslipFailureDto {
+    private Long employeeId;
+    private String employeeName;
+    private String reason;
+}
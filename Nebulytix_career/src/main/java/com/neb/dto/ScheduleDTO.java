@@ -3,6 +3,8 @@
 package com.neb.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
+
 import lombok.Data;
 
 @Data
@@ -18,4 +20,6 @@ public class ScheduleDTO {
 
     private Long createdById;    // Admin or HR ID who created it
     private Long employeeId;     // Employee ID assigned to the schedule
+
+    private List<Long> conflictingScheduleIds; // overlapping schedules, set when saved with allowOverlap=true
 }
@@ -0,0 +1,13 @@
+package com.neb.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Id and times of an upcoming schedule, as loaded into the status
+ * timer (ScheduleTimerService).
+ */
+public record ScheduleTimerRow(
+        Long id,
+        LocalDateTime startTime,
+        LocalDateTime endTime) {
+}
@@ -0,0 +1,14 @@
+package com.neb.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of schedules in a calendar window, the sum of their ids and
+ * their latest change: enough to tell whether the window changed
+ * (calendar feed ETag) without loading the schedules.
+ */
+public record ScheduleWindowStats(
+        Long count,
+        Long idSum,
+        LocalDateTime lastUpdated) {
+}
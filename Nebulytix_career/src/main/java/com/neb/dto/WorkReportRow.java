@@ -0,0 +1,24 @@
+package com.neb.dto;
+
+import java.time.LocalDate;
+
+import com.neb.constants.WorkStatus;
+
+/**
+ * One line of the work report export (daily or date range): the
+ * submitted task and the employee it belongs to. Built straight from
+ * the query (JPQL constructor projection).
+ */
+public record WorkReportRow(
+        LocalDate submittedDate,
+        String cardNumber,
+        String firstName,
+        String lastName,
+        String domain,
+        String jobRole,
+        String title,
+        WorkStatus status,
+        LocalDate assignedDate,
+        LocalDate dueDate,
+        String reportDetails) {
+}
@@ -2,9 +2,13 @@ package com.neb.dto;
 
 import java.time.LocalDate;
 import com.neb.constants.WorkStatus;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class WorkResponseDto {
 	    private Long id;
 	    private String title;
@@ -0,0 +1,91 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   One long-running task (payroll run, payslip, report) that is
+ *   executed in the background instead of on the request thread.
+ *
+ * Description :
+ *   - The endpoint that starts the work only inserts this row and
+ *     returns its id; the client polls /api/jobs/{id} for progress
+ *     and downloads the result from /api/jobs/{id}/result.
+ *   - Written by BackgroundJobServiceImpl with conditional updates
+ *     (e.g. QUEUED → RUNNING only if still QUEUED), so a cancel and
+ *     a worker never overwrite each other.
+ *
+ * Key Fields :
+ *   ✅ type, params     → What to run, e.g. PAYSLIP / "employeeId=5, month=August 2025"
+ *   ✅ status           → QUEUED, RUNNING, COMPLETED, FAILED or CANCELLED
+ *   ✅ progress         → 0..100
+ *   ✅ resultKey        → Storage key of the produced file (see StorageService)
+ *   ✅ resultId         → Id of the produced row (payslip id, payroll run id)
+ *   ✅ cancelRequested  → Set by a cancel while the job is running
+ *   ✅ submittedBy      → Id and role of the user who started it; only
+ *                         that user, admin or HR may read or cancel it
+ *   ✅ ownerNode        → Server that queued the job and runs it
+ *   ✅ leaseUntil       → Renewed by the owner while the job is active;
+ *                         once it lapses the owner is gone and any node
+ *                         may mark the job FAILED
+ * --------------------------------------------------------------
+ */
+
+package com.neb.entity;
+
+import java.time.LocalDateTime;
+
+import com.neb.constants.BackgroundJobStatus;
+import com.neb.constants.BackgroundJobType;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+@Entity
+@Table(name = "background_jobs",
+       indexes = {
+           @Index(name = "idx_background_job_active", columnList = "type, params, status"),
+           @Index(name = "idx_background_job_finished", columnList = "status, finished_at"),
+           @Index(name = "idx_background_job_owner", columnList = "owner_node, status")
+       })
+@Data
+public class BackgroundJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BackgroundJobType type;
+
+    @Column(length = 500)
+    private String params;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BackgroundJobStatus status;
+
+    private int progress;
+
+    @Column(length = 1000)
+    private String message;
+
+    private String resultKey;
+    private String resultFileName;
+    private String resultContentType;
+    private Long resultId;
+
+    private boolean cancelRequested;
+
+    private Long submittedBy;         // user id from the access token (null = system)
+    private String submittedByRole;   // admin / hr / employee
+
+    @Column(name = "owner_node", length = 100)
+    private String ownerNode;
+
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -26,19 +26,29 @@ import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees",
+       indexes = {
+           @Index(name = "idx_employees_directory", columnList = "domain, job_role, emp_status"),
+           @Index(name = "idx_employees_email", columnList = "email"),
+           // keyset pagination of the directory (sort value + id)
+           @Index(name = "idx_employees_name_id", columnList = "first_name, id"),
+           @Index(name = "idx_employees_joining_id", columnList = "joining_date, id")
+       })
 @Data
 @SQLDelete(sql = "update employees set emp_status='inactive' where id=?")
 @SQLRestriction("emp_status<> 'inactive'")
 public class Employee {
 
+    // pooled sequence (not IDENTITY) so bulk imports can batch their inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = 50)
     private Long id;
 
     private String firstName;
@@ -55,6 +65,8 @@ public class Employee {
     private Double salary;
     private int daysPresent;
     private int paidLeaves;
+    // PBKDF2 hash (see PasswordHasher); never sent back in responses
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String password;
     
     // Bank and tax-related details
@@ -13,10 +13,16 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
+@Table(name = "job", indexes = {
+        @Index(name = "idx_job_active_posted", columnList = "is_active, posted_date"),
+        @Index(name = "idx_job_filters", columnList = "domain, job_type, experience_level")
+})
 @Data
 public class Job {
 
@@ -37,7 +43,7 @@ public class Job {
     @Column(length=4000)
     private String responsibilities;
     private String salaryRange;
-    private Boolean isActive;
+    private Boolean isActive; // kept up to date by JobExpiryScheduler
     private LocalDate postedDate;
     private LocalDate closingDate;
     
@@ -1,16 +1,24 @@
 package com.neb.entity;
 
 import java.time.LocalDate;
+import java.util.Locale;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 
 @Entity
+@Table(name = "job_application",
+       uniqueConstraints = @UniqueConstraint(name = "uk_job_application_email", columnNames = "email_normalized"))
 @Data
 public class JobApplication {
 
@@ -28,4 +36,18 @@ public class JobApplication {
     private String resumeFilePath;
     private LocalDate applicationDate;
     private String status;// SUBMITTED, REVIEWED, INTERVIEW, REJECTED
+
+    // trimmed, lower-case copy of email; unique (indexed) so one email can apply only once
+    @Column(name = "email_normalized")
+    private String emailNormalized;
+
+    @PrePersist
+    @PreUpdate
+    void normalizeEmail() {
+        this.emailNormalized = normalizeEmail(email);
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,64 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   One email waiting in (or sent from) the outbound mail queue.
+ *
+ * Description :
+ *   - EmailService only inserts rows here; EmailOutboxDispatcher sends
+ *     them in the background over one SMTP connection per batch.
+ *   - Failed sends are retried with exponential backoff until the
+ *     maximum number of attempts is reached.
+ *   - version guards the claim, so two nodes never send the same row.
+ *   - The body is cleared once the email is SENT; SENT and FAILED rows
+ *     are deleted after mail.outbox.retention-days
+ *     (EmailOutboxCleanupScheduler).
+ *
+ * Key Fields :
+ *   ✅ status        → PENDING, SENDING, SENT or FAILED
+ *   ✅ attempts      → Number of send attempts so far
+ *   ✅ nextAttemptAt → When the row is due (retry time or claim expiry)
+ * --------------------------------------------------------------
+ */
+
+package com.neb.entity;
+
+import java.time.LocalDateTime;
+
+import com.neb.constants.EmailStatus;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+@Entity
+@Table(name = "email_outbox",
+       indexes = @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at"))
+@Data
+public class OutboundEmail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String recipient;
+    private String subject;
+
+    @Column(length = 10000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    private EmailStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,61 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Records one monthly payroll run so it can be resumed.
+ *
+ * Description :
+ *   - One row per payslip month (e.g., "August 2025").
+ *   - Re-triggering the same month reuses this row; the per-employee
+ *     checkpoints live in PayrollRunItem.
+ *   - A run is claimed with one conditional UPDATE (RUNNING, token and
+ *     lease), so only one trigger across all servers works on a month.
+ *
+ * Key Fields :
+ *   ✅ payslipMonth   → Month of the run (unique)
+ *   ✅ status         → RUNNING, COMPLETED, COMPLETED_WITH_ERRORS or CANCELLED
+ *   ✅ claimToken     → Attempt currently holding the run (null once it finished)
+ *   ✅ leaseUntil     → Renewed by that attempt while it runs; once it lapses
+ *                       the attempt is gone and a new trigger may claim the run
+ *   ✅ attempts       → How many times the run was started or resumed
+ *   ✅ completedCount, failedCount → Progress at the end of the last attempt
+ * --------------------------------------------------------------
+ */
+
+package com.neb.entity;
+
+import java.time.LocalDateTime;
+
+import com.neb.constants.PayrollRunStatus;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+@Entity
+@Table(name = "payroll_runs",
+       uniqueConstraints = @UniqueConstraint(name = "uk_payroll_run_month", columnNames = "payslip_month"))
+@Data
+public class PayrollRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "payslip_month", nullable = false)
+    private String payslipMonth;
+
+    @Enumerated(EnumType.STRING)
+    private PayrollRunStatus status;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    private LocalDateTime leaseUntil;
+
+    private int attempts;
+    private int totalEmployees;
+    private int completedCount;
+    private int failedCount;
+}
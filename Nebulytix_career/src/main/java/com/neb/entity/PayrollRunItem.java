@@ -0,0 +1,54 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Checkpoint of one employee inside a payroll run.
+ *
+ * Description :
+ *   - (employeeId, payslipMonth) is the idempotency key: there is at
+ *     most one item, and one payslip, per employee and month.
+ *   - Items are marked COMPLETED in the same transaction that inserts
+ *     their payslips, so a restarted run skips exactly those employees.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.entity;
+
+import java.time.LocalDateTime;
+
+import com.neb.constants.PayrollItemStatus;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+@Entity
+@Table(name = "payroll_run_items",
+       uniqueConstraints = @UniqueConstraint(name = "uk_payroll_item_employee_month",
+                                             columnNames = {"employee_id", "payslip_month"}),
+       indexes = @Index(name = "idx_payroll_item_run", columnList = "run_id"))
+@Data
+public class PayrollRunItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payroll_item_seq")
+    @SequenceGenerator(name = "payroll_item_seq", sequenceName = "payroll_item_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "payslip_month", nullable = false)
+    private String payslipMonth;
+
+    @Enumerated(EnumType.STRING)
+    private PayrollItemStatus status;
+
+    private Long payslipId;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    private LocalDateTime updatedAt;
+}
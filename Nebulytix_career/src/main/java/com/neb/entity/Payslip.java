@@ -15,6 +15,10 @@
  *   ✅ pfDeduction, profTaxDeduction → Deductions
  *   ✅ netSalary         → Final take-home amount
  *   ✅ employee          → The employee to whom this payslip belongs
+ *   ✅ employeeSnapshot  → Employee details printed on the payslip, as of
+ *                          its generation (lazy PDFs are rendered from it)
+ *
+ *   (employee, payslipMonth) is unique: one payslip per employee per month.
  * --------------------------------------------------------------
  */
 
@@ -27,12 +31,17 @@ import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "payslips")
+@Table(name = "payslips",
+       uniqueConstraints = @UniqueConstraint(name = "uk_payslip_employee_month",
+                                             columnNames = {"employee_id", "payslip_month"}),
+       indexes = @Index(name = "idx_payslip_month", columnList = "payslip_month"))
 @Data
 public class Payslip {
 
+    // Pooled sequence so bulk payroll runs can batch their inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payslip_seq")
+    @SequenceGenerator(name = "payslip_seq", sequenceName = "payslip_seq", allocationSize = 50)
     private Long id;
 
     private String payslipMonth;      // Example: "August 2025"
@@ -65,4 +74,7 @@ public class Payslip {
     @ManyToOne
     @JoinColumn(name = "employee_id")
     private Employee employee;        // Linked employee
+
+    @Embedded
+    private PayslipEmployeeSnapshot employeeSnapshot;
 }
@@ -0,0 +1,64 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   The employee details printed on a payslip, as they were when
+ *   the payslip was generated.
+ *
+ * Description :
+ *   - Embedded in the payslips table (snapshot_* columns).
+ *   - A lazily rendered PDF (payslip.pdf.mode=lazy) is built from
+ *     this copy, so a later change of name, bank account or days
+ *     present does not alter an old payslip.
+ *   - Null on payslips generated before the snapshot existed; those
+ *     are rendered from the current employee as before.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+
+@Embeddable
+@Data
+public class PayslipEmployeeSnapshot {
+
+    @Column(name = "snapshot_first_name")
+    private String firstName;
+
+    @Column(name = "snapshot_last_name")
+    private String lastName;
+
+    @Column(name = "snapshot_card_number")
+    private String cardNumber;
+
+    @Column(name = "snapshot_joining_date")
+    private LocalDate joiningDate;
+
+    @Column(name = "snapshot_days_present")
+    private Integer daysPresent;
+
+    @Column(name = "snapshot_bank_account_number")
+    private String bankAccountNumber;
+
+    @Column(name = "snapshot_bank_name")
+    private String bankName;
+
+    @Column(name = "snapshot_pf_number")
+    private String pfNumber;
+
+    @Column(name = "snapshot_eps_number")
+    private String epsNumber;
+
+    @Column(name = "snapshot_pan_number")
+    private String panNumber;
+
+    @Column(name = "snapshot_uan_number")
+    private String uanNumber;
+
+    @Column(name = "snapshot_esi_number")
+    private String esiNumber;
+}
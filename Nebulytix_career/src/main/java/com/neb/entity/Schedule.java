@@ -7,6 +7,14 @@
  *   - Stores scheduling information such as date, time, purpose, and status.
  *   - Linked to both Admin/HR (who created it) and Employee (who is scheduled).
  *   - Helps track upcoming, completed, or cancelled schedules.
+ *   - Indexed on (employee_id, start_time): an employee's calendar and
+ *     the overlap check read one index range in start order.
+ *   - updatedAt changes on every save; calendar feeds build their ETag
+ *     from it.
+ *   - UPCOMING schedules become COMPLETED after their end time and get
+ *     a reminder email before they start (ScheduleTimerService); the
+ *     (status, end_time) and (status, start_time) indexes let it load
+ *     only the schedules due soon.
  *
  * Relationships :
  *   ✅ Many schedules can be created by one Admin/HR.
@@ -22,7 +30,12 @@ import lombok.*;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
-@Table(name = "schedules")
+@Table(name = "schedules",
+       indexes = {
+           @Index(name = "idx_schedules_employee_start", columnList = "employee_id, start_time"),
+           @Index(name = "idx_schedules_status_end", columnList = "status, end_time"),
+           @Index(name = "idx_schedules_status_start", columnList = "status, start_time")
+       })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,11 +51,18 @@ public class Schedule {
     private LocalDateTime endTime;    // End date and time
     private String location;          // Physical or virtual (Google Meet link, Zoom, etc.)
     private String status;            // UPCOMING, COMPLETED, CANCELLED
-
+    private LocalDateTime updatedAt;  // Last change (set on save)
+    private LocalDateTime reminderSentAt; // When the reminder email was queued (null = not yet)
 
     // ✅ The Employee for whom this schedule is set
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     @JsonIgnoreProperties({"schedules"})
     private Employee employee;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
@@ -29,7 +29,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "work")
+@Table(name = "work", indexes = @Index(name = "idx_work_submitted_date", columnList = "submitted_date"))
 @Data
 public class Work {
 
@@ -51,8 +51,8 @@ public class Work {
     private LocalDate submittedDate;
     private String reportAttachmentUrl;
    
-    // Relation with Employee
-    @ManyToOne
+    // Relation with Employee (lazy: list queries fetch what they need, see WorkRepository)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employee_id")
     @JsonIgnore
     private Employee employee;
@@ -0,0 +1,29 @@
+package com.neb.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.neb.constants.BackgroundJobStatus;
+import com.neb.constants.BackgroundJobType;
+import com.neb.dto.BackgroundJobDto;
+import com.neb.entity.BackgroundJob;
+
+/**
+ * Converts BackgroundJob rows to the polling response. The download
+ * link is only given for completed jobs that produced a file, or a
+ * payslip whose PDF is rendered on download (payslip.pdf.mode=lazy).
+ */
+@Mapper(config = MapperSettings.class)
+public interface BackgroundJobMapper {
+
+    @Mapping(target = "resultUrl", expression = "java(resultUrl(job))")
+    BackgroundJobDto toDto(BackgroundJob job);
+
+    default String resultUrl(BackgroundJob job) {
+        boolean hasFile = job.getResultKey() != null
+                || (job.getType() == BackgroundJobType.PAYSLIP && job.getResultId() != null);
+        return job.getStatus() == BackgroundJobStatus.COMPLETED && hasFile
+                ? "/api/jobs/" + job.getId() + "/result"
+                : null;
+    }
+}
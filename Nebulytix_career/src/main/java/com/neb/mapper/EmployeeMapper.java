@@ -0,0 +1,50 @@
+package com.neb.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.neb.dto.AddEmployeeRequestDto;
+import com.neb.dto.AddEmployeeResponseDto;
+import com.neb.dto.EmployeeDetailsResponseDto;
+import com.neb.dto.EmployeeResponseDto;
+import com.neb.entity.Employee;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : EmployeeMapper.java
+ * Package     : com.neb.mapper
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Converts Employee entities to and from their DTOs.
+ *
+ * Description :
+ *   - The implementation is generated by MapStruct at compile time
+ *     (plain getters/setters, no reflection at runtime).
+ *   - A property that is renamed on one side only fails the build
+ *     instead of silently coming back empty.
+ *   - loginRole is not taken from the request: the service decides
+ *     it (admin adds HRs, HR adds employees).
+ * ---------------------------------------------------------------
+ */
+@Mapper(config = MapperSettings.class)
+public interface EmployeeMapper {
+
+    @Mapping(target = "token", ignore = true)
+    EmployeeResponseDto toResponseDto(Employee employee);
+
+    EmployeeDetailsResponseDto toDetailsDto(Employee employee);
+
+    List<EmployeeDetailsResponseDto> toDetailsDtos(List<Employee> employees);
+
+    @Mapping(target = "password", ignore = true)
+    AddEmployeeResponseDto toAddResponseDto(Employee employee);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "loginRole", ignore = true)
+    @Mapping(target = "empStatus", ignore = true)
+    @Mapping(target = "works", ignore = true)
+    @Mapping(target = "payslips", ignore = true)
+    Employee toEntity(AddEmployeeRequestDto request);
+}
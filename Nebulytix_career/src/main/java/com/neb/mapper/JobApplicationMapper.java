@@ -0,0 +1,22 @@
+package com.neb.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.neb.dto.JobApplicationDto;
+import com.neb.entity.JobApplication;
+
+/**
+ * Converts job applications to JobApplicationDto; the stored resume
+ * file name is returned as resumeUrl.
+ */
+@Mapper(config = MapperSettings.class)
+public interface JobApplicationMapper {
+
+    @Mapping(target = "resumeUrl", source = "resumeFilePath")
+    JobApplicationDto toDto(JobApplication application);
+
+    List<JobApplicationDto> toDtos(List<JobApplication> applications);
+}
@@ -0,0 +1,29 @@
+package com.neb.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.neb.dto.AddJobRequestDto;
+import com.neb.dto.JobDetailsDto;
+import com.neb.entity.Job;
+
+/**
+ * Converts Job entities to and from their DTOs.
+ *
+ * isActive is not part of the request; HrServiceImpl.addJob sets it
+ * from the closing date.
+ */
+@Mapper(config = MapperSettings.class)
+public interface JobMapper {
+
+    JobDetailsDto toDetailsDto(Job job);
+
+    List<JobDetailsDto> toDetailsDtos(List<Job> jobs);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "isActive", ignore = true)
+    @Mapping(target = "applications", ignore = true)
+    Job toEntity(AddJobRequestDto request);
+}
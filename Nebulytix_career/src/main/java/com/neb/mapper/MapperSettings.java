@@ -0,0 +1,17 @@
+package com.neb.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Settings shared by all mappers in this package.
+ *
+ * - Mappers are Spring beans, injected like services.
+ * - Every DTO property must be mapped or explicitly ignored
+ *   (unmapped target properties are compile errors).
+ */
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING,
+              unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface MapperSettings {
+}
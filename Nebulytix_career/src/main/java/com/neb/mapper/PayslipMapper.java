@@ -0,0 +1,30 @@
+package com.neb.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.neb.dto.PayslipDto;
+import com.neb.entity.Payslip;
+
+/**
+ * Converts Payslip entities to PayslipDto, copying the employee's
+ * name, email and bank / PF / PAN / UAN details next to the amounts.
+ */
+@Mapper(config = MapperSettings.class)
+public interface PayslipMapper {
+
+    @Mapping(target = "employeeId", source = "employee.id")
+    @Mapping(target = "employeeFirstName", source = "employee.firstName")
+    @Mapping(target = "employeeLastName", source = "employee.lastName")
+    @Mapping(target = "employeeEmail", source = "employee.email")
+    @Mapping(target = "employeeBankAccountNumber", source = "employee.bankAccountNumber")
+    @Mapping(target = "employeeBankName", source = "employee.bankName")
+    @Mapping(target = "employeePfNumber", source = "employee.pfNumber")
+    @Mapping(target = "employeePanNumber", source = "employee.panNumber")
+    @Mapping(target = "employeeUanNumber", source = "employee.uanNumber")
+    PayslipDto toDto(Payslip payslip);
+
+    List<PayslipDto> toDtos(List<Payslip> payslips);
+}
@@ -0,0 +1,32 @@
+package com.neb.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.neb.dto.ScheduleDTO;
+import com.neb.entity.Schedule;
+
+/**
+ * Converts schedules to and from ScheduleDTO.
+ *
+ * The employee is referenced by id only: toEntity sets an Employee
+ * holding just the id, which JPA stores as the foreign key.
+ */
+@Mapper(config = MapperSettings.class)
+public interface ScheduleMapper {
+
+    @Mapping(target = "employeeId", source = "employee.id")
+    @Mapping(target = "createdById", ignore = true)
+    @Mapping(target = "conflictingScheduleIds", ignore = true)
+    ScheduleDTO toDto(Schedule schedule);
+
+    List<ScheduleDTO> toDtos(List<Schedule> schedules);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "reminderSentAt", ignore = true)
+    @Mapping(target = "employee.id", source = "employeeId")
+    Schedule toEntity(ScheduleDTO dto);
+}
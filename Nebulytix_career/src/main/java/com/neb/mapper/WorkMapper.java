@@ -0,0 +1,35 @@
+package com.neb.mapper;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import com.neb.dto.WorkResponseDto;
+import com.neb.entity.Employee;
+import com.neb.entity.Work;
+
+/**
+ * Converts Work (tasks and their reports) to WorkResponseDto,
+ * including the assigned employee's id, full name and email.
+ */
+@Mapper(config = MapperSettings.class)
+public interface WorkMapper {
+
+    @Mapping(target = "employeeId", source = "employee.id")
+    @Mapping(target = "employeeName", source = "employee")
+    @Mapping(target = "employeeEmail", source = "employee.email")
+    WorkResponseDto toDto(Work work);
+
+    List<WorkResponseDto> toDtos(List<Work> works);
+
+    // "First Last"
+    default String fullName(Employee employee) {
+        if (employee == null) {
+            return null;
+        }
+        // same text as WorkRepository.findTaskList builds in the query
+        return Objects.toString(employee.getFirstName(), "") + " " + Objects.toString(employee.getLastName(), "");
+    }
+}
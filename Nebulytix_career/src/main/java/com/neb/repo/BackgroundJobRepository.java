@@ -0,0 +1,94 @@
+package com.neb.repo;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.neb.constants.BackgroundJobStatus;
+import com.neb.constants.BackgroundJobType;
+import com.neb.entity.BackgroundJob;
+
+/**
+ * The state changes of a job are single conditional UPDATEs: each
+ * returns 0 when the job is no longer in the expected state (e.g. it
+ * was cancelled meanwhile), and the caller acts on that. They clear
+ * the persistence context so a job read afterwards is fresh.
+ */
+public interface BackgroundJobRepository extends JpaRepository<BackgroundJob, Long> {
+
+    // Same job already waiting or running (submitting it twice returns this one)
+    Optional<BackgroundJob> findFirstByTypeAndParamsAndStatusIn(BackgroundJobType type, String params,
+                                                                Collection<BackgroundJobStatus> statuses);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update BackgroundJob j set j.status = com.neb.constants.BackgroundJobStatus.RUNNING, j.startedAt = :now, "
+         + "j.leaseUntil = :leaseUntil "
+         + "where j.id = :id and j.status = com.neb.constants.BackgroundJobStatus.QUEUED")
+    int markRunning(Long id, LocalDateTime now, LocalDateTime leaseUntil);
+
+    // 0 when the job has been asked to stop
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update BackgroundJob j set j.progress = :progress, j.message = :message "
+         + "where j.id = :id and j.status = com.neb.constants.BackgroundJobStatus.RUNNING and j.cancelRequested = false")
+    int updateProgress(Long id, int progress, String message);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update BackgroundJob j set j.status = com.neb.constants.BackgroundJobStatus.COMPLETED, j.progress = 100, "
+         + "j.message = :message, j.resultKey = :resultKey, j.resultFileName = :fileName, "
+         + "j.resultContentType = :contentType, j.resultId = :resultId, j.finishedAt = :now "
+         + "where j.id = :id and j.status = com.neb.constants.BackgroundJobStatus.RUNNING")
+    int markCompleted(Long id, String message, String resultKey, String fileName, String contentType,
+                      Long resultId, LocalDateTime now);
+
+    // FAILED or CANCELLED, from the given states only
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update BackgroundJob j set j.status = :status, j.message = :message, j.finishedAt = :now "
+         + "where j.id = :id and j.status in :from")
+    int markFinished(Long id, BackgroundJobStatus status, String message, LocalDateTime now,
+                     Collection<BackgroundJobStatus> from);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update BackgroundJob j set j.cancelRequested = true "
+         + "where j.id = :id and j.status = com.neb.constants.BackgroundJobStatus.RUNNING")
+    int requestCancel(Long id);
+
+    // Heartbeat of a node: extends the lease of every job it still holds
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update BackgroundJob j set j.leaseUntil = :leaseUntil "
+         + "where j.ownerNode = :node "
+         + "and j.status in (com.neb.constants.BackgroundJobStatus.QUEUED, com.neb.constants.BackgroundJobStatus.RUNNING)")
+    int renewLeases(String node, LocalDateTime leaseUntil);
+
+    // Jobs whose node stopped renewing their lease (rows without a lease predate leases)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update BackgroundJob j set j.status = com.neb.constants.BackgroundJobStatus.FAILED, "
+         + "j.message = :message, j.finishedAt = :now "
+         + "where j.status in (com.neb.constants.BackgroundJobStatus.QUEUED, com.neb.constants.BackgroundJobStatus.RUNNING) "
+         + "and (j.leaseUntil is null or j.leaseUntil < :now)")
+    int failExpired(String message, LocalDateTime now);
+
+    // At startup: jobs this node id held before a restart; their worker threads are gone
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update BackgroundJob j set j.status = com.neb.constants.BackgroundJobStatus.FAILED, "
+         + "j.message = :message, j.finishedAt = :now "
+         + "where j.status in (com.neb.constants.BackgroundJobStatus.QUEUED, com.neb.constants.BackgroundJobStatus.RUNNING) "
+         + "and j.ownerNode = :node")
+    int failOwnedBy(String node, String message, LocalDateTime now);
+
+    @Query("select j from BackgroundJob j where j.status in :statuses and j.finishedAt < :before")
+    List<BackgroundJob> findFinishedBefore(Collection<BackgroundJobStatus> statuses, LocalDateTime before);
+}
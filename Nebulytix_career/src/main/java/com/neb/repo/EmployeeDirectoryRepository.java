@@ -0,0 +1,17 @@
+package com.neb.repo;
+
+import java.util.Collection;
+
+import com.neb.dto.EmployeeDirectoryPageDto;
+import com.neb.dto.EmployeeDirectoryQuery;
+
+/**
+ * Keyset-paginated employee directory, implemented with the Criteria
+ * API in EmployeeDirectoryRepositoryImpl and exposed through
+ * EmployeeRepository.
+ */
+public interface EmployeeDirectoryRepository {
+
+    // One directory page; employees with one of the excluded login roles are left out
+    EmployeeDirectoryPageDto findDirectoryPage(EmployeeDirectoryQuery query, Collection<String> excludedRoles);
+}
@@ -0,0 +1,202 @@
+package com.neb.repo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+import com.neb.dto.EmployeeDirectoryEntry;
+import com.neb.dto.EmployeeDirectoryPageDto;
+import com.neb.dto.EmployeeDirectoryQuery;
+import com.neb.entity.Employee;
+import com.neb.exception.CustomeException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : EmployeeDirectoryRepositoryImpl.java
+ * Package     : com.neb.repo
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Loads the employee directory one page at a time.
+ *
+ * Description :
+ *   - Keyset pagination: instead of OFFSET, the next page starts
+ *     "after" the last row of the previous page (sort value + id),
+ *     so every page costs the same, however deep the user scrolls.
+ *   - Only the directory columns are selected (EmployeeDirectoryEntry).
+ *   - The cursor is an opaque Base64 string holding the sort, the
+ *     direction and the last row's sort value and id.
+ *   - The seek and the ORDER BY use the raw columns, so they can walk
+ *     the (first_name, id) / (joining_date, id) indexes.
+ *   - Null names / joining dates count as the smallest value (first
+ *     ascending, last descending), which is how H2 and MySQL order
+ *     them; the seek predicate handles them with IS NULL.
+ * ---------------------------------------------------------------
+ */
+public class EmployeeDirectoryRepositoryImpl implements EmployeeDirectoryRepository {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    // cursor value of a null sort key; other values are prefixed with '='
+    private static final String NULL_VALUE = "-";
+
+    private enum SortKey { NAME, JOINING_DATE, ID }
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public EmployeeDirectoryPageDto findDirectoryPage(EmployeeDirectoryQuery query, Collection<String> excludedRoles) {
+        SortKey sort = parseSort(query.getSort());
+        boolean asc = !"desc".equalsIgnoreCase(query.getDirection());
+        int size = Math.min(Math.max(query.getSize(), 1), MAX_PAGE_SIZE);
+
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<EmployeeDirectoryEntry> cq = cb.createQuery(EmployeeDirectoryEntry.class);
+        Root<Employee> e = cq.from(Employee.class);
+        cq.select(cb.construct(EmployeeDirectoryEntry.class,
+                e.get("id"), e.get("firstName"), e.get("lastName"), e.get("email"), e.get("mobile"),
+                e.get("cardNumber"), e.get("loginRole"), e.get("jobRole"), e.get("domain"),
+                e.get("joiningDate"), e.get("empStatus")));
+
+        List<Predicate> where = new ArrayList<>();
+        if (excludedRoles != null && !excludedRoles.isEmpty()) {
+            where.add(cb.not(e.get("loginRole").in(excludedRoles)));
+        }
+        addEquals(cb, where, e.get("domain"), query.getDomain());
+        addEquals(cb, where, e.get("jobRole"), query.getJobRole());
+        addEquals(cb, where, e.get("empStatus"), query.getStatus());
+
+        Path<Long> id = e.get("id");
+        Path<String> name = e.get("firstName");
+        Path<LocalDate> joined = e.get("joiningDate");
+
+        if (query.getCursor() != null && !query.getCursor().isBlank()) {
+            String[] c = decodeCursor(query.getCursor(), sort, asc);
+            long lastId = parseId(c[2]);
+            String lastValue = parseValue(c[3]);
+            switch (sort) {
+                case NAME -> where.add(after(cb, name, lastValue, id, lastId, asc));
+                case JOINING_DATE -> where.add(after(cb, joined, lastValue != null ? parseDate(lastValue) : null,
+                        id, lastId, asc));
+                case ID -> where.add(asc ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId));
+            }
+        }
+        cq.where(where.toArray(new Predicate[0]));
+
+        Expression<?> key = switch (sort) {
+            case NAME -> name;
+            case JOINING_DATE -> joined;
+            case ID -> null;
+        };
+        if (key != null) {
+            cq.orderBy(asc ? cb.asc(key) : cb.desc(key), asc ? cb.asc(id) : cb.desc(id));
+        } else {
+            cq.orderBy(asc ? cb.asc(id) : cb.desc(id));
+        }
+
+        // one extra row tells whether there is a next page
+        List<EmployeeDirectoryEntry> rows = em.createQuery(cq).setMaxResults(size + 1).getResultList();
+        boolean hasMore = rows.size() > size;
+        List<EmployeeDirectoryEntry> items = hasMore ? new ArrayList<>(rows.subList(0, size)) : rows;
+
+        String nextCursor = hasMore ? encodeCursor(sort, asc, items.get(items.size() - 1)) : null;
+        return new EmployeeDirectoryPageDto(items, size, hasMore, nextCursor);
+    }
+
+    // (key, id) strictly after (value, lastId) in the requested direction; null is the smallest key
+    private static <Y extends Comparable<? super Y>> Predicate after(CriteriaBuilder cb, Expression<Y> key, Y value,
+                                                                   Path<Long> id, long lastId, boolean asc) {
+        Predicate nextId = asc ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+        if (value == null) {
+            Predicate tie = cb.and(cb.isNull(key), nextId);
+            // ascending, every non-null key comes after the nulls; descending, nothing does
+            return asc ? cb.or(tie, cb.isNotNull(key)) : tie;
+        }
+        // comparisons with null are never true, so nulls drop out of these two
+        Predicate beyond = asc ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        Predicate tie = cb.and(cb.equal(key, value), nextId);
+        return asc ? cb.or(beyond, tie) : cb.or(beyond, tie, cb.isNull(key));
+    }
+
+    private static void addEquals(CriteriaBuilder cb, List<Predicate> where, Path<Object> column, String value) {
+        if (value != null && !value.isBlank()) {
+            where.add(cb.equal(column, value.trim()));
+        }
+    }
+
+    private static SortKey parseSort(String sort) {
+        if (sort == null || sort.isBlank() || sort.equalsIgnoreCase("id")) {
+            return SortKey.ID;
+        }
+        if (sort.equalsIgnoreCase("name") || sort.equalsIgnoreCase("firstName")) {
+            return SortKey.NAME;
+        }
+        if (sort.equalsIgnoreCase("joiningDate")) {
+            return SortKey.JOINING_DATE;
+        }
+        throw new CustomeException("Unsupported sort: " + sort + " (use name, joiningDate or id)");
+    }
+
+    // cursor text: SORT|asc/desc|lastId|=lastSortValue (or - when it is null)
+    private static String encodeCursor(SortKey sort, boolean asc, EmployeeDirectoryEntry last) {
+        Object lastValue = switch (sort) {
+            case NAME -> last.firstName();
+            case JOINING_DATE -> last.joiningDate();
+            case ID -> "";
+        };
+        String value = lastValue != null ? "=" + lastValue : NULL_VALUE;
+        String raw = sort + "|" + (asc ? "asc" : "desc") + "|" + last.id() + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor, SortKey sort, boolean asc) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new CustomeException("Invalid cursor");
+        }
+        if (parts.length != 4 || !parts[0].equals(sort.name()) || !parts[1].equals(asc ? "asc" : "desc")) {
+            throw new CustomeException("Cursor does not match the requested sort; start again without a cursor");
+        }
+        return parts;
+    }
+
+    private static String parseValue(String value) {
+        if (value.equals(NULL_VALUE)) {
+            return null;
+        }
+        if (!value.startsWith("=")) {
+            throw new CustomeException("Invalid cursor");
+        }
+        return value.substring(1);
+    }
+
+    private static long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new CustomeException("Invalid cursor");
+        }
+    }
+
+    private static LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new CustomeException("Invalid cursor");
+        }
+    }
+}
@@ -14,8 +14,9 @@
  *     and checking existing employees.
  *
  * Custom Methods :
- *   ✅ findByEmailAndPasswordAndLoginRole(...) 
- *        → Finds an employee by email, password, and role (used for login).
+ *   ✅ findFirstByEmailAndLoginRole(email, loginRole)
+ *        → Finds the account to log in (email index); the password is
+ *          checked by AuthenticationService.
  *
  *   ✅ existsByEmail(...) 
  *        → Checks if an employee already exists using email.
@@ -29,6 +30,28 @@
  *   ✅ findByEmail(String email)
  *        → Finds an employee by email ID.
  *
+ *   ✅ findDirectoryPage(query, excludedRoles)
+ *        → One keyset-paginated page of the employee directory
+ *          (see EmployeeDirectoryRepositoryImpl).
+ *
+ *   ✅ countHeadcount()
+ *        → Active employees per domain and job role (headcount report).
+ *
+ *   ✅ findPayrollInputs(domain, jobRole)
+ *        → Salary, domain and job role of every employee, optionally
+ *          filtered (payroll preview).
+ *
+ *   ✅ findIdsByDomain(domain)
+ *        → Ids of the employees of a domain (team calendar).
+ *
+ *   ✅ findByIdForUpdate(id)
+ *        → The employee with its row locked until the transaction
+ *          ends (schedule conflict check).
+ *
+ *   ✅ findAllEmailsLowerCase()
+ *        → Every employee email in lower case (duplicate check of the
+ *          bulk import).
+ *
  * Result :
  *   Helps in managing employee data easily without writing SQL queries.
  * ---------------------------------------------------------------
@@ -40,11 +63,18 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import com.neb.dto.HeadcountRow;
+import com.neb.dto.PayrollInputRow;
 import com.neb.entity.Employee;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+import jakarta.persistence.LockModeType;
 
-    Optional<Employee> findByEmailAndPasswordAndLoginRole(String email, String password, String loginRole);
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeDirectoryRepository {
+
+    Optional<Employee> findFirstByEmailAndLoginRole(String email, String loginRole);
 
     boolean existsByEmail(String email);
     
@@ -53,4 +83,38 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     List<Employee> findByLoginRoleNotIn(List<String> roles);
     
     Optional<Employee> findByEmail(String email);
+
+    // Active employees (admins excluded) per domain and job role
+    @Query("""
+            select new com.neb.dto.HeadcountRow(e.domain, e.jobRole, count(e))
+            from Employee e
+            where e.loginRole <> 'admin'
+            group by e.domain, e.jobRole
+            order by e.domain, e.jobRole
+            """)
+    List<HeadcountRow> countHeadcount();
+
+    // Same employees as the payroll run (findAll), only the columns the calculation needs
+    @Query("""
+            select new com.neb.dto.PayrollInputRow(e.id, e.cardNumber, e.firstName, e.lastName,
+                                                   e.domain, e.jobRole, e.salary)
+            from Employee e
+            where (:domain is null or e.domain = :domain)
+              and (:jobRole is null or e.jobRole = :jobRole)
+            order by e.id
+            """)
+    List<PayrollInputRow> findPayrollInputs(String domain, String jobRole);
+
+    // Ids of the employees of one domain (team calendar)
+    @Query("select e.id from Employee e where e.domain = :domain")
+    List<Long> findIdsByDomain(String domain);
+
+    // Locks the employee row: schedules for one employee are created one at a time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Employee e where e.id = :id")
+    Optional<Employee> findByIdForUpdate(Long id);
+
+    // Emails of the existing employees, for the duplicate check of the bulk import
+    @Query("select lower(e.email) from Employee e where e.email is not null")
+    List<String> findAllEmailsLowerCase();
 }
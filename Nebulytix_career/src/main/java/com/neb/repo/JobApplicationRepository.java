@@ -2,8 +2,13 @@ package com.neb.repo;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.neb.entity.JobApplication;
 
@@ -12,4 +17,17 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 	boolean existsByEmailIgnoreCase(String email);
 	Optional<JobApplication> findByEmailIgnoreCase(String email);
 	List<JobApplication> findByJob_Id(Long jobId);
+
+	// indexed lookup on the unique email_normalized column
+	boolean existsByEmailNormalized(String emailNormalized);
+
+	// all normalized emails, streamed (needs an open transaction)
+	@Query("select a.emailNormalized from JobApplication a where a.emailNormalized is not null")
+	Stream<String> streamAllEmailNormalized();
+
+	// fills email_normalized for rows saved before the column existed (own transaction)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@Modifying
+	@Query("update JobApplication a set a.emailNormalized = lower(trim(a.email)) where a.emailNormalized is null and a.email is not null")
+	int backfillEmailNormalized();
 }
@@ -1,9 +1,37 @@
 package com.neb.repo;
 
+import java.time.LocalDate;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.neb.dto.JobSummaryDto;
 import com.neb.entity.Job;
 
 public interface JobRepository extends JpaRepository<Job, Long>{
 
+    // Job listing without the large text columns; a null filter means "any"
+    @Query(value = "select new com.neb.dto.JobSummaryDto(j.id, j.jobTitle, j.domain, j.jobType, j.experienceLevel, "
+                 + "j.salaryRange, j.isActive, j.postedDate, j.closingDate) from Job j "
+                 + "where (:domain is null or j.domain = :domain) "
+                 + "and (:jobType is null or j.jobType = :jobType) "
+                 + "and (:experienceLevel is null or j.experienceLevel = :experienceLevel) "
+                 + "and (:active is null or j.isActive = :active)",
+           countQuery = "select count(j) from Job j "
+                 + "where (:domain is null or j.domain = :domain) "
+                 + "and (:jobType is null or j.jobType = :jobType) "
+                 + "and (:experienceLevel is null or j.experienceLevel = :experienceLevel) "
+                 + "and (:active is null or j.isActive = :active)")
+    Page<JobSummaryDto> findSummaries(String domain, String jobType, String experienceLevel,
+                                      Boolean active, Pageable pageable);
+
+    // Closes every active job whose closing date has passed; returns the number of jobs closed
+    @Modifying
+    @Transactional
+    @Query("update Job j set j.isActive = false where j.isActive = true and j.closingDate < :today")
+    int deactivateExpired(LocalDate today);
 }
@@ -0,0 +1,29 @@
+package com.neb.repo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.neb.entity.OutboundEmail;
+
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Long> {
+
+    // PENDING rows that are due, plus SENDING rows whose claim has expired
+    @Query("select e from OutboundEmail e "
+         + "where e.status in (com.neb.constants.EmailStatus.PENDING, com.neb.constants.EmailStatus.SENDING) "
+         + "and e.nextAttemptAt <= :now order by e.nextAttemptAt")
+    List<OutboundEmail> findDue(LocalDateTime now, Pageable page);
+
+    // SENT and FAILED rows queued before the cutoff; pending and in-flight rows are kept
+    @Transactional
+    @Modifying
+    @Query("delete from OutboundEmail e "
+         + "where e.status in (com.neb.constants.EmailStatus.SENT, com.neb.constants.EmailStatus.FAILED) "
+         + "and e.createdAt < :before")
+    int deleteFinishedBefore(LocalDateTime before);
+}
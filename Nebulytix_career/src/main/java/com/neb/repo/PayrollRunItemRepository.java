@@ -0,0 +1,12 @@
+package com.neb.repo;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.neb.entity.PayrollRunItem;
+
+public interface PayrollRunItemRepository extends JpaRepository<PayrollRunItem, Long> {
+
+    List<PayrollRunItem> findByRunId(Long runId);
+}
@@ -0,0 +1,55 @@
+package com.neb.repo;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.neb.constants.PayrollRunStatus;
+import com.neb.entity.PayrollRun;
+
+/**
+ * Claiming, renewing and finishing a run are single conditional
+ * UPDATEs on its claim token, like the background job leases: each
+ * returns 0 when another attempt holds the run.
+ */
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+
+    Optional<PayrollRun> findByPayslipMonth(String payslipMonth);
+
+    // 0 while another attempt is RUNNING with a live lease (rows without a lease predate leases)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PayrollRun r set r.status = com.neb.constants.PayrollRunStatus.RUNNING, "
+         + "r.claimToken = :token, r.leaseUntil = :leaseUntil, r.startedAt = :now, r.finishedAt = null, "
+         + "r.attempts = r.attempts + 1 "
+         + "where r.payslipMonth = :month "
+         + "and (r.status is null or r.status <> com.neb.constants.PayrollRunStatus.RUNNING "
+         + "or r.leaseUntil is null or r.leaseUntil < :now)")
+    int claim(String month, String token, LocalDateTime now, LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PayrollRun r set r.leaseUntil = :leaseUntil "
+         + "where r.id = :id and r.claimToken = :token "
+         + "and r.status = com.neb.constants.PayrollRunStatus.RUNNING")
+    int renewLease(Long id, String token, LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PayrollRun r set r.status = :status, r.totalEmployees = :total, r.completedCount = :completed, "
+         + "r.failedCount = :failed, r.finishedAt = :now, r.claimToken = null, r.leaseUntil = null "
+         + "where r.id = :id and r.claimToken = :token")
+    int finish(Long id, String token, PayrollRunStatus status, int total, int completed, int failed,
+               LocalDateTime now);
+
+    // An attempt that stopped without finishing: the run stays RUNNING but can be claimed again at once
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update PayrollRun r set r.claimToken = null, r.leaseUntil = null "
+         + "where r.id = :id and r.claimToken = :token")
+    int release(Long id, String token);
+}
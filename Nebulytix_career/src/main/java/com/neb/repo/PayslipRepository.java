@@ -15,6 +15,17 @@
  *   ✅ findByEmployeeId(Long employeeId)
  *        → Retrieves all payslips belonging to a given employee.
  *
+ *   ✅ findByEmployeeIdAndPayslipMonth(Long employeeId, String payslipMonth)
+ *        → Finds the payslip of an employee for one month, if any.
+ *
+ *   ✅ findEmployeeIdsByPayslipMonth(String payslipMonth)
+ *        → Ids of employees who already have a payslip for the month
+ *          (used to resume payroll runs).
+ *
+ *   ✅ streamRegisterRows(String payslipMonth)
+ *        → Payroll register rows of one month, read from a cursor
+ *          (report export).
+ *
  * Result :
  *   Simplifies payslip management and retrieval from the database.
  * ---------------------------------------------------------------
@@ -23,10 +34,39 @@
 package com.neb.repo;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.neb.dto.PayrollRegisterRow;
 import com.neb.entity.Payslip;
 
+import jakarta.persistence.QueryHint;
+
 public interface PayslipRepository extends JpaRepository<Payslip, Long> {
 
     List<Payslip> findByEmployeeId(Long employeeId);
+
+    Optional<Payslip> findByEmployeeIdAndPayslipMonth(Long employeeId, String payslipMonth);
+
+    @Query("select p.employee.id from Payslip p where p.payslipMonth = :payslipMonth")
+    List<Long> findEmployeeIdsByPayslipMonth(String payslipMonth);
+
+    // Payroll register of one month; left join keeps payslips of employees deactivated since
+    @Query("""
+            select new com.neb.dto.PayrollRegisterRow(
+                e.cardNumber, e.firstName, e.lastName, e.domain, e.jobRole,
+                e.bankName, e.bankAccountNumber, e.panNumber, e.uanNumber,
+                p.basic, p.hra, p.flexi, p.grossSalary,
+                p.pfDeduction, p.profTaxDeduction, p.totalDeductions, p.netSalary)
+            from Payslip p left join p.employee e
+            where p.payslipMonth = :payslipMonth
+            order by e.cardNumber, p.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<PayrollRegisterRow> streamRegisterRows(String payslipMonth);
 }
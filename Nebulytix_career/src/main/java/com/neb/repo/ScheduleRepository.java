@@ -5,16 +5,115 @@
  *
  * Description :
  *   - Extends JpaRepository to handle CRUD operations.
- *   - Custom finder method to fetch schedules by employee ID.
+ *   - Custom finders for one employee's or a team's schedules in a
+ *     time window.
+ *   - Overlap queries read the (employee_id, start_time) index from
+ *     scanFrom = from - longest allowed schedule, so only that range
+ *     is scanned, not the employee's whole history.
+ *   - Calendar queries use the same range for a window and a set of
+ *     employees; the stats query answers feed polling without
+ *     loading rows.
+ *   - Timer queries load the UPCOMING schedules that end or start soon
+ *     through the status indexes; markCompleted flips a batch in one
+ *     UPDATE.
  * --------------------------------------------------------------
  */
 
 package com.neb.repo;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.neb.dto.ScheduleTimerRow;
+import com.neb.dto.ScheduleWindowStats;
 import com.neb.entity.Schedule;
 
+import jakarta.persistence.LockModeType;
+
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
-    List<Schedule> findByEmployeeId(Long employeeId);
+
+    // Schedules of the employee overlapping [from, to), cancelled ones excluded
+    @Query("""
+            select s from Schedule s
+            where s.employee.id = :employeeId
+              and s.startTime >= :scanFrom and s.startTime < :to
+              and s.endTime > :from
+              and (s.status is null or s.status <> 'CANCELLED')
+            order by s.startTime
+            """)
+    List<Schedule> findOverlapping(Long employeeId, LocalDateTime scanFrom,
+                                   LocalDateTime from, LocalDateTime to);
+
+    // Busy time of several employees in [from, to), ordered by start (free slot search)
+    @Query("""
+            select s from Schedule s
+            where s.employee.id in :employeeIds
+              and s.startTime >= :scanFrom and s.startTime < :to
+              and s.endTime > :from
+              and (s.status is null or s.status <> 'CANCELLED')
+            order by s.startTime
+            """)
+    List<Schedule> findBusy(Collection<Long> employeeIds, LocalDateTime scanFrom,
+                            LocalDateTime from, LocalDateTime to);
+
+    // Schedules of the employees overlapping [from, to), all statuses (calendar views)
+    @Query("""
+            select s from Schedule s
+            where s.employee.id in :employeeIds
+              and s.startTime >= :scanFrom and s.startTime < :to
+              and s.endTime > :from
+            order by s.startTime, s.id
+            """)
+    List<Schedule> findInWindow(Collection<Long> employeeIds, LocalDateTime scanFrom,
+                                LocalDateTime from, LocalDateTime to);
+
+    // Same rows as findInWindow, summarised
+    @Query("""
+            select new com.neb.dto.ScheduleWindowStats(count(s), coalesce(sum(s.id), 0), max(s.updatedAt))
+            from Schedule s
+            where s.employee.id in :employeeIds
+              and s.startTime >= :scanFrom and s.startTime < :to
+              and s.endTime > :from
+            """)
+    ScheduleWindowStats getWindowStats(Collection<Long> employeeIds, LocalDateTime scanFrom,
+                                       LocalDateTime from, LocalDateTime to);
+
+    // Upcoming schedules ending before the given time (overdue ones included)
+    @Query("""
+            select new com.neb.dto.ScheduleTimerRow(s.id, s.startTime, s.endTime)
+            from Schedule s
+            where s.status = 'UPCOMING' and s.endTime < :until
+            """)
+    List<ScheduleTimerRow> findUpcomingEndingBefore(LocalDateTime until);
+
+    // Upcoming schedules starting in (from, until) that have not had their reminder
+    @Query("""
+            select new com.neb.dto.ScheduleTimerRow(s.id, s.startTime, s.endTime)
+            from Schedule s
+            where s.status = 'UPCOMING' and s.startTime > :from and s.startTime < :until
+              and s.reminderSentAt is null
+            """)
+    List<ScheduleTimerRow> findReminderDue(LocalDateTime from, LocalDateTime until);
+
+    // Flips the given schedules to COMPLETED if they are still UPCOMING and have ended
+    @Modifying
+    @Query("""
+            update Schedule s set s.status = 'COMPLETED', s.updatedAt = :now
+            where s.id in :ids and s.status = 'UPCOMING' and s.endTime <= :now
+            """)
+    int markCompleted(Collection<Long> ids, LocalDateTime now);
+
+    // Locks the given schedules that still need a reminder, so only one node sends it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select s from Schedule s
+            where s.id in :ids and s.status = 'UPCOMING' and s.reminderSentAt is null
+            """)
+    List<Schedule> lockForReminder(Collection<Long> ids);
 }
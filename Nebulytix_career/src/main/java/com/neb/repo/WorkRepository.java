@@ -9,6 +9,9 @@
  * Description :
  *   Extends JpaRepository to provide built-in CRUD operations.
  *    Defines custom methods to fetch work details assigned to employees.
+ *   Work.employee is lazy; the queries below that need employee
+ *   columns join them in the same select, so the number of queries
+ *   does not grow with the number of tasks.
  *
  * Custom Methods :
  *   ✅ findByEmployeeId(Long employeeId)
@@ -17,6 +20,21 @@
  *   ✅ findByEmployee(Employee emp)
  *        → Fetches all tasks assigned to a specific Employee object.
  *
+ *   ✅ findTaskList(Long employeeId)
+ *        → Task list of one employee as WorkResponseDto rows (one query).
+ *
+ *   ✅ findWithEmployeeById(Long id)
+ *        → One task together with its employee (fetch join).
+ *
+ *   ✅ streamDailyReportRows(LocalDate submittedDate)
+ *        → Rows of the daily report for the given submitted date,
+ *          read from an open cursor in batches of 500
+ *          (call inside a transaction and close the stream).
+ *
+ *   ✅ streamWorkReportRows(LocalDate from, LocalDate to)
+ *        → Submitted tasks of a date range for the report export,
+ *          streamed the same way.
+ *
  * ---------------------------------------------------------------
  */
 
@@ -24,13 +42,60 @@ package com.neb.repo;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.neb.dto.DailyReportRow;
+import com.neb.dto.WorkReportRow;
+import com.neb.dto.WorkResponseDto;
 import com.neb.entity.Employee;
 import com.neb.entity.Work;
 
+import jakarta.persistence.QueryHint;
+
 public interface WorkRepository extends JpaRepository<Work, Long> {
 
     List<Work> findByEmployeeId(Long employeeId);
     List<Work> findByEmployee(Employee emp);
     List<Work> findBySubmittedDate(LocalDate submittedDate);
+
+    @Query("""
+            select new com.neb.dto.WorkResponseDto(
+                w.id, w.title, w.description, w.assignedDate, w.dueDate, w.status,
+                w.reportDetails, w.submittedDate, w.reportAttachmentUrl, w.attachmentUrl,
+                e.id, concat(coalesce(e.firstName, ''), ' ', coalesce(e.lastName, '')), e.email)
+            from Work w join w.employee e
+            where e.id = :employeeId
+            order by w.id
+            """)
+    List<WorkResponseDto> findTaskList(Long employeeId);
+
+    @Query("select w from Work w join fetch w.employee where w.id = :id")
+    Optional<Work> findWithEmployeeById(Long id);
+
+    @Query("""
+            select new com.neb.dto.DailyReportRow(
+                e.cardNumber, e.firstName, e.lastName, e.jobRole, w.title, w.status, w.reportDetails)
+            from Work w join w.employee e
+            where w.submittedDate = :submittedDate
+            order by e.cardNumber, w.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<DailyReportRow> streamDailyReportRows(LocalDate submittedDate);
+
+    @Query("""
+            select new com.neb.dto.WorkReportRow(
+                w.submittedDate, e.cardNumber, e.firstName, e.lastName, e.domain, e.jobRole,
+                w.title, w.status, w.assignedDate, w.dueDate, w.reportDetails)
+            from Work w join w.employee e
+            where w.submittedDate between :from and :to
+            order by w.submittedDate, e.cardNumber, w.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<WorkReportRow> streamWorkReportRows(LocalDate from, LocalDate to);
 }
@@ -0,0 +1,62 @@
+package com.neb.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.neb.service.BackgroundJobService;
+
+/**
+ * -----------------------------------------------------------------
+ * Class: BackgroundJobCleanupScheduler
+ * -----------------------------------------------------------------
+ * Purpose:
+ *   Keeps the background_jobs table and the jobs/ storage folder
+ *   from growing forever.
+ *
+ * Description:
+ *   - Deletes jobs that finished more than retention-days ago,
+ *     together with the report files they created. Payslip PDFs
+ *     are kept, they belong to the payslip.
+ *   - Renews the leases of the jobs this node runs and fails jobs
+ *     whose node stopped renewing them.
+ *
+ * Schedule:
+ *   CRON = "${background.jobs.cleanup-cron:0 30 1 * * *}"
+ *   → Runs at 1:30 AM every day.
+ *   FIXED DELAY = "${background.jobs.lease-renew-ms:20000}"
+ *   → Lease renewal; keep it well below lease-seconds.
+ * -----------------------------------------------------------------
+ */
+@Component
+public class BackgroundJobCleanupScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(BackgroundJobCleanupScheduler.class);
+
+    @Autowired
+    private BackgroundJobService jobService;
+
+    @Value("${background.jobs.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(cron = "${background.jobs.cleanup-cron:0 30 1 * * *}")
+    public void purgeOldJobs() {
+        int removed = jobService.purgeFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (removed > 0) {
+            log.info("Removed {} finished background job(s)", removed);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${background.jobs.lease-renew-ms:20000}")
+    public void renewLeases() {
+        int failed = jobService.renewLeases();
+        if (failed > 0) {
+            log.warn("Marked {} background job(s) of a stopped server as FAILED", failed);
+        }
+    }
+}
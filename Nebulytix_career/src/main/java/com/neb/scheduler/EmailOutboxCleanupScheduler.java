@@ -0,0 +1,50 @@
+package com.neb.scheduler;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.neb.repo.OutboundEmailRepository;
+
+/**
+ * -----------------------------------------------------------------
+ * Class: EmailOutboxCleanupScheduler
+ * -----------------------------------------------------------------
+ * Purpose:
+ *   Keeps the email_outbox table from growing forever.
+ *
+ * Description:
+ *   - Deletes SENT and FAILED emails queued more than retention-days
+ *     ago. FAILED rows keep their body until then, so a failed OTP
+ *     or notice can still be looked at.
+ *   - PENDING and SENDING rows are never deleted.
+ *
+ * Schedule:
+ *   CRON = "${mail.outbox.cleanup-cron:0 45 1 * * *}"
+ *   → Runs at 1:45 AM every day.
+ * -----------------------------------------------------------------
+ */
+@Component
+public class EmailOutboxCleanupScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxCleanupScheduler.class);
+
+    @Autowired
+    private OutboundEmailRepository outboxRepo;
+
+    @Value("${mail.outbox.retention-days:14}")
+    private int retentionDays;
+
+    @Scheduled(cron = "${mail.outbox.cleanup-cron:0 45 1 * * *}")
+    public void purgeOldEmails() {
+        int removed = outboxRepo.deleteFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (removed > 0) {
+            log.info("Removed {} sent or failed email(s) from the outbox", removed);
+        }
+    }
+}
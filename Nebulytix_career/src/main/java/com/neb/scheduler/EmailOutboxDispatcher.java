@@ -0,0 +1,184 @@
+package com.neb.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.neb.constants.EmailStatus;
+import com.neb.entity.OutboundEmail;
+import com.neb.repo.OutboundEmailRepository;
+
+/**
+ * -----------------------------------------------------------------
+ * Class: EmailOutboxDispatcher
+ * -----------------------------------------------------------------
+ * Purpose:
+ *   Sends the emails queued in the email_outbox table.
+ *
+ * Description:
+ *   - Every poll it claims a batch of due emails (status SENDING with
+ *     a lease) and sends the whole batch through one SMTP connection
+ *     (JavaMailSender.send(SimpleMailMessage...)).
+ *   - Successful emails become SENT and their body is cleared. Failed
+ *     ones are retried with exponential backoff and become FAILED
+ *     after max-attempts.
+ *   - A per-minute budget limits how many emails go out, to stay
+ *     below the SMTP provider's rate limit.
+ *   - If the node dies after claiming, the lease runs out and the
+ *     emails are picked up again.
+ *
+ * Configuration:
+ *   mail.outbox.poll-interval-ms, mail.outbox.batch-size,
+ *   mail.outbox.max-per-minute, mail.outbox.max-attempts,
+ *   mail.outbox.retry-base-seconds
+ * -----------------------------------------------------------------
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    @Autowired
+    private OutboundEmailRepository outboxRepo;
+
+    @Autowired
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${spring.mail.username:}")
+    private String from;
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-per-minute:100}")
+    private int maxPerMinute;
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.retry-base-seconds:30}")
+    private long retryBaseSeconds;
+
+    // rate limit window (only touched by the scheduler thread)
+    private long windowStart;
+    private int sentInWindow;
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:5000}")
+    public void dispatch() {
+        int budget = remainingBudget();
+        if (budget <= 0) {
+            return;
+        }
+
+        List<OutboundEmail> batch = claim(Math.min(batchSize, budget));
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            messages[i] = toMessage(batch.get(i));
+        }
+
+        Map<Object, Exception> failed = Map.of();
+        Exception batchError = null;
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException ex) {
+            failed = ex.getFailedMessages();
+            if (failed.isEmpty()) {
+                batchError = ex;
+            }
+        } catch (MailException ex) {
+            // connection or authentication problem: nothing was sent
+            batchError = ex;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboundEmail email = batch.get(i);
+            Exception error = batchError != null ? batchError : failed.get(messages[i]);
+            if (error == null) {
+                email.setStatus(EmailStatus.SENT);
+                email.setSentAt(now);
+                email.setLastError(null);
+                // the text (e.g. an OTP) is not needed once delivered
+                email.setBody(null);
+            } else {
+                scheduleRetry(email, error, now);
+            }
+        }
+        sentInWindow += batch.size();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> outboxRepo.saveAll(batch));
+    }
+
+    // Mark due emails as SENDING so no other dispatcher picks them up meanwhile
+    private List<OutboundEmail> claim(int limit) {
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<OutboundEmail> due = outboxRepo.findDue(now, PageRequest.of(0, limit));
+                for (OutboundEmail email : due) {
+                    email.setStatus(EmailStatus.SENDING);
+                    email.setAttempts(email.getAttempts() + 1);
+                    email.setNextAttemptAt(now.plus(CLAIM_LEASE));
+                }
+                return new ArrayList<>(outboxRepo.saveAllAndFlush(due));
+            });
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            // another node claimed some of these rows first; try again next poll
+            return List.of();
+        }
+    }
+
+    private void scheduleRetry(OutboundEmail email, Exception error, LocalDateTime now) {
+        String reason = String.valueOf(error.getMessage());
+        email.setLastError(reason.length() > 1000 ? reason.substring(0, 1000) : reason);
+        if (email.getAttempts() >= maxAttempts) {
+            email.setStatus(EmailStatus.FAILED);
+            return;
+        }
+        long delay = Math.min(MAX_BACKOFF_SECONDS, retryBaseSeconds << Math.min(20, email.getAttempts() - 1));
+        email.setStatus(EmailStatus.PENDING);
+        email.setNextAttemptAt(now.plusSeconds(delay));
+    }
+
+    private int remainingBudget() {
+        long now = System.currentTimeMillis();
+        if (now - windowStart >= 60_000) {
+            windowStart = now;
+            sentInWindow = 0;
+        }
+        return maxPerMinute - sentInWindow;
+    }
+
+    private SimpleMailMessage toMessage(OutboundEmail email) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        if (from != null && !from.isEmpty()) {
+            message.setFrom(from);
+        }
+        message.setTo(email.getRecipient());
+        message.setSubject(email.getSubject());
+        message.setText(email.getBody());
+        return message;
+    }
+}
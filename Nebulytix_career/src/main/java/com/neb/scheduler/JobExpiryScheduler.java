@@ -0,0 +1,51 @@
+package com.neb.scheduler;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.neb.service.HrService;
+
+/**
+ * -----------------------------------------------------------------
+ * Class: JobExpiryScheduler
+ * -----------------------------------------------------------------
+ * Purpose:
+ *   Keeps Job.isActive in the database up to date, so the job
+ *   listing can filter on it instead of comparing closing dates
+ *   on every request.
+ *
+ * Description:
+ *   - Every night, one bulk UPDATE closes all jobs whose closing
+ *     date has passed, and the job listing cache is cleared.
+ *   - Also runs once at startup, in case the application was down
+ *     at midnight.
+ *
+ * Schedule:
+ *   CRON = "${job.expiry.cron:0 5 0 * * *}"
+ *   → Runs at 12:05 AM every day.
+ * -----------------------------------------------------------------
+ */
+@Component
+public class JobExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(JobExpiryScheduler.class);
+
+    @Autowired
+    private HrService hrService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${job.expiry.cron:0 5 0 * * *}")
+    public void closeExpiredJobs() {
+        int closed = hrService.closeExpiredJobs();
+        if (closed > 0) {
+            log.info("Closed {} expired job(s) on {}", closed, LocalDate.now());
+        }
+    }
+}
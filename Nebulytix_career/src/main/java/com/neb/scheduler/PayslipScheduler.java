@@ -1,17 +1,16 @@
 package com.neb.scheduler;
 
-import com.neb.entity.Employee;
-import com.neb.exception.PayslipGenerationException; // ✅ Added import for custom exception
-import com.neb.repo.EmployeeRepository;
-import com.neb.service.EmployeeService;
+import com.neb.dto.PayrollRunReportDto;
+import com.neb.service.PayrollRunService;
+import com.neb.util.PayslipCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.time.format.TextStyle;
-import java.util.List;
-import java.util.Locale;
 
 /**
  * -----------------------------------------------------------------
@@ -21,58 +20,45 @@ import java.util.Locale;
  *   Automatically generates payslips for all employees on the
  *   1st day of every month at midnight.
  *
+ * Description:
+ *   - Delegates to PayrollRunService, which renders the payslips
+ *     in parallel and inserts them in batches.
+ *   - A failure for one employee no longer stops the run; failures
+ *     are listed in the returned PayrollRunReportDto.
+ *   - payslip.scheduler.enabled=false turns the cron off (payslips
+ *     are then generated from the admin / HR endpoints only);
+ *     payslip.scheduler.cron moves it to another day or time.
+ *
  * Schedule:
- *   CRON = "0 0 0 1 * *"
+ *   CRON = "${payslip.scheduler.cron:0 0 0 1 * *}"
  *   → Runs at 12:00 AM on day 1 of every month.
  * -----------------------------------------------------------------
  */
 @Component
+@ConditionalOnProperty(name = "payslip.scheduler.enabled", havingValue = "true", matchIfMissing = true)
 public class PayslipScheduler {
 
-    @Autowired
-    private EmployeeRepository employeeRepository;
+    private static final Logger log = LoggerFactory.getLogger(PayslipScheduler.class);
 
     @Autowired
-    private EmployeeService employeeService;
+    private PayrollRunService payrollRunService;
 
     /**
      * Scheduled task that runs every month at midnight on the 1st.
      */
-    @Scheduled(cron = "0 0 0 1 * *") // 🔹 (sec min hour day month day-of-week)
-    public void generateMonthlyPayslips() {
-        System.out.println("🧾 Starting automatic payslip generation: " + LocalDate.now());
-
-        List<Employee> employees = employeeRepository.findAll();
-        if (employees.isEmpty()) {
-            System.out.println("⚠ No employees found for payslip generation.");
-            return;
-        }
-
-        String monthYear = LocalDate.now()
-                .getMonth()
-                .getDisplayName(TextStyle.FULL, Locale.ENGLISH)
-                + " " + LocalDate.now().getYear();
-
-        System.out.println(">>>>>>>>>>monthYear: " + monthYear);
+    @Scheduled(cron = "${payslip.scheduler.cron:0 0 0 1 * *}") // 🔹 (sec min hour day month day-of-week)
+    public PayrollRunReportDto generateMonthlyPayslips() {
+        log.info("Starting automatic payslip generation: {}", LocalDate.now());
 
-        // ✅ Loop through each employee and generate payslip
-        for (Employee emp : employees) {
+        String monthYear = PayslipCalculator.monthYear(LocalDate.now());
 
-            // ✅ Updated exception handling (Old block replaced here)
-            try {
-                employeeService.generatePayslip(emp.getId(), monthYear);
-                System.out.println("✅ Payslip generated for: " + emp.getFirstName() + " (" + monthYear + ")");
-            } catch (Exception e) {
-                // ❌ Old Code (Removed):
-                // System.err.println("❌ Error generating payslip for employee ID " + emp.getId());
-                // e.printStackTrace();
+        PayrollRunReportDto report = payrollRunService.runMonthlyPayroll(monthYear);
 
-                // ✅ New Code: Throw custom exception so GlobalExceptionHandler can handle it
-                throw new PayslipGenerationException(
-                        "Failed to generate payslip for employee ID: " + emp.getId(), e);
-            }
-        }
+        log.info("Payslips generated for {}: {} of {}, failed: {} ({} ms)", monthYear, report.getGenerated(),
+                report.getTotalEmployees(), report.getFailed(), report.getDurationMillis());
+        report.getFailures().forEach(f -> log.warn(
+                "Payslip failed for employee ID {}: {}", f.getEmployeeId(), f.getReason()));
 
-        System.out.println("🎉 All payslips generated successfully for " + monthYear);
+        return report;
     }
 }
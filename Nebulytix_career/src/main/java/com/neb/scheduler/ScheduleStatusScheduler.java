@@ -0,0 +1,56 @@
+package com.neb.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.neb.service.ScheduleTimerService;
+
+/**
+ * -----------------------------------------------------------------
+ * Class: ScheduleStatusScheduler
+ * -----------------------------------------------------------------
+ * Purpose:
+ *   Keeps Schedule.status up to date and sends reminders, through
+ *   the timing wheel of ScheduleTimerService.
+ *
+ * Description:
+ *   - loadDue() reads the schedules due within the next horizon
+ *     (indexed range, not the whole table); also at startup, so
+ *     schedules that ended while the application was down are
+ *     completed right away.
+ *   - tick() only looks at the in-memory wheel; it touches the
+ *     database when a timer is actually due.
+ *
+ * Schedule:
+ *   schedule.timer.load-interval-ms (default 5 min, keep it below
+ *   schedule.timer.horizon-minutes) and schedule.timer.tick-ms (1 s).
+ * -----------------------------------------------------------------
+ */
+@Component
+public class ScheduleStatusScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleStatusScheduler.class);
+
+    @Autowired
+    private ScheduleTimerService scheduleTimerService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${schedule.timer.load-interval-ms:300000}",
+               initialDelayString = "${schedule.timer.load-interval-ms:300000}")
+    public void loadDue() {
+        scheduleTimerService.loadDue();
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.timer.tick-ms:1000}")
+    public void tick() {
+        int completed = scheduleTimerService.tick();
+        if (completed > 0) {
+            log.debug("Marked {} schedule(s) as COMPLETED", completed);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 
 package com.neb.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -10,15 +12,15 @@ import com.neb.dto.*;
 
 public interface AdminService {
 
-    // For admin login verification
-    public EmployeeResponseDto login(LoginRequestDto loginReq);
-
     // For adding a new employee
     public AddEmployeeResponseDto addEmployee(AddEmployeeRequestDto addEmpReq);
 
     // For retrieving all employee details
     public List<EmployeeDetailsResponseDto> getEmployeeList();
 
+    // Employee directory page (everyone except admins), keyset-paginated
+    public EmployeeDirectoryPageDto getEmployeeDirectory(EmployeeDirectoryQuery query);
+
     // For assigning new work to an employee
     public String assignWork(AddWorkRequestDto request,MultipartFile file);
 
@@ -36,5 +38,6 @@ public interface AdminService {
     
    // public UpdateEmployeeResponseDto updateHrDetails(Long empId,UpdateEmployeeRequestDto updateReq);
     
-    public byte[] generateDailyReport(LocalDate date)throws Exception;
+    // Writes the daily report PDF for the given submitted date straight to the output stream
+    public void writeDailyReport(LocalDate date, OutputStream out) throws IOException;
 }
@@ -0,0 +1,29 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Issues and checks the signed access tokens that replace the
+ *   HTTP session.
+ *
+ * Description :
+ *   - A token carries the user id, email and role (loginRole) and
+ *     an expiry; it is signed with a secret shared by all nodes,
+ *     so any node can check it without a session store.
+ *   - Logged-out tokens are kept in a small in-memory revocation
+ *     set until they expire.
+ *   - Implemented by AuthTokenServiceImpl.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.service;
+
+import com.neb.dto.AuthUser;
+
+public interface AuthTokenService {
+
+    String issue(Long userId, String email, String role);
+
+    // null when the token is malformed, wrongly signed, expired or revoked
+    AuthUser verify(String token);
+
+    void revoke(AuthUser user);
+}
@@ -0,0 +1,33 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   One login path for admin, HR and employees.
+ *
+ * Description :
+ *   - Looks the user up by email (indexed) and login role and checks
+ *     the password against its PBKDF2 hash (PasswordHasher).
+ *   - Legacy plaintext passwords still work; they are replaced by a
+ *     hash on the first successful login.
+ *   - Repeated failures lock the email out for the client address
+ *     they came from, before any database lookup or hashing is done;
+ *     the same email from other addresses can still log in.
+ *   - On success returns the user with a signed access token
+ *     (AuthTokenService).
+ *   - encodePassword() is used wherever a password is stored.
+ *   - Implemented by AuthenticationServiceImpl.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.service;
+
+import com.neb.dto.EmployeeResponseDto;
+import com.neb.dto.LoginRequestDto;
+
+public interface AuthenticationService {
+
+    // clientAddress: remote address of the request, part of the lockout key
+    EmployeeResponseDto login(LoginRequestDto loginReq, String clientAddress);
+
+    // hash to store; null or blank stays null (no login possible)
+    String encodePassword(String rawPassword);
+}
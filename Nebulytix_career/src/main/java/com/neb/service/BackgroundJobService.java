@@ -0,0 +1,76 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Runs long tasks on a bounded background pool and keeps their
+ *   state in the background_jobs table.
+ *
+ * Description :
+ *   - submit() stores a QUEUED job and returns at once; the task
+ *     runs later on a worker thread.
+ *   - Submitting the same type + params while an earlier one is
+ *     still queued or running returns the earlier job, if the caller
+ *     may see it.
+ *   - A job is visible only to the user who submitted it and to
+ *     admin / HR; for anyone else it does not exist.
+ *   - Each job is leased by the node that runs it; a job whose lease
+ *     lapses (node stopped or crashed) is marked FAILED by any node.
+ *   - A full queue is refused with CustomeException, so the pool
+ *     and its queue never grow without limit.
+ *   - Implemented by BackgroundJobServiceImpl.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import org.springframework.core.io.Resource;
+
+import com.neb.constants.BackgroundJobType;
+import com.neb.dto.AuthUser;
+import com.neb.dto.BackgroundJobDto;
+import com.neb.entity.BackgroundJob;
+
+public interface BackgroundJobService {
+
+    BackgroundJobDto submit(BackgroundJobType type, String params, AuthUser submittedBy, JobTask task);
+
+    BackgroundJobDto getJob(Long jobId, AuthUser caller);
+
+    // Queued jobs are cancelled at once; running ones are interrupted
+    BackgroundJobDto cancel(Long jobId, AuthUser caller);
+
+    // Completed job that produced a file
+    BackgroundJob getCompletedJobWithResult(Long jobId, AuthUser caller);
+
+    Resource loadResult(BackgroundJob job) throws IOException;
+
+    // Extends the leases of this node's jobs and fails jobs whose owner stopped renewing; returns the number failed
+    int renewLeases();
+
+    // Deletes finished jobs (and files they created) older than the given time; returns the number removed
+    int purgeFinishedBefore(LocalDateTime before);
+
+    // The work of a job; throwing marks the job FAILED (or CANCELLED after a cancel)
+    @FunctionalInterface
+    interface JobTask {
+        JobResult run(JobContext context) throws Exception;
+    }
+
+    interface JobContext extends JobProgress {
+
+        Long jobId();
+
+        // Storage key for a file created by this job, removed again when the job is purged
+        String resultKey(String fileName);
+    }
+
+    // What a finished job produced; every field may be null
+    record JobResult(String message, String storageKey, String fileName, String contentType, Long resultId) {
+
+        public static JobResult message(String message) {
+            return new JobResult(message, null, null, null, null);
+        }
+    }
+}
@@ -8,10 +8,15 @@ import com.neb.dto.AddJobApplicationRequestDto;
 import com.neb.dto.AddJobApplicationResponseDto;
 import com.neb.dto.JobApplicationDto;
 import com.neb.dto.JobDetailsDto;
+import com.neb.dto.JobSummaryDto;
+import com.neb.dto.PagedResponseDto;
 
 public interface CareerPageService {
 
 	public JobDetailsDto getJobById(Long id);
+	// Public job listing, filtered and paged (null filter = any); cached until a job is added or expires
+	public PagedResponseDto<JobSummaryDto> listJobs(String domain, String jobType, String experienceLevel,
+	                                                Boolean active, int page, int size);
 	public AddJobApplicationResponseDto applyForJob(AddJobApplicationRequestDto requestDto, MultipartFile resume);
 	public List<JobApplicationDto> getApplicationsByJobId(Long jobId);
 }
@@ -2,21 +2,32 @@ package com.neb.service;
 
 
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+
+import com.neb.constants.EmailStatus;
+import com.neb.entity.OutboundEmail;
+import com.neb.repo.OutboundEmailRepository;
 /**
  * Service responsible for sending application-related emails.
+ *
+ * Emails are not sent on the calling thread: they are stored in the
+ * email_outbox table and delivered in batches by EmailOutboxDispatcher,
+ * so request latency does not depend on the mail server.
  */
 @Service
 public class EmailService {
 
+    private static final DateTimeFormatter REMINDER_TIME = DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm");
+
     @Autowired
-    private JavaMailSender mailSender;
+    private OutboundEmailRepository outboxRepo;
     
     /**
-     * Sends a plain-text email to a specified recipient.
+     * Queues a plain-text email to a specified recipient.
      *
      * @param to      Recipient email address
      * @param subject Subject of the email
@@ -24,11 +35,14 @@ public class EmailService {
      */
     public void sendApplicationMail(String to, String subject, String text) 
     {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(text);
-        mailSender.send(message);
+        OutboundEmail email = new OutboundEmail();
+        email.setRecipient(to);
+        email.setSubject(subject);
+        email.setBody(text);
+        email.setStatus(EmailStatus.PENDING);
+        email.setCreatedAt(LocalDateTime.now());
+        email.setNextAttemptAt(email.getCreatedAt());
+        outboxRepo.save(email);
     }
     
     
@@ -47,4 +61,15 @@ public class EmailService {
                 + "' has been successfully submitted.\nOur HR team will review it and get back to you soon.\n\nBest Regards,\nNeb HR Team";
         sendApplicationMail(to, subject, text);
     }
+
+    // ✅ Reminder before a schedule (meeting, interview, training) starts
+    public void sendScheduleReminderEmail(String to, String fullName, String title,
+                                          LocalDateTime startTime, String location) {
+        String subject = "Reminder: " + title + " at " + startTime.format(REMINDER_TIME);
+        String text = "Dear " + fullName + ",\n\nThis is a reminder that '" + title + "' starts on "
+                + startTime.format(REMINDER_TIME)
+                + (location != null && !location.isBlank() ? "\nLocation: " + location : "")
+                + "\n\nBest Regards,\nNeb HR Team";
+        sendApplicationMail(to, subject, text);
+    }
 }
@@ -0,0 +1,30 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Adds many employees at once from an uploaded CSV or JSON file
+ *   (e.g. onboarding the staff of an acquired company).
+ *
+ * Description :
+ *   - CSV: a header row with the AddEmployeeRequestDto field names
+ *     (firstName or first_name, email, jobRole, salary, ...),
+ *     then one employee per line.
+ *   - JSON: an array of AddEmployeeRequestDto objects.
+ *   - Invalid rows and emails that already exist (in the database
+ *     or earlier in the file) are skipped and listed in the report;
+ *     all other rows are saved.
+ *   - validateOnly = true checks the file without saving anything.
+ *   - Implemented by EmployeeImportServiceImpl.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.neb.dto.EmployeeImportReportDto;
+
+public interface EmployeeImportService {
+
+    // loginRole of the imported rows: "employee" or "hr"
+    EmployeeImportReportDto importEmployees(MultipartFile file, String loginRole, boolean validateOnly);
+}
@@ -9,35 +9,33 @@
  *
  * Description :
  *   The EmployeeService interface includes methods for:
- *     - Employee login
  *     - Generating employee payslips
  *     - Viewing employee details
  *     - Getting assigned tasks
  *     - Submitting task reports
  *     - Fetching employee details by email
  *
+ * Login is done by AuthenticationService.
+ *
  * Each method provides a specific functionality to manage 
  * employee-related activities within the system.
  *
  * ---------------------------------------------------------------------
  * Methods :
  *
- * 1. EmployeeResponseDto login(LoginRequestDto loginReq)
- *      → Authenticates an employee’s login credentials.
- *
- * 2. Payslip generatePayslip(Long employeeId, String monthYear)
+ * 1. Payslip generatePayslip(Long employeeId, String monthYear)
  *      → Creates a payslip for the given employee and month.
  *
- * 3. Employee getEmployeeById(Long id)
+ * 2. Employee getEmployeeById(Long id)
  *      → Retrieves employee details using their unique ID.
  *
- * 4. List<Work> getTasksByEmployee(Long employeeId)
+ * 3. List<Work> getTasksByEmployee(Long employeeId)
  *      → Returns all tasks assigned to a specific employee.
  *
- * 5. Work submitReport(Long taskId, String reportDetails, LocalDate submittedDate)
+ * 4. Work submitReport(Long taskId, String reportDetails, LocalDate submittedDate)
  *      → Allows the employee to submit a report for a completed task.
  *
- * 6. EmployeeDetailsResponseDto getEmployeeByEmail(String email)
+ * 5. EmployeeDetailsResponseDto getEmployeeByEmail(String email)
  *      → Fetches employee information using their email ID.
  *
  * ---------------------------------------------------------------------
@@ -59,9 +57,6 @@ import com.neb.entity.*;
 
 public interface EmployeeService {
 
-    // Login verification for employee
-    public EmployeeResponseDto login(LoginRequestDto loginReq);
-
     // Generate payslip for a specific employee and month
     public Payslip generatePayslip(Long employeeId, String monthYear) throws Exception;
 
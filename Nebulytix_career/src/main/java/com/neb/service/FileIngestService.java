@@ -0,0 +1,31 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Stores uploaded files (resumes, task attachments, report
+ *   attachments) in one place and in one way.
+ *
+ * Description :
+ *   - Files are stored under the SHA-256 of their content
+ *     ("<folder>/<sha256>.<ext>"): the same file uploaded twice is
+ *     kept only once.
+ *   - Implemented by FileIngestServiceImpl.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.service;
+
+import java.io.IOException;
+
+import org.springframework.web.multipart.MultipartFile;
+
+public interface FileIngestService {
+
+    /**
+     * Stores the upload in the given storage folder and returns the stored file name.
+     *
+     * @param file   uploaded file, must not be empty
+     * @param folder storage folder, e.g. "application resumes"
+     * @return file name inside the folder, e.g. "3f2a...9c.pdf"
+     */
+    String store(MultipartFile file, String folder) throws IOException;
+}
@@ -0,0 +1,33 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Starts the heavy generation tasks (payroll run, single payslip,
+ *   daily report) as background jobs.
+ *
+ * Description :
+ *   - Each method returns the queued job straight away; progress is
+ *     polled at /api/jobs/{id} and the file downloaded from
+ *     /api/jobs/{id}/result.
+ *   - requestedBy (from the access token) becomes the job's owner;
+ *     an employee may only generate their own payslip.
+ *   - Implemented by GenerationJobServiceImpl on top of
+ *     BackgroundJobService.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.service;
+
+import java.time.LocalDate;
+
+import com.neb.dto.AuthUser;
+import com.neb.dto.BackgroundJobDto;
+
+public interface GenerationJobService {
+
+    // Payslips for all employees for the given month (e.g., "August 2025")
+    BackgroundJobDto submitPayrollRun(String monthYear, AuthUser requestedBy);
+
+    BackgroundJobDto submitPayslip(Long employeeId, String monthYear, AuthUser requestedBy);
+
+    BackgroundJobDto submitDailyReport(LocalDate date, AuthUser requestedBy);
+}
@@ -3,13 +3,15 @@ package com.neb.service;
 
 import java.util.List;
 
+import org.springframework.core.io.Resource;
+
 import com.neb.dto.AddEmployeeRequestDto;
 import com.neb.dto.AddEmployeeResponseDto;
 import com.neb.dto.AddJobRequestDto;
 import com.neb.dto.EmployeeDetailsResponseDto;
-import com.neb.dto.EmployeeResponseDto;
+import com.neb.dto.EmployeeDirectoryPageDto;
+import com.neb.dto.EmployeeDirectoryQuery;
 import com.neb.dto.JobDetailsDto;
-import com.neb.dto.LoginRequestDto;
 import com.neb.dto.PayslipDto;
 import com.neb.dto.UpdateBankDetailsRequestDto;
 import com.neb.dto.UpdateEmployeeRequestDto;
@@ -20,20 +22,20 @@ public interface HrService {
     // Add a new employee
     public AddEmployeeResponseDto addEmployee(AddEmployeeRequestDto addEmpReq);
 
-    // HR login
-    public EmployeeResponseDto login(LoginRequestDto loginReq);
-
     // Get all employee details
     public List<EmployeeDetailsResponseDto> getEmployeeList();
 
+    // Employee directory page (no admin/HR accounts), keyset-paginated
+    public EmployeeDirectoryPageDto getEmployeeDirectory(EmployeeDirectoryQuery query);
+
     // Get employee details by ID
     public EmployeeDetailsResponseDto getEmployee(Long id);
 
     // Delete employee by ID
     public String deleteById(Long id);
 
-    // Download an employee's payslip (PDF)
-    public byte[] downloadPayslip(Long payslipId) throws Exception;
+    // Download an employee's payslip (PDF), streamed from storage
+    public Resource downloadPayslip(Long payslipId);
 
     // List all payslips for a specific employee
     public List<PayslipDto> listPayslipsForEmployee(Long employeeId);
@@ -49,5 +51,8 @@ public interface HrService {
 
      public JobDetailsDto addJob(AddJobRequestDto jobRequestDto);
      public List<JobDetailsDto> getAllJobs();
+     
+     // Marks jobs whose closing date has passed as inactive; returns how many were closed
+     public int closeExpiredJobs();
 
 }
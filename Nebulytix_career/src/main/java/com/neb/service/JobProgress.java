@@ -0,0 +1,14 @@
+package com.neb.service;
+
+/**
+ * Receives progress from long-running work (payroll run, reports),
+ * e.g. so a background job can show how far it has got.
+ */
+@FunctionalInterface
+public interface JobProgress {
+
+    // Nobody is listening (scheduled runs)
+    JobProgress NONE = (done, total) -> { };
+
+    void update(int done, int total);
+}
@@ -0,0 +1,33 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Defines the bulk payroll run used by the monthly scheduler
+ *   and the manual "generate-all" endpoint.
+ *
+ * Description :
+ *   - Generates payslips for every employee for one month.
+ *   - A failure for one employee is recorded in the report and
+ *     does not stop the rest of the run.
+ *   - Progress can be followed through a JobProgress listener.
+ *   - previewMonthlyPayroll() shows the totals and per-employee
+ *     amounts beforehand, without creating payslips or PDFs.
+ *   - Implemented by PayrollRunServiceImpl.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.service;
+
+import com.neb.dto.PayrollPreviewDto;
+import com.neb.dto.PayrollRunReportDto;
+
+public interface PayrollRunService {
+
+    // Generate payslips for all employees for the given month (e.g., "August 2025")
+    PayrollRunReportDto runMonthlyPayroll(String monthYear);
+
+    // Same, reporting employees done / total as the run goes (e.g. to a background job)
+    PayrollRunReportDto runMonthlyPayroll(String monthYear, JobProgress progress);
+
+    // Amounts the run would produce, calculated in memory; nothing is saved or written
+    PayrollPreviewDto previewMonthlyPayroll(String monthYear, String domain, String jobRole, boolean includeLines);
+}
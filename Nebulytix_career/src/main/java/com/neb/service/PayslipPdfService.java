@@ -0,0 +1,41 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Provides the PDF of a payslip, rendering it only when it is
+ *   actually downloaded.
+ *
+ * Description :
+ *   - payslip.pdf.mode=eager → PDFs are written to the storage when
+ *     the payslip is generated (previous behaviour).
+ *   - payslip.pdf.mode=lazy  → only the Payslip row is saved; the
+ *     PDF is rendered on the first download and kept in a
+ *     size-bounded local cache (least recently used files go first).
+ *   - Payslips that already have a stored PDF are served from the
+ *     storage in both modes. Rows from before the storage keys hold
+ *     an absolute file path; that file is served while it is still
+ *     on this machine, otherwise the PDF is rendered again.
+ *   - Implemented by PayslipPdfServiceImpl.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.service;
+
+import java.io.IOException;
+
+import org.springframework.core.io.Resource;
+
+import com.neb.entity.Employee;
+import com.neb.entity.Payslip;
+
+public interface PayslipPdfService {
+
+    // true when PDFs are written while generating payslips
+    boolean isEager();
+
+    Resource getPdf(Long payslipId);
+
+    Resource getPdf(Payslip payslip);
+
+    // Renders the PDF into a temp file and stores it under the key (eager mode), without a byte[] copy
+    void storePdf(Employee emp, Payslip payslip, String key) throws IOException;
+}
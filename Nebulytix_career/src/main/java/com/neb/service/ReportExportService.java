@@ -0,0 +1,34 @@
+package com.neb.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+import com.neb.util.export.ReportFormat;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : ReportExportService.java
+ * Package     : com.neb.service
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Exports work and payroll data as CSV, XLSX or PDF.
+ *
+ * Description :
+ *   - Every export reads its rows from a database cursor and writes
+ *     them to the given stream as they arrive, so memory use does
+ *     not depend on the size of the report.
+ *   - The output stream is not closed.
+ * ---------------------------------------------------------------
+ */
+public interface ReportExportService {
+
+    // Tasks submitted between from and to (inclusive); from == to is the daily report
+    void exportWorkReport(LocalDate from, LocalDate to, ReportFormat format, OutputStream out) throws IOException;
+
+    // All payslips of one month, e.g. "November 2025"
+    void exportPayrollRegister(String payslipMonth, ReportFormat format, OutputStream out) throws IOException;
+
+    // Active employees per domain and job role
+    void exportHeadcount(ReportFormat format, OutputStream out) throws IOException;
+}
@@ -5,25 +5,43 @@
  *
  * Description :
  *   - Declares methods to create, retrieve, and delete schedules.
+ *   - Overlapping schedules of one employee are rejected unless the
+ *     caller allows them; they are then flagged in the response.
+ *   - Finds the free time shared by several employees.
+ *   - Calendar reads are limited to a time window (default: around
+ *     today) and can cover a whole team in one query.
  *   - Implemented by ScheduleServiceImpl.
  * --------------------------------------------------------------
  */
 
 package com.neb.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+
+import com.neb.dto.FreeSlotDto;
+import com.neb.dto.ScheduleDTO;
 import com.neb.entity.Schedule;
 
 public interface ScheduleService {
 
-    // ✅ Create or update a schedule
-    Schedule createSchedule(Schedule schedule);
+    // ✅ Create a schedule; overlaps fail unless allowOverlap (then listed in conflictingScheduleIds)
+    ScheduleDTO createSchedule(ScheduleDTO dto, boolean allowOverlap);
 
     // ✅ Get all schedules
     List<Schedule> getAllSchedules();
 
-    // ✅ Get schedules by employee ID
-    List<Schedule> getSchedulesByEmployee(Long employeeId);
+    // ✅ Schedules of one employee in [from, to) by start time; null = default window, empty list if none
+    List<Schedule> getSchedulesByEmployee(Long employeeId, LocalDateTime from, LocalDateTime to);
+
+    // ✅ Schedules of the given employees and/or everyone in a domain in [from, to)
+    List<Schedule> getTeamCalendar(List<Long> employeeIds, String domain, LocalDateTime from, LocalDateTime to);
+
+    // ✅ ETag of the same team calendar, computed without loading the schedules
+    String getTeamCalendarETag(List<Long> employeeIds, String domain, LocalDateTime from, LocalDateTime to);
+
+    // ✅ Free time of all the given employees in [from, to), slots shorter than minMinutes skipped
+    List<FreeSlotDto> findFreeSlots(List<Long> employeeIds, LocalDateTime from, LocalDateTime to, int minMinutes);
 
     // ✅ Delete a schedule by ID
     void deleteSchedule(Long id);
@@ -0,0 +1,23 @@
+package com.neb.service;
+
+import com.neb.entity.Schedule;
+
+/**
+ * Moves schedules through their life without polling the whole table:
+ * UPCOMING → COMPLETED after the end time, plus a reminder email
+ * before the start time.
+ *
+ * Implemented by ScheduleTimerServiceImpl; driven by
+ * ScheduleStatusScheduler.
+ */
+public interface ScheduleTimerService {
+
+    // Registers a just-saved schedule if it is due before the next load
+    void track(Schedule schedule);
+
+    // Loads the upcoming schedules due within the horizon; returns how many timers were added
+    int loadDue();
+
+    // Fires the timers that are due; returns the number of schedules completed
+    int tick();
+}
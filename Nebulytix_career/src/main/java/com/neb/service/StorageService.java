@@ -0,0 +1,40 @@
+/**
+ * --------------------------------------------------------------
+ * Purpose :
+ *   Defines where the application keeps its files: payslip PDFs,
+ *   task/report attachments, resumes and the payslip logo.
+ *
+ * Description :
+ *   - Files are addressed by a key such as
+ *     "payslips/August_2025/NEB001_payslipAugust_2025.pdf", never
+ *     by an absolute path, so the same database works on any node.
+ *   - Selected with storage.type:
+ *       local → LocalStorageService (folder under storage.local.root)
+ *       s3    → S3StorageService (S3 bucket, or MinIO for local runs)
+ *   - Writes replace an existing file with the same key and become
+ *     visible only once complete.
+ * --------------------------------------------------------------
+ */
+
+package com.neb.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.core.io.Resource;
+
+public interface StorageService {
+
+    // Store the bytes under the key
+    void write(String key, byte[] content) throws IOException;
+
+    // Store a local file under the key; the source file is moved or deleted afterwards
+    void write(String key, Path source) throws IOException;
+
+    boolean exists(String key) throws IOException;
+
+    // Handle to the stored file; check exists() before streaming it
+    Resource load(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+}
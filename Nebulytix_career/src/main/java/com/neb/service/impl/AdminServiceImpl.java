@@ -1,39 +1,40 @@
 package com.neb.service.impl;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.OutputStream;
 import java.time.LocalDate;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.itextpdf.text.DocumentException;
 import com.neb.constants.WorkStatus;
 import com.neb.dto.AddEmployeeRequestDto;
 import com.neb.dto.AddEmployeeResponseDto;
 import com.neb.dto.AddWorkRequestDto;
+import com.neb.dto.DailyReportRow;
 import com.neb.dto.EmployeeDetailsResponseDto;
-import com.neb.dto.EmployeeResponseDto;
-import com.neb.dto.LoginRequestDto;
+import com.neb.dto.EmployeeDirectoryPageDto;
+import com.neb.dto.EmployeeDirectoryQuery;
 import com.neb.dto.UpdateEmployeeRequestDto;
 import com.neb.dto.UpdateEmployeeResponseDto;
 import com.neb.dto.WorkResponseDto;
 import com.neb.entity.Employee;
 import com.neb.entity.Work;
 import com.neb.exception.CustomeException;
+import com.neb.mapper.EmployeeMapper;
 import com.neb.repo.EmployeeRepository;
 import com.neb.repo.WorkRepository;
 import com.neb.service.AdminService;
+import com.neb.service.AuthenticationService;
+import com.neb.service.FileIngestService;
 import com.neb.util.ReportGeneratorPdf;
 
 
@@ -47,29 +48,17 @@ public class AdminServiceImpl implements AdminService{
     private WorkRepository workRepo;
 
     @Autowired
-    private ModelMapper mapper;
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private FileIngestService fileIngestService;
+
+    @Autowired
+    private AuthenticationService authenticationService;
     
     @Value("${task.attachment}")
     private String uploadDir;
     
-     // --------- LOGIN ----------
-    @Override
-    public EmployeeResponseDto login(LoginRequestDto loginReq) {
-
-        // fetch employee from DB
-        Employee emp = empRepo.findByEmailAndPasswordAndLoginRole(
-                loginReq.getEmail(),
-                loginReq.getPassword(),
-                loginReq.getLoginRole()	
-        ).orElseThrow(() -> new CustomeException("Invalid credentials. Please check your email and password and login role"));
-       
-        // map entity to DTO
-        EmployeeResponseDto loginRes = mapper.map(emp, EmployeeResponseDto.class);
-
-        return loginRes;
-    }
-    
-   
     // --------- ADD EMPLOYEE ----------
     @Override
     public AddEmployeeResponseDto addEmployee(AddEmployeeRequestDto addEmpReq) {
@@ -80,14 +69,15 @@ public class AdminServiceImpl implements AdminService{
         }
 
         // map DTO to entity
-        Employee emp = mapper.map(addEmpReq, Employee.class);
+        Employee emp = employeeMapper.toEntity(addEmpReq);
         emp.setLoginRole("hr");
+        emp.setPassword(authenticationService.encodePassword(addEmpReq.getPassword()));
 
         // save entity
         Employee savedEmp = empRepo.save(emp);
 
         // map saved entity to response DTO
-        AddEmployeeResponseDto addEmpRes = mapper.map(savedEmp, AddEmployeeResponseDto.class);
+        AddEmployeeResponseDto addEmpRes = employeeMapper.toAddResponseDto(savedEmp);
 
         return addEmpRes;
     }
@@ -103,13 +93,12 @@ public class AdminServiceImpl implements AdminService{
 	    	throw new CustomeException("Employees not found");
 	    }
 	    
-	    List<EmployeeDetailsResponseDto> empListRes = employeeList.stream().map(emp->{
-	    	
-	    	EmployeeDetailsResponseDto empResDto = mapper.map(emp, EmployeeDetailsResponseDto.class);
-	    	return empResDto;
-	    }).collect(Collectors.toList());
-	    
-	    return empListRes;
+	    return employeeMapper.toDetailsDtos(employeeList);
+	}
+
+	@Override
+	public EmployeeDirectoryPageDto getEmployeeDirectory(EmployeeDirectoryQuery query) {
+		return empRepo.findDirectoryPage(query, List.of("admin"));
 	}
 	
            //............. adding work ..............
@@ -132,15 +121,8 @@ public class AdminServiceImpl implements AdminService{
             }
             
             try {
-            	// ensure directory exists
-                Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-                Files.createDirectories(uploadPath);
-
-                String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
-                // optionally add unique suffix
-                String fileName = System.currentTimeMillis() + "_" + originalFilename;
-                Path filePath = uploadPath.resolve(fileName);
-                Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+                // stored under its SHA-256, identical attachments share one file
+                String fileName = fileIngestService.store(file, uploadDir);
 
                 // set URL or path in work
                 work.setAttachmentUrl("/uploads/tasks/" + fileName);
@@ -160,46 +142,21 @@ public class AdminServiceImpl implements AdminService{
     }
 
     public List<WorkResponseDto> getAllWorks(Long empId) {
-    	List<Work> allWork = workRepo.findByEmployeeId(empId);
+    	// one query, employee columns joined in
+    	List<WorkResponseDto> allWork = workRepo.findTaskList(empId);
     	if(allWork==null) {
     		throw new CustomeException("works not found");
     	}
-        return allWork
-                .stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
-    	
+        return allWork;
     }
 
     public List<WorkResponseDto> getWorkByEmployee(Long empId) {
     	
-    	List<Work> workListByEmployeeId = workRepo.findByEmployeeId(empId);
+    	List<WorkResponseDto> workListByEmployeeId = workRepo.findTaskList(empId);
     	if(workListByEmployeeId==null) {
     		throw new CustomeException("works not found for employee with employee id :"+empId);
     	}
-        return workListByEmployeeId
-                .stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
-    
-    }
-       
-    private WorkResponseDto mapToDto(Work work) {
-        WorkResponseDto dto = new WorkResponseDto();
-        dto.setId(work.getId());
-        dto.setTitle(work.getTitle());
-        dto.setDescription(work.getDescription());
-        dto.setAssignedDate(work.getAssignedDate());
-        dto.setDueDate(work.getDueDate());
-        dto.setStatus(work.getStatus());
-        dto.setReportDetails(work.getReportDetails());
-        dto.setSubmittedDate(work.getSubmittedDate());
-        dto.setEmployeeId(work.getEmployee().getId());
-        dto.setEmployeeName(work.getEmployee().getFirstName() + " " + work.getEmployee().getLastName());
-        dto.setEmployeeEmail(work.getEmployee().getEmail());
-        dto.setAttachmentUrl(work.getAttachmentUrl());
-        dto.setReportAttachmentUrl(work.getReportAttachmentUrl());
-        return dto;
+        return workListByEmployeeId;
     }
 
 	@Override
@@ -248,17 +205,17 @@ public class AdminServiceImpl implements AdminService{
 	public EmployeeDetailsResponseDto getEmployee(Long id) {
 
 		Employee emp = empRepo.findById(id).orElseThrow(()->new CustomeException("Employee not found wuith id :"+id));
-		return mapper.map(emp, EmployeeDetailsResponseDto.class);	
+		return employeeMapper.toDetailsDto(emp);	
 	}
 	@Override
-	public byte[] generateDailyReport(LocalDate date) throws Exception {
-	    List<Work> works = workRepo.findBySubmittedDate(date);
-	    if (works == null || works.isEmpty()) {
-	        // error handling
+	@Transactional(readOnly = true)
+	public void writeDailyReport(LocalDate date, OutputStream out) throws IOException {
+	    // rows are read from an open cursor while the PDF is written, never all at once
+	    try (Stream<DailyReportRow> works = workRepo.streamDailyReportRows(date)) {
+	        new ReportGeneratorPdf().writeDailyReportPDF(works, date, out);
+	    } catch (DocumentException e) {
+	        throw new IOException("Could not create daily report: " + e.getMessage(), e);
 	    }
-	    ReportGeneratorPdf pdfGenerator = new ReportGeneratorPdf();
-	    byte[] dailyReportPDF = pdfGenerator.generateDailyReportPDF(works, date);
-	    return dailyReportPDF;
 	}
 	
 	}
@@ -0,0 +1,164 @@
+package com.neb.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.neb.dto.AuthUser;
+import com.neb.service.AuthTokenService;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : AuthTokenServiceImpl.java
+ * Package     : com.neb.service.impl
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Signed access tokens (JWT, HMAC-SHA256) with the user's role.
+ *
+ * Description :
+ *   - Token = header.payload.signature (Base64URL); the payload holds
+ *     sub (user id), email, role, iat, exp and jti (token id).
+ *   - Only our own header is accepted, so "alg": "none" or another
+ *     algorithm cannot be slipped in; the signature is compared in
+ *     constant time.
+ *   - Revoked token ids are kept in memory until the token would
+ *     have expired anyway. The set is per node: a logout is seen at
+ *     once by the node that handled it, other nodes stop accepting
+ *     the token when it expires (keep auth.token.ttl-minutes short).
+ *
+ * Configuration :
+ *   auth.token.secret      → shared by all nodes, at least 32 characters;
+ *                            empty = random per start (single node only)
+ *   auth.token.ttl-minutes → lifetime of a token
+ * ---------------------------------------------------------------
+ */
+@Service
+public class AuthTokenServiceImpl implements AuthTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthTokenServiceImpl.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64_DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = B64.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${auth.token.secret:}")
+    private String secret;
+
+    @Value("${auth.token.ttl-minutes:480}")
+    private long ttlMinutes;
+
+    private SecretKeySpec key;
+
+    // Mac is not thread-safe; one per request thread
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    // revoked token id → its expiry (epoch seconds)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initKey() {
+        byte[] bytes;
+        if (secret == null || secret.isBlank()) {
+            bytes = new byte[32];
+            new SecureRandom().nextBytes(bytes);
+            log.warn("auth.token.secret is not set: using a random key, tokens are only valid on this node until it restarts");
+        } else if (secret.length() < 32) {
+            throw new IllegalStateException("auth.token.secret must be at least 32 characters");
+        } else {
+            bytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        key = new SecretKeySpec(bytes, ALGORITHM);
+    }
+
+    @Override
+    public String issue(Long userId, String email, String role) {
+        Instant now = Instant.now();
+        ObjectNode claims = objectMapper.createObjectNode();
+        claims.put("sub", String.valueOf(userId));
+        claims.put("email", email);
+        claims.put("role", role);
+        claims.put("iat", now.getEpochSecond());
+        claims.put("exp", now.plus(Duration.ofMinutes(ttlMinutes)).getEpochSecond());
+        claims.put("jti", UUID.randomUUID().toString());
+
+        String unsigned = HEADER + "." + B64.encodeToString(claims.toString().getBytes(StandardCharsets.UTF_8));
+        return unsigned + "." + B64.encodeToString(sign(unsigned));
+    }
+
+    @Override
+    public AuthUser verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int first = token.indexOf('.');
+        int last = token.lastIndexOf('.');
+        if (first != HEADER.length() || last == first || !token.startsWith(HEADER)) {
+            return null;
+        }
+        try {
+            byte[] signature = B64_DECODER.decode(token.substring(last + 1));
+            if (!MessageDigest.isEqual(signature, sign(token.substring(0, last)))) {
+                return null;
+            }
+            JsonNode claims = objectMapper.readTree(B64_DECODER.decode(token.substring(first + 1, last)));
+            long exp = claims.path("exp").asLong(0);
+            String jti = claims.path("jti").asText(null);
+            if (exp <= Instant.now().getEpochSecond() || jti == null || revoked.containsKey(jti)) {
+                return null;
+            }
+            return new AuthUser(Long.valueOf(claims.path("sub").asText()), claims.path("email").asText(null),
+                    claims.path("role").asText(null), jti, Instant.ofEpochSecond(exp));
+        } catch (Exception e) {
+            // bad Base64 / JSON / id: same as a wrong signature
+            return null;
+        }
+    }
+
+    @Override
+    public void revoke(AuthUser user) {
+        long now = Instant.now().getEpochSecond();
+        // logouts are rare; drop entries whose token has expired anyway
+        revoked.values().removeIf(exp -> exp <= now);
+        revoked.put(user.tokenId(), user.expiresAt().getEpochSecond());
+    }
+
+    private byte[] sign(String data) {
+        return macs.get().doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
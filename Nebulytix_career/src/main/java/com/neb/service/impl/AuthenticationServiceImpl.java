@@ -0,0 +1,151 @@
+package com.neb.service.impl;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.neb.dto.EmployeeResponseDto;
+import com.neb.dto.LoginRequestDto;
+import com.neb.entity.Employee;
+import com.neb.exception.CustomeException;
+import com.neb.mapper.EmployeeMapper;
+import com.neb.repo.EmployeeRepository;
+import com.neb.service.AuthTokenService;
+import com.neb.service.AuthenticationService;
+import com.neb.util.PasswordHasher;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : AuthenticationServiceImpl.java
+ * Package     : com.neb.service.impl
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Login for admin, HR and employees (was copied in the three
+ *   services).
+ *
+ * Description :
+ *   - Lookup by email and login role on the employees.email index;
+ *     the password is checked in Java, never in SQL.
+ *   - An unknown email still costs one hash check, so response
+ *     times do not tell which emails exist.
+ *   - Plaintext passwords and hashes cheaper than the current cost
+ *     are re-hashed after a successful login.
+ *   - Failed attempts are counted per email and client address in a
+ *     Caffeine cache. After auth.login.max-failures within
+ *     auth.login.lockout-minutes that pair is locked for that long:
+ *     no query, no hashing. Keying on the address too means a
+ *     stranger guessing passwords cannot lock the real user out.
+ *   - Failures are also counted per email alone, with the higher
+ *     auth.login.max-failures-per-email, so guessing one account's
+ *     password from many addresses is stopped as well.
+ *   - The counts are per node, like the token revocation set.
+ *
+ * Configuration :
+ *   auth.login.max-failures           → failed attempts per email and
+ *                                       address before the lockout
+ *   auth.login.max-failures-per-email → failed attempts per email from
+ *                                       all addresses together
+ *   auth.login.lockout-minutes        → counting window and lockout time
+ * ---------------------------------------------------------------
+ */
+@Service
+public class AuthenticationServiceImpl implements AuthenticationService {
+
+    private static final String INVALID_CREDENTIALS =
+            "Invalid credentials. Please check your email and password and login role";
+
+    @Autowired
+    private EmployeeRepository empRepo;
+
+    @Autowired
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private PasswordHasher passwordHasher;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Value("${auth.login.max-failures:5}")
+    private int maxFailures;
+
+    @Value("${auth.login.max-failures-per-email:50}")
+    private int maxFailuresPerEmail;
+
+    @Value("${auth.login.lockout-minutes:15}")
+    private long lockoutMinutes;
+
+    // "lower-case email|client address" → failed attempts; an entry expires lockoutMinutes after the last failure
+    private Cache<String, Integer> failures;
+
+    // lower-case email → failed attempts from any address, same expiry
+    private Cache<String, Integer> emailFailures;
+
+    // checked when the email is unknown, costs the same as a real check
+    private String dummyHash;
+
+    @PostConstruct
+    void init() {
+        failures = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(lockoutMinutes))
+                .maximumSize(100_000)
+                .build();
+        emailFailures = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(lockoutMinutes))
+                .maximumSize(100_000)
+                .build();
+        dummyHash = passwordHasher.hash("not-a-password");
+    }
+
+    @Override
+    public EmployeeResponseDto login(LoginRequestDto loginReq, String clientAddress) {
+        if (loginReq == null || loginReq.getEmail() == null || loginReq.getPassword() == null) {
+            throw new CustomeException(INVALID_CREDENTIALS);
+        }
+        String email = loginReq.getEmail().trim();
+        String emailKey = email.toLowerCase(Locale.ROOT);
+        String key = emailKey + "|" + clientAddress;
+
+        Integer failed = failures.getIfPresent(key);
+        Integer failedForEmail = emailFailures.getIfPresent(emailKey);
+        if ((failed != null && failed >= maxFailures)
+                || (failedForEmail != null && failedForEmail >= maxFailuresPerEmail)) {
+            throw new CustomeException("Too many failed login attempts. Please try again in "
+                    + lockoutMinutes + " minutes");
+        }
+
+        Employee emp = empRepo.findFirstByEmailAndLoginRole(email, loginReq.getLoginRole()).orElse(null);
+        String stored = emp != null ? emp.getPassword() : null;
+        boolean valid = passwordHasher.verify(loginReq.getPassword(), stored != null ? stored : dummyHash)
+                && stored != null;
+        if (!valid) {
+            failures.asMap().merge(key, 1, Integer::sum);
+            emailFailures.asMap().merge(emailKey, 1, Integer::sum);
+            throw new CustomeException(INVALID_CREDENTIALS);
+        }
+        // the per-email count is kept: a login by the owner must not give an attacker elsewhere new attempts
+        failures.invalidate(key);
+
+        if (passwordHasher.needsRehash(stored)) {
+            emp.setPassword(passwordHasher.hash(loginReq.getPassword()));
+            emp = empRepo.save(emp);
+        }
+
+        EmployeeResponseDto loginRes = employeeMapper.toResponseDto(emp);
+        // send as "Authorization: Bearer <token>" on every request (AuthTokenFilter)
+        loginRes.setToken(authTokenService.issue(emp.getId(), emp.getEmail(), emp.getLoginRole()));
+        return loginRes;
+    }
+
+    @Override
+    public String encodePassword(String rawPassword) {
+        return rawPassword == null || rawPassword.isBlank() ? null : passwordHasher.hash(rawPassword);
+    }
+}
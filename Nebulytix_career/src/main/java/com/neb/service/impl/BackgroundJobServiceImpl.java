@@ -0,0 +1,382 @@
+package com.neb.service.impl;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import com.neb.constants.BackgroundJobStatus;
+import com.neb.constants.BackgroundJobType;
+import com.neb.dto.AuthUser;
+import com.neb.dto.BackgroundJobDto;
+import com.neb.entity.BackgroundJob;
+import com.neb.exception.CustomeException;
+import com.neb.mapper.BackgroundJobMapper;
+import com.neb.repo.BackgroundJobRepository;
+import com.neb.service.BackgroundJobService;
+import com.neb.service.PayslipPdfService;
+import com.neb.service.StorageService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : BackgroundJobServiceImpl.java
+ * Package     : com.neb.service.impl
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Executes background jobs and records their state.
+ *
+ * Description :
+ *   - Fixed pool of worker threads with a bounded queue; when the
+ *     queue is full the job is stored as FAILED and the caller gets
+ *     a CustomeException instead of the request thread waiting.
+ *   - Progress is written only when the percentage changes, so a
+ *     job costs at most about 100 progress updates.
+ *   - Cancel: a queued job is marked CANCELLED and skipped by the
+ *     worker; a running job gets cancelRequested, its thread is
+ *     interrupted and its next progress update stops it.
+ *   - Every job records its submitter; reading, downloading and
+ *     cancelling are allowed to that user and to admin / HR only.
+ *     Other callers get "not found", so job ids cannot be probed.
+ *   - Each job is owned by the node that queued it and carries a
+ *     lease that renewLeases() extends while the node is alive. At
+ *     startup and on every renewal, jobs of this node id left by a
+ *     previous process and jobs whose lease lapsed are marked
+ *     FAILED; jobs other live nodes are running are left alone.
+ *
+ * Configuration :
+ *   background.jobs.worker-threads → jobs running at the same time
+ *   background.jobs.queue-capacity → jobs waiting for a worker
+ *   background.jobs.node-id        → stable id of this server; when
+ *                                    empty a random id is used and
+ *                                    its jobs fail only when the
+ *                                    lease lapses after a restart
+ *   background.jobs.lease-seconds  → how long a job survives
+ *                                    without a renewal
+ * ---------------------------------------------------------------
+ */
+@Service
+public class BackgroundJobServiceImpl implements BackgroundJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(BackgroundJobServiceImpl.class);
+
+    private static final String RESULT_FOLDER = "jobs";
+    private static final String STOPPED = "Its server stopped, please submit it again";
+    private static final List<BackgroundJobStatus> ACTIVE =
+            List.of(BackgroundJobStatus.QUEUED, BackgroundJobStatus.RUNNING);
+    private static final List<BackgroundJobStatus> FINISHED =
+            List.of(BackgroundJobStatus.COMPLETED, BackgroundJobStatus.FAILED, BackgroundJobStatus.CANCELLED);
+
+    @Autowired
+    private BackgroundJobRepository jobRepo;
+
+    @Autowired
+    private BackgroundJobMapper jobMapper;
+
+    @Autowired
+    private StorageService storage;
+
+    @Autowired
+    private PayslipPdfService payslipPdfService;
+
+    @Value("${background.jobs.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${background.jobs.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${background.jobs.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${background.jobs.lease-seconds:60}")
+    private long leaseSeconds;
+
+    private String nodeId;
+
+    private ThreadPoolExecutor pool;
+
+    // jobs queued or running on this node, so a cancel can interrupt them
+    private final Map<Long, FutureTask<Void>> tasks = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void startPool() {
+        nodeId = configuredNodeId == null || configuredNodeId.isBlank()
+                ? "node-" + UUID.randomUUID()
+                : configuredNodeId.trim();
+        int threads = Math.max(workerThreads, 1);
+        AtomicInteger counter = new AtomicInteger();
+        pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                r -> {
+                    Thread t = new Thread(r, "background-job-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stopPool() {
+        pool.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void failUnfinishedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = jobRepo.failOwnedBy(nodeId, STOPPED, now) + jobRepo.failExpired(STOPPED, now);
+        if (failed > 0) {
+            log.warn("Marked {} unfinished background job(s) as FAILED after restart", failed);
+        }
+    }
+
+    @Override
+    public int renewLeases() {
+        jobRepo.renewLeases(nodeId, leaseUntil());
+        return jobRepo.failExpired(STOPPED, LocalDateTime.now());
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusSeconds(Math.max(leaseSeconds, 1));
+    }
+
+    // synchronized: the duplicate check and the insert must not interleave
+    @Override
+    public synchronized BackgroundJobDto submit(BackgroundJobType type, String params, AuthUser submittedBy,
+                                                JobTask task) {
+        BackgroundJob active = jobRepo.findFirstByTypeAndParamsAndStatusIn(type, params, ACTIVE).orElse(null);
+        if (active != null && canAccess(active, submittedBy)) {
+            return jobMapper.toDto(active);
+        }
+
+        BackgroundJob job = new BackgroundJob();
+        job.setType(type);
+        job.setParams(params);
+        if (submittedBy != null) {
+            job.setSubmittedBy(submittedBy.id());
+            job.setSubmittedByRole(submittedBy.role());
+        }
+        job.setStatus(BackgroundJobStatus.QUEUED);
+        job.setOwnerNode(nodeId);
+        job.setLeaseUntil(leaseUntil());
+        job.setCreatedAt(LocalDateTime.now());
+        job = jobRepo.save(job);
+
+        Long jobId = job.getId();
+        FutureTask<Void> future = new FutureTask<>(() -> execute(jobId, task), null);
+        tasks.put(jobId, future);
+        try {
+            pool.execute(future);
+        } catch (RejectedExecutionException e) {
+            tasks.remove(jobId);
+            jobRepo.markFinished(jobId, BackgroundJobStatus.FAILED, "Rejected: too many jobs waiting",
+                    LocalDateTime.now(), ACTIVE);
+            throw new CustomeException("Too many background jobs are waiting, please try again in a few minutes");
+        }
+        return jobMapper.toDto(job);
+    }
+
+    private void execute(Long jobId, JobTask task) {
+        try {
+            if (jobRepo.markRunning(jobId, LocalDateTime.now(), leaseUntil()) == 0) {
+                return; // cancelled while queued
+            }
+            Context context = new Context(jobId);
+            try {
+                JobResult result = task.run(context);
+                if (result == null) {
+                    result = JobResult.message(null);
+                }
+                jobRepo.markCompleted(jobId, trim(result.message()), result.storageKey(), result.fileName(),
+                        result.contentType(), result.resultId(), LocalDateTime.now());
+            } catch (Exception e) {
+                // an interrupt must not break the state updates below
+                Thread.interrupted();
+                context.deleteFiles();
+
+                boolean cancelled = context.cancelled
+                        || jobRepo.findById(jobId).map(BackgroundJob::isCancelRequested).orElse(false);
+                if (cancelled) {
+                    jobRepo.markFinished(jobId, BackgroundJobStatus.CANCELLED, "Cancelled while running",
+                            LocalDateTime.now(), ACTIVE);
+                } else {
+                    log.error("Background job {} failed", jobId, e);
+                    jobRepo.markFinished(jobId, BackgroundJobStatus.FAILED, trim(String.valueOf(e.getMessage())),
+                            LocalDateTime.now(), ACTIVE);
+                }
+            }
+        } finally {
+            tasks.remove(jobId);
+        }
+    }
+
+    @Override
+    public BackgroundJobDto getJob(Long jobId, AuthUser caller) {
+        return jobMapper.toDto(findJob(jobId, caller));
+    }
+
+    @Override
+    public BackgroundJobDto cancel(Long jobId, AuthUser caller) {
+        BackgroundJob job = findJob(jobId, caller);
+
+        if (job.getStatus() == BackgroundJobStatus.QUEUED) {
+            jobRepo.markFinished(jobId, BackgroundJobStatus.CANCELLED, "Cancelled before it started",
+                    LocalDateTime.now(), List.of(BackgroundJobStatus.QUEUED));
+            FutureTask<Void> future = tasks.remove(jobId);
+            if (future != null) {
+                future.cancel(false);
+                pool.remove(future);
+            }
+        }
+        // re-read: the job may have started in the meantime
+        job = findJob(jobId);
+        if (job.getStatus() == BackgroundJobStatus.RUNNING && jobRepo.requestCancel(jobId) > 0) {
+            FutureTask<Void> future = tasks.get(jobId);
+            if (future != null) {
+                future.cancel(true);
+            }
+            job = findJob(jobId);
+        }
+        return jobMapper.toDto(job);
+    }
+
+    @Override
+    public BackgroundJob getCompletedJobWithResult(Long jobId, AuthUser caller) {
+        BackgroundJob job = findJob(jobId, caller);
+        if (job.getStatus() != BackgroundJobStatus.COMPLETED) {
+            throw new CustomeException("Job " + jobId + " is " + job.getStatus() + ", its result is not available");
+        }
+        if (job.getResultKey() == null && !isPayslipResult(job)) {
+            throw new CustomeException("Job " + jobId + " did not produce a file");
+        }
+        return job;
+    }
+
+    @Override
+    public Resource loadResult(BackgroundJob job) throws IOException {
+        if (job.getResultKey() == null && isPayslipResult(job)) {
+            // lazy payslip PDF: rendered on this first download
+            return payslipPdfService.getPdf(job.getResultId());
+        }
+        if (!storage.exists(job.getResultKey())) {
+            throw new CustomeException("Result of job " + job.getId() + " is no longer available");
+        }
+        return storage.load(job.getResultKey());
+    }
+
+    private static boolean isPayslipResult(BackgroundJob job) {
+        return job.getType() == BackgroundJobType.PAYSLIP && job.getResultId() != null;
+    }
+
+    @Override
+    public int purgeFinishedBefore(LocalDateTime before) {
+        List<BackgroundJob> old = jobRepo.findFinishedBefore(FINISHED, before);
+        for (BackgroundJob job : old) {
+            // only files written for the job; payslip PDFs belong to the payslip
+            if (job.getResultKey() != null && job.getResultKey().startsWith(RESULT_FOLDER + "/")) {
+                try {
+                    storage.delete(job.getResultKey());
+                } catch (IOException e) {
+                    log.warn("Could not delete result of job {}: {}", job.getId(), e.getMessage());
+                }
+            }
+        }
+        jobRepo.deleteAllInBatch(old);
+        return old.size();
+    }
+
+    private BackgroundJob findJob(Long jobId) {
+        return jobRepo.findById(jobId)
+                .orElseThrow(() -> new CustomeException("Job not found with id: " + jobId));
+    }
+
+    // someone else's job looks like a missing one
+    private BackgroundJob findJob(Long jobId, AuthUser caller) {
+        BackgroundJob job = findJob(jobId);
+        if (!canAccess(job, caller)) {
+            throw new CustomeException("Job not found with id: " + jobId);
+        }
+        return job;
+    }
+
+    private static boolean canAccess(BackgroundJob job, AuthUser caller) {
+        if (caller == null) {
+            return false;
+        }
+        return "admin".equals(caller.role()) || "hr".equals(caller.role())
+                || (job.getSubmittedBy() != null && job.getSubmittedBy().equals(caller.id())
+                    && caller.role().equals(job.getSubmittedByRole()));
+    }
+
+    private static String trim(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private class Context implements JobContext {
+
+        private final Long jobId;
+        private final List<String> files = new CopyOnWriteArrayList<>();
+        private volatile int lastPercent = -1;
+        private volatile boolean cancelled;
+
+        Context(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public Long jobId() {
+            return jobId;
+        }
+
+        @Override
+        public String resultKey(String fileName) {
+            String key = RESULT_FOLDER + "/" + jobId + "/" + fileName;
+            files.add(key);
+            return key;
+        }
+
+        @Override
+        public void update(int done, int total) {
+            // the final 100 is written when the job completes
+            int percent = total > 0 ? (int) Math.min(done * 100L / total, 99) : 0;
+            if (percent <= lastPercent) {
+                return;
+            }
+            lastPercent = percent;
+            if (jobRepo.updateProgress(jobId, percent, done + " of " + total) == 0) {
+                cancelled = true;
+                throw new CancellationException("Job " + jobId + " was cancelled");
+            }
+        }
+
+        void deleteFiles() {
+            for (String key : files) {
+                try {
+                    storage.delete(key);
+                } catch (IOException e) {
+                    log.warn("Could not delete {}: {}", key, e.getMessage());
+                }
+            }
+        }
+    }
+}
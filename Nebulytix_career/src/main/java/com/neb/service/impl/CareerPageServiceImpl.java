@@ -1,37 +1,55 @@
 package com.neb.service.impl;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.neb.constants.CacheNames;
 import com.neb.dto.AddJobApplicationRequestDto;
 import com.neb.dto.AddJobApplicationResponseDto;
 import com.neb.dto.JobApplicationDto;
 import com.neb.dto.JobDetailsDto;
+import com.neb.dto.JobSummaryDto;
+import com.neb.dto.PagedResponseDto;
 
 import com.neb.entity.Job;
 import com.neb.entity.JobApplication;
 import com.neb.exception.CustomeException;
+import com.neb.mapper.JobApplicationMapper;
+import com.neb.mapper.JobMapper;
 import com.neb.repo.JobApplicationRepository;
 import com.neb.repo.JobRepository;
 import com.neb.service.CareerPageService;
 import com.neb.service.EmailService;
+import com.neb.service.FileIngestService;
+import com.neb.util.BloomFilter;
 
 @Service
 public class CareerPageServiceImpl implements CareerPageService {
 
+    private static final Logger log = LoggerFactory.getLogger(CareerPageServiceImpl.class);
+
+    // see @UniqueConstraint on JobApplication
+    private static final String UNIQUE_EMAIL_CONSTRAINT = "uk_job_application_email";
+
     @Autowired
     private JobApplicationRepository jobApplicationRepository;
 
@@ -39,13 +57,51 @@ public class CareerPageServiceImpl implements CareerPageService {
     private JobRepository jobRepository;
 
     @Autowired
-    private ModelMapper mapper;
+    private JobMapper jobMapper;
+
+    @Autowired
+    private JobApplicationMapper jobApplicationMapper;
 
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private FileIngestService fileIngestService;
+
     @Value("${application.resume}")
     private String uploadDir;
+
+    @Value("${career.application.bloom.expected-insertions:500000}")
+    private long expectedApplications;
+
+    // normalized emails that have applied; filled once at startup, then on every new application
+    private volatile BloomFilter appliedEmails = new BloomFilter(1, 0.01);
+    private volatile boolean appliedEmailsLoaded;
+
+    /**
+     * Loads the emails of existing applications into the Bloom filter.
+     * Until this has finished every submission goes to the database check.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadAppliedEmails() {
+        try {
+            jobApplicationRepository.backfillEmailNormalized();
+        } catch (RuntimeException ex) {
+            log.warn("Could not backfill normalized application emails", ex);
+        }
+
+        BloomFilter filter = new BloomFilter(expectedApplications, 0.01);
+        try (Stream<String> emails = jobApplicationRepository.streamAllEmailNormalized()) {
+            emails.forEach(filter::put);
+        }
+        appliedEmails = filter;
+        appliedEmailsLoaded = true;
+    }
+
+    private boolean mightHaveApplied(String emailNormalized) {
+        return !appliedEmailsLoaded || appliedEmails.mightContain(emailNormalized);
+    }
     
     @Override
     public JobDetailsDto getJobById(Long id) {
@@ -55,10 +111,25 @@ public class CareerPageServiceImpl implements CareerPageService {
         LocalDate today = LocalDate.now();
         job.setIsActive(job.getClosingDate() == null || !job.getClosingDate().isBefore(today));
 
-        return mapper.map(job, JobDetailsDto.class);
+        return jobMapper.toDetailsDto(job);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.JOB_LISTINGS)
+    public PagedResponseDto<JobSummaryDto> listJobs(String domain, String jobType, String experienceLevel,
+                                                    Boolean active, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size,
+                Sort.by(Sort.Order.desc("postedDate"), Sort.Order.desc("id")));
+        return PagedResponseDto.of(jobRepository.findSummaries(domain, jobType, experienceLevel, active, pageable));
     }
 
+	/**
+	 * The application row is inserted (and flushed) before the resume is
+	 * stored: a duplicate email fails on the unique constraint without
+	 * leaving a resume file behind. A failed upload rolls the row back.
+	 */
 	@Override
+	@Transactional
 	public AddJobApplicationResponseDto applyForJob(AddJobApplicationRequestDto requestDto, MultipartFile resume) {
 		
 		 if (requestDto == null) {
@@ -72,11 +143,14 @@ public class CareerPageServiceImpl implements CareerPageService {
 		 Job job = jobRepository.findById(requestDto.getJobId())
 	                .orElseThrow(() -> new CustomeException("Job not found with ID: " + requestDto.getJobId()));
 
-	        // Check if user already applied (same email or same domain)
-	        boolean exists = jobApplicationRepository.findAll().stream()
-	                .anyMatch(app -> app.getEmail().equalsIgnoreCase(requestDto.getEmail()));
+	        String emailNormalized = JobApplication.normalizeEmail(requestDto.getEmail());
+	        if (emailNormalized == null || emailNormalized.isEmpty()) {
+	            throw new CustomeException("Email is required");
+	        }
 
-	        if (exists) {
+	        // Check if user already applied: Bloom filter first, indexed lookup only on a possible hit
+	        if (mightHaveApplied(emailNormalized)
+	                && jobApplicationRepository.existsByEmailNormalized(emailNormalized)) {
 	            throw new CustomeException("You already applied for a job with this email!");
 	        }
 	        
@@ -87,25 +161,29 @@ public class CareerPageServiceImpl implements CareerPageService {
 	        application.setApplicationDate(LocalDate.now());
 	        application.setJob(job);	
 	        application.setStatus("SUBMITTED");
-	               
-            try {       	
-            	// ensure directory exists
-                Path uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
-                Files.createDirectories(uploadPath);
 
-                String originalFilename = StringUtils.cleanPath(resume.getOriginalFilename());
-                // optionally add unique suffix
-                String fileName = System.currentTimeMillis() + "_" + originalFilename;
-                Path filePath = uploadPath.resolve(fileName);
-                Files.copy(resume.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            JobApplication saveApplication;
+            try {
+                saveApplication = jobApplicationRepository.saveAndFlush(application);
+            } catch (DataIntegrityViolationException ex) {
+                if (!isDuplicateEmail(ex)) {
+                    throw ex;
+                }
+                // same email submitted concurrently (or from another node): unique constraint wins
+                throw new CustomeException("You already applied for a job with this email!");
+            }
+
+            try {
+                // stored under its SHA-256, identical resumes share one file
+                String fileName = fileIngestService.store(resume, uploadDir);
 
-                application.setResumeFilePath("/uploads/resumes/" + fileName);
+                // written with the commit
+                saveApplication.setResumeFilePath("/uploads/resumes/" + fileName);
 
             }catch (IOException ex) {
                 throw new CustomeException("Could not store file. Error: " + ex.getMessage());
             }
-	        
-            JobApplication saveApplication = jobApplicationRepository.save(application);
+            appliedEmails.put(emailNormalized);
             
             AddJobApplicationResponseDto applicationRes = new AddJobApplicationResponseDto();
             
@@ -116,6 +194,17 @@ public class CareerPageServiceImpl implements CareerPageService {
 		return applicationRes;
 	}  
 	
+	// only the unique email constraint means "already applied"; other violations are real errors
+	private static boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+	    for (Throwable t = ex; t != null; t = t.getCause()) {
+	        if (t instanceof ConstraintViolationException violation) {
+	            String name = violation.getConstraintName();
+	            return name != null && name.toLowerCase(Locale.ROOT).contains(UNIQUE_EMAIL_CONSTRAINT);
+	        }
+	    }
+	    return false;
+	}
+
 	@Override
 	public List<JobApplicationDto> getApplicationsByJobId(Long jobId){
 
@@ -124,19 +213,6 @@ public class CareerPageServiceImpl implements CareerPageService {
 
 	    List<JobApplication> apps = job.getApplications();
 	    
-	    List<JobApplicationDto> applicationsResponse = apps.stream().map(app->{
-	    	JobApplicationDto dto = new JobApplicationDto();
-	        dto.setId(app.getId());
-	        dto.setFullName(app.getFullName());
-	        dto.setEmail(app.getEmail());
-	        dto.setPhoneNumber(app.getPhoneNumber());
-	        dto.setApplicationDate(app.getApplicationDate());
-	        dto.setStatus(app.getStatus());
-	        dto.setResumeUrl(app.getResumeFilePath());
-	        
-	        return dto;
-	    }).collect(Collectors.toList());
-	    
-	    return applicationsResponse;
+	    return jobApplicationMapper.toDtos(apps);
 	}
 }
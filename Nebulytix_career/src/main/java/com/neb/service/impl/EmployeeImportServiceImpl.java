@@ -0,0 +1,396 @@
+package com.neb.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neb.dto.AddEmployeeRequestDto;
+import com.neb.dto.EmployeeImportErrorDto;
+import com.neb.dto.EmployeeImportReportDto;
+import com.neb.entity.Employee;
+import com.neb.exception.CustomeException;
+import com.neb.mapper.EmployeeMapper;
+import com.neb.repo.EmployeeRepository;
+import com.neb.service.AuthenticationService;
+import com.neb.service.EmployeeImportService;
+import com.neb.util.CsvReader;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : EmployeeImportServiceImpl.java
+ * Package     : com.neb.service.impl
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Imports employees from a CSV or JSON file in one streaming pass.
+ *
+ * Description :
+ *   - The file is read row by row (CsvReader / Jackson JsonParser);
+ *     only the current insert batch is kept in memory.
+ *   - Emails of the existing employees are loaded once into a set,
+ *     so the duplicate check costs no query per row. Emails are
+ *     compared in lower case.
+ *   - Valid rows are inserted with saveAll in batches of
+ *     employee.import.batch-size, one transaction per batch. The
+ *     employee id comes from a pooled sequence, so Hibernate sends
+ *     each batch as JDBC batch inserts (hibernate.jdbc.batch_size).
+ *   - A failed batch is reported row by row and does not stop the
+ *     import; batches already saved stay saved.
+ *   - Passwords are hashed (AuthenticationService) for the whole
+ *     batch in parallel just before it is inserted; this is most of
+ *     the time of a file that carries passwords.
+ *
+ * Configuration :
+ *   employee.import.batch-size → employees inserted per transaction
+ * ---------------------------------------------------------------
+ */
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportServiceImpl.class);
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    // CSV header (lower case, without '_', '-' and spaces) → DTO field
+    private static final Map<String, BiConsumer<AddEmployeeRequestDto, String>> COLUMNS = new LinkedHashMap<>();
+    static {
+        COLUMNS.put("firstname", AddEmployeeRequestDto::setFirstName);
+        COLUMNS.put("lastname", AddEmployeeRequestDto::setLastName);
+        COLUMNS.put("email", AddEmployeeRequestDto::setEmail);
+        COLUMNS.put("mobile", AddEmployeeRequestDto::setMobile);
+        COLUMNS.put("cardnumber", AddEmployeeRequestDto::setCardNumber);
+        COLUMNS.put("jobrole", AddEmployeeRequestDto::setJobRole);
+        COLUMNS.put("domain", AddEmployeeRequestDto::setDomain);
+        COLUMNS.put("gender", AddEmployeeRequestDto::setGender);
+        COLUMNS.put("joiningdate", (dto, v) -> dto.setJoiningDate(parseDate("joiningDate", v)));
+        COLUMNS.put("salary", (dto, v) -> dto.setSalary(parseDouble("salary", v)));
+        COLUMNS.put("dayspresent", (dto, v) -> dto.setDaysPresent(parseInt("daysPresent", v)));
+        COLUMNS.put("paidleaves", (dto, v) -> dto.setPaidLeaves(parseInt("paidLeaves", v)));
+        COLUMNS.put("password", AddEmployeeRequestDto::setPassword);
+        COLUMNS.put("bankaccountnumber", AddEmployeeRequestDto::setBankAccountNumber);
+        COLUMNS.put("bankname", AddEmployeeRequestDto::setBankName);
+        COLUMNS.put("pfnumber", AddEmployeeRequestDto::setPfNumber);
+        COLUMNS.put("pannumber", AddEmployeeRequestDto::setPanNumber);
+        COLUMNS.put("uannumber", AddEmployeeRequestDto::setUanNumber);
+        COLUMNS.put("epsnumber", AddEmployeeRequestDto::setEpsNumber);
+        COLUMNS.put("esinumber", AddEmployeeRequestDto::setEsiNumber);
+    }
+
+    @Autowired
+    private EmployeeRepository empRepo;
+
+    @Autowired
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${employee.import.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public EmployeeImportReportDto importEmployees(MultipartFile file, String loginRole, boolean validateOnly) {
+        if (file == null || file.isEmpty()) {
+            throw new CustomeException("Import file is required");
+        }
+        if (!"employee".equals(loginRole) && !"hr".equals(loginRole)) {
+            throw new CustomeException("Employees can only be imported as employee or hr, not " + loginRole);
+        }
+        boolean json = isJson(file);
+
+        long start = System.currentTimeMillis();
+        EmployeeImportReportDto report = new EmployeeImportReportDto();
+        report.setFormat(json ? "JSON" : "CSV");
+        report.setValidateOnly(validateOnly);
+
+        Batch batch = new Batch(loginRole, validateOnly, report);
+        try (InputStream in = file.getInputStream()) {
+            if (json) {
+                readJson(in, batch);
+            } else {
+                readCsv(in, batch);
+            }
+        } catch (IOException e) {
+            throw new CustomeException("Could not read import file: " + e.getMessage());
+        }
+        batch.flush();
+
+        report.setDurationMillis(System.currentTimeMillis() - start);
+        log.info("Employee import ({}{}): {} of {} rows in {} ms", report.getFormat(),
+                validateOnly ? ", validate only" : "", report.getImported(), report.getTotalRows(),
+                report.getDurationMillis());
+        return report;
+    }
+
+    private static boolean isJson(MultipartFile file) {
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        String type = file.getContentType() != null ? file.getContentType().toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".json") || type.contains("json")) {
+            return true;
+        }
+        if (name.endsWith(".csv") || type.contains("csv") || type.startsWith("text/plain")) {
+            return false;
+        }
+        throw new CustomeException("Unsupported import file: " + file.getOriginalFilename() + " (use .csv or .json)");
+    }
+
+    // ---------- CSV ----------
+
+    private void readCsv(InputStream in, Batch batch) throws IOException {
+        CsvReader csv = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String[] header = csv.next();
+        if (header == null) {
+            throw new CustomeException("Import file is empty");
+        }
+
+        List<BiConsumer<AddEmployeeRequestDto, String>> setters = new ArrayList<>(header.length);
+        List<String> unknown = new ArrayList<>();
+        for (String column : header) {
+            BiConsumer<AddEmployeeRequestDto, String> setter = COLUMNS.get(normalizeColumn(column));
+            if (setter == null) {
+                unknown.add(column);
+            }
+            setters.add(setter);
+        }
+        if (!unknown.isEmpty()) {
+            throw new CustomeException("Unknown column(s) " + unknown + "; expected any of " + COLUMNS.keySet());
+        }
+        if (!setters.contains(COLUMNS.get("email")) || !setters.contains(COLUMNS.get("firstname"))) {
+            throw new CustomeException("Import file needs at least the firstName and email columns");
+        }
+
+        String[] values;
+        while ((values = csv.next()) != null) {
+            AddEmployeeRequestDto dto = new AddEmployeeRequestDto();
+            String error = null;
+            for (int i = 0; i < values.length && i < setters.size(); i++) {
+                String value = values[i].trim();
+                if (value.isEmpty()) {
+                    continue;
+                }
+                try {
+                    setters.get(i).accept(dto, value);
+                } catch (IllegalArgumentException e) {
+                    error = e.getMessage();
+                    break;
+                }
+            }
+            if (error == null && values.length > setters.size()) {
+                error = "Row has " + values.length + " values but the header has " + setters.size() + " columns";
+            }
+            batch.add(csv.getLineNumber(), dto, error);
+        }
+    }
+
+    private static String normalizeColumn(String column) {
+        return column.trim().toLowerCase(Locale.ROOT).replace("_", "").replace("-", "").replace(" ", "");
+    }
+
+    private static LocalDate parseDate(String column, String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column + " '" + value + "' (use yyyy-MM-dd)");
+        }
+    }
+
+    private static Double parseDouble(String column, String value) {
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + " '" + value + "'");
+        }
+    }
+
+    private static int parseInt(String column, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + " '" + value + "'");
+        }
+    }
+
+    // ---------- JSON ----------
+
+    private void readJson(InputStream in, Batch batch) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new CustomeException("JSON import must be an array of employees");
+            }
+            int row = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new CustomeException("JSON import ends before the closing ]");
+                }
+                row++;
+                // one element at a time; a malformed element does not stop the rest
+                JsonNode node = parser.readValueAsTree();
+                if (node == null || !node.isObject()) {
+                    batch.add(row, new AddEmployeeRequestDto(), "Element is not an object");
+                    continue;
+                }
+                try {
+                    batch.add(row, objectMapper.treeToValue(node, AddEmployeeRequestDto.class), null);
+                } catch (JsonProcessingException e) {
+                    AddEmployeeRequestDto partial = new AddEmployeeRequestDto();
+                    partial.setEmail(node.path("email").asText(null));
+                    batch.add(row, partial, "Invalid value: " + e.getOriginalMessage());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new CustomeException("Invalid JSON in import file: " + e.getOriginalMessage());
+        }
+    }
+
+    // ---------- validation and batched inserts ----------
+
+    private static String validate(AddEmployeeRequestDto dto, String loginRole) {
+        if (isBlank(dto.getFirstName())) {
+            return "firstName is required";
+        }
+        if (isBlank(dto.getEmail())) {
+            return "email is required";
+        }
+        if (!EMAIL.matcher(dto.getEmail().trim()).matches()) {
+            return "Invalid email";
+        }
+        if ("employee".equals(loginRole) && isBlank(dto.getJobRole())) {
+            return "jobRole is required";
+        }
+        if (dto.getSalary() != null && (dto.getSalary() < 0 || dto.getSalary().isNaN() || dto.getSalary().isInfinite())) {
+            return "salary must be zero or more";
+        }
+        if (dto.getDaysPresent() < 0 || dto.getPaidLeaves() < 0) {
+            return "daysPresent and paidLeaves must be zero or more";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * Collects valid rows and inserts them batchSize at a time.
+     */
+    private class Batch {
+
+        private final String loginRole;
+        private final boolean validateOnly;
+        private final EmployeeImportReportDto report;
+        private final Set<String> knownEmails;
+        private final List<Employee> pending = new ArrayList<>(batchSize);
+        private final List<Integer> pendingRows = new ArrayList<>(batchSize);
+        private final TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Batch(String loginRole, boolean validateOnly, EmployeeImportReportDto report) {
+            this.loginRole = loginRole;
+            this.validateOnly = validateOnly;
+            this.report = report;
+            this.knownEmails = new HashSet<>(empRepo.findAllEmailsLowerCase());
+        }
+
+        void add(int row, AddEmployeeRequestDto dto, String parseError) {
+            report.setTotalRows(report.getTotalRows() + 1);
+
+            String error = parseError != null ? parseError : validate(dto, loginRole);
+            if (error != null) {
+                report.setInvalid(report.getInvalid() + 1);
+                error(row, dto.getEmail(), error);
+                return;
+            }
+            String email = dto.getEmail().trim();
+            if (!knownEmails.add(email.toLowerCase(Locale.ROOT))) {
+                report.setDuplicates(report.getDuplicates() + 1);
+                error(row, email, "Employee with email " + email + " already exists");
+                return;
+            }
+            if (validateOnly) {
+                report.setImported(report.getImported() + 1);
+                return;
+            }
+
+            Employee emp = employeeMapper.toEntity(dto);
+            emp.setEmail(email);
+            emp.setLoginRole(loginRole);
+            pending.add(emp);
+            pendingRows.add(row);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                // the hashing is deliberately slow; spread it over the cores, outside the transaction
+                pending.parallelStream().forEach(e -> e.setPassword(authenticationService.encodePassword(e.getPassword())));
+                tx.executeWithoutResult(status -> {
+                    empRepo.saveAll(pending);
+                    entityManager.flush();
+                    // the saved employees are not needed any more; keeps the persistence context small
+                    entityManager.clear();
+                });
+                report.setImported(report.getImported() + pending.size());
+            } catch (RuntimeException e) {
+                entityManager.clear();
+                report.setFailed(report.getFailed() + pending.size());
+                String reason = "Insert failed: " + e.getMessage();
+                for (int i = 0; i < pending.size(); i++) {
+                    error(pendingRows.get(i), pending.get(i).getEmail(), reason);
+                }
+            }
+            pending.clear();
+            pendingRows.clear();
+        }
+
+        private void error(int row, String email, String reason) {
+            if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+                report.getErrors().add(new EmployeeImportErrorDto(row, email, reason));
+            } else {
+                report.setErrorsTruncated(true);
+            }
+        }
+    }
+}
@@ -1,34 +1,32 @@
 package com.neb.service.impl;
 import java.io.IOException;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.neb.constants.WorkStatus;
 import com.neb.dto.EmployeeDetailsResponseDto;
-import com.neb.dto.EmployeeResponseDto;
-import com.neb.dto.LoginRequestDto;
 import com.neb.dto.WorkResponseDto;
 import com.neb.entity.Employee;
 import com.neb.entity.Payslip;
 import com.neb.entity.Work;
 import com.neb.exception.CustomeException;
+import com.neb.mapper.EmployeeMapper;
+import com.neb.mapper.WorkMapper;
 import com.neb.repo.EmployeeRepository;
 import com.neb.repo.PayslipRepository;
 import com.neb.repo.WorkRepository;
 import com.neb.service.EmployeeService;
-import com.neb.util.PdfGeneratorUtil;
+import com.neb.service.FileIngestService;
+import com.neb.service.PayslipPdfService;
+import com.neb.util.PayslipCalculator;
+import com.neb.util.payroll.PayrollEngine;
 
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
@@ -40,11 +38,23 @@ public class EmployeeServiceImpl implements EmployeeService {
     private PayslipRepository payslipRepo;
 
     @Autowired
-    private ModelMapper mapper;
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private WorkMapper workMapper;
     
     @Autowired
     private WorkRepository workRepository;
 
+    @Autowired
+    private FileIngestService fileIngestService;
+
+    @Autowired
+    private PayrollEngine payrollEngine;
+
+    @Autowired
+    private PayslipPdfService payslipPdfService;
+
     
     @Value("${payslip.base-folder}")
     private String baseFolder;
@@ -52,24 +62,6 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Value("${task.attachment}")
     private String attachmentFolder;
 
-    // --------- LOGIN ----------
-    @Override
-    public EmployeeResponseDto login(LoginRequestDto loginReq) {
-
-        // fetch employee from DB
-        Employee emp = empRepo.findByEmailAndPasswordAndLoginRole(
-                loginReq.getEmail(),
-                loginReq.getPassword(),
-                loginReq.getLoginRole()
-        ).orElseThrow(() -> new CustomeException("Invalid credentials. Please check your email and password and login role"));
-
-        // map entity to DTO
-        EmployeeResponseDto loginRes = mapper.map(emp, EmployeeResponseDto.class);
-
-        return loginRes;
-    }
-    
-    
     //Getting employee By ID
     
     public Employee getEmployeeById(Long id) {
@@ -83,58 +75,38 @@ public class EmployeeServiceImpl implements EmployeeService {
 		Employee emp = empRepo.findById(employeeId)
 	            .orElseThrow(() -> new CustomeException("Employee not found with id: "+employeeId));
 		
-		Payslip p = new Payslip();
-        p.setEmployee(emp);
-        p.setPayslipMonth(monthYear);
-        p.setGeneratedDate(LocalDateTime.now());
-        p.setLocation("FLAT NO 501B,PSR PRIME TOWERS,BESIDE DLF,GACHIBOWLI,500032");
-
-        // Salary Calculations
-        double salary = emp.getSalary();
-        p.setBasic(salary * 0.53);
-        p.setHra(salary * 0.20);
-        p.setFlexi(salary * 0.27);
-        double gross = p.getBasic() + p.getHra() + p.getFlexi();//
-        p.setGrossSalary(gross);
-        
-        // Deductions
-        p.setPfDeduction(p.getBasic() * 0.12);
-        p.setProfTaxDeduction(200.0);
-        double ded = p.getPfDeduction() + p.getProfTaxDeduction();
-        p.setTotalDeductions(ded);
-        
-        // Net Salary Calculation
-        double net = gross - ded;
-        p.setNetSalary(net);
-        p.setBalance(gross);
-        p.setAggrgDeduction(ded);
-        p.setIncHdSalary(net);
-        p.setTaxCredit(net*0.05);//random values added
+		// Salary breakdown
+		Payslip p = PayslipCalculator.buildPayslip(emp, monthYear, payrollEngine);
+
+        // Regenerating a month updates the existing payslip instead of adding a duplicate
+        payslipRepo.findByEmployeeIdAndPayslipMonth(employeeId, monthYear)
+                .ifPresent(existing -> p.setId(existing.getId()));
      
+        String fileName = PayslipCalculator.pdfFileName(emp, monthYear);
+        p.setFileName(fileName);
+
         // Save payslip record
-        p = payslipRepo.save(p);
-        
-        // PDF File Generation
-        String fileName = emp.getCardNumber() + "_payslip" + monthYear.replace(" ", "_") + ".pdf";
-        String folderPath = baseFolder + "/" + monthYear.replace(" ", "_");
-        Files.createDirectories(Paths.get(folderPath));
-        String fullPath = folderPath + "/" + fileName;
+        Payslip saved = payslipRepo.save(p);
 
-        
-        byte[] pdfBytes = PdfGeneratorUtil.createPayslipPdf(emp, p);
-        Files.write(Paths.get(fullPath), pdfBytes);
+        // lazy mode: the PDF is rendered on the first download (PayslipPdfService)
+        if (!payslipPdfService.isEager()) {
+            return saved;
+        }
 
-        p.setPdfPath(fullPath);
-        p.setFileName(fileName);
-        payslipRepo.save(p);
+        // PDF File Generation
+        String key = baseFolder + "/" + PayslipCalculator.monthFolder(monthYear) + "/" + fileName;
+
+        payslipPdfService.storePdf(emp, saved, key);
 
-        return p;
+        // storage key, not a disk path (see StorageService)
+        saved.setPdfPath(key);
+        return payslipRepo.save(saved);
 	}
 	 // Get employee details by EMAIL
     public EmployeeDetailsResponseDto getEmployeeByEmail(String email) {
     	System.out.println(email);
     	Employee emp = empRepo.findByEmail(email).orElseThrow(()->new CustomeException("Employee not found with email id :"+email));
-    	EmployeeDetailsResponseDto empdetailsDto = mapper.map(emp, EmployeeDetailsResponseDto.class);
+    	EmployeeDetailsResponseDto empdetailsDto = employeeMapper.toDetailsDto(emp);
         return empdetailsDto;
     }
   
@@ -148,8 +120,10 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
     
     @Override
+    @Transactional
     public WorkResponseDto submitReport(Long taskId, String statusStr, String reportDetails, MultipartFile reportAttachment, LocalDate submittedDate) {
-        Work task = workRepository.findById(taskId)
+        // employee is needed for the response, load it with the task
+        Work task = workRepository.findWithEmployeeById(taskId)
                 .orElseThrow(() -> new CustomeException("Task not found with taskId: " + taskId));
 
         task.setReportDetails(reportDetails);
@@ -159,13 +133,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         // Handle file upload
         if (reportAttachment != null && !reportAttachment.isEmpty()) {
             try {
-                String fileName = System.currentTimeMillis() + "_" + reportAttachment.getOriginalFilename();
-                Path uploadPath = Paths.get(attachmentFolder);
-                if (!Files.exists(uploadPath)) {
-                    Files.createDirectories(uploadPath);
-                }
-                Path filePath = uploadPath.resolve(fileName);
-                Files.copy(reportAttachment.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+                // stored under its SHA-256, identical attachments share one file
+                String fileName = fileIngestService.store(reportAttachment, attachmentFolder);
 
                 // Save relative URL for frontend access
                 String fileUrl = "/uploads/tasks/" + fileName;
@@ -176,22 +145,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
 
         Work savedWork = workRepository.save(task);
-        WorkResponseDto workRes = new WorkResponseDto();
-        
-        workRes.setId(savedWork.getId());
-        workRes.setTitle(savedWork.getTitle());
-        workRes.setAssignedDate(savedWork.getAssignedDate());
-        workRes.setDueDate(savedWork.getDueDate());
-        workRes.setStatus(savedWork.getStatus());
-        workRes.setReportDetails(savedWork.getReportDetails());
-        workRes.setSubmittedDate(savedWork.getSubmittedDate());
-        workRes.setReportAttachmentUrl(savedWork.getReportAttachmentUrl());
-        workRes.setAttachmentUrl(savedWork.getAttachmentUrl());
-        workRes.setEmployeeId(savedWork.getEmployee().getId());
-        workRes.setEmployeeName(savedWork.getEmployee().getFirstName());
-        workRes.setEmployeeEmail(savedWork.getEmployee().getEmail());
-        
-        return workRes ;
+        return workMapper.toDto(savedWork);
     }
 	 
 }
@@ -0,0 +1,105 @@
+package com.neb.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.neb.service.FileIngestService;
+import com.neb.service.StorageService;
+
+/**
+ * -----------------------------------------------------------------
+ * Class: FileIngestServiceImpl
+ * -----------------------------------------------------------------
+ * Purpose:
+ *   Hashes uploads and hands them to the StorageService.
+ *
+ * Description:
+ *   - Small uploads (already in memory) are hashed and written from
+ *     the byte[] directly.
+ *   - Larger ones are moved out of the servlet container's temp file
+ *     with MultipartFile.transferTo (a rename when both are on the
+ *     same disk), hashed in one read and passed on to the storage
+ *     (again a rename for local storage). The content is not copied
+ *     through the application.
+ * -----------------------------------------------------------------
+ */
+@Service
+public class FileIngestServiceImpl implements FileIngestService {
+
+    // uploads up to this size are read in one go (same as spring.servlet.multipart.file-size-threshold)
+    private static final long IN_MEMORY_LIMIT = 256 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private StorageService storage;
+
+    @Override
+    public String store(MultipartFile file, String folder) throws IOException {
+        String extension = extensionOf(file.getOriginalFilename());
+
+        if (file.getSize() <= IN_MEMORY_LIMIT) {
+            byte[] content = file.getBytes();
+            String fileName = HexFormat.of().formatHex(sha256().digest(content)) + extension;
+            String key = folder + "/" + fileName;
+            if (!storage.exists(key)) {
+                storage.write(key, content);
+            }
+            return fileName;
+        }
+
+        // a path that does not exist yet, so the container can move its own temp file there
+        Path temp = Path.of(System.getProperty("java.io.tmpdir"), "upload-" + UUID.randomUUID() + ".tmp");
+        try {
+            file.transferTo(temp.toFile());
+            String fileName = sha256Hex(temp) + extension;
+            String key = folder + "/" + fileName;
+            // same content already stored (possibly by a parallel upload): keep the existing file
+            if (!storage.exists(key)) {
+                storage.write(key, temp);
+            }
+            return fileName;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String sha256Hex(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String extensionOf(String originalFilename) {
+        String ext = StringUtils.getFilenameExtension(StringUtils.cleanPath(String.valueOf(originalFilename)));
+        if (ext == null || ext.isEmpty() || !ext.matches("[A-Za-z0-9]{1,10}")) {
+            return "";
+        }
+        return "." + ext.toLowerCase(Locale.ROOT);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.neb.service.impl;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import com.neb.constants.BackgroundJobType;
+import com.neb.dto.AuthUser;
+import com.neb.dto.BackgroundJobDto;
+import com.neb.dto.PayrollRunReportDto;
+import com.neb.entity.Payslip;
+import com.neb.exception.CustomeException;
+import com.neb.repo.EmployeeRepository;
+import com.neb.service.AdminService;
+import com.neb.service.BackgroundJobService;
+import com.neb.service.BackgroundJobService.JobResult;
+import com.neb.service.EmployeeService;
+import com.neb.service.GenerationJobService;
+import com.neb.service.PayrollRunService;
+import com.neb.service.StorageService;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : GenerationJobServiceImpl.java
+ * Package     : com.neb.service.impl
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Wraps payroll runs, payslips and daily reports in background jobs.
+ *
+ * Description :
+ *   - Input is checked before the job is queued, so a wrong
+ *     employee id fails the request instead of the job.
+ *   - The caller is stored as the job's owner; employees can only
+ *     start their own payslip.
+ *   - Payroll run   → progress per employee, resultId = payroll run id.
+ *   - Payslip       → result is the payslip PDF, resultId = payslip id.
+ *   - Daily report  → the PDF is rendered to a temp file and stored
+ *                     under jobs/{jobId}/.
+ * ---------------------------------------------------------------
+ */
+@Service
+public class GenerationJobServiceImpl implements GenerationJobService {
+
+    @Autowired
+    private BackgroundJobService jobService;
+
+    @Autowired
+    private PayrollRunService payrollRunService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private EmployeeRepository empRepo;
+
+    @Autowired
+    private StorageService storage;
+
+    @Override
+    public BackgroundJobDto submitPayrollRun(String monthYear, AuthUser requestedBy) {
+        String month = requireMonth(monthYear);
+        return jobService.submit(BackgroundJobType.PAYROLL_RUN, "month=" + month, requestedBy, context -> {
+            PayrollRunReportDto report = payrollRunService.runMonthlyPayroll(month, context);
+            String message = "Generated " + report.getGenerated() + ", skipped " + report.getSkipped()
+                    + ", failed " + report.getFailed() + " of " + report.getTotalEmployees() + " employees";
+            return new JobResult(message, null, null, null, report.getRunId());
+        });
+    }
+
+    @Override
+    public BackgroundJobDto submitPayslip(Long employeeId, String monthYear, AuthUser requestedBy) {
+        String month = requireMonth(monthYear);
+        if (employeeId == null || !empRepo.existsById(employeeId)) {
+            throw new CustomeException("Employee not found with id: " + employeeId);
+        }
+        if (requestedBy != null && "employee".equals(requestedBy.role()) && !employeeId.equals(requestedBy.id())) {
+            throw new CustomeException("Employees can only generate their own payslip");
+        }
+        String params = "employeeId=" + employeeId + ", month=" + month;
+        return jobService.submit(BackgroundJobType.PAYSLIP, params, requestedBy, context -> {
+            Payslip p = employeeService.generatePayslip(employeeId, month);
+            return new JobResult("Payslip generated for " + month, p.getPdfPath(), p.getFileName(),
+                    MediaType.APPLICATION_PDF_VALUE, p.getId());
+        });
+    }
+
+    @Override
+    public BackgroundJobDto submitDailyReport(LocalDate date, AuthUser requestedBy) {
+        return jobService.submit(BackgroundJobType.DAILY_REPORT, "date=" + date, requestedBy, context -> {
+            String fileName = "DailyReport_" + date + ".pdf";
+            Path temp = Files.createTempFile("daily-report-", ".pdf");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    adminService.writeDailyReport(date, out);
+                }
+                String key = context.resultKey(fileName);
+                storage.write(key, temp);
+                return new JobResult("Daily report for " + date, key, fileName, MediaType.APPLICATION_PDF_VALUE, null);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        });
+    }
+
+    private static String requireMonth(String monthYear) {
+        if (monthYear == null || monthYear.isBlank()) {
+            throw new CustomeException("monthYear is required, e.g. \"August 2025\"");
+        }
+        return monthYear.trim();
+    }
+}
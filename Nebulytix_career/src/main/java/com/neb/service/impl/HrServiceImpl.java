@@ -1,23 +1,21 @@
 package com.neb.service.impl;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 
+import com.neb.constants.CacheNames;
 import com.neb.dto.AddEmployeeRequestDto;
 import com.neb.dto.AddEmployeeResponseDto;
 import com.neb.dto.AddJobRequestDto;
 import com.neb.dto.EmployeeDetailsResponseDto;
-import com.neb.dto.EmployeeResponseDto;
+import com.neb.dto.EmployeeDirectoryPageDto;
+import com.neb.dto.EmployeeDirectoryQuery;
 import com.neb.dto.JobDetailsDto;
-import com.neb.dto.LoginRequestDto;
 import com.neb.dto.PayslipDto;
 import com.neb.dto.UpdateBankDetailsRequestDto;
 import com.neb.dto.UpdateEmployeeRequestDto;
@@ -26,10 +24,15 @@ import com.neb.entity.Employee;
 import com.neb.entity.Job;
 import com.neb.entity.Payslip;
 import com.neb.exception.CustomeException;
+import com.neb.mapper.EmployeeMapper;
+import com.neb.mapper.JobMapper;
+import com.neb.mapper.PayslipMapper;
 import com.neb.repo.EmployeeRepository;
 import com.neb.repo.JobRepository;
 import com.neb.repo.PayslipRepository;
+import com.neb.service.AuthenticationService;
 import com.neb.service.HrService;
+import com.neb.service.PayslipPdfService;
 
 /**
  * ---------------------------------------------------------------
@@ -47,13 +50,14 @@ import com.neb.service.HrService;
  *   - Includes methods for adding, updating, retrieving, and deleting 
  *     employee records.
  *   - Provides functionality for managing payslips and employee attendance.
- *   - Integrates ModelMapper for DTO mapping and repositories for 
- *     database operations.
+ *   - Uses the generated mappers (com.neb.mapper) for DTO mapping
+ *     and repositories for database operations.
  *
  * Dependencies :
  *   - EmployeeRepository → For CRUD operations on Employee entities.
  *   - PayslipRepository  → For accessing and managing payslip data.
- *   - ModelMapper        → For mapping between DTOs and entity objects.
+ *   - StorageService     → For reading generated payslip PDFs.
+ *   - Employee/Job/PayslipMapper → For mapping between DTOs and entity objects.
  *
  * Result :
  *   Enables HR staff to manage employee information efficiently, 
@@ -74,31 +78,19 @@ public class HrServiceImpl implements HrService{
 	private JobRepository jobRepository;
 
     @Autowired
-    private ModelMapper mapper;
-    
-                             // --------- LOGIN ----------
-    /**
-     * Validates HR or employee login credentials.
-     *
-     * @param loginReq object containing email, password, and login role
-     * @return EmployeeResponseDto with the authenticated employee’s details
-     * @throws CustomeException if the provided credentials are invalid
-     */
-    @Override
-    public EmployeeResponseDto login(LoginRequestDto loginReq) {
+    private EmployeeMapper employeeMapper;
 
-        // fetch employee from DB
-        Employee emp = empRepo.findByEmailAndPasswordAndLoginRole(
-                loginReq.getEmail(),
-                loginReq.getPassword(),
-                loginReq.getLoginRole()
-        ).orElseThrow(() -> new CustomeException("Invalid credentials. Please check your email and password and login role"));
+    @Autowired
+    private JobMapper jobMapper;
 
-        // map entity to DTO
-        EmployeeResponseDto loginRes = mapper.map(emp, EmployeeResponseDto.class);
+    @Autowired
+    private PayslipMapper payslipMapper;
 
-        return loginRes;
-    }
+    @Autowired
+    private PayslipPdfService payslipPdfService;
+
+    @Autowired
+    private AuthenticationService authenticationService;
     
 	                                       // --------- ADD EMPLOYEE ----------
     /**
@@ -118,15 +110,16 @@ public class HrServiceImpl implements HrService{
 
         // map DTO to entity
        
-        Employee emp = mapper.map(addEmpReq, Employee.class);
+        Employee emp = employeeMapper.toEntity(addEmpReq);
         emp.setLoginRole("employee");
+        emp.setPassword(authenticationService.encodePassword(addEmpReq.getPassword()));
 
         // save entity
         Employee savedEmp = empRepo.save(emp);
       
 
         // map saved entity to response DTO
-        AddEmployeeResponseDto addEmpRes = mapper.map(savedEmp, AddEmployeeResponseDto.class);
+        AddEmployeeResponseDto addEmpRes = employeeMapper.toAddResponseDto(savedEmp);
 
         return addEmpRes;
     }
@@ -147,13 +140,12 @@ public class HrServiceImpl implements HrService{
 	    	 throw new CustomeException("Employees list not found");
 	    }
 	    
-	    List<EmployeeDetailsResponseDto> empListRes = employeeList.stream().map(emp->{
-	    	
-	    	EmployeeDetailsResponseDto empResDto = mapper.map(emp, EmployeeDetailsResponseDto.class);
-	    	return empResDto;
-	    }).collect(Collectors.toList());
-	    
-	    return empListRes;
+	    return employeeMapper.toDetailsDtos(employeeList);
+	}
+
+	@Override
+	public EmployeeDirectoryPageDto getEmployeeDirectory(EmployeeDirectoryQuery query) {
+		return empRepo.findDirectoryPage(query, List.of("admin", "hr"));
 	}
                                 // --------- GET SINGLE EMPLOYEE SECTION ----------
     /**
@@ -167,7 +159,7 @@ public class HrServiceImpl implements HrService{
 	public EmployeeDetailsResponseDto getEmployee(Long id) {
 
 		Employee emp = empRepo.findById(id).orElseThrow(()->new CustomeException("Employee not founce wuith id :"+id));
-		return mapper.map(emp, EmployeeDetailsResponseDto.class);
+		return employeeMapper.toDetailsDto(emp);
 		
 	}
 	                          // ---------  DELETE EMPLOYEE SECTION ----------
@@ -185,20 +177,17 @@ public class HrServiceImpl implements HrService{
 	
 	                          // ---------  PAYSLIP DOWNLOAD SECTION ----------
 	 /**
-     * Downloads a payslip PDF file for a given payslip ID.
+     * Returns the payslip PDF of a given payslip ID as a file resource.
+     * The file is not read here; the controller streams it to the client.
      *
      * @param payslipId ID of the payslip
-     * @return byte array representing the payslip PDF
-     * @throws Exception if file reading fails or payslip not found
-     * @throws CustomeException if payslip does not exist
+     * @return resource pointing at the payslip PDF in storage
+     * @throws CustomeException if payslip or its PDF file does not exist
      */
 	@Override
-	 public byte[] downloadPayslip(Long payslipId) throws Exception {
-        Payslip p = payslipRepo.findById(payslipId)
-            .orElseThrow(() -> new CustomeException("Payslip not found"));
-
-        Path path = Paths.get(p.getPdfPath());
-        return Files.readAllBytes(path);
+	 public Resource downloadPayslip(Long payslipId) {
+        // stored PDF, or rendered now and cached (lazy mode)
+        return payslipPdfService.getPdf(payslipId);
     }
 	 
 	 //getting list of payslips of employee using employee id
@@ -217,10 +206,7 @@ public class HrServiceImpl implements HrService{
         if(payslips==null) {
         	throw new CustomeException("payslip list is not found with employeeId: "+employeeId);
         }
-        List<PayslipDto> paySlipDtos = payslips.stream()
-                                        .map(PayslipDto::fromEntity)
-                                        .toList();
-        return paySlipDtos;
+        return payslipMapper.toDtos(payslips);
     }
 	                              // ---------  ATTENDANCE SECTION  ----------
 	 /**
@@ -237,7 +223,7 @@ public class HrServiceImpl implements HrService{
 		Employee emp = empRepo.findById(id).orElseThrow(()->new CustomeException("employee not found with id:"+id));
 		emp.setDaysPresent(days);
 		Employee savedemp = empRepo.save(emp);
-		EmployeeDetailsResponseDto updateEmpDto= mapper.map(savedemp, EmployeeDetailsResponseDto.class);
+		EmployeeDetailsResponseDto updateEmpDto= employeeMapper.toDetailsDto(savedemp);
 		return updateEmpDto;
 	}
 
@@ -289,7 +275,7 @@ public class HrServiceImpl implements HrService{
         
         Employee updatedEmp = empRepo.save(emp);
 
-        return mapper.map(updatedEmp, EmployeeDetailsResponseDto.class);
+        return employeeMapper.toDetailsDto(updatedEmp);
     }
     
     @Override
@@ -298,14 +284,14 @@ public class HrServiceImpl implements HrService{
         Employee emp = empRepo.findById(id)
                 .orElseThrow(() -> new CustomeException("Employee not found with id: " + id));
 
-        // ✅ Update password
-        emp.setPassword(updatePasswordRequestDto.getPassword());
+        // ✅ Update password (stored as a hash)
+        emp.setPassword(authenticationService.encodePassword(updatePasswordRequestDto.getPassword()));
 
         // ✅ Save updated employee
         Employee updatedEmp = empRepo.save(emp);
 
         // ✅ Return updated DTO
-        return mapper.map(updatedEmp, EmployeeDetailsResponseDto.class);
+        return employeeMapper.toDetailsDto(updatedEmp);
     }
 
     @Override
@@ -332,15 +318,16 @@ public class HrServiceImpl implements HrService{
         Employee updatedEmp = empRepo.save(emp);
 
         // Return all details (not just bank info)
-        return mapper.map(updatedEmp, EmployeeDetailsResponseDto.class);
+        return employeeMapper.toDetailsDto(updatedEmp);
     }
 
 	@Override
+	@CacheEvict(cacheNames = CacheNames.JOB_LISTINGS, allEntries = true)
 	public JobDetailsDto addJob(AddJobRequestDto jobRequestDto) {
 		
 		//dto to entiry
-		Job job = mapper.map(jobRequestDto, Job.class);
-		job.setIsActive(true);
+		Job job = jobMapper.toEntity(jobRequestDto);
+		job.setIsActive(job.getClosingDate() == null || !job.getClosingDate().isBefore(LocalDate.now()));
 		
 		LocalDate postedDate = jobRequestDto.getPostedDate() != null
                 ? jobRequestDto.getPostedDate()
@@ -349,7 +336,7 @@ public class HrServiceImpl implements HrService{
 		job.setPostedDate(postedDate);
 		Job saveJob = jobRepository.save(job);
 		
-		JobDetailsDto jobDetailsRes = mapper.map(saveJob, JobDetailsDto.class);
+		JobDetailsDto jobDetailsRes = jobMapper.toDetailsDto(saveJob);
 		
 		return jobDetailsRes;
 	}
@@ -357,20 +344,16 @@ public class HrServiceImpl implements HrService{
 	@Override
 	public List<JobDetailsDto> getAllJobs() {
 		
+		// isActive is stored (see closeExpiredJobs), no need to recompute it here
 		List<Job> allJobs = jobRepository.findAll();
-		LocalDate today = LocalDate.now();
 		
-		List<JobDetailsDto> jobListRes= allJobs.stream().map(job->{
-			if (job.getClosingDate() != null && job.getClosingDate().isBefore(today)) {
-                job.setIsActive(false);
-            } else {
-                job.setIsActive(true);
-            }
-			return mapper.map(job, JobDetailsDto.class);
-		}).collect(Collectors.toList());
-		
-		
-		return jobListRes;
+		return jobMapper.toDetailsDtos(allJobs);
+	}
+
+	@Override
+	@CacheEvict(cacheNames = CacheNames.JOB_LISTINGS, allEntries = true)
+	public int closeExpiredJobs() {
+		return jobRepository.deactivateExpired(LocalDate.now());
 	}
 
 
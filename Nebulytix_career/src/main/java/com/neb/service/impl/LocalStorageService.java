@@ -0,0 +1,198 @@
+package com.neb.service.impl;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import com.neb.exception.FileStorageException;
+import com.neb.service.StorageService;
+
+/**
+ * -----------------------------------------------------------------
+ * Class: LocalStorageService
+ * -----------------------------------------------------------------
+ * Purpose:
+ *   Keeps files in a folder on this machine (storage.type=local,
+ *   the default).
+ *
+ * Description:
+ *   - A key is a path relative to storage.local.root; keys that
+ *     point outside the root are rejected.
+ *   - Content is written with AsynchronousFileChannel to a temp
+ *     file next to the target and then moved into place, so readers
+ *     never see half-written files. When copying a file, the next
+ *     chunk is read while the previous one is still being written.
+ *   - Folders are created once and remembered.
+ * -----------------------------------------------------------------
+ */
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalStorageService implements StorageService {
+
+    private static final int CHUNK_SIZE = 256 * 1024;
+
+    private final Path root;
+
+    private final Set<Path> knownDirectories = ConcurrentHashMap.newKeySet();
+
+    public LocalStorageService(@Value("${storage.local.root}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void write(String key, byte[] content) throws IOException {
+        Path target = resolve(key);
+        ensureDirectory(target.getParent());
+        Path temp = tempFor(target);
+        try {
+            try (AsynchronousFileChannel out = AsynchronousFileChannel.open(temp,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                long position = 0;
+                while (buffer.hasRemaining()) {
+                    position += await(out.write(buffer, position));
+                }
+            }
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void write(String key, Path source) throws IOException {
+        Path target = resolve(key);
+        ensureDirectory(target.getParent());
+        try {
+            // same file system: a rename, no bytes copied
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        } catch (AtomicMoveNotSupportedException ex) {
+            // different drive, copy below
+        }
+
+        Path temp = tempFor(target);
+        try {
+            copy(source, temp);
+            moveIntoPlace(temp, target);
+            Files.deleteIfExists(source);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public Resource load(String key) {
+        return new FileSystemResource(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    // Double-buffered copy: read chunk n+1 while chunk n is being written
+    private void copy(Path source, Path target) throws IOException {
+        try (AsynchronousFileChannel in = AsynchronousFileChannel.open(source, StandardOpenOption.READ);
+             AsynchronousFileChannel out = AsynchronousFileChannel.open(target,
+                     StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer reading = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            ByteBuffer writing = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            long readPosition = 0;
+            long writePosition = 0;
+            Future<Integer> pendingWrite = null;
+
+            while (true) {
+                reading.clear();
+                int read = await(in.read(reading, readPosition));
+                if (pendingWrite != null) {
+                    writePosition += finishWrite(out, writing, writePosition, pendingWrite);
+                }
+                if (read <= 0) {
+                    break;
+                }
+                readPosition += read;
+                reading.flip();
+
+                ByteBuffer swap = writing;
+                writing = reading;
+                reading = swap;
+                pendingWrite = out.write(writing, writePosition);
+            }
+        }
+    }
+
+    // Completes a write, including any part the channel did not take in one go
+    private long finishWrite(AsynchronousFileChannel out, ByteBuffer buffer, long position,
+                             Future<Integer> pending) throws IOException {
+        long written = await(pending);
+        while (buffer.hasRemaining()) {
+            written += await(out.write(buffer, position + written));
+        }
+        return written;
+    }
+
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // Hidden file next to the target, so the final move is a rename on the same drive
+    private static Path tempFor(Path target) {
+        return target.resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+    }
+
+    private Path ensureDirectory(Path folder) throws IOException {
+        if (!knownDirectories.contains(folder)) {
+            Files.createDirectories(folder);
+            knownDirectories.add(folder);
+        }
+        return folder;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new FileStorageException("Invalid file key: " + key);
+        }
+        return path;
+    }
+
+    private static int await(Future<Integer> io) throws IOException {
+        try {
+            return io.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("File operation interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException ioe ? ioe : new IOException(cause);
+        }
+    }
+}
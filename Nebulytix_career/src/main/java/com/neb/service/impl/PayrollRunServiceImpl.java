@@ -0,0 +1,530 @@
+package com.neb.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.neb.constants.PayrollItemStatus;
+import com.neb.constants.PayrollRunStatus;
+import com.neb.dto.PayrollInputRow;
+import com.neb.dto.PayrollPreviewDto;
+import com.neb.dto.PayrollPreviewLineDto;
+import com.neb.dto.PayrollRunReportDto;
+import com.neb.dto.PayslipFailureDto;
+import com.neb.entity.Employee;
+import com.neb.entity.PayrollRun;
+import com.neb.entity.PayrollRunItem;
+import com.neb.entity.Payslip;
+import com.neb.exception.PayslipGenerationException;
+import com.neb.repo.EmployeeRepository;
+import com.neb.repo.PayrollRunItemRepository;
+import com.neb.repo.PayrollRunRepository;
+import com.neb.repo.PayslipRepository;
+import com.neb.service.JobProgress;
+import com.neb.service.PayrollRunService;
+import com.neb.service.PayslipPdfService;
+import com.neb.util.PayslipCalculator;
+import com.neb.util.payroll.PayrollBatch;
+import com.neb.util.payroll.PayrollEngine;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : PayrollRunServiceImpl.java
+ * Package     : com.neb.service.impl
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Generates the monthly payslips for all employees in one run.
+ *
+ * Description :
+ *   - Employees are loaded once, their amounts are calculated in one
+ *     batch (PayrollEngine) and each payslip is rendered to PDF on a
+ *     bounded worker pool. With payslip.pdf.mode=lazy no PDF is
+ *     rendered and the run only writes rows.
+ *   - Finished payslips are inserted in batches (saveAll) instead of
+ *     two saves per employee.
+ *   - An employee whose payslip fails is added to the report and the
+ *     run carries on with the others.
+ *   - At most twice the worker count of payslips are in flight; results
+ *     are taken while new ones are submitted, so memory stays flat
+ *     however many employees there are.
+ *   - A cancel (progress update refused, or the thread interrupted)
+ *     still saves the payslips already rendered, then marks the run
+ *     CANCELLED and rethrows the CancellationException.
+ *
+ * Checkpoints :
+ *   - Each month has one PayrollRun row and one PayrollRunItem per
+ *     employee, keyed by (employeeId, payslipMonth).
+ *   - A batch of payslips and the COMPLETED state of their items are
+ *     committed together, so after a crash or a manual re-trigger the
+ *     run skips completed employees and retries only pending/failed ones.
+ *   - An attempt claims the month's PayrollRun row (RUNNING, a claim
+ *     token and a lease) with one conditional UPDATE and renews the
+ *     lease while it runs. A second trigger on any server is refused
+ *     until the run finishes or its lease lapses after a crash.
+ *
+ * Preview :
+ *   - previewMonthlyPayroll() runs the same calculation over a
+ *     projection of the employees and returns totals and lines;
+ *     no payslip, checkpoint or PDF is written.
+ *
+ * Configuration :
+ *   payslip.bulk.worker-threads → size of the render pool (0 = CPU count)
+ *   payslip.bulk.batch-size     → payslips inserted per saveAll
+ *   payslip.bulk.lease-seconds  → how long a run stays claimed
+ *                                 without a renewal
+ * ---------------------------------------------------------------
+ */
+@Service
+public class PayrollRunServiceImpl implements PayrollRunService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollRunServiceImpl.class);
+
+    @Autowired
+    private EmployeeRepository empRepo;
+
+    @Autowired
+    private PayslipRepository payslipRepo;
+
+    @Autowired
+    private PayrollRunRepository runRepo;
+
+    @Autowired
+    private PayrollRunItemRepository itemRepo;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PayrollEngine payrollEngine;
+
+    @Autowired
+    private PayslipPdfService payslipPdfService;
+
+    @Value("${payslip.base-folder}")
+    private String baseFolder;
+
+    @Value("${payslip.bulk.worker-threads:0}")
+    private int workerThreads;
+
+    @Value("${payslip.bulk.batch-size:100}")
+    private int batchSize;
+
+    @Value("${payslip.bulk.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Override
+    public PayrollRunReportDto runMonthlyPayroll(String monthYear) {
+        return runMonthlyPayroll(monthYear, JobProgress.NONE);
+    }
+
+    @Override
+    public PayrollRunReportDto runMonthlyPayroll(String monthYear, JobProgress progress) {
+        PayrollRun run = startRun(monthYear, UUID.randomUUID().toString());
+        try {
+            return resumeRun(run, progress);
+        } finally {
+            // no-op once finishRun() has stored the outcome; otherwise the next trigger may claim it at once
+            runRepo.release(run.getId(), run.getClaimToken());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PayrollPreviewDto previewMonthlyPayroll(String monthYear, String domain, String jobRole,
+                                                   boolean includeLines) {
+        long start = System.currentTimeMillis();
+        String domainFilter = domain != null && !domain.isBlank() ? domain.trim() : null;
+        String jobRoleFilter = jobRole != null && !jobRole.isBlank() ? jobRole.trim() : null;
+
+        // two queries, then the whole selection is calculated as one batch
+        List<PayrollInputRow> rows = empRepo.findPayrollInputs(domainFilter, jobRoleFilter);
+        Set<Long> alreadyPaid = new HashSet<>(payslipRepo.findEmployeeIdsByPayslipMonth(monthYear));
+
+        int n = rows.size();
+        long[] salary = new long[n];
+        String[] domains = new String[n];
+        String[] jobRoles = new String[n];
+        for (int i = 0; i < n; i++) {
+            PayrollInputRow row = rows.get(i);
+            salary[i] = PayrollEngine.toPaise(row.salary());
+            domains[i] = row.domain();
+            jobRoles[i] = row.jobRole();
+        }
+        PayrollBatch amounts = payrollEngine.calculate(salary, domains, jobRoles);
+
+        PayrollPreviewDto preview = new PayrollPreviewDto();
+        preview.setMonthYear(monthYear);
+        preview.setDomain(domainFilter);
+        preview.setJobRole(jobRoleFilter);
+        preview.setEmployees(n);
+        preview.setTotalGross(PayrollBatch.toDecimal(amounts.totalGross()));
+        preview.setTotalDeductions(PayrollBatch.toDecimal(amounts.totalDeductions()));
+        preview.setTotalNet(PayrollBatch.toDecimal(amounts.totalNet()));
+
+        int existing = 0;
+        for (int i = 0; i < n; i++) {
+            PayrollInputRow row = rows.get(i);
+            boolean paid = alreadyPaid.contains(row.id());
+            if (paid) {
+                existing++;
+            }
+            if (includeLines) {
+                preview.getLines().add(new PayrollPreviewLineDto(row.id(), row.cardNumber(),
+                        Objects.toString(row.firstName(), "") + " " + Objects.toString(row.lastName(), ""),
+                        row.domain(), row.jobRole(),
+                        PayrollBatch.toDecimal(amounts.salary(i)),
+                        PayrollBatch.toDecimal(amounts.basic(i)),
+                        PayrollBatch.toDecimal(amounts.hra(i)),
+                        PayrollBatch.toDecimal(amounts.flexi(i)),
+                        PayrollBatch.toDecimal(amounts.gross(i)),
+                        PayrollBatch.toDecimal(amounts.pf(i)),
+                        PayrollBatch.toDecimal(amounts.profTax(i)),
+                        PayrollBatch.toDecimal(amounts.deductions(i)),
+                        PayrollBatch.toDecimal(amounts.net(i)),
+                        paid));
+            }
+        }
+        preview.setPayslipsExisting(existing);
+        preview.setDurationMillis(System.currentTimeMillis() - start);
+        return preview;
+    }
+
+    private PayrollRunReportDto resumeRun(PayrollRun run, JobProgress progress) {
+        long start = System.currentTimeMillis();
+        String monthYear = run.getPayslipMonth();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        PayrollRunReportDto report = new PayrollRunReportDto();
+        report.setRunId(run.getId());
+        report.setMonthYear(monthYear);
+        report.setAttempt(run.getAttempts());
+
+        List<Employee> employees = empRepo.findAll();
+        report.setTotalEmployees(employees.size());
+
+        Map<Long, PayrollRunItem> items = planItems(run, employees, tx);
+
+        List<Employee> todo = new ArrayList<>();
+        for (Employee emp : employees) {
+            if (items.get(emp.getId()).getStatus() == PayrollItemStatus.COMPLETED) {
+                report.setSkipped(report.getSkipped() + 1);
+            } else {
+                todo.add(emp);
+            }
+        }
+
+        try {
+            progress.update(report.getSkipped(), report.getTotalEmployees());
+            if (!todo.isEmpty()) {
+                generate(run, todo, items, report, tx, progress);
+            }
+        } catch (CancellationException e) {
+            report.setFailed(report.getFailures().size());
+            finishRun(run, employees, items, report, true);
+            throw e;
+        }
+
+        report.setFailed(report.getFailures().size());
+        finishRun(run, employees, items, report, false);
+        report.setDurationMillis(System.currentTimeMillis() - start);
+        return report;
+    }
+
+    // Claim the month for this attempt; the first run of a month inserts its row already claimed
+    private PayrollRun startRun(String monthYear, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        if (runRepo.claim(monthYear, token, now, leaseUntil()) > 0) {
+            return runRepo.findByPayslipMonth(monthYear).orElseThrow();
+        }
+        if (runRepo.findByPayslipMonth(monthYear).isPresent()) {
+            throw alreadyRunning(monthYear);
+        }
+        PayrollRun run = new PayrollRun();
+        run.setPayslipMonth(monthYear);
+        run.setStatus(PayrollRunStatus.RUNNING);
+        run.setClaimToken(token);
+        run.setLeaseUntil(leaseUntil());
+        run.setStartedAt(now);
+        run.setAttempts(1);
+        try {
+            return runRepo.saveAndFlush(run);
+        } catch (DataIntegrityViolationException e) {
+            // another trigger inserted the month first and holds it
+            throw alreadyRunning(monthYear);
+        }
+    }
+
+    private void renewClaim(PayrollRun run) {
+        if (runRepo.renewLease(run.getId(), run.getClaimToken(), leaseUntil()) == 0) {
+            throw new PayslipGenerationException("Payroll run for " + run.getPayslipMonth()
+                    + " was taken over after its lease lapsed");
+        }
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusNanos(leaseMillis() * 1_000_000);
+    }
+
+    private long leaseMillis() {
+        return Math.max(leaseSeconds, 1) * 1000;
+    }
+
+    private static PayslipGenerationException alreadyRunning(String monthYear) {
+        return new PayslipGenerationException("Payroll run for " + monthYear + " is already in progress");
+    }
+
+    // Load the checkpoints of this month and add PENDING ones for employees seen for the first time
+    private Map<Long, PayrollRunItem> planItems(PayrollRun run, List<Employee> employees, TransactionTemplate tx) {
+        Map<Long, PayrollRunItem> items = itemRepo.findByRunId(run.getId()).stream()
+                .collect(Collectors.toMap(PayrollRunItem::getEmployeeId, Function.identity()));
+
+        // payslips created outside a run (single generate endpoint) also count as done
+        Set<Long> alreadyPaid = new HashSet<>(payslipRepo.findEmployeeIdsByPayslipMonth(run.getPayslipMonth()));
+
+        List<PayrollRunItem> changed = new ArrayList<>();
+        for (Employee emp : employees) {
+            PayrollRunItem item = items.get(emp.getId());
+            boolean isNew = item == null;
+            if (isNew) {
+                item = new PayrollRunItem();
+                item.setRunId(run.getId());
+                item.setEmployeeId(emp.getId());
+                item.setPayslipMonth(run.getPayslipMonth());
+                item.setStatus(PayrollItemStatus.PENDING);
+                item.setUpdatedAt(LocalDateTime.now());
+                items.put(emp.getId(), item);
+            }
+            boolean paidElsewhere = item.getStatus() != PayrollItemStatus.COMPLETED && alreadyPaid.contains(emp.getId());
+            if (paidElsewhere) {
+                item.setStatus(PayrollItemStatus.COMPLETED);
+                item.setErrorMessage(null);
+                item.setUpdatedAt(LocalDateTime.now());
+            }
+            if (isNew || paidElsewhere) {
+                changed.add(item);
+            }
+        }
+        if (!changed.isEmpty()) {
+            tx.executeWithoutResult(status -> {
+                List<PayrollRunItem> saved = itemRepo.saveAll(changed);
+                saved.forEach(i -> items.put(i.getEmployeeId(), i));
+            });
+        }
+        return items;
+    }
+
+    private void generate(PayrollRun run, List<Employee> todo, Map<Long, PayrollRunItem> items,
+                          PayrollRunReportDto report, TransactionTemplate tx, JobProgress progress) {
+
+        String monthYear = run.getPayslipMonth();
+        String folder = baseFolder + "/" + PayslipCalculator.monthFolder(monthYear);
+
+        ThreadPoolExecutor pool = newWorkerPool();
+        List<Payslip> pending = new ArrayList<>(batchSize);
+        List<PayrollRunItem> failedItems = new ArrayList<>();
+        try {
+            // all amounts in one pass; the workers only build and render
+            PayrollBatch amounts = payrollEngine.calculate(todo);
+            CompletionService<Payslip> completion = new ExecutorCompletionService<>(pool);
+            // submitted but not yet taken: queued, rendering or finished and waiting
+            int maxInFlight = pool.getMaximumPoolSize() * 2;
+            int submitted = 0;
+            long renewAt = System.currentTimeMillis() + leaseMillis() / 3;
+            for (int i = 0; i < todo.size(); i++) {
+                while (submitted < todo.size() && submitted - i < maxInFlight) {
+                    Employee emp = todo.get(submitted);
+                    int row = submitted;
+                    completion.submit(() -> renderPayslip(emp, monthYear, folder, amounts, row));
+                    submitted++;
+                }
+                try {
+                    pending.add(completion.take().get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof EmployeePayslipException failure) {
+                        report.getFailures().add(failure.toDto());
+                        failedItems.add(markFailed(items.get(failure.employeeId), failure.getMessage()));
+                    } else {
+                        report.getFailures().add(new PayslipFailureDto(null, null, String.valueOf(cause)));
+                    }
+                }
+                if (pending.size() >= batchSize) {
+                    flush(pending, items, report, tx);
+                }
+                if (failedItems.size() >= batchSize) {
+                    saveItems(failedItems, tx);
+                }
+                progress.update(report.getSkipped() + i + 1, report.getTotalEmployees());
+                if (System.currentTimeMillis() >= renewAt) {
+                    renewClaim(run);
+                    renewAt = System.currentTimeMillis() + leaseMillis() / 3;
+                }
+            }
+        } catch (InterruptedException e) {
+            // only a cancel interrupts the run thread
+            throw new CancellationException("Payroll run for " + monthYear + " was interrupted");
+        } finally {
+            pool.shutdownNow();
+            // keep what was taken, also when the run stops early (eager PDFs are already written);
+            // the interrupt flag is cleared meanwhile so the database calls are not broken by it
+            boolean interrupted = Thread.interrupted();
+            flush(pending, items, report, tx);
+            saveItems(failedItems, tx);
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Worker task: build one payslip and, in eager mode, render and write its PDF. Nothing is saved here.
+    private Payslip renderPayslip(Employee emp, String monthYear, String folder, PayrollBatch amounts, int row) {
+        try {
+            Payslip p = PayslipCalculator.buildPayslip(emp, monthYear, amounts, row);
+            String fileName = PayslipCalculator.pdfFileName(emp, monthYear);
+            p.setFileName(fileName);
+            if (!payslipPdfService.isEager()) {
+                return p; // rendered on the first download
+            }
+
+            String key = folder + "/" + fileName;
+            payslipPdfService.storePdf(emp, p, key);
+            p.setPdfPath(key);
+            return p;
+        } catch (Exception e) {
+            throw new EmployeePayslipException(emp, e);
+        }
+    }
+
+    // Insert a batch of payslips and mark their checkpoints COMPLETED in the same transaction
+    private void flush(List<Payslip> pending, Map<Long, PayrollRunItem> items,
+                       PayrollRunReportDto report, TransactionTemplate tx) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            tx.executeWithoutResult(status -> {
+                List<Payslip> saved = payslipRepo.saveAll(pending);
+                List<PayrollRunItem> done = new ArrayList<>(saved.size());
+                for (Payslip p : saved) {
+                    PayrollRunItem item = items.get(p.getEmployee().getId());
+                    item.setStatus(PayrollItemStatus.COMPLETED);
+                    item.setPayslipId(p.getId());
+                    item.setErrorMessage(null);
+                    item.setUpdatedAt(LocalDateTime.now());
+                    done.add(item);
+                }
+                itemRepo.saveAll(done).forEach(i -> items.put(i.getEmployeeId(), i));
+            });
+            report.setGenerated(report.getGenerated() + pending.size());
+        } catch (RuntimeException e) {
+            List<PayrollRunItem> failedItems = new ArrayList<>();
+            for (Payslip p : pending) {
+                EmployeePayslipException failure = new EmployeePayslipException(p.getEmployee(), e);
+                report.getFailures().add(failure.toDto());
+                failedItems.add(markFailed(items.get(failure.employeeId), failure.getMessage()));
+            }
+            saveItems(failedItems, tx);
+        }
+        pending.clear();
+    }
+
+    private PayrollRunItem markFailed(PayrollRunItem item, String reason) {
+        item.setStatus(PayrollItemStatus.FAILED);
+        item.setPayslipId(null);
+        item.setErrorMessage(reason != null && reason.length() > 1000 ? reason.substring(0, 1000) : reason);
+        item.setUpdatedAt(LocalDateTime.now());
+        return item;
+    }
+
+    private void saveItems(List<PayrollRunItem> changed, TransactionTemplate tx) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            tx.executeWithoutResult(status -> itemRepo.saveAll(changed));
+        } catch (RuntimeException e) {
+            // losing a FAILED marker only means the employee is retried next time
+            log.warn("Could not save payroll checkpoints", e);
+        }
+        changed.clear();
+    }
+
+    // Counts only the employees of this attempt; items of employees deleted since an earlier attempt are left out
+    private void finishRun(PayrollRun run, List<Employee> employees, Map<Long, PayrollRunItem> items,
+                           PayrollRunReportDto report, boolean cancelled) {
+        int completed = 0;
+        int failed = 0;
+        for (Employee emp : employees) {
+            if (items.get(emp.getId()).getStatus() == PayrollItemStatus.COMPLETED) {
+                completed++;
+            } else {
+                failed++;
+            }
+        }
+        PayrollRunStatus status = cancelled ? PayrollRunStatus.CANCELLED
+                : failed == 0 ? PayrollRunStatus.COMPLETED : PayrollRunStatus.COMPLETED_WITH_ERRORS;
+        if (runRepo.finish(run.getId(), run.getClaimToken(), status, report.getTotalEmployees(),
+                completed, failed, LocalDateTime.now()) == 0) {
+            log.warn("Payroll run for {} was claimed by another attempt, its outcome was not stored",
+                    run.getPayslipMonth());
+        }
+        report.setStatus(status.name());
+    }
+
+    private ThreadPoolExecutor newWorkerPool() {
+        int threads = workerThreads > 0 ? workerThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        // generate() keeps at most threads * 2 tasks in flight, so the queue never fills up
+        return new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                r -> {
+                    Thread t = new Thread(r, "payslip-worker-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // Carries the employee along with the cause so the report can name who failed
+    @SuppressWarnings("serial")
+    private static class EmployeePayslipException extends RuntimeException {
+
+        private final Long employeeId;
+        private final String employeeName;
+
+        EmployeePayslipException(Employee emp, Throwable cause) {
+            super(cause.getMessage(), cause);
+            this.employeeId = emp.getId();
+            this.employeeName = emp.getFirstName() + " " + emp.getLastName();
+        }
+
+        PayslipFailureDto toDto() {
+            return new PayslipFailureDto(employeeId, employeeName, getMessage());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.neb.service.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import com.neb.entity.Employee;
+import com.neb.entity.Payslip;
+import com.neb.exception.CustomeException;
+import com.neb.repo.PayslipRepository;
+import com.neb.service.PayslipPdfService;
+import com.neb.service.StorageService;
+import com.neb.util.DiskLruCache;
+import com.neb.util.PayslipCalculator;
+import com.neb.util.PdfGeneratorUtil;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : PayslipPdfServiceImpl.java
+ * Package     : com.neb.service.impl
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Serves payslip PDFs, from the storage or rendered on demand.
+ *
+ * Description :
+ *   - A payslip with a stored PDF (pdfPath) is served from the storage.
+ *     Legacy rows hold an absolute path instead of a key (e.g.
+ *     "E:/NEBULYTIX TECHNOLOGIES/payslips/..."); that file is served
+ *     if it exists here, otherwise the PDF is rendered as below.
+ *   - Otherwise the PDF is rendered from the Payslip row and its
+ *     employee snapshot (the details as of generation) into a
+ *     DiskLruCache. The cache key contains the payslip id and its
+ *     generation time, so a regenerated payslip gets a new file.
+ *   - Concurrent downloads of the same payslip render it once.
+ *   - storePdf() streams the rendered PDF into a temp file that is
+ *     handed to the storage, so no PDF is held as a byte[].
+ *
+ * Configuration :
+ *   payslip.pdf.mode             → eager or lazy
+ *   payslip.pdf.cache.dir        → local folder of the rendered PDFs
+ *   payslip.pdf.cache.max-size-mb → total size kept in the folder
+ *   payslip.pdf.cache.pin-seconds → how long a served file is kept
+ *                                   from eviction (longest download)
+ * ---------------------------------------------------------------
+ */
+@Service
+public class PayslipPdfServiceImpl implements PayslipPdfService {
+
+    // "C:/..." or "C:\..." and "/..." are file paths of the old storage, never keys
+    private static final Pattern LEGACY_PATH = Pattern.compile("^([A-Za-z]:[\\\\/]|/).*");
+
+    @Autowired
+    private PayslipRepository payslipRepo;
+
+    @Autowired
+    private StorageService storage;
+
+    @Value("${payslip.pdf.mode:eager}")
+    private String mode;
+
+    @Value("${payslip.pdf.cache.dir:${java.io.tmpdir}/nebulytix-payslip-cache}")
+    private String cacheDir;
+
+    @Value("${payslip.pdf.cache.max-size-mb:512}")
+    private long cacheMaxMb;
+
+    @Value("${payslip.pdf.cache.pin-seconds:600}")
+    private long cachePinSeconds;
+
+    private DiskLruCache cache;
+
+    @PostConstruct
+    void openCache() throws IOException {
+        if (!mode.equalsIgnoreCase("eager") && !mode.equalsIgnoreCase("lazy")) {
+            throw new IllegalStateException("payslip.pdf.mode must be eager or lazy, not " + mode);
+        }
+        cache = new DiskLruCache(Path.of(cacheDir), cacheMaxMb * 1024 * 1024, cachePinSeconds * 1000);
+    }
+
+    @Override
+    public boolean isEager() {
+        return mode.equalsIgnoreCase("eager");
+    }
+
+    @Override
+    public Resource getPdf(Long payslipId) {
+        Payslip p = payslipRepo.findById(payslipId)
+                .orElseThrow(() -> new CustomeException("Payslip not found"));
+        return getPdf(p);
+    }
+
+    @Override
+    public Resource getPdf(Payslip p) {
+        try {
+            if (p.getPdfPath() != null) {
+                Resource stored = LEGACY_PATH.matcher(p.getPdfPath()).matches()
+                        ? new FileSystemResource(p.getPdfPath())
+                        : storage.load(p.getPdfPath());
+                if (stored.exists()) {
+                    return stored;
+                }
+                // stored file is gone: fall back to rendering it
+            }
+            Path file = cache.get(cacheKey(p),
+                    out -> PdfGeneratorUtil.writePayslipPdf(PayslipCalculator.employeeAsOf(p), p, out));
+            return new FileSystemResource(file);
+        } catch (IOException e) {
+            throw new CustomeException("Could not create payslip PDF for payslip id " + p.getId() + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void storePdf(Employee emp, Payslip p, String key) throws IOException {
+        Path temp = Files.createTempFile("payslip-", ".pdf");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                PdfGeneratorUtil.writePayslipPdf(emp, p, out);
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("Could not render payslip PDF " + key, e);
+            }
+            storage.write(key, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String cacheKey(Payslip p) {
+        long generated = p.getGeneratedDate() != null
+                ? p.getGeneratedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0;
+        return "payslip-" + p.getId() + "-" + generated + ".pdf";
+    }
+}
@@ -0,0 +1,140 @@
+package com.neb.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.neb.dto.HeadcountRow;
+import com.neb.dto.PayrollRegisterRow;
+import com.neb.dto.WorkReportRow;
+import com.neb.repo.EmployeeRepository;
+import com.neb.repo.PayslipRepository;
+import com.neb.repo.WorkRepository;
+import com.neb.service.ReportExportService;
+import com.neb.util.export.ReportFormat;
+import com.neb.util.export.ReportWriter;
+
+/**
+ * -----------------------------------------------------------------
+ * Class: ReportExportServiceImpl
+ * -----------------------------------------------------------------
+ * Purpose:
+ *   Builds the exported reports: work (daily / date range), monthly
+ *   payroll register and headcount.
+ *
+ * Description:
+ *   - Each report is a title, a list of columns and one row per
+ *     record; the ReportWriter of the requested format turns that
+ *     into CSV, XLSX or PDF.
+ *   - Work and payroll rows are streamed from the database inside a
+ *     read-only transaction (fetch size 500) and never collected
+ *     into a list.
+ * -----------------------------------------------------------------
+ */
+@Service
+public class ReportExportServiceImpl implements ReportExportService {
+
+    private static final List<String> WORK_COLUMNS = List.of(
+            "Submitted Date", "Emp Card No", "Emp Name", "Domain", "Emp Role",
+            "Task Title", "Status", "Assigned Date", "Due Date", "Report Details");
+
+    private static final List<String> PAYROLL_COLUMNS = List.of(
+            "Emp Card No", "Emp Name", "Domain", "Emp Role", "Bank Name", "Account No", "PAN", "UAN",
+            "Basic", "HRA", "Flexi", "Gross Salary", "PF", "Prof Tax", "Total Deductions", "Net Salary");
+
+    private static final List<String> HEADCOUNT_COLUMNS = List.of("Domain", "Job Role", "Headcount");
+
+    @Autowired
+    private WorkRepository workRepository;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportWorkReport(LocalDate from, LocalDate to, ReportFormat format, OutputStream out) throws IOException {
+        String title = from.equals(to) ? "Work Report " + from : "Work Report " + from + " to " + to;
+
+        try (ReportWriter writer = format.newWriter(out);
+             Stream<WorkReportRow> rows = workRepository.streamWorkReportRows(from, to)) {
+            writer.header(title, WORK_COLUMNS);
+            Iterator<WorkReportRow> it = rows.iterator();
+            while (it.hasNext()) {
+                WorkReportRow r = it.next();
+                writer.row(r.submittedDate(), r.cardNumber(), fullName(r.firstName(), r.lastName()),
+                        r.domain(), r.jobRole(), r.title(), r.status(), r.assignedDate(), r.dueDate(),
+                        r.reportDetails());
+            }
+            writer.finish();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPayrollRegister(String payslipMonth, ReportFormat format, OutputStream out) throws IOException {
+        // summed in paise: adding thousands of doubles drifts by paise
+        long gross = 0;
+        long deductions = 0;
+        long net = 0;
+
+        try (ReportWriter writer = format.newWriter(out);
+             Stream<PayrollRegisterRow> rows = payslipRepository.streamRegisterRows(payslipMonth)) {
+            writer.header("Payroll Register " + payslipMonth, PAYROLL_COLUMNS);
+            Iterator<PayrollRegisterRow> it = rows.iterator();
+            while (it.hasNext()) {
+                PayrollRegisterRow r = it.next();
+                writer.row(r.cardNumber(), fullName(r.firstName(), r.lastName()), r.domain(), r.jobRole(),
+                        r.bankName(), r.bankAccountNumber(), r.panNumber(), r.uanNumber(),
+                        r.basic(), r.hra(), r.flexi(), r.grossSalary(),
+                        r.pfDeduction(), r.profTaxDeduction(), r.totalDeductions(), r.netSalary());
+                gross += paise(r.grossSalary());
+                deductions += paise(r.totalDeductions());
+                net += paise(r.netSalary());
+            }
+            writer.row("Total", null, null, null, null, null, null, null,
+                    null, null, null, BigDecimal.valueOf(gross, 2), null, null,
+                    BigDecimal.valueOf(deductions, 2), BigDecimal.valueOf(net, 2));
+            writer.finish();
+        }
+    }
+
+    @Override
+    public void exportHeadcount(ReportFormat format, OutputStream out) throws IOException {
+        // one row per domain and role: small, no need to stream
+        List<HeadcountRow> rows = employeeRepository.countHeadcount();
+        long total = 0;
+
+        try (ReportWriter writer = format.newWriter(out)) {
+            writer.header("Headcount " + LocalDate.now(), HEADCOUNT_COLUMNS);
+            for (HeadcountRow r : rows) {
+                writer.row(r.domain(), r.jobRole(), r.headcount());
+                total += r.headcount();
+            }
+            writer.row("Total", null, total);
+            writer.finish();
+        }
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        if (firstName == null) {
+            return lastName;
+        }
+        return lastName == null ? firstName : firstName + " " + lastName;
+    }
+
+    // stored amounts have at most two decimals
+    private static long paise(Double amount) {
+        return amount != null ? Math.round(amount * 100) : 0;
+    }
+}
@@ -0,0 +1,174 @@
+package com.neb.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import com.neb.service.StorageService;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * -----------------------------------------------------------------
+ * Class: S3StorageService
+ * -----------------------------------------------------------------
+ * Purpose:
+ *   Keeps files in an S3 bucket (storage.type=s3), so every node
+ *   of the application sees the same files.
+ *
+ * Description:
+ *   - The key is used as the object key inside storage.s3.bucket.
+ *   - Works with any S3-compatible server; for local runs point
+ *     storage.s3.endpoint at MinIO (see StorageConfig).
+ *   - load() returns a Resource that streams the object; size and
+ *     modification time come from one HEAD request, so downloads
+ *     keep their Content-Length, ETag and Range support.
+ * -----------------------------------------------------------------
+ */
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+public class S3StorageService implements StorageService {
+
+    private final S3Client s3;
+    private final String bucket;
+
+    public S3StorageService(S3Client s3, @Value("${storage.s3.bucket}") String bucket) {
+        this.s3 = s3;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public void write(String key, byte[] content) throws IOException {
+        try {
+            s3.putObject(b -> b.bucket(bucket).key(key).contentType(contentType(key)),
+                    RequestBody.fromBytes(content));
+        } catch (SdkException e) {
+            throw new IOException("Could not upload " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void write(String key, Path source) throws IOException {
+        try {
+            s3.putObject(b -> b.bucket(bucket).key(key).contentType(contentType(key)),
+                    RequestBody.fromFile(source));
+        } catch (SdkException e) {
+            throw new IOException("Could not upload " + key + ": " + e.getMessage(), e);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        return head(key) != null;
+    }
+
+    @Override
+    public Resource load(String key) {
+        return new S3ObjectResource(key);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3.deleteObject(b -> b.bucket(bucket).key(key));
+        } catch (SdkException e) {
+            throw new IOException("Could not delete " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Object metadata, or null if there is no such object
+    private HeadObjectResponse head(String key) throws IOException {
+        try {
+            return s3.headObject(b -> b.bucket(bucket).key(key));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw new IOException("Could not read " + key + ": " + e.getMessage(), e);
+        } catch (SdkException e) {
+            throw new IOException("Could not read " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String contentType(String key) {
+        return MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+
+    // Streams one object; metadata is fetched once per download
+    private class S3ObjectResource extends AbstractResource {
+
+        private final String key;
+        private HeadObjectResponse metadata;
+
+        S3ObjectResource(String key) {
+            this.key = key;
+        }
+
+        private HeadObjectResponse metadata() throws IOException {
+            if (metadata == null) {
+                metadata = head(key);
+            }
+            return metadata;
+        }
+
+        @Override
+        public boolean exists() {
+            try {
+                return metadata() != null;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            HeadObjectResponse head = metadata();
+            if (head == null) {
+                throw new IOException("No such file: " + key);
+            }
+            return head.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            HeadObjectResponse head = metadata();
+            if (head == null) {
+                throw new IOException("No such file: " + key);
+            }
+            return head.lastModified().toEpochMilli();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            try {
+                return s3.getObject(b -> b.bucket(bucket).key(key));
+            } catch (SdkException e) {
+                throw new IOException("Could not read " + key + ": " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public String getFilename() {
+            return key.substring(key.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public String getDescription() {
+            return "s3://" + bucket + "/" + key;
+        }
+    }
+}
@@ -1,24 +1,126 @@
 package com.neb.service.impl;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.neb.dto.FreeSlotDto;
+import com.neb.dto.ScheduleDTO;
+import com.neb.dto.ScheduleWindowStats;
 import com.neb.entity.Schedule;
-import com.neb.exception.CustomeException; 
+import com.neb.exception.CustomeException;
+import com.neb.mapper.ScheduleMapper;
+import com.neb.repo.EmployeeRepository;
 import com.neb.repo.ScheduleRepository;
 import com.neb.service.ScheduleService;
+import com.neb.service.ScheduleTimerService;
 
+/**
+ * ---------------------------------------------------------------
+ * File Name   : ScheduleServiceImpl.java
+ * Package     : com.neb.service.impl
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Creates schedules without double-booking employees and finds
+ *   common free time.
+ *
+ * Description :
+ *   - A schedule may last at most schedule.max-duration-hours. That
+ *     bound lets every overlap query start its index range at
+ *     (from - max duration) instead of the employee's first meeting.
+ *   - createSchedule locks the employee row, so two schedules for the
+ *     same employee cannot pass the overlap check at the same time.
+ *   - Free slots: the busy schedules of all employees come back in
+ *     start order; one pass merges them and keeps the gaps.
+ *   - Calendar views read one window for a set of employees in one
+ *     query. Without from/to the window runs from
+ *     schedule.calendar.days-back before today to
+ *     schedule.calendar.days-ahead after it, so polling never pulls
+ *     the whole history.
+ *   - New schedules are handed to ScheduleTimerService, which later
+ *     completes them and sends their reminder.
+ *   - The feed ETag comes from count, id sum and latest updatedAt of
+ *     the window (one aggregate query): adding, changing, deleting or
+ *     moving a schedule in or out of the window changes it.
+ *
+ * Configuration :
+ *   schedule.max-duration-hours  → longest allowed schedule
+ *   schedule.free-slots.max-days → longest window for the free slot search
+ *   schedule.calendar.days-back / days-ahead → default calendar window
+ *   schedule.calendar.max-days   → longest calendar window
+ * ---------------------------------------------------------------
+ */
 @Service
 public class ScheduleServiceImpl implements ScheduleService {
 
     @Autowired
     private ScheduleRepository scheduleRepository;
 
+    @Autowired
+    private EmployeeRepository empRepo;
+
+    @Autowired
+    private ScheduleMapper scheduleMapper;
+
+    @Autowired
+    private ScheduleTimerService scheduleTimerService;
+
+    @Value("${schedule.max-duration-hours:24}")
+    private long maxDurationHours;
+
+    @Value("${schedule.free-slots.max-days:31}")
+    private long freeSlotsMaxDays;
+
+    @Value("${schedule.calendar.days-back:7}")
+    private long calendarDaysBack;
+
+    @Value("${schedule.calendar.days-ahead:60}")
+    private long calendarDaysAhead;
+
+    @Value("${schedule.calendar.max-days:366}")
+    private long calendarMaxDays;
+
     @Override
-    public Schedule createSchedule(Schedule schedule) {
-        return scheduleRepository.save(schedule);
+    @Transactional
+    public ScheduleDTO createSchedule(ScheduleDTO dto, boolean allowOverlap) {
+        if (dto.getEmployeeId() == null) {
+            throw new CustomeException("employeeId is required");
+        }
+        checkRange(dto.getStartTime(), dto.getEndTime());
+        if (dto.getEndTime().isAfter(dto.getStartTime().plusHours(maxDurationHours))) {
+            throw new CustomeException("A schedule cannot be longer than " + maxDurationHours + " hours");
+        }
+        empRepo.findByIdForUpdate(dto.getEmployeeId())
+                .orElseThrow(() -> new CustomeException("Employee not found with id: " + dto.getEmployeeId()));
+
+        List<Long> conflicts = findOverlapping(dto.getEmployeeId(), dto.getStartTime(), dto.getEndTime())
+                .stream().map(Schedule::getId).toList();
+        if (!conflicts.isEmpty() && !allowOverlap) {
+            throw new CustomeException("Employee " + dto.getEmployeeId()
+                    + " already has schedules at that time: " + conflicts);
+        }
+
+        Schedule schedule = scheduleMapper.toEntity(dto);
+        schedule.setStatus(schedule.getStatus() == null || schedule.getStatus().isBlank()
+                ? "UPCOMING" : schedule.getStatus().trim().toUpperCase(Locale.ROOT));
+        Schedule entity = scheduleRepository.save(schedule);
+        scheduleTimerService.track(entity); // completion / reminder if due before the next load
+        ScheduleDTO saved = scheduleMapper.toDto(entity);
+        if (!conflicts.isEmpty()) {
+            saved.setConflictingScheduleIds(conflicts);
+        }
+        return saved;
     }
 
     @Override
@@ -27,17 +129,113 @@ public class ScheduleServiceImpl implements ScheduleService {
     }
 
     @Override
-    public List<Schedule> getSchedulesByEmployee(Long employeeId) {
-        List<Schedule> schedules = scheduleRepository.findByEmployeeId(employeeId);
-        if (schedules.isEmpty()) {
-            
-            throw new CustomeException("No schedules found for employee ID: " + employeeId);
+    public List<Schedule> getSchedulesByEmployee(Long employeeId, LocalDateTime from, LocalDateTime to) {
+        return getTeamCalendar(List.of(employeeId), null, from, to);
+    }
+
+    @Override
+    public List<Schedule> getTeamCalendar(List<Long> employeeIds, String domain, LocalDateTime from, LocalDateTime to) {
+        Set<Long> ids = resolveEmployees(employeeIds, domain);
+        LocalDateTime start = windowStart(from);
+        LocalDateTime end = windowEnd(start, to);
+        if (ids.isEmpty()) {
+            return List.of();
         }
-        return schedules;
+        return scheduleRepository.findInWindow(ids, start.minusHours(maxDurationHours), start, end);
+    }
+
+    @Override
+    public String getTeamCalendarETag(List<Long> employeeIds, String domain, LocalDateTime from, LocalDateTime to) {
+        Set<Long> ids = resolveEmployees(employeeIds, domain);
+        LocalDateTime start = windowStart(from);
+        LocalDateTime end = windowEnd(start, to);
+        if (ids.isEmpty()) {
+            return "0-0-0";
+        }
+        ScheduleWindowStats stats = scheduleRepository.getWindowStats(ids, start.minusHours(maxDurationHours), start, end);
+        long lastUpdated = stats.lastUpdated() == null ? 0
+                : stats.lastUpdated().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Long.toHexString(stats.count()) + "-" + Long.toHexString(stats.idSum())
+                + "-" + Long.toHexString(lastUpdated);
+    }
+
+    @Override
+    public List<FreeSlotDto> findFreeSlots(List<Long> employeeIds, LocalDateTime from, LocalDateTime to, int minMinutes) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            throw new CustomeException("At least one employee id is required");
+        }
+        checkRange(from, to);
+        if (to.isAfter(from.plusDays(freeSlotsMaxDays))) {
+            throw new CustomeException("The search window cannot be longer than " + freeSlotsMaxDays + " days");
+        }
+        Duration minLength = Duration.ofMinutes(Math.max(minMinutes, 1));
+
+        List<FreeSlotDto> slots = new ArrayList<>();
+        LocalDateTime cursor = from; // everything before it is busy or already reported
+        for (Schedule busy : scheduleRepository.findBusy(employeeIds, from.minusHours(maxDurationHours), from, to)) {
+            if (busy.getStartTime().isAfter(cursor)) {
+                addSlot(slots, cursor, busy.getStartTime(), minLength);
+            }
+            if (busy.getEndTime().isAfter(cursor)) {
+                cursor = busy.getEndTime();
+            }
+        }
+        if (cursor.isBefore(to)) {
+            addSlot(slots, cursor, to, minLength);
+        }
+        return slots;
     }
 
     @Override
     public void deleteSchedule(Long id) {
         scheduleRepository.deleteById(id);
     }
+
+    private List<Schedule> findOverlapping(Long employeeId, LocalDateTime from, LocalDateTime to) {
+        return scheduleRepository.findOverlapping(employeeId, from.minusHours(maxDurationHours), from, to);
+    }
+
+    private Set<Long> resolveEmployees(List<Long> employeeIds, String domain) {
+        boolean noDomain = domain == null || domain.isBlank();
+        if ((employeeIds == null || employeeIds.isEmpty()) && noDomain) {
+            throw new CustomeException("Give employeeIds or a domain");
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        if (employeeIds != null) {
+            ids.addAll(employeeIds);
+        }
+        if (!noDomain) {
+            ids.addAll(empRepo.findIdsByDomain(domain.trim()));
+        }
+        return ids;
+    }
+
+    private LocalDateTime windowStart(LocalDateTime from) {
+        return from != null ? from : LocalDate.now().minusDays(calendarDaysBack).atStartOfDay();
+    }
+
+    private LocalDateTime windowEnd(LocalDateTime start, LocalDateTime to) {
+        LocalDateTime end = to != null ? to
+                : LocalDate.now().plusDays(calendarDaysAhead + 1).atStartOfDay();
+        checkRange(start, end);
+        if (end.isAfter(start.plusDays(calendarMaxDays))) {
+            throw new CustomeException("The calendar window cannot be longer than " + calendarMaxDays + " days");
+        }
+        return end;
+    }
+
+    private static void addSlot(List<FreeSlotDto> slots, LocalDateTime start, LocalDateTime end, Duration minLength) {
+        if (Duration.between(start, end).compareTo(minLength) >= 0) {
+            slots.add(new FreeSlotDto(start, end));
+        }
+    }
+
+    private static void checkRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new CustomeException("Start and end time are required");
+        }
+        if (!to.isAfter(from)) {
+            throw new CustomeException("End time must be after start time");
+        }
+    }
 }
@@ -0,0 +1,199 @@
+package com.neb.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.neb.dto.ScheduleTimerRow;
+import com.neb.entity.Employee;
+import com.neb.entity.Schedule;
+import com.neb.repo.EmployeeRepository;
+import com.neb.repo.ScheduleRepository;
+import com.neb.service.EmailService;
+import com.neb.service.ScheduleTimerService;
+import com.neb.util.TimingWheel;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : ScheduleTimerServiceImpl.java
+ * Package     : com.neb.service.impl
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Completes schedules when they end and sends reminders before
+ *   they start, using a hashed timing wheel.
+ *
+ * Description :
+ *   - Only schedules due within schedule.timer.horizon-minutes are in
+ *     memory. loadDue() fetches them through the (status, end_time)
+ *     and (status, start_time) indexes; createSchedule adds new ones
+ *     with track(), so a meeting booked for in five minutes still
+ *     gets its reminder.
+ *   - Overdue UPCOMING schedules (e.g. after downtime) are loaded by
+ *     the first loadDue() and completed on the next tick.
+ *   - tick() collects the expired timers and completes them with one
+ *     conditional UPDATE per batch (still UPCOMING and ended), so a
+ *     cancelled schedule or a second node changes nothing.
+ *   - Reminders lock their rows and set reminderSentAt in the same
+ *     transaction that queues the email in the outbox: each reminder
+ *     is sent once, even with several nodes.
+ *
+ * Configuration :
+ *   schedule.timer.tick-ms                  → timing wheel resolution
+ *   schedule.timer.horizon-minutes          → how far ahead timers are loaded
+ *   schedule.timer.batch-size               → schedules per UPDATE / reminder transaction
+ *   schedule.reminder.minutes-before-start  → reminder lead time (0 = no reminders)
+ * ---------------------------------------------------------------
+ */
+@Service
+public class ScheduleTimerServiceImpl implements ScheduleTimerService {
+
+    private static final int WHEEL_SIZE = 4096;
+
+    // one wheel entry: complete the schedule, or send its reminder
+    private record Task(Long scheduleId, boolean reminder) {
+    }
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EmployeeRepository empRepo;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${schedule.timer.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${schedule.timer.horizon-minutes:10}")
+    private long horizonMinutes;
+
+    @Value("${schedule.timer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${schedule.reminder.minutes-before-start:15}")
+    private long reminderMinutes;
+
+    private TimingWheel<Task> wheel;
+
+    // tasks in the wheel, so reloading the horizon does not add them twice
+    private final Set<Task> pending = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    @Override
+    public void track(Schedule schedule) {
+        if (schedule.getId() == null || !"UPCOMING".equals(schedule.getStatus())) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.plusMinutes(horizonMinutes);
+        if (schedule.getEndTime().isBefore(horizon)) {
+            add(new Task(schedule.getId(), false), schedule.getEndTime());
+        }
+        if (reminderMinutes > 0 && schedule.getStartTime().isAfter(now)
+                && schedule.getStartTime().minusMinutes(reminderMinutes).isBefore(horizon)) {
+            add(new Task(schedule.getId(), true), schedule.getStartTime().minusMinutes(reminderMinutes));
+        }
+    }
+
+    @Override
+    public int loadDue() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.plusMinutes(horizonMinutes);
+        int added = 0;
+        for (ScheduleTimerRow row : scheduleRepository.findUpcomingEndingBefore(horizon)) {
+            added += add(new Task(row.id(), false), row.endTime()) ? 1 : 0;
+        }
+        if (reminderMinutes > 0) {
+            for (ScheduleTimerRow row : scheduleRepository.findReminderDue(now, horizon.plusMinutes(reminderMinutes))) {
+                added += add(new Task(row.id(), true), row.startTime().minusMinutes(reminderMinutes)) ? 1 : 0;
+            }
+        }
+        return added;
+    }
+
+    @Override
+    public int tick() {
+        List<Task> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return 0;
+        }
+        pending.removeAll(due);
+
+        List<Long> toComplete = new ArrayList<>();
+        List<Long> toRemind = new ArrayList<>();
+        for (Task task : due) {
+            (task.reminder() ? toRemind : toComplete).add(task.scheduleId());
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        int completed = 0;
+        for (List<Long> batch : partition(toComplete)) {
+            LocalDateTime now = LocalDateTime.now();
+            Integer updated = tx.execute(status -> scheduleRepository.markCompleted(batch, now));
+            completed += updated != null ? updated : 0;
+        }
+        for (List<Long> batch : partition(toRemind)) {
+            tx.executeWithoutResult(status -> sendReminders(batch));
+        }
+        return completed;
+    }
+
+    // runs inside a transaction; locked rows are skipped by other nodes once reminderSentAt is set
+    private void sendReminders(List<Long> ids) {
+        List<Schedule> schedules = scheduleRepository.lockForReminder(ids);
+        if (schedules.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Employee> employees = empRepo.findAllById(schedules.stream()
+                        .map(s -> s.getEmployee().getId()).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Employee::getId, Function.identity()));
+        for (Schedule s : schedules) {
+            s.setReminderSentAt(now);
+            Employee emp = employees.get(s.getEmployee().getId());
+            if (emp == null || emp.getEmail() == null || !s.getStartTime().isAfter(now)) {
+                continue; // nobody to tell, or already started
+            }
+            String name = emp.getLastName() != null ? emp.getFirstName() + " " + emp.getLastName() : emp.getFirstName();
+            emailService.sendScheduleReminderEmail(emp.getEmail(), name, s.getTitle(), s.getStartTime(), s.getLocation());
+        }
+    }
+
+    private boolean add(Task task, LocalDateTime deadline) {
+        if (!pending.add(task)) {
+            return false;
+        }
+        wheel.add(task, deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        return true;
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += batchSize) {
+            batches.add(ids.subList(i, Math.min(ids.size(), i + batchSize)));
+        }
+        return batches;
+    }
+}
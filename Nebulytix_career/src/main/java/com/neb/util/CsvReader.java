@@ -0,0 +1,128 @@
+package com.neb.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads CSV (RFC 4180) one record at a time, the counterpart of
+ * export.CsvReportWriter.
+ *
+ * Quoted fields may contain commas, doubled quotes ("") and line
+ * breaks. A UTF-8 byte order mark at the start and blank lines are
+ * skipped. Only the current record is kept in memory.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int NONE = -2;
+
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder(64);
+    private int pushedBack = NONE;
+    private boolean started;
+    private int line = 1;
+    private int recordLine;
+
+    public CsvReader(Reader in) {
+        this.in = in instanceof BufferedReader ? in : new BufferedReader(in, 64 * 1024);
+    }
+
+    /**
+     * @return the fields of the next record, or null at the end of the input
+     */
+    public String[] next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean any = false;
+        int c = read();
+
+        while (c == '\r' || c == '\n') { // blank lines
+            skipLineBreak(c);
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unclosed quote in record starting at line " + recordLine);
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0 && !any) {
+                quoted = true;
+                any = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                any = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c != -1) {
+                    skipLineBreak(c);
+                }
+                return fields.toArray(new String[0]);
+            } else {
+                field.append((char) c);
+                any = true;
+            }
+            c = read();
+        }
+    }
+
+    // line of the file where the last record returned by next() starts
+    public int getLineNumber() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        int c = in.read();
+        if (!started) {
+            started = true;
+            if (c == '﻿') {
+                c = in.read();
+            }
+        }
+        return c;
+    }
+
+    // c is '\r' or '\n'; also consumes the '\n' of "\r\n"
+    private void skipLineBreak(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int n = read();
+            if (n != '\n') {
+                pushedBack = n;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
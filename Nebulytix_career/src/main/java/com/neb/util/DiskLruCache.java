@@ -0,0 +1,234 @@
+package com.neb.util;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ---------------------------------------------------------------------
+ * File Name   : DiskLruCache.java
+ * Package     : com.neb.util
+ * ---------------------------------------------------------------------
+ * Purpose :
+ *   Keeps generated files (payslip PDFs) in a local folder up to a
+ *   maximum total size.
+ *
+ * Description :
+ *   - get(key, loader) returns the cached file, or creates it with the
+ *     loader on a miss. The loader writes straight into the cache
+ *     file, so a large file is never held in memory.
+ *   - Single flight: when several threads miss the same key at once,
+ *     only one runs the loader and the others wait for its file.
+ *   - Least recently used files are deleted once the total size goes
+ *     over the limit. Files found in the folder at startup are indexed
+ *     oldest first.
+ *   - Files are written to a temp name and moved into place, so a
+ *     reader never sees a half-written file.
+ *   - Every get() pins the returned file for pinMillis: eviction
+ *     skips it meanwhile, so a download that opens the path a moment
+ *     later still finds it. While everything is pinned the folder
+ *     may briefly go over the limit; the next insert trims it.
+ * ---------------------------------------------------------------------
+ */
+public class DiskLruCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskLruCache.class);
+
+    private static final String TEMP_SUFFIX = ".part";
+
+    @FunctionalInterface
+    public interface Loader {
+        // write the content to out; the cache closes it
+        void load(OutputStream out) throws Exception;
+    }
+
+    private final Path dir;
+    private final long maxBytes;
+
+    private static final class Entry {
+        final long size;
+        long pinnedUntil;
+
+        Entry(long size) {
+            this.size = size;
+        }
+    }
+
+    private final long pinMillis;
+
+    // key → file, in access order (guarded by this)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    public DiskLruCache(Path dir, long maxBytes, long pinMillis) throws IOException {
+        this.dir = dir;
+        this.maxBytes = maxBytes;
+        this.pinMillis = pinMillis;
+        Files.createDirectories(dir);
+        loadIndex();
+    }
+
+    /**
+     * @param key file name inside the cache folder (letters, digits, '-', '_', '.')
+     */
+    public Path get(String key, Loader loader) throws IOException {
+        if (!key.matches("[A-Za-z0-9._-]+") || key.endsWith(TEMP_SUFFIX)) {
+            throw new IllegalArgumentException("Invalid cache key: " + key);
+        }
+        Path cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            // another thread may have finished between lookup() and putIfAbsent()
+            Path path = lookup(key);
+            if (path == null) {
+                path = store(key, loader);
+            }
+            mine.complete(path);
+            return path;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e instanceof IOException io ? io : new IOException("Could not create " + key + ": " + e.getMessage(), e);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // the file, pinned for the caller
+    private synchronized Path lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        Path path = dir.resolve(key);
+        if (!Files.exists(path)) {
+            // removed behind our back
+            totalBytes -= entries.remove(key).size;
+            return null;
+        }
+        entry.pinnedUntil = System.currentTimeMillis() + pinMillis;
+        return path;
+    }
+
+    private Path store(String key, Loader loader) throws Exception {
+        Path target = dir.resolve(key);
+        Path temp = Files.createTempFile(dir, key + "-", TEMP_SUFFIX);
+        long size;
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                loader.load(out);
+            }
+            size = Files.size(temp);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        add(key, size);
+        return target;
+    }
+
+    private synchronized void add(String key, long size) {
+        Entry entry = new Entry(size);
+        entry.pinnedUntil = System.currentTimeMillis() + pinMillis;
+        Entry previous = entries.put(key, entry);
+        totalBytes += size - (previous != null ? previous.size : 0);
+        evict(key);
+    }
+
+    // drop least recently used files (not pinned, never the one just added) until under the limit
+    private void evict(String keep) {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            if (eldest.getKey().equals(keep) || eldest.getValue().pinnedUntil > now) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(dir.resolve(eldest.getKey()));
+            } catch (IOException e) {
+                // e.g. still open for download on Windows; forget it anyway, it is retried on restart
+                log.warn("Could not delete cached file {}: {}", eldest.getKey(), e.getMessage());
+            }
+            totalBytes -= eldest.getValue().size;
+            it.remove();
+        }
+    }
+
+    private synchronized void loadIndex() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path file : stream) {
+                if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file); // left over from a crash
+                } else if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparing(DiskLruCache::lastModified));
+        for (Path file : files) {
+            long size = Files.size(file);
+            entries.put(file.getFileName().toString(), new Entry(size));
+            totalBytes += size;
+        }
+        evict(null);
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path await(CompletableFuture<Path> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException io ? io : new IOException(String.valueOf(cause.getMessage()), cause);
+        }
+    }
+}
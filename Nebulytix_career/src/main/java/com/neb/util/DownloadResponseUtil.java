@@ -0,0 +1,96 @@
+/**
+ * ---------------------------------------------------------------------
+ * File Name   : DownloadResponseUtil.java
+ * Package     : com.neb.util
+ * ---------------------------------------------------------------------
+ * Purpose :
+ *   Builds file download responses that stream from disk and can be
+ *   cached by browsers and proxies.
+ *
+ * Description :
+ *   - The body is a Resource, so Spring copies it to the response in
+ *     small chunks instead of loading the whole file on the heap.
+ *   - Sets Content-Length, Last-Modified and an ETag built from the file
+ *     size and modification time.
+ *   - Spring MVC then answers "If-None-Match" / "If-Modified-Since"
+ *     with 304 and "Range" requests with 206 partial content.
+ *   - Generated reports (streamedAttachment) are written to the
+ *     response while they are produced; they have no length and
+ *     are not cached.
+ * ---------------------------------------------------------------------
+ */
+
+package com.neb.util;
+
+import java.io.IOException;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.neb.exception.CustomeException;
+
+public class DownloadResponseUtil {
+
+    private DownloadResponseUtil() {
+    }
+
+    public static ResponseEntity<Resource> pdfAttachment(Resource resource, String fileName) {
+        return build(resource, MediaType.APPLICATION_PDF,
+                ContentDisposition.attachment().filename(fileName).build());
+    }
+
+    // Stored file of a known type, e.g. a background job's result
+    public static ResponseEntity<Resource> attachment(Resource resource, String contentType, String fileName) {
+        MediaType type = contentType != null ? MediaType.parseMediaType(contentType)
+                : MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return build(resource, type, ContentDisposition.attachment().filename(fileName).build());
+    }
+
+    // Uploaded file shown in the browser; content type from the file extension
+    public static ResponseEntity<Resource> inlineFile(Resource resource, String fileName) {
+        MediaType type = MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return build(resource, type, ContentDisposition.inline().filename(fileName).build());
+    }
+
+    // Report generated on the fly; the body runs on an MVC async thread
+    public static ResponseEntity<StreamingResponseBody> streamedAttachment(StreamingResponseBody body,
+                                                                           MediaType type, String fileName) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(type);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(fileName).build());
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+
+    private static ResponseEntity<Resource> build(Resource resource, MediaType type, ContentDisposition disposition) {
+        long length;
+        long lastModified;
+        try {
+            length = resource.contentLength();
+            lastModified = resource.lastModified();
+        } catch (IOException e) {
+            throw new CustomeException("Could not read file: " + e.getMessage());
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(type);
+        headers.setContentDisposition(disposition);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .contentLength(length)
+                .lastModified(lastModified)
+                .eTag(Long.toHexString(length) + "-" + Long.toHexString(lastModified))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(resource);
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * ---------------------------------------------------------------------
+ * File Name   : ICalendarUtil.java
+ * Package     : com.neb.util
+ * ---------------------------------------------------------------------
+ * Purpose :
+ *   Writes schedules as an iCalendar (RFC 5545) feed that calendar
+ *   apps can subscribe to.
+ *
+ * Description :
+ *   - One VEVENT per schedule; UID is stable per schedule id, so apps
+ *     update events instead of duplicating them.
+ *   - Start and end are written as local ("floating") times, the same
+ *     way they are stored.
+ *   - Text is escaped and lines longer than 75 bytes are folded.
+ * ---------------------------------------------------------------------
+ */
+
+package com.neb.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+
+import com.neb.entity.Schedule;
+
+public class ICalendarUtil {
+
+    public static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private static final DateTimeFormatter LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final int MAX_LINE_BYTES = 75;
+
+    private ICalendarUtil() {
+    }
+
+    public static String toICalendar(List<Schedule> schedules) {
+        StringBuilder out = new StringBuilder(256 + schedules.size() * 256);
+        line(out, "BEGIN:VCALENDAR");
+        line(out, "VERSION:2.0");
+        line(out, "PRODID:-//Nebulytix//Schedules//EN");
+        line(out, "CALSCALE:GREGORIAN");
+        for (Schedule s : schedules) {
+            line(out, "BEGIN:VEVENT");
+            line(out, "UID:schedule-" + s.getId() + "@nebulytix");
+            line(out, "DTSTAMP:" + utc(s.getUpdatedAt() != null ? s.getUpdatedAt() : LocalDateTime.now()));
+            line(out, "DTSTART:" + s.getStartTime().format(LOCAL));
+            line(out, "DTEND:" + s.getEndTime().format(LOCAL));
+            line(out, "SUMMARY:" + text(s.getTitle()));
+            if (s.getDescription() != null) {
+                line(out, "DESCRIPTION:" + text(s.getDescription()));
+            }
+            if (s.getLocation() != null) {
+                line(out, "LOCATION:" + text(s.getLocation()));
+            }
+            line(out, "STATUS:" + ("CANCELLED".equalsIgnoreCase(s.getStatus()) ? "CANCELLED" : "CONFIRMED"));
+            line(out, "END:VEVENT");
+        }
+        line(out, "END:VCALENDAR");
+        return out.toString();
+    }
+
+    private static String utc(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(UTC);
+    }
+
+    // Escapes \ ; , and line breaks (RFC 5545 TEXT)
+    private static String text(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> sb.append('\\').append(c);
+                case '\n' -> sb.append("\\n");
+                case '\r' -> { }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // Writes the content line, folded at 75 bytes (UTF-8) with CRLF + space
+    private static void line(StringBuilder out, String content) {
+        int bytes = 0;
+        for (int i = 0; i < content.length(); ) {
+            int cp = content.codePointAt(i);
+            int len = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+            if (bytes + len > MAX_LINE_BYTES) {
+                out.append("\r\n ");
+                bytes = 1;
+            }
+            out.appendCodePoint(cp);
+            bytes += len;
+            i += Character.charCount(cp);
+        }
+        out.append("\r\n");
+    }
+}
@@ -0,0 +1,25 @@
+package com.neb.util;
+
+import java.net.URI;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.neb.dto.BackgroundJobDto;
+import com.neb.dto.ResponseMessage;
+
+/**
+ * 202 Accepted response for work handed to a background job; the
+ * Location header points to the job's status URL.
+ */
+public class JobResponseUtil {
+
+    private JobResponseUtil() {
+    }
+
+    public static ResponseEntity<ResponseMessage<BackgroundJobDto>> accepted(BackgroundJobDto job, String message) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + job.getId()))
+                .body(new ResponseMessage<>(HttpStatus.ACCEPTED.value(), HttpStatus.ACCEPTED.name(), message, job));
+    }
+}
@@ -0,0 +1,120 @@
+package com.neb.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * ---------------------------------------------------------------------
+ * File Name   : PasswordHasher.java
+ * Package     : com.neb.util
+ * ---------------------------------------------------------------------
+ * Purpose :
+ *   Hashes and checks employee passwords (PBKDF2-HMAC-SHA256).
+ *
+ * Description :
+ *   - Stored form: pbkdf2-sha256$<iterations>$<salt>$<hash> (Base64),
+ *     so every hash keeps the cost it was made with.
+ *   - New hashes use the configured iteration count. It is fixed:
+ *     it does not follow machine load, and values below
+ *     MIN_ITERATIONS are refused at startup.
+ *   - needsRehash() reports plaintext values and hashes made with
+ *     fewer iterations than configured; stronger hashes are kept,
+ *     so lowering the setting never weakens stored passwords.
+ *   - Values without the prefix are legacy plaintext passwords; they
+ *     are compared in constant time. PlaintextPasswordMigration
+ *     hashes the remaining ones once at startup.
+ * ---------------------------------------------------------------------
+ */
+public class PasswordHasher {
+
+    public static final String PREFIX = "pbkdf2-sha256$";
+    // floor for the configured cost
+    public static final int MIN_ITERATIONS = 100_000;
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int KEY_BITS = 256;
+
+    private final SecureRandom random = new SecureRandom();
+    private final int iterations;
+
+    public PasswordHasher(int iterations) {
+        if (iterations < MIN_ITERATIONS) {
+            throw new IllegalArgumentException("PBKDF2 iterations must be at least " + MIN_ITERATIONS
+                    + ", got " + iterations);
+        }
+        this.iterations = iterations;
+    }
+
+    // Iterations used for new hashes
+    public int getIterations() {
+        return iterations;
+    }
+
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] hash = pbkdf2(password, salt, iterations);
+        Base64.Encoder b64 = Base64.getEncoder().withoutPadding();
+        return PREFIX + iterations + "$" + b64.encodeToString(salt) + "$" + b64.encodeToString(hash);
+    }
+
+    public boolean verify(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        }
+        if (!stored.startsWith(PREFIX)) {
+            // legacy plaintext
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8),
+                    stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 3) {
+            return false;
+        }
+        int cost;
+        byte[] salt;
+        byte[] expected;
+        try {
+            cost = Integer.parseInt(parts[0]);
+            salt = Base64.getDecoder().decode(parts[1]);
+            expected = Base64.getDecoder().decode(parts[2]);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (cost <= 0) {
+            return false;
+        }
+        return MessageDigest.isEqual(expected, pbkdf2(password, salt, cost));
+    }
+
+    // true for plaintext values and hashes made with fewer iterations than new ones
+    public boolean needsRehash(String stored) {
+        if (stored == null || !stored.startsWith(PREFIX)) {
+            return true;
+        }
+        int end = stored.indexOf('$', PREFIX.length());
+        try {
+            return end < 0 || Integer.parseInt(stored.substring(PREFIX.length(), end)) < iterations;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int cost) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, cost, KEY_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("PBKDF2 is not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * ---------------------------------------------------------------------
+ * File Name   : PayslipCalculator.java
+ * Package     : com.neb.util
+ * ---------------------------------------------------------------------
+ * Purpose :
+ *   Builds an unsaved Payslip with the full salary breakdown for an
+ *   employee and month.
+ *
+ * Description :
+ *   - Shared by single payslip generation (EmployeeServiceImpl) and the
+ *     bulk payroll run (PayrollRunServiceImpl) so both produce the same
+ *     numbers.
+ *   - Does not touch the database or the file system.
+ *   - The amounts come from PayrollEngine (exact, in paise) and are
+ *     copied into the Double fields of the Payslip.
+ *   - The employee details printed on the PDF are copied into the
+ *     payslip's snapshot; employeeAsOf() turns them back into the
+ *     Employee the PDF renderer expects.
+ *
+ * Salary Rules :
+ *   ✅ Configured in payroll.rules.* (see PayrollRules); by default
+ *      Basic 53%, HRA 20%, Flexi 27% of salary
+ *   ✅ PF 12% of basic, professional tax 200
+ * ---------------------------------------------------------------------
+ */
+
+package com.neb.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+
+import com.neb.entity.Employee;
+import com.neb.entity.Payslip;
+import com.neb.entity.PayslipEmployeeSnapshot;
+import com.neb.util.payroll.PayrollBatch;
+import com.neb.util.payroll.PayrollEngine;
+
+public class PayslipCalculator {
+
+    public static final String COMPANY_LOCATION = "FLAT NO 501B,PSR PRIME TOWERS,BESIDE DLF,GACHIBOWLI,500032";
+
+    private PayslipCalculator() {
+    }
+
+    public static Payslip buildPayslip(Employee emp, String monthYear, PayrollEngine engine) {
+        return buildPayslip(emp, monthYear, engine.calculate(List.of(emp)), 0);
+    }
+
+    // Payslip from row `row` of a batch calculated by PayrollEngine (amounts in paise)
+    public static Payslip buildPayslip(Employee emp, String monthYear, PayrollBatch amounts, int row) {
+        Payslip p = new Payslip();
+        p.setEmployee(emp);
+        p.setEmployeeSnapshot(snapshot(emp));
+        p.setPayslipMonth(monthYear);
+        p.setGeneratedDate(LocalDateTime.now());
+        p.setLocation(COMPANY_LOCATION);
+
+        // Salary components
+        p.setBasic(PayrollBatch.rupees(amounts.basic(row)));
+        p.setHra(PayrollBatch.rupees(amounts.hra(row)));
+        p.setFlexi(PayrollBatch.rupees(amounts.flexi(row)));
+        p.setGrossSalary(PayrollBatch.rupees(amounts.gross(row)));
+
+        // Deductions
+        p.setPfDeduction(PayrollBatch.rupees(amounts.pf(row)));
+        p.setProfTaxDeduction(PayrollBatch.rupees(amounts.profTax(row)));
+        p.setTotalDeductions(PayrollBatch.rupees(amounts.deductions(row)));
+
+        // Net Salary
+        p.setNetSalary(PayrollBatch.rupees(amounts.net(row)));
+        p.setBalance(p.getGrossSalary());
+        p.setAggrgDeduction(p.getTotalDeductions());
+        p.setIncHdSalary(p.getNetSalary());
+        p.setTaxCredit(PayrollBatch.rupees(amounts.taxCredit(row)));
+
+        return p;
+    }
+
+    public static PayslipEmployeeSnapshot snapshot(Employee emp) {
+        PayslipEmployeeSnapshot s = new PayslipEmployeeSnapshot();
+        s.setFirstName(emp.getFirstName());
+        s.setLastName(emp.getLastName());
+        s.setCardNumber(emp.getCardNumber());
+        s.setJoiningDate(emp.getJoiningDate());
+        s.setDaysPresent(emp.getDaysPresent());
+        s.setBankAccountNumber(emp.getBankAccountNumber());
+        s.setBankName(emp.getBankName());
+        s.setPfNumber(emp.getPfNumber());
+        s.setEpsNumber(emp.getEpsNumber());
+        s.setPanNumber(emp.getPanNumber());
+        s.setUanNumber(emp.getUanNumber());
+        s.setEsiNumber(emp.getEsiNumber());
+        return s;
+    }
+
+    // Unsaved Employee with the details of the payslip's snapshot (the linked employee for older payslips)
+    public static Employee employeeAsOf(Payslip p) {
+        PayslipEmployeeSnapshot s = p.getEmployeeSnapshot();
+        if (s == null) {
+            return p.getEmployee();
+        }
+        Employee emp = new Employee();
+        emp.setId(p.getEmployee() != null ? p.getEmployee().getId() : null);
+        emp.setFirstName(s.getFirstName());
+        emp.setLastName(s.getLastName());
+        emp.setCardNumber(s.getCardNumber());
+        emp.setJoiningDate(s.getJoiningDate());
+        emp.setDaysPresent(s.getDaysPresent() != null ? s.getDaysPresent() : 0);
+        emp.setBankAccountNumber(s.getBankAccountNumber());
+        emp.setBankName(s.getBankName());
+        emp.setPfNumber(s.getPfNumber());
+        emp.setEpsNumber(s.getEpsNumber());
+        emp.setPanNumber(s.getPanNumber());
+        emp.setUanNumber(s.getUanNumber());
+        emp.setEsiNumber(s.getEsiNumber());
+        return emp;
+    }
+
+    // File name and folder used for a payslip PDF, e.g. "NEB001_payslipAugust_2025.pdf"
+    public static String pdfFileName(Employee emp, String monthYear) {
+        return emp.getCardNumber() + "_payslip" + monthYear.replace(" ", "_") + ".pdf";
+    }
+
+    // Month label of a date, e.g. "August 2025"
+    public static String monthYear(LocalDate date) {
+        return date.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " " + date.getYear();
+    }
+
+    public static String monthFolder(String monthYear) {
+        return monthYear.replace(" ", "_");
+    }
+}
@@ -11,6 +11,10 @@
  *   - Uses the iText library to build the PDF layout.
  *   - Adds company logo, employee details, salary breakdown, and tax info.
  *   - Returns the generated PDF as a byte array for download or email.
+ *   - Fonts, the decoded logo and the three table layouts (borders, headings,
+ *     empty cells) are built once per JVM. Each call copies the table
+ *     templates and only fills in the employee/payslip values, so bulk
+ *     payroll runs don't repeat the setup for every employee.
  *
  * Main Method :
  *   createPayslipPdf(Employee emp, Payslip p)
@@ -22,10 +26,15 @@
  *          4. Tax and perk information
  *          5. Footer note
  *
- * Helper Method :
+ *   writePayslipPdf(Employee emp, Payslip p, OutputStream out)
+ *      → Same layout, written straight to a stream (e.g. a file).
+ *
+ * Helper Methods :
  *   createCellOuterColumnBorders(...)
  *      → Helps design table cells with borders on specific sides
  *        (top, left, right, bottom).
+ *   fill(...)
+ *      → Puts a value into a cell of a copied table template.
  *
  * Output :
  *   - The method returns the PDF content as a byte array.
@@ -40,7 +49,8 @@
 package com.neb.util;
 
 import java.io.ByteArrayOutputStream;
-import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.*;
@@ -49,141 +59,169 @@ import com.neb.entity.Payslip;
 
 public class PdfGeneratorUtil {
 
+    // Company logo, decoded once; set at startup from storage (payslip.logo), null = no logo
+    private static volatile Image logoPrototype;
+
+    // Fonts (resolved once, only read while rendering)
+    private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14);
+    private static final Font BOLD_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
+    private static final Font NORMAL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 10);
+
+    // Table layouts; copied for every payslip, never rendered directly
+    private static final PdfPTable EMPLOYEE_INFO_TEMPLATE = buildEmployeeInfoTemplate();
+    private static final PdfPTable EARNINGS_TEMPLATE = buildEarningsTemplate();
+    private static final PdfPTable TAX_TEMPLATE = buildTaxTemplate();
+
+    // Typical payslip size, avoids growing the buffer while writing
+    private static final int EXPECTED_PDF_SIZE = 4 * 1024;
+
     public static byte[] createPayslipPdf(Employee emp, Payslip p) throws Exception {
-        // PDF output stream setup
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(EXPECTED_PDF_SIZE);
+        writePayslipPdf(emp, p, baos);
+        return baos.toByteArray();
+    }
+
+    public static void writePayslipPdf(Employee emp, Payslip p, OutputStream out) throws Exception {
         Document document = new Document();
-        PdfWriter.getInstance(document, baos);
+        PdfWriter.getInstance(document, out).setCloseStream(false);
         document.open();
 
         // ---------------------------------------------------------
-        // Add company logo (with file check)
+        // Add company logo (decoded once, company name if missing)
         // ---------------------------------------------------------
-        try {
-        	//  C:/path/to/NebulytixLogo.jpg
-           // String logoPath = "E:/NEBULYTIX TECHNOLOGIES/files/nebTechLogo.jpg"; // ✅ update this to your logo file path
-            String logoPath ="E:/NEBULYTIX TECHNOLOGIES/files/nebTechLogo.jpg";//C:\\Users\\USER\\git\\AdminHr-EmpDashboards\\AdminHrEmpDashBoards\\src\\main\\webapp\\images\\NebulytixLogo.jpg"
-            File file = new File(logoPath);
-            if (file.exists()) {
-                Image logo = Image.getInstance(logoPath);
-                logo.scaleToFit(120f, 120f);
-                logo.setAlignment(Element.ALIGN_RIGHT);
-                document.add(logo);
-            } else {
-                document.add(new Paragraph("NEBULYTIX TECHNOLOGIES PVT LTD", 
-                    FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14)));
-                System.out.println("Else Part");
-            }
-        } catch (Exception e) {
-            document.add(new Paragraph("NEBULYTIX TECHNOLOGIES PVT LTD", 
-                FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14)));
+        Image logo = copyLogo();
+        if (logo != null) {
+            document.add(logo);
+        } else {
+            document.add(new Paragraph("NEBULYTIX TECHNOLOGIES PVT LTD", TITLE_FONT));
         }
 
-        // Fonts
-        Font boldFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
-        Font normalFont = FontFactory.getFont(FontFactory.HELVETICA, 10);
-
         // Header details
-        document.add(new Paragraph("Payslip for the month: " + p.getPayslipMonth(), boldFont));
+        document.add(new Paragraph("Payslip for the month: " + p.getPayslipMonth(), BOLD_FONT));
         document.add(new Paragraph("Employee: " + emp.getFirstName() + " " + emp.getLastName() 
-                + "   |   Card No: " + emp.getCardNumber(), normalFont));
+                + "   |   Card No: " + emp.getCardNumber(), NORMAL_FONT));
         document.add(new Paragraph("\n"));
 
         // ========================= Table 1 – Employee Info =========================
-        PdfPTable table1 = new PdfPTable(2);
-        table1.setWidthPercentage(100f);
-
-        table1.addCell(createCellOuterColumnBorders("Location: " + p.getLocation(), normalFont, true, true, true, false));
-        table1.addCell(createCellOuterColumnBorders("P.F.No: " + emp.getPfNumber(), normalFont, true, false, true, false));
-
-        table1.addCell(createCellOuterColumnBorders("Bank A/C No: " + emp.getBankAccountNumber() 
-                + "   Bank: " + emp.getBankName(), normalFont, false, true, true, false));
-        table1.addCell(createCellOuterColumnBorders("E.P.S No: " + emp.getEpsNumber(), normalFont, false, false, true, false));
+        PdfPTable table1 = new PdfPTable(EMPLOYEE_INFO_TEMPLATE);
+        fill(table1, 0, 0, "Location: " + p.getLocation());
+        fill(table1, 0, 1, "P.F.No: " + emp.getPfNumber());
+        fill(table1, 1, 0, "Bank A/C No: " + emp.getBankAccountNumber() + "   Bank: " + emp.getBankName());
+        fill(table1, 1, 1, "E.P.S No: " + emp.getEpsNumber());
+        fill(table1, 2, 0, "No. of days paid: " + emp.getDaysPresent());
+        fill(table1, 2, 1, "PAN: " + emp.getPanNumber());
+        fill(table1, 3, 1, "UAN: " + emp.getUanNumber());
+        fill(table1, 4, 1, "ESI No.: " + emp.getEsiNumber());
+        fill(table1, 5, 1, "DOJ: " + emp.getJoiningDate());
 
-        table1.addCell(createCellOuterColumnBorders("No. of days paid: " + emp.getDaysPresent(), normalFont, false, true, true, false));
-        table1.addCell(createCellOuterColumnBorders("PAN: " + emp.getPanNumber(), normalFont, false, false, true, false));
+        document.add(table1);
+        document.add(new Paragraph("\n"));
 
-        table1.addCell(createCellOuterColumnBorders("", normalFont, false, true, true, false));
-        table1.addCell(createCellOuterColumnBorders("UAN: " + emp.getUanNumber(), normalFont, false, false, true, false));
+        // ========================= Table 2 – Earnings / Deductions =========================
+        PdfPTable table2 = new PdfPTable(EARNINGS_TEMPLATE);
+        fill(table2, 1, 0, "Basic: " + p.getBasic());
+        fill(table2, 1, 1, "PF: " + p.getPfDeduction());
+        fill(table2, 2, 0, "HRA: " + p.getHra());
+        fill(table2, 2, 1, "PROFTAX: " + p.getProfTaxDeduction());
+        fill(table2, 3, 0, "Flexi: " + p.getFlexi());
+        fill(table2, 4, 0, "Earnings (Total): " + p.getGrossSalary());
+        fill(table2, 4, 1, "Deductions (Total): " + p.getTotalDeductions());
+        fill(table2, 4, 2, "Net Pay: " + p.getNetSalary());
 
-        table1.addCell(createCellOuterColumnBorders("", normalFont, false, true, true, false));
-        table1.addCell(createCellOuterColumnBorders("ESI No.: " + emp.getEsiNumber(), normalFont, false, false, true, false));
+        document.add(table2);
+        document.add(new Paragraph("\n"));
 
-        table1.addCell(createCellOuterColumnBorders("", normalFont, false, true, true, true));
-        table1.addCell(createCellOuterColumnBorders("DOJ: " + emp.getJoiningDate(), normalFont, false, false, true, true));
+        // ========================= Table 3 – Tax / Perks =========================
+        PdfPTable table3 = new PdfPTable(TAX_TEMPLATE);
+        fill(table3, 1, 3, "Gross Salary: " + p.getGrossSalary());
+        fill(table3, 2, 3, "Balance: " + p.getBalance());
+        fill(table3, 3, 3, "Agg Deduction: " + p.getAggrgDeduction());
+        fill(table3, 4, 3, "Income under Hd Salary: " + p.getIncHdSalary());
+        fill(table3, 5, 3, "Tax credit: " + p.getTaxCredit());
 
-        document.add(table1);
+        document.add(table3);
         document.add(new Paragraph("\n"));
 
-        // ========================= Table 2 – Earnings / Deductions =========================
-        PdfPTable table2 = new PdfPTable(3);
-        table2.setWidthPercentage(100f);
+        // Footer note
+        document.add(new Paragraph("This is a computer-generated document and does not require a signature.", NORMAL_FONT));
+
+        document.close();
+    }
 
-        table2.addCell(createCellOuterColumnBorders("Earnings", boldFont, true, true, true, true));
-        table2.addCell(createCellOuterColumnBorders("Statutory Deductions", boldFont, true, false, true, true));
-        table2.addCell(createCellOuterColumnBorders("Scheme Deductions", boldFont, true, false, true, true));
+    // ---------------------------------------------------------
+    // Templates: same borders and headings as the original layout,
+    // value cells are left empty and filled per payslip
+    // ---------------------------------------------------------
+    private static PdfPTable buildEmployeeInfoTemplate() {
+        PdfPTable table1 = new PdfPTable(2);
+        table1.setWidthPercentage(100f);
 
-        table2.addCell(createCellOuterColumnBorders("Basic: " + p.getBasic(), normalFont, false, true, true, false));
-        table2.addCell(createCellOuterColumnBorders("PF: " + p.getPfDeduction(), normalFont, false, false, true, false));
-        table2.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, true, true, true, false));   // Location
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, true, false, true, false));  // P.F.No
 
-        table2.addCell(createCellOuterColumnBorders("HRA: " + p.getHra(), normalFont, false, true, true, false));
-        table2.addCell(createCellOuterColumnBorders("PROFTAX: " + p.getProfTaxDeduction(), normalFont, false, false, true, false));
-        table2.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, true, true, false));  // Bank
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, false, true, false)); // E.P.S No
 
-        table2.addCell(createCellOuterColumnBorders("Flexi: " + p.getFlexi(), normalFont, false, true, true, false));
-        table2.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
-        table2.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, true, true, false));  // Days paid
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, false, true, false)); // PAN
 
-        table2.addCell(createCellOuterColumnBorders("Earnings (Total): " + p.getGrossSalary(), normalFont, true, true, true, true));
-        table2.addCell(createCellOuterColumnBorders("Deductions (Total): " + p.getTotalDeductions(), normalFont, true, false, true, true));
-        table2.addCell(createCellOuterColumnBorders("Net Pay: " + p.getNetSalary(), normalFont, true, false, true, true));
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, true, true, false));
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, false, true, false)); // UAN
 
-        document.add(table2);
-        document.add(new Paragraph("\n"));
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, true, true, false));
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, false, true, false)); // ESI No.
 
-        // ========================= Table 3 – Tax / Perks =========================
-        PdfPTable table3 = new PdfPTable(4);
-        table3.setWidthPercentage(100f);
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, true, true, true));
+        table1.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, false, true, true));  // DOJ
+        return table1;
+    }
 
-        table3.addCell(createCellOuterColumnBorders("Perk Details", boldFont, true, true, true, true));
-        table3.addCell(createCellOuterColumnBorders("Any other Income", boldFont, true, false, true, true));
-        table3.addCell(createCellOuterColumnBorders("Annual exemption", boldFont, true, false, true, true));
-        table3.addCell(createCellOuterColumnBorders("Form 16 Summary", boldFont, true, false, true, true));
+    private static PdfPTable buildEarningsTemplate() {
+        PdfPTable table2 = new PdfPTable(3);
+        table2.setWidthPercentage(100f);
 
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, true, true, false));
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
-        table3.addCell(createCellOuterColumnBorders("Gross Salary: " + p.getGrossSalary(), normalFont, false, false, true, false));
+        table2.addCell(createCellOuterColumnBorders("Earnings", BOLD_FONT, true, true, true, true));
+        table2.addCell(createCellOuterColumnBorders("Statutory Deductions", BOLD_FONT, true, false, true, true));
+        table2.addCell(createCellOuterColumnBorders("Scheme Deductions", BOLD_FONT, true, false, true, true));
 
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, true, true, false));
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
-        table3.addCell(createCellOuterColumnBorders("Balance: " + p.getBalance(), normalFont, false, false, true, false));
+        for (int row = 0; row < 3; row++) {   // Basic / HRA / Flexi rows
+            table2.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, true, true, false));
+            table2.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, false, true, false));
+            table2.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, false, true, false));
+        }
 
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, true, true, false));
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
-        table3.addCell(createCellOuterColumnBorders("Agg Deduction: " + p.getAggrgDeduction(), normalFont, false, false, true, false));
+        table2.addCell(createCellOuterColumnBorders("", NORMAL_FONT, true, true, true, true));    // Earnings total
+        table2.addCell(createCellOuterColumnBorders("", NORMAL_FONT, true, false, true, true));   // Deductions total
+        table2.addCell(createCellOuterColumnBorders("", NORMAL_FONT, true, false, true, true));   // Net pay
+        return table2;
+    }
 
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, true, true, false));
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
-        table3.addCell(createCellOuterColumnBorders("", normalFont, false, false, true, false));
-        table3.addCell(createCellOuterColumnBorders("Income under Hd Salary: " + p.getIncHdSalary(), normalFont, false, false, true, false));
+    private static PdfPTable buildTaxTemplate() {
+        PdfPTable table3 = new PdfPTable(4);
+        table3.setWidthPercentage(100f);
 
-        table3.addCell(createCellOuterColumnBorders("", normalFont, true, true, true, true));
-        table3.addCell(createCellOuterColumnBorders("", normalFont, true, false, true, true));
-        table3.addCell(createCellOuterColumnBorders("", normalFont, true, false, true, true));
-        table3.addCell(createCellOuterColumnBorders("Tax credit: " + p.getTaxCredit(), normalFont, true, false, true, true));
+        table3.addCell(createCellOuterColumnBorders("Perk Details", BOLD_FONT, true, true, true, true));
+        table3.addCell(createCellOuterColumnBorders("Any other Income", BOLD_FONT, true, false, true, true));
+        table3.addCell(createCellOuterColumnBorders("Annual exemption", BOLD_FONT, true, false, true, true));
+        table3.addCell(createCellOuterColumnBorders("Form 16 Summary", BOLD_FONT, true, false, true, true));
 
-        document.add(table3);
-        document.add(new Paragraph("\n"));
+        for (int row = 0; row < 4; row++) {   // Gross / Balance / Agg Deduction / Income rows
+            table3.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, true, true, false));
+            table3.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, false, true, false));
+            table3.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, false, true, false));
+            table3.addCell(createCellOuterColumnBorders("", NORMAL_FONT, false, false, true, false));
+        }
 
-        // Footer note
-        document.add(new Paragraph("This is a computer-generated document and does not require a signature.", normalFont));
+        table3.addCell(createCellOuterColumnBorders("", NORMAL_FONT, true, true, true, true));
+        table3.addCell(createCellOuterColumnBorders("", NORMAL_FONT, true, false, true, true));
+        table3.addCell(createCellOuterColumnBorders("", NORMAL_FONT, true, false, true, true));
+        table3.addCell(createCellOuterColumnBorders("", NORMAL_FONT, true, false, true, true));   // Tax credit
+        return table3;
+    }
 
-        document.close();
-        return baos.toByteArray();
+    // Helper: put a value into a cell of a copied template (the copy owns its cells)
+    private static void fill(PdfPTable table, int row, int col, String text) {
+        table.getRow(row).getCells()[col].setPhrase(new Paragraph(text, NORMAL_FONT));
     }
 
     // Helper: create table cell with custom borders
@@ -200,4 +238,25 @@ public class PdfGeneratorUtil {
         cell.setBorderWidth(1f);
         return cell;
     }
+
+    /**
+     * Sets the logo printed on every payslip (JPG/PNG bytes).
+     * Called once at startup with the file stored under payslip.logo.
+     */
+    public static void setLogo(byte[] imageBytes) throws IOException {
+        try {
+            Image logo = Image.getInstance(imageBytes);
+            logo.scaleToFit(120f, 120f);
+            logo.setAlignment(Element.ALIGN_RIGHT);
+            logoPrototype = logo;
+        } catch (BadElementException e) {
+            throw new IOException("Invalid logo image: " + e.getMessage(), e);
+        }
+    }
+
+    // Every payslip gets a light copy sharing the decoded image data
+    private static Image copyLogo() {
+        Image prototype = logoPrototype;
+        return prototype != null ? Image.getInstance(prototype) : null;
+    }
 }
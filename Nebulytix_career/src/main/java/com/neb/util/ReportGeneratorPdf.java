@@ -1,11 +1,15 @@
 package com.neb.util;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.itextpdf.text.Chunk;
 import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Element;
 import com.itextpdf.text.Font;
 import com.itextpdf.text.FontFactory;
@@ -15,20 +19,37 @@ import com.itextpdf.text.Phrase;
 import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
 import com.itextpdf.text.pdf.PdfWriter;
-import com.neb.entity.Work;
+import com.neb.dto.DailyReportRow;
 
+/**
+ * Daily work report PDF.
+ *
+ * The table is built incrementally (PdfPTable.setComplete(false)):
+ * every FLUSH_ROWS rows the finished rows are laid out and written to
+ * the output stream, so memory use does not grow with the number of
+ * tasks and the first pages reach the client while later rows are
+ * still being read.
+ */
 public class ReportGeneratorPdf {
 
-	public byte[] generateDailyReportPDF(List<Work> works,LocalDate date) throws Exception {
-		
-	    if (works == null || works.isEmpty()) {
-	        // optional: still create PDF with “no data” message
-	    }
+	private static final int FLUSH_ROWS = 200;
 
+	public byte[] generateDailyReportPDF(List<DailyReportRow> works,LocalDate date) throws Exception {
 	    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+	    writeDailyReportPDF(works.stream(), date, baos);
+	    return baos.toByteArray();
+	}
+
+	/**
+	 * Writes the report for the given rows to {@code out}. The stream is
+	 * read once, front to back; {@code out} is left open.
+	 */
+	public void writeDailyReportPDF(Stream<DailyReportRow> works, LocalDate date, OutputStream out) throws DocumentException {
+
 	    // Use landscape page size: A4.rotate()
 	    Document document = new Document(PageSize.A4.rotate(), 20f, 20f, 20f, 20f);
-	    PdfWriter.getInstance(document, baos);
+	    PdfWriter writer = PdfWriter.getInstance(document, out);
+	    writer.setCloseStream(false);
 	    document.open();
 
 	    // Title / header row
@@ -49,6 +70,8 @@ public class ReportGeneratorPdf {
 	    table.setWidthPercentage(100f);
 	    table.setSpacingBefore(10f);
 	    table.setSpacingAfter(10f);
+	    // rows are added in parts, see FLUSH_ROWS
+	    table.setComplete(false);
 
 	    // Set column widths (you can tweak these)
 	    float[] columnWidths = {2f, 3f, 3f, 4f, 2f, 6f};
@@ -66,13 +89,16 @@ public class ReportGeneratorPdf {
 
 	    // Fill table rows
 	    Font rowFont = FontFactory.getFont(FontFactory.HELVETICA, 11);
-	    for (Work w : works) {
-	        String cardNo = w.getEmployee().getCardNumber();
-	        String name = w.getEmployee().getFirstName() + " " + w.getEmployee().getLastName();
-	        String role = w.getEmployee().getJobRole();            // adjust if your entity uses different field
-	        String taskTitle = w.getTitle();
-	        String status = w.getStatus() != null ? w.getStatus().name() : "";
-	        String reportDetails = w.getReportDetails() != null ? w.getReportDetails() : "";
+	    int rows = 0;
+	    Iterator<DailyReportRow> it = works.iterator();
+	    while (it.hasNext()) {
+	        DailyReportRow w = it.next();
+	        String cardNo = w.cardNumber();
+	        String name = w.firstName() + " " + w.lastName();
+	        String role = w.jobRole();
+	        String taskTitle = w.title();
+	        String status = w.status() != null ? w.status().name() : "";
+	        String reportDetails = w.reportDetails() != null ? w.reportDetails() : "";
 
 	        table.addCell(new PdfPCell(new Phrase(cardNo, rowFont)));
 	        table.addCell(new PdfPCell(new Phrase(name, rowFont)));
@@ -80,10 +106,18 @@ public class ReportGeneratorPdf {
 	        table.addCell(new PdfPCell(new Phrase(taskTitle, rowFont)));
 	        table.addCell(new PdfPCell(new Phrase(status, rowFont)));
 	        table.addCell(new PdfPCell(new Phrase(reportDetails, rowFont)));
+
+	        if (++rows % FLUSH_ROWS == 0) {
+	            // writes the rows added so far and drops them from the table
+	            document.add(table);
+	        }
 	    }
+	    table.setComplete(true);
 	    document.add(table);
-	    document.close();
 
-	    return baos.toByteArray();
+	    if (rows == 0) {
+	        document.add(new Paragraph("No reports were submitted on this date.", dateFont));
+	    }
+	    document.close();
 	}
 }
@@ -0,0 +1,91 @@
+/**
+ * ---------------------------------------------------------------------
+ * File Name   : TimingWheel.java
+ * Package     : com.neb.util
+ * ---------------------------------------------------------------------
+ * Purpose :
+ *   Hashed timing wheel: holds many timers and hands back the expired
+ *   ones, with O(1) insert and no per-timer thread or sorting.
+ *
+ * Description :
+ *   - Time is cut into ticks of tickMillis. A timer goes into slot
+ *     (expiry tick % wheelSize); timers more than one turn away stay
+ *     in their slot until the turn they expire in.
+ *   - advance(now) walks the slots of the ticks that passed since the
+ *     last call and returns the timers that are due. After a long
+ *     pause every slot is walked once, so nothing is skipped.
+ *   - Timers already due when added expire on the next tick.
+ *   - Methods are synchronized: one thread advances, others may add.
+ * ---------------------------------------------------------------------
+ */
+
+package com.neb.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class TimingWheel<T> {
+
+    private record Timer<T>(T item, long expiryTick) {
+    }
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final ArrayDeque<Timer<T>>[] slots;
+
+    // next tick to process
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        int n = Integer.highestOneBit(Math.max(2, wheelSize - 1)) << 1; // power of two
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = n - 1;
+        this.slots = new ArrayDeque[n];
+        for (int i = 0; i < n; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+    }
+
+    public synchronized void add(T item, long deadlineMillis) {
+        // round up: a timer never fires before its deadline
+        long tick = Math.max(currentTick, Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis));
+        slots[(int) (tick & mask)].add(new Timer<>(item, tick));
+        size++;
+    }
+
+    // Timers whose deadline is at or before nowMillis, removed from the wheel
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        if (targetTick < currentTick) {
+            return List.of();
+        }
+        List<T> expired = new ArrayList<>();
+        long steps = Math.min(targetTick - currentTick + 1, slots.length);
+        for (long i = 0; i < steps; i++) {
+            Iterator<Timer<T>> it = slots[(int) ((currentTick + i) & mask)].iterator();
+            while (it.hasNext()) {
+                Timer<T> timer = it.next();
+                if (timer.expiryTick() <= targetTick) {
+                    expired.add(timer.item());
+                    it.remove();
+                }
+            }
+        }
+        currentTick = targetTick + 1;
+        size -= expired.size();
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
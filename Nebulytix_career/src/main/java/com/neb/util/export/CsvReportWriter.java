@@ -0,0 +1,84 @@
+package com.neb.util.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CSV (RFC 4180, UTF-8). Rows go through a small buffer straight to
+ * the output stream.
+ *
+ * The title is not written (the first line is the header row).
+ * Text starting with = + - @ is prefixed with ' so spreadsheet
+ * programs do not run it as a formula.
+ */
+public class CsvReportWriter implements ReportWriter {
+
+    private final Writer out;
+
+    public CsvReportWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public void header(String title, List<String> columns) throws IOException {
+        writeLine(columns.toArray());
+    }
+
+    @Override
+    public void row(Object... values) throws IOException {
+        writeLine(values);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    private void writeLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeField(values[i]);
+        }
+        out.write("\r\n");
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Double d) {
+            out.write(BigDecimal.valueOf(d).setScale(2, RoundingMode.HALF_UP).toPlainString());
+            return;
+        }
+        if (value instanceof BigDecimal amount) {
+            out.write(amount.setScale(2, RoundingMode.HALF_UP).toPlainString());
+            return;
+        }
+        if (value instanceof Number) {
+            out.write(value.toString());
+            return;
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (quote) {
+            out.write('"');
+            out.write(text.replace("\"", "\"\""));
+            out.write('"');
+        } else {
+            out.write(text);
+        }
+    }
+}
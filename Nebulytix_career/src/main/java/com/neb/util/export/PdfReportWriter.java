@@ -0,0 +1,109 @@
+package com.neb.util.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.FontFactory;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+
+/**
+ * Printable PDF (A4 landscape) with the header row repeated on every
+ * page. Like ReportGeneratorPdf the table is incomplete
+ * (setComplete(false)) and is written out every FLUSH_ROWS rows, so
+ * pages leave memory as soon as they are full.
+ */
+public class PdfReportWriter implements ReportWriter {
+
+    private static final int FLUSH_ROWS = 200;
+
+    private final Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14);
+    private final Font headerFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9);
+    private final Font rowFont = FontFactory.getFont(FontFactory.HELVETICA, 8);
+
+    private final Document document;
+    private PdfPTable table;
+    private int rows;
+
+    public PdfReportWriter(OutputStream out) {
+        this.document = new Document(PageSize.A4.rotate(), 20f, 20f, 20f, 20f);
+        try {
+            PdfWriter.getInstance(document, out).setCloseStream(false);
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Could not create PDF writer", e);
+        }
+    }
+
+    @Override
+    public void header(String title, List<String> columns) throws IOException {
+        document.open();
+        Paragraph heading = new Paragraph(title, titleFont);
+        heading.setAlignment(Element.ALIGN_LEFT);
+        heading.setSpacingAfter(10f);
+        add(heading);
+
+        table = new PdfPTable(columns.size());
+        table.setWidthPercentage(100f);
+        table.setComplete(false);
+        for (String column : columns) {
+            table.addCell(new PdfPCell(new Phrase(column, headerFont)));
+        }
+        table.setHeaderRows(1);
+    }
+
+    @Override
+    public void row(Object... values) throws IOException {
+        for (Object value : values) {
+            PdfPCell cell = new PdfPCell(new Phrase(text(value), rowFont));
+            if (value instanceof Number) {
+                cell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+            }
+            table.addCell(cell);
+        }
+        if (++rows % FLUSH_ROWS == 0) {
+            add(table);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        table.setComplete(true);
+        add(table);
+        if (rows == 0) {
+            add(new Paragraph("No data for this report.", rowFont));
+        }
+        document.close();
+    }
+
+    private void add(Element element) throws IOException {
+        try {
+            document.add(element);
+        } catch (DocumentException e) {
+            throw new IOException("Could not write PDF: " + e.getMessage(), e);
+        }
+    }
+
+    private static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Double d) {
+            return BigDecimal.valueOf(d).setScale(2, RoundingMode.HALF_UP).toPlainString();
+        }
+        if (value instanceof BigDecimal amount) {
+            return amount.setScale(2, RoundingMode.HALF_UP).toPlainString();
+        }
+        return value.toString();
+    }
+}
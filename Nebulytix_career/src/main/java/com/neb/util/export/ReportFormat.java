@@ -0,0 +1,57 @@
+package com.neb.util.export;
+
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.springframework.http.MediaType;
+
+import com.neb.exception.CustomeException;
+
+/**
+ * Export formats and the writer used for each one.
+ *
+ * CSV is the fastest and smallest, XLSX opens directly in Excel with
+ * numeric and date cells, PDF is meant for printing.
+ */
+public enum ReportFormat {
+
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"), CsvReportWriter::new),
+    XLSX("xlsx", MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+            XlsxReportWriter::new),
+    PDF("pdf", MediaType.APPLICATION_PDF, PdfReportWriter::new);
+
+    private final String extension;
+    private final MediaType mediaType;
+    private final Function<OutputStream, ReportWriter> factory;
+
+    ReportFormat(String extension, MediaType mediaType, Function<OutputStream, ReportWriter> factory) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+        this.factory = factory;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public ReportWriter newWriter(OutputStream out) {
+        return factory.apply(out);
+    }
+
+    // "csv", "xlsx" or "pdf" (any case); CSV when not given
+    public static ReportFormat from(String format) {
+        if (format == null || format.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CustomeException("Unsupported format: " + format + " (use csv, xlsx or pdf)");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.neb.util.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * ---------------------------------------------------------------
+ * File Name   : ReportWriter.java
+ * Package     : com.neb.util.export
+ * ---------------------------------------------------------------
+ * Purpose :
+ *   Writes one tabular report (title, header row, data rows) in a
+ *   specific file format.
+ *
+ * Description :
+ *   - Usage: header(...) once, row(...) for every record, then
+ *     finish(). close() frees temp files and must always be called.
+ *   - Rows are written as they arrive; implementations keep only a
+ *     small window of rows in memory, so a report can be fed from
+ *     a database cursor of any size.
+ *   - Cell values may be String, Number, LocalDate, LocalDateTime,
+ *     an enum or null. Double and BigDecimal values are amounts and
+ *     are shown with two decimals.
+ *   - The output stream is never closed by the writer.
+ * ---------------------------------------------------------------
+ */
+public interface ReportWriter extends Closeable {
+
+    void header(String title, List<String> columns) throws IOException;
+
+    void row(Object... values) throws IOException;
+
+    void finish() throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+}
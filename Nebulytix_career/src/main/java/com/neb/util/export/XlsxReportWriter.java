@@ -0,0 +1,115 @@
+package com.neb.util.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFCell;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * XLSX through POI's streaming workbook (SXSSF): only the last
+ * WINDOW_ROWS rows are kept in memory, older rows are flushed to a
+ * compressed temp file. finish() writes the workbook to the output
+ * stream; close() deletes the temp file.
+ *
+ * Amounts, counts and dates are real numeric / date cells, so they
+ * can be summed and filtered in Excel.
+ */
+public class XlsxReportWriter implements ReportWriter {
+
+    private static final int WINDOW_ROWS = 100;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private final CellStyle amountStyle;
+    private final CellStyle dateStyle;
+    private final CellStyle dateTimeStyle;
+    private int nextRow;
+
+    public XlsxReportWriter(OutputStream out) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(WINDOW_ROWS);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet("Report");
+        this.amountStyle = workbook.createCellStyle();
+        this.amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00"));
+        this.dateStyle = workbook.createCellStyle();
+        this.dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+        this.dateTimeStyle = workbook.createCellStyle();
+        this.dateTimeStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm"));
+    }
+
+    @Override
+    public void header(String title, List<String> columns) throws IOException {
+        Font bold = workbook.createFont();
+        bold.setBold(true);
+        CellStyle headerStyle = workbook.createCellStyle();
+        headerStyle.setFont(bold);
+
+        Row titleRow = sheet.createRow(nextRow++);
+        titleRow.createCell(0).setCellValue(title);
+        titleRow.getCell(0).setCellStyle(headerStyle);
+
+        Row headerRow = sheet.createRow(nextRow++);
+        for (int i = 0; i < columns.size(); i++) {
+            headerRow.createCell(i).setCellValue(columns.get(i));
+            headerRow.getCell(i).setCellStyle(headerStyle);
+            // fixed widths: auto-sizing would need every row in memory
+            sheet.setColumnWidth(i, Math.max(12, columns.get(i).length() + 4) * 256);
+        }
+        sheet.createFreezePane(0, nextRow);
+        sheet.setAutoFilter(new CellRangeAddress(nextRow - 1, nextRow - 1, 0, columns.size() - 1));
+    }
+
+    @Override
+    public void row(Object... values) {
+        Row row = sheet.createRow(nextRow++);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            SXSSFCell cell = (SXSSFCell) row.createCell(i);
+            if (value instanceof Double d) {
+                cell.setCellValue(d);
+                cell.setCellStyle(amountStyle);
+            } else if (value instanceof BigDecimal amount) {
+                // Excel stores numbers as doubles; the exact value is only rounded here
+                cell.setCellValue(amount.doubleValue());
+                cell.setCellStyle(amountStyle);
+            } else if (value instanceof Number n) {
+                cell.setCellValue(n.doubleValue());
+            } else if (value instanceof LocalDate date) {
+                cell.setCellValue(date);
+                cell.setCellStyle(dateStyle);
+            } else if (value instanceof LocalDateTime dateTime) {
+                cell.setCellValue(dateTime);
+                cell.setCellStyle(dateTimeStyle);
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        workbook.write(out);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // also deletes the temp file holding the flushed rows
+        workbook.close();
+    }
+}
@@ -0,0 +1,113 @@
+package com.neb.util.payroll;
+
+import java.math.BigDecimal;
+
+/**
+ * Salary breakdown of many employees, one array per column; row i of
+ * every array belongs to the i-th employee given to PayrollEngine.
+ * All amounts are in paise.
+ */
+public class PayrollBatch {
+
+    final int size;
+    final long[] salary;
+    final int[] rule;
+
+    final long[] basic;
+    final long[] hra;
+    final long[] flexi;
+    final long[] gross;
+    final long[] pf;
+    final long[] profTax;
+    final long[] deductions;
+    final long[] net;
+    final long[] taxCredit;
+
+    PayrollBatch(long[] salary, int[] rule) {
+        this.size = salary.length;
+        this.salary = salary;
+        this.rule = rule;
+        this.basic = new long[size];
+        this.hra = new long[size];
+        this.flexi = new long[size];
+        this.gross = new long[size];
+        this.pf = new long[size];
+        this.profTax = new long[size];
+        this.deductions = new long[size];
+        this.net = new long[size];
+        this.taxCredit = new long[size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long salary(int row) {
+        return salary[row];
+    }
+
+    public long basic(int row) {
+        return basic[row];
+    }
+
+    public long hra(int row) {
+        return hra[row];
+    }
+
+    public long flexi(int row) {
+        return flexi[row];
+    }
+
+    public long gross(int row) {
+        return gross[row];
+    }
+
+    public long pf(int row) {
+        return pf[row];
+    }
+
+    public long profTax(int row) {
+        return profTax[row];
+    }
+
+    public long deductions(int row) {
+        return deductions[row];
+    }
+
+    public long net(int row) {
+        return net[row];
+    }
+
+    public long taxCredit(int row) {
+        return taxCredit[row];
+    }
+
+    public long totalGross() {
+        return sum(gross);
+    }
+
+    public long totalDeductions() {
+        return sum(deductions);
+    }
+
+    public long totalNet() {
+        return sum(net);
+    }
+
+    private long sum(long[] column) {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += column[i];
+        }
+        return total;
+    }
+
+    // Paise → rupees for the entity / DTO fields (exact up to 2^53 paise)
+    public static double rupees(long paise) {
+        return paise / 100.0;
+    }
+
+    public static BigDecimal toDecimal(long paise) {
+        return BigDecimal.valueOf(paise, 2);
+    }
+}
@@ -0,0 +1,166 @@
+package com.neb.util.payroll;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.neb.entity.Employee;
+
+/**
+ * ---------------------------------------------------------------------
+ * File Name   : PayrollEngine.java
+ * Package     : com.neb.util.payroll
+ * ---------------------------------------------------------------------
+ * Purpose :
+ *   Calculates salary components and deductions for a whole batch of
+ *   employees at once.
+ *
+ * Description :
+ *   - Works on primitive columns (PayrollBatch): the salaries are
+ *     converted to paise and the rule of each employee is looked up
+ *     once, then one tight loop over long[] arrays does the maths.
+ *     No objects are created per employee.
+ *   - Exact decimal arithmetic: every share is a long in paise,
+ *     rounded half-up once. When basic + hra + flexi is 100%, flexi
+ *     takes the remainder so gross equals the salary to the paisa.
+ *   - Rules per domain / job role come from PayrollRules.
+ *   - Immutable and thread safe; one instance is shared (PayrollConfig).
+ * ---------------------------------------------------------------------
+ */
+public class PayrollEngine {
+
+    private static final long BP = 10000;
+
+    private final PayrollRules rules;
+
+    // rule table as columns, indexed by rule number
+    private final long[] basicBp;
+    private final long[] hraBp;
+    private final long[] flexiBp;
+    private final boolean[] flexiIsRemainder;
+    private final long[] pfBp;
+    private final long[] profTaxPaise;
+    private final long[] taxCreditBp;
+
+    public PayrollEngine(PayrollRules rules) {
+        this.rules = rules;
+        int n = rules.size();
+        basicBp = new long[n];
+        hraBp = new long[n];
+        flexiBp = new long[n];
+        flexiIsRemainder = new boolean[n];
+        pfBp = new long[n];
+        profTaxPaise = new long[n];
+        taxCreditBp = new long[n];
+        for (int r = 0; r < n; r++) {
+            PayrollRule rule = rules.get(r);
+            basicBp[r] = rule.basicBp();
+            hraBp[r] = rule.hraBp();
+            flexiBp[r] = rule.flexiBp();
+            flexiIsRemainder[r] = rule.basicBp() + rule.hraBp() + rule.flexiBp() == BP;
+            pfBp[r] = rule.pfBp();
+            profTaxPaise[r] = rule.profTaxPaise();
+            taxCreditBp[r] = rule.taxCreditBp();
+        }
+    }
+
+    public static PayrollEngine standard() {
+        return new PayrollEngine(PayrollRules.standard());
+    }
+
+    public PayrollRules getRules() {
+        return rules;
+    }
+
+    public PayrollBatch calculate(List<Employee> employees) {
+        int n = employees.size();
+        long[] salary = new long[n];
+        int[] rule = new int[n];
+        RuleCache cache = new RuleCache();
+        for (int i = 0; i < n; i++) {
+            Employee emp = employees.get(i);
+            salary[i] = toPaise(emp.getSalary());
+            rule[i] = cache.indexFor(emp.getDomain(), emp.getJobRole());
+        }
+        return calculate(salary, rule);
+    }
+
+    /**
+     * Columnar input, e.g. straight from a projection query.
+     * The arrays are kept by the returned batch, not copied.
+     */
+    public PayrollBatch calculate(long[] salaryPaise, String[] domains, String[] jobRoles) {
+        int[] rule = new int[salaryPaise.length];
+        RuleCache cache = new RuleCache();
+        for (int i = 0; i < rule.length; i++) {
+            rule[i] = cache.indexFor(domains[i], jobRoles[i]);
+        }
+        return calculate(salaryPaise, rule);
+    }
+
+    private PayrollBatch calculate(long[] salary, int[] rule) {
+        PayrollBatch b = new PayrollBatch(salary, rule);
+        for (int i = 0; i < b.size; i++) {
+            int r = rule[i];
+            long s = salary[i];
+
+            long basic = share(s, basicBp[r]);
+            long hra = share(s, hraBp[r]);
+            long flexi = flexiIsRemainder[r] ? s - basic - hra : share(s, flexiBp[r]);
+            long gross = basic + hra + flexi;
+
+            long pf = share(basic, pfBp[r]);
+            long profTax = profTaxPaise[r];
+            long deductions = pf + profTax;
+            long net = gross - deductions;
+
+            b.basic[i] = basic;
+            b.hra[i] = hra;
+            b.flexi[i] = flexi;
+            b.gross[i] = gross;
+            b.pf[i] = pf;
+            b.profTax[i] = profTax;
+            b.deductions[i] = deductions;
+            b.net[i] = net;
+            b.taxCredit[i] = share(net, taxCreditBp[r]);
+        }
+        return b;
+    }
+
+    // amount * bp / 10000, rounded half-up; exact while amount < 9.2e14 paise
+    private static long share(long amount, long bp) {
+        return Math.floorDiv(amount * bp + BP / 2, BP);
+    }
+
+    // Salary in rupees (Double on the entity) → paise, rounded half-up; missing salary counts as 0
+    public static long toPaise(Double rupees) {
+        if (rupees == null || rupees.isNaN() || rupees.isInfinite()) {
+            return 0;
+        }
+        // usual case: a whole number of paise, rupees * 100 is that number give or take the binary error
+        double scaled = rupees * 100;
+        long rounded = Math.round(scaled);
+        if (Math.abs(scaled - rounded) < 1e-6 && Math.abs(scaled) < 1e15) {
+            return rounded;
+        }
+        return BigDecimal.valueOf(rupees).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    // Rule lookups of one batch; most employees share a few (domain, jobRole) pairs
+    private class RuleCache {
+
+        private final Map<String, Map<String, Integer>> byDomain = new HashMap<>();
+
+        int indexFor(String domain, String jobRole) {
+            Map<String, Integer> byRole = byDomain.computeIfAbsent(domain, d -> new HashMap<>());
+            Integer index = byRole.get(jobRole);
+            if (index == null) {
+                index = rules.indexFor(domain, jobRole);
+                byRole.put(jobRole, index);
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.neb.util.payroll;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Locale;
+
+/**
+ * How a monthly salary is split into components and deductions.
+ *
+ * Shares are stored in basis points (1/100 of a percent, 10000 = 100%)
+ * and fixed amounts in paise, so the engine only needs long arithmetic.
+ *
+ *   basic, hra, flexi → share of the salary
+ *   pf                → share of basic
+ *   profTax           → fixed amount per month
+ *   taxCredit         → share of the net salary
+ */
+public record PayrollRule(int basicBp, int hraBp, int flexiBp, int pfBp, long profTaxPaise, int taxCreditBp) {
+
+    // The split used before rules were configurable: 53 / 20 / 27, PF 12%, professional tax 200
+    public static final PayrollRule STANDARD = new PayrollRule(5300, 2000, 2700, 1200, 20000, 500);
+
+    public PayrollRule {
+        if (basicBp < 0 || hraBp < 0 || flexiBp < 0 || pfBp < 0 || profTaxPaise < 0 || taxCreditBp < 0) {
+            throw new IllegalArgumentException("Payroll rule values cannot be negative");
+        }
+        if (basicBp + hraBp + flexiBp > 10000) {
+            throw new IllegalArgumentException("basic + hra + flexi cannot be more than 100%");
+        }
+    }
+
+    /**
+     * Returns this rule with the given components replaced, e.g.
+     * "basic=60, hra=20, flexi=20, pf=12, prof-tax=0, tax-credit=5".
+     * Shares are percentages (up to two decimals), prof-tax is in rupees.
+     */
+    public PayrollRule with(String components) {
+        int basic = basicBp, hra = hraBp, flexi = flexiBp, pf = pfBp, taxCredit = taxCreditBp;
+        long profTax = profTaxPaise;
+        for (String part : components.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] kv = part.split("=", 2);
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Expected name=value in payroll rule: " + part.trim());
+            }
+            String name = kv[0].trim().toLowerCase(Locale.ROOT);
+            long value = hundredths(kv[1].trim());
+            switch (name) {
+                case "basic" -> basic = (int) value;
+                case "hra" -> hra = (int) value;
+                case "flexi" -> flexi = (int) value;
+                case "pf" -> pf = (int) value;
+                case "prof-tax" -> profTax = value;
+                case "tax-credit" -> taxCredit = (int) value;
+                default -> throw new IllegalArgumentException("Unknown payroll component: " + name);
+            }
+        }
+        return new PayrollRule(basic, hra, flexi, pf, profTax, taxCredit);
+    }
+
+    // "12.5" → 1250 (basis points for a percentage, paise for rupees)
+    private static long hundredths(String value) {
+        try {
+            return new BigDecimal(value).movePointRight(2).setScale(0, RoundingMode.UNNECESSARY).longValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid payroll value (max two decimals): " + value);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.neb.util.payroll;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The payroll rules of the company: a default rule plus overrides per
+ * domain, per job role, or per domain and job role together.
+ *
+ * Lookup order (most specific first):
+ *   "Java/developer" → "role:developer" → "domain:Java" → default
+ * Names are compared without case and surrounding spaces.
+ *
+ * Written as (see payroll.rules.overrides):
+ *   role:intern -> basic=60, hra=20, flexi=20, prof-tax=0; Java/developer -> basic=50, hra=25, flexi=25
+ * Components an override leaves out are taken from the default rule.
+ */
+public class PayrollRules {
+
+    private final PayrollRule defaultRule;
+    private final List<PayrollRule> rules = new ArrayList<>();
+    private final Map<String, Integer> byScope = new HashMap<>();
+
+    public PayrollRules(PayrollRule defaultRule) {
+        this.defaultRule = defaultRule;
+        rules.add(defaultRule);
+    }
+
+    public static PayrollRules standard() {
+        return new PayrollRules(PayrollRule.STANDARD);
+    }
+
+    /**
+     * @param defaults  components of the default rule, applied on top of PayrollRule.STANDARD
+     * @param overrides "scope -> components" entries separated by ';'
+     */
+    public static PayrollRules parse(String defaults, String overrides) {
+        PayrollRules parsed = new PayrollRules(PayrollRule.STANDARD.with(defaults == null ? "" : defaults));
+        if (overrides == null || overrides.isBlank()) {
+            return parsed;
+        }
+        for (String entry : overrides.split(";")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("->", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected 'scope -> components' in payroll rule: " + entry.trim());
+            }
+            parsed.put(parts[0], parsed.defaultRule.with(parts[1]));
+        }
+        return parsed;
+    }
+
+    // scope: "domain:<domain>", "role:<jobRole>" or "<domain>/<jobRole>"
+    public PayrollRules put(String scope, PayrollRule rule) {
+        String key = scope.trim();
+        String lower = key.toLowerCase(Locale.ROOT);
+        if (lower.startsWith("domain:")) {
+            key = key(key.substring(7), null);
+        } else if (lower.startsWith("role:")) {
+            key = key(null, key.substring(5));
+        } else if (key.contains("/")) {
+            String[] dr = key.split("/", 2);
+            key = key(dr[0], dr[1]);
+        } else {
+            throw new IllegalArgumentException("Unknown payroll rule scope: " + scope.trim()
+                    + " (use domain:<domain>, role:<jobRole> or <domain>/<jobRole>)");
+        }
+        rules.add(rule);
+        byScope.put(key, rules.size() - 1);
+        return this;
+    }
+
+    public PayrollRule getDefaultRule() {
+        return defaultRule;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    PayrollRule get(int index) {
+        return rules.get(index);
+    }
+
+    // Index of the rule for an employee (0 = default rule)
+    int indexFor(String domain, String jobRole) {
+        if (byScope.isEmpty()) {
+            return 0;
+        }
+        Integer index = byScope.get(key(domain, jobRole));
+        if (index == null) {
+            index = byScope.get(key(null, jobRole));
+        }
+        if (index == null) {
+            index = byScope.get(key(domain, null));
+        }
+        return index != null ? index : 0;
+    }
+
+    private static String key(String domain, String jobRole) {
+        return normalize(domain) + "/" + normalize(jobRole);
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "*" : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,140 @@
+package com.neb.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neb.dto.AuthUser;
+import com.neb.service.impl.AuthTokenServiceImpl;
+
+class AuthTokenFilterTest {
+
+	private AuthTokenServiceImpl tokenService;
+	private AuthTokenFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		tokenService = new AuthTokenServiceImpl();
+		ReflectionTestUtils.setField(tokenService, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(tokenService, "secret", "0123456789abcdef0123456789abcdef");
+		ReflectionTestUtils.setField(tokenService, "ttlMinutes", 60L);
+		ReflectionTestUtils.invokeMethod(tokenService, "initKey");
+		filter = new AuthTokenFilter(tokenService, new ObjectMapper());
+	}
+
+	// requestUri is the raw URI, servletPath what the container decoded and normalized
+	private static MockHttpServletRequest rawRequest(String requestUri, String servletPath) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+		request.setServletPath(servletPath);
+		return request;
+	}
+
+	private MockHttpServletRequest request(String path, String role) {
+		MockHttpServletRequest request = rawRequest(path, path);
+		if (role != null) {
+			request.addHeader("Authorization", "Bearer " + tokenService.issue(1L, "a@neb.com", role));
+		}
+		return request;
+	}
+
+	private MockFilterChain filter(MockHttpServletRequest request, MockHttpServletResponse response)
+			throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		filter.doFilter(request, response, chain);
+		return chain;
+	}
+
+	@Test
+	void encodedPathIsRejected() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = filter(rawRequest("/api/%61dmin/employees", "/api/admin/employees"), response);
+
+		assertEquals(400, response.getStatus());
+		assertNull(chain.getRequest());
+	}
+
+	@Test
+	void pathParameterIsRejected() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = filter(rawRequest("/api/admin;x=1/employees", "/api/admin/employees"), response);
+
+		assertEquals(400, response.getStatus());
+		assertNull(chain.getRequest());
+	}
+
+	@Test
+	void dotSegmentIsRejected() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = filter(rawRequest("/api/hr/../admin/employees", "/api/admin/employees"), response);
+
+		assertEquals(400, response.getStatus());
+		assertNull(chain.getRequest());
+	}
+
+	@Test
+	void missingTokenIsUnauthorized() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = filter(request("/api/admin/employees", null), response);
+
+		assertEquals(401, response.getStatus());
+		assertEquals("Bearer", response.getHeader("WWW-Authenticate"));
+		assertNull(chain.getRequest());
+	}
+
+	@Test
+	void invalidTokenIsUnauthorized() throws Exception {
+		MockHttpServletRequest request = request("/api/admin/employees", null);
+		request.addHeader("Authorization", "Bearer not-a-token");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter(request, response);
+
+		assertEquals(401, response.getStatus());
+	}
+
+	@Test
+	void wrongRoleIsForbidden() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = filter(request("/api/admin/employees", "employee"), response);
+
+		assertEquals(403, response.getStatus());
+		assertNull(chain.getRequest());
+	}
+
+	@Test
+	void prefixWithoutTrailingSlashIsProtected() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter(request("/api/admin", null), response);
+
+		assertEquals(401, response.getStatus());
+	}
+
+	@Test
+	void validTokenPassesWithCaller() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = filter(request("/api/jobs/12", "employee"), response);
+
+		assertEquals(200, response.getStatus());
+		assertNotNull(chain.getRequest());
+		AuthUser user = (AuthUser) chain.getRequest().getAttribute(AuthUser.REQUEST_ATTRIBUTE);
+		assertEquals("employee", user.role());
+	}
+
+	@Test
+	void loginAndPreflightNeedNoToken() throws Exception {
+		MockFilterChain login = filter(request("/api/admin/login", null), new MockHttpServletResponse());
+		assertNotNull(login.getRequest());
+
+		MockHttpServletRequest preflight = request("/api/hr/employees", null);
+		preflight.setMethod("OPTIONS");
+		assertNotNull(filter(preflight, new MockHttpServletResponse()).getRequest());
+	}
+}
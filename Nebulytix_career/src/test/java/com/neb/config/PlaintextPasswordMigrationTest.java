@@ -0,0 +1,61 @@
+package com.neb.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.neb.entity.Employee;
+import com.neb.repo.EmployeeRepository;
+import com.neb.util.PasswordHasher;
+
+@SpringBootTest
+class PlaintextPasswordMigrationTest {
+
+	@Autowired
+	private PlaintextPasswordMigration migration;
+
+	@Autowired
+	private PasswordHasher passwordHasher;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private Long employee(String email, String password, String status) {
+		Employee emp = new Employee();
+		emp.setEmail(email);
+		emp.setLoginRole("employee");
+		emp.setPassword(password);
+		emp.setEmpStatus(status);
+		return empRepo.save(emp).getId();
+	}
+
+	private String password(Long id) {
+		return jdbc.queryForObject("select password from employees where id = ?", String.class, id);
+	}
+
+	@Test
+	void plaintextPasswordsAreHashedOnce() {
+		Long active = employee("migrate-active@neb.test", "pw-active", "active");
+		Long inactive = employee("migrate-inactive@neb.test", "pw-inactive", "inactive");
+		String hashed = passwordHasher.hash("pw-hashed");
+		Long alreadyHashed = employee("migrate-hashed@neb.test", hashed, "active");
+		Long none = employee("migrate-none@neb.test", null, "active");
+
+		assertTrue(migration.migrate() >= 2);
+
+		assertTrue(passwordHasher.verify("pw-active", password(active)));
+		assertTrue(password(active).startsWith(PasswordHasher.PREFIX));
+		assertTrue(passwordHasher.verify("pw-inactive", password(inactive)));
+		assertEquals(hashed, password(alreadyHashed));
+		assertNull(password(none));
+		assertEquals(0, migration.migrate());
+	}
+}
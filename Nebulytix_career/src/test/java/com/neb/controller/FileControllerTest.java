@@ -0,0 +1,86 @@
+package com.neb.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.neb.service.StorageService;
+
+@SpringBootTest(properties = "storage.local.root=${java.io.tmpdir}/neb-test-storage")
+@AutoConfigureMockMvc
+class FileControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private StorageService storage;
+
+	@Value("${task.attachment}")
+	private String taskFolder;
+
+	private final byte[] content = new byte[10_000];
+
+	private String url;
+
+	@BeforeEach
+	void attachment() throws Exception {
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		String fileName = UUID.randomUUID() + ".txt";
+		storage.write(taskFolder + "/" + fileName, content);
+		url = "/uploads/tasks/" + fileName;
+	}
+
+	@Test
+	void fullDownloadHasLengthAndValidators() throws Exception {
+		byte[] body = mockMvc.perform(get(url))
+				.andExpect(status().isOk())
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, content.length))
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		assertArrayEquals(content, body);
+	}
+
+	@Test
+	void matchingETagAnswersNotModified() throws Exception {
+		String eTag = mockMvc.perform(get(url)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotNull(eTag);
+
+		mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().bytes(new byte[0]));
+	}
+
+	@Test
+	void rangeAnswersPartialContent() throws Exception {
+		mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=100-199"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/" + content.length))
+				.andExpect(content().bytes(Arrays.copyOfRange(content, 100, 200)));
+	}
+
+	@Test
+	void pathsAndMissingFilesAreNotFound() throws Exception {
+		mockMvc.perform(get("/uploads/tasks/.hidden")).andExpect(status().isNotFound());
+		mockMvc.perform(get("/uploads/tasks/" + UUID.randomUUID() + ".txt")).andExpect(status().isNotFound());
+	}
+}
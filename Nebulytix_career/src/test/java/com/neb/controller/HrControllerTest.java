@@ -0,0 +1,112 @@
+package com.neb.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.neb.entity.Employee;
+import com.neb.entity.Payslip;
+import com.neb.repo.EmployeeRepository;
+import com.neb.repo.PayslipRepository;
+import com.neb.service.AuthTokenService;
+import com.neb.service.StorageService;
+
+@SpringBootTest(properties = "storage.local.root=${java.io.tmpdir}/neb-test-storage")
+@AutoConfigureMockMvc
+class HrControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private StorageService storage;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	@Autowired
+	private PayslipRepository payslipRepo;
+
+	@Autowired
+	private AuthTokenService tokenService;
+
+	// stands in for a rendered PDF; the download only streams the stored file
+	private final byte[] pdf = new byte[20_000];
+
+	private Long payslipId;
+
+	@BeforeEach
+	void storedPayslip() throws Exception {
+		Arrays.fill(pdf, (byte) 'x');
+		Employee emp = new Employee();
+		emp.setFirstName("Download");
+		emp.setLoginRole("employee");
+		emp = empRepo.save(emp);
+
+		String key = "payslips/test/" + UUID.randomUUID() + ".pdf";
+		storage.write(key, pdf);
+		Payslip p = new Payslip();
+		p.setEmployee(emp);
+		p.setPayslipMonth("June 2099");
+		p.setGeneratedDate(LocalDateTime.now());
+		p.setPdfPath(key);
+		payslipId = payslipRepo.save(p).getId();
+	}
+
+	private MockHttpServletRequestBuilder download() {
+		return get("/api/hr/payslip/" + payslipId + "/download")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.issue(1L, "hr@neb.test", "hr"));
+	}
+
+	@Test
+	void payslipIsStreamedWithValidators() throws Exception {
+		byte[] body = mockMvc.perform(download())
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_PDF))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, pdf.length))
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		assertArrayEquals(pdf, body);
+	}
+
+	@Test
+	void unchangedPayslipAnswersNotModified() throws Exception {
+		String eTag = mockMvc.perform(download()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotNull(eTag);
+
+		mockMvc.perform(download().header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void rangeOfPayslipAnswersPartialContent() throws Exception {
+		mockMvc.perform(download().header(HttpHeaders.RANGE, "bytes=0-1023"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-1023/" + pdf.length))
+				.andExpect(content().bytes(Arrays.copyOf(pdf, 1024)));
+	}
+
+	@Test
+	void downloadNeedsAToken() throws Exception {
+		mockMvc.perform(get("/api/hr/payslip/" + payslipId + "/download"))
+				.andExpect(status().isUnauthorized());
+	}
+}
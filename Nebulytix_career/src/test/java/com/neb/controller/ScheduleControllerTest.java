@@ -0,0 +1,131 @@
+package com.neb.controller;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.neb.dto.ScheduleDTO;
+import com.neb.entity.Employee;
+import com.neb.repo.EmployeeRepository;
+import com.neb.repo.ScheduleRepository;
+import com.neb.service.ScheduleService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ScheduleControllerTest {
+
+	private static final LocalDateTime FROM = LocalDateTime.of(2099, 5, 1, 0, 0);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ScheduleService scheduleService;
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	private Long employeeId;
+
+	@BeforeEach
+	void employee() {
+		Employee emp = new Employee();
+		emp.setFirstName("Feed");
+		emp.setLoginRole("employee");
+		employeeId = empRepo.save(emp).getId();
+	}
+
+	private Long schedule(int day) {
+		ScheduleDTO dto = new ScheduleDTO();
+		dto.setTitle("Review " + day);
+		dto.setEmployeeId(employeeId);
+		dto.setStartTime(FROM.plusDays(day).plusHours(10));
+		dto.setEndTime(FROM.plusDays(day).plusHours(11));
+		return scheduleService.createSchedule(dto, false).getId();
+	}
+
+	private MockHttpServletRequestBuilder feed(String format) {
+		return get("/api/schedules/feed")
+				.param("employeeIds", String.valueOf(employeeId))
+				.param("from", FROM.toString())
+				.param("to", FROM.plusDays(30).toString())
+				.param("format", format);
+	}
+
+	private String eTag(String format) throws Exception {
+		String eTag = mockMvc.perform(feed(format)).andExpect(status().isOk())
+				.andReturn().getResponse().getHeader("ETag");
+		assertNotNull(eTag);
+		return eTag;
+	}
+
+	@Test
+	void unchangedFeedAnswersNotModified() throws Exception {
+		schedule(1);
+		String eTag = eTag("json");
+
+		mockMvc.perform(feed("json").header("If-None-Match", eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+	}
+
+	@Test
+	void feedChangesWithTheWindow() throws Exception {
+		Long first = schedule(1);
+		String before = eTag("json");
+
+		Long second = schedule(2);
+		String added = eTag("json");
+		assertNotEquals(before, added);
+		mockMvc.perform(feed("json").header("If-None-Match", before))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(2));
+
+		scheduleRepository.deleteById(first);
+		String deleted = eTag("json");
+		assertNotEquals(added, deleted);
+
+		scheduleRepository.findById(second).ifPresent(s -> {
+			s.setTitle("Renamed");
+			scheduleRepository.save(s);
+		});
+		assertNotEquals(deleted, eTag("json"));
+	}
+
+	@Test
+	void icsAndJsonHaveTheirOwnETag() throws Exception {
+		schedule(3);
+		String json = eTag("json");
+		String ics = eTag("ics");
+
+		assertNotEquals(json, ics);
+		mockMvc.perform(feed("ics").header("If-None-Match", json)).andExpect(status().isOk());
+		mockMvc.perform(feed("ics").header("If-None-Match", ics)).andExpect(status().isNotModified());
+		String body = mockMvc.perform(feed("ics")).andReturn().getResponse().getContentAsString();
+		assertTrue(body.startsWith("BEGIN:VCALENDAR"), body);
+	}
+
+	@Test
+	void emptyWindowStillAnswersNotModified() throws Exception {
+		String eTag = eTag("json");
+
+		mockMvc.perform(feed("json").header("If-None-Match", eTag)).andExpect(status().isNotModified());
+	}
+}
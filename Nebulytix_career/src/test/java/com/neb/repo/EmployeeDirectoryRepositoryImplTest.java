@@ -0,0 +1,135 @@
+package com.neb.repo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.neb.dto.EmployeeDirectoryEntry;
+import com.neb.dto.EmployeeDirectoryPageDto;
+import com.neb.dto.EmployeeDirectoryQuery;
+import com.neb.entity.Employee;
+import com.neb.exception.CustomeException;
+
+@SpringBootTest(properties = "storage.local.root=${java.io.tmpdir}/neb-test-storage")
+class EmployeeDirectoryRepositoryImplTest {
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	// a domain of its own keeps other test classes' employees out of the pages
+	private final String domain = "dir-" + UUID.randomUUID();
+
+	private final List<Employee> employees = new ArrayList<>();
+
+	@BeforeEach
+	void employees() {
+		// duplicate names and dates force the id tie-break, nulls sit in between
+		String[] names = { "Asha", null, "Ravi", "Asha", null, "Zoya", "Ravi", null };
+		LocalDate[] joined = { LocalDate.of(2020, 1, 1), null, LocalDate.of(2021, 6, 1), null,
+				LocalDate.of(2020, 1, 1), LocalDate.of(2019, 3, 3), null, LocalDate.of(2021, 6, 1) };
+		for (int i = 0; i < names.length; i++) {
+			Employee emp = new Employee();
+			emp.setFirstName(names[i]);
+			emp.setJoiningDate(joined[i]);
+			emp.setLoginRole("employee");
+			emp.setDomain(domain);
+			employees.add(empRepo.save(emp));
+		}
+	}
+
+	private List<Long> walk(String sort, String direction, int size) {
+		List<Long> ids = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			EmployeeDirectoryQuery query = new EmployeeDirectoryQuery();
+			query.setDomain(domain);
+			query.setSort(sort);
+			query.setDirection(direction);
+			query.setSize(size);
+			query.setCursor(cursor);
+			EmployeeDirectoryPageDto page = empRepo.findDirectoryPage(query, List.of("admin", "hr"));
+			page.getItems().stream().map(EmployeeDirectoryEntry::id).forEach(ids::add);
+			assertTrue(page.getItems().size() <= size);
+			cursor = page.getNextCursor();
+			assertEquals(cursor != null, page.isHasMore());
+			assertTrue(++pages <= employees.size(), "paging does not end");
+		} while (cursor != null);
+		return ids;
+	}
+
+	// nulls are the smallest key, ties are broken by id in the same direction
+	private <T extends Comparable<? super T>> List<Long> expected(Function<Employee, T> key, boolean asc) {
+		Comparator<Employee> order = Comparator.comparing(key, Comparator.nullsFirst(Comparator.<T>naturalOrder()))
+				.thenComparing(Employee::getId);
+		return employees.stream()
+				.sorted(asc ? order : order.reversed())
+				.map(Employee::getId)
+				.toList();
+	}
+
+	@Test
+	void nameSortWalksEveryRowOnceInBothDirections() {
+		for (int size : new int[] { 1, 2, 3 }) {
+			assertEquals(expected(Employee::getFirstName, true), walk("name", "asc", size));
+			assertEquals(expected(Employee::getFirstName, false), walk("name", "desc", size));
+		}
+	}
+
+	@Test
+	void joiningDateSortWalksEveryRowOnceInBothDirections() {
+		for (int size : new int[] { 1, 2, 3 }) {
+			assertEquals(expected(Employee::getJoiningDate, true), walk("joiningDate", "asc", size));
+			assertEquals(expected(Employee::getJoiningDate, false), walk("joiningDate", "desc", size));
+		}
+	}
+
+	@Test
+	void idSortDescending() {
+		assertEquals(expected(Employee::getId, false), walk("id", "desc", 3));
+	}
+
+	@Test
+	void lastPageHasNoCursor() {
+		EmployeeDirectoryQuery query = new EmployeeDirectoryQuery();
+		query.setDomain(domain);
+		query.setSize(employees.size());
+
+		EmployeeDirectoryPageDto page = empRepo.findDirectoryPage(query, List.of());
+
+		assertEquals(employees.size(), page.getItems().size());
+		assertFalse(page.isHasMore());
+		assertNull(page.getNextCursor());
+	}
+
+	@Test
+	void cursorOfAnotherSortIsRejected() {
+		EmployeeDirectoryQuery first = new EmployeeDirectoryQuery();
+		first.setDomain(domain);
+		first.setSort("name");
+		first.setSize(2);
+		String cursor = empRepo.findDirectoryPage(first, List.of()).getNextCursor();
+
+		EmployeeDirectoryQuery other = new EmployeeDirectoryQuery();
+		other.setDomain(domain);
+		other.setSort("name");
+		other.setDirection("desc");
+		other.setCursor(cursor);
+
+		assertThrows(CustomeException.class, () -> empRepo.findDirectoryPage(other, List.of()));
+	}
+}
@@ -0,0 +1,53 @@
+package com.neb.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.neb.constants.EmailStatus;
+import com.neb.entity.OutboundEmail;
+import com.neb.repo.OutboundEmailRepository;
+
+@SpringBootTest(properties = {
+		"mail.outbox.retention-days=14",
+		"storage.local.root=${java.io.tmpdir}/neb-test-storage" })
+class EmailOutboxCleanupSchedulerTest {
+
+	@Autowired
+	private EmailOutboxCleanupScheduler cleanup;
+
+	@Autowired
+	private OutboundEmailRepository outboxRepo;
+
+	private OutboundEmail queued(EmailStatus status, int daysAgo) {
+		OutboundEmail email = new OutboundEmail();
+		email.setRecipient("cleanup-" + status + "-" + daysAgo + "@example.com");
+		email.setSubject("Cleanup test");
+		email.setBody("body");
+		email.setStatus(status);
+		email.setCreatedAt(LocalDateTime.now().minusDays(daysAgo));
+		// not due, so the dispatcher leaves pending rows alone
+		email.setNextAttemptAt(LocalDateTime.now().plusYears(1));
+		return outboxRepo.save(email);
+	}
+
+	@Test
+	void deletesOnlyOldSentAndFailedEmails() {
+		OutboundEmail oldSent = queued(EmailStatus.SENT, 30);
+		OutboundEmail oldFailed = queued(EmailStatus.FAILED, 30);
+		OutboundEmail oldPending = queued(EmailStatus.PENDING, 30);
+		OutboundEmail recentSent = queued(EmailStatus.SENT, 1);
+
+		cleanup.purgeOldEmails();
+
+		assertFalse(outboxRepo.existsById(oldSent.getId()));
+		assertFalse(outboxRepo.existsById(oldFailed.getId()));
+		assertTrue(outboxRepo.existsById(oldPending.getId()));
+		assertTrue(outboxRepo.existsById(recentSent.getId()));
+	}
+}
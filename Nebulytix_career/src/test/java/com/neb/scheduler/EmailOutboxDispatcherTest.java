@@ -0,0 +1,47 @@
+package com.neb.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.neb.constants.EmailStatus;
+import com.neb.entity.OutboundEmail;
+import com.neb.repo.OutboundEmailRepository;
+
+@SpringBootTest(properties = "storage.local.root=${java.io.tmpdir}/neb-test-storage")
+class EmailOutboxDispatcherTest {
+
+	@MockitoBean
+	private JavaMailSender mailSender;
+
+	@Autowired
+	private EmailOutboxDispatcher dispatcher;
+
+	@Autowired
+	private OutboundEmailRepository outboxRepo;
+
+	@Test
+	void sentEmailKeepsNoBody() {
+		OutboundEmail email = new OutboundEmail();
+		email.setRecipient("otp-outbox@example.com");
+		email.setSubject("Your OTP");
+		email.setBody("Your OTP is 123456");
+		email.setStatus(EmailStatus.PENDING);
+		email.setCreatedAt(LocalDateTime.now());
+		email.setNextAttemptAt(LocalDateTime.now());
+		email = outboxRepo.save(email);
+
+		dispatcher.dispatch();
+
+		OutboundEmail sent = outboxRepo.findById(email.getId()).orElseThrow();
+		assertEquals(EmailStatus.SENT, sent.getStatus());
+		assertNull(sent.getBody());
+	}
+}
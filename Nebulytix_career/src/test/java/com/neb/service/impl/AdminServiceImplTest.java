@@ -0,0 +1,138 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+import com.neb.constants.WorkStatus;
+import com.neb.dto.WorkResponseDto;
+import com.neb.entity.Employee;
+import com.neb.entity.Work;
+import com.neb.repo.EmployeeRepository;
+import com.neb.repo.WorkRepository;
+import com.neb.service.AdminService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		// keep the pollers quiet, the statistics count every statement of the node
+		"mail.outbox.poll-interval-ms=3600000",
+		"background.jobs.lease-renew-ms=3600000",
+		"schedule.timer.load-interval-ms=3600000",
+		"storage.local.root=${java.io.tmpdir}/neb-test-storage" })
+class AdminServiceImplTest {
+
+	@Autowired
+	private AdminService adminService;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	@Autowired
+	private WorkRepository workRepo;
+
+	@Autowired
+	private EntityManagerFactory emf;
+
+	private Employee employeeWithTasks(int tasks, LocalDate submitted) {
+		Employee emp = new Employee();
+		emp.setFirstName("Worker");
+		emp.setLastName(String.valueOf(tasks));
+		emp.setCardNumber("W-" + UUID.randomUUID());
+		emp.setLoginRole("employee");
+		emp = empRepo.save(emp);
+		List<Work> works = new ArrayList<>();
+		for (int i = 0; i < tasks; i++) {
+			Work w = new Work();
+			w.setTitle("Task " + i);
+			w.setStatus(WorkStatus.COMPLETED);
+			w.setAssignedDate(submitted.minusDays(1));
+			w.setSubmittedDate(submitted);
+			w.setReportDetails("Done " + i);
+			w.setEmployee(emp);
+			works.add(w);
+		}
+		workRepo.saveAll(works);
+		return emp;
+	}
+
+	// statements sent to the database while the action runs
+	private long statements(Runnable action) {
+		Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+		stats.clear();
+		action.run();
+		return stats.getPrepareStatementCount();
+	}
+
+	@Test
+	void taskListIsOneQueryWhateverTheNumberOfTasks() {
+		LocalDate day = LocalDate.of(2099, 7, 1);
+		Employee few = employeeWithTasks(2, day);
+		Employee many = employeeWithTasks(40, day);
+
+		List<List<WorkResponseDto>> lists = new ArrayList<>();
+		long forFew = statements(() -> lists.add(adminService.getWorkByEmployee(few.getId())));
+		long forMany = statements(() -> lists.add(adminService.getWorkByEmployee(many.getId())));
+
+		assertEquals(1, forFew);
+		assertEquals(forFew, forMany);
+		assertEquals(2, lists.get(0).size());
+		assertEquals(40, lists.get(1).size());
+		assertEquals("Worker 40", lists.get(1).get(0).getEmployeeName());
+	}
+
+	@Test
+	void dailyReportIsOneQueryWhateverTheNumberOfRows() {
+		LocalDate small = LocalDate.of(2099, 7, 2);
+		LocalDate large = LocalDate.of(2099, 7, 3);
+		employeeWithTasks(1, small);
+		employeeWithTasks(30, large);
+		employeeWithTasks(30, large);
+
+		assertEquals(1, statements(() -> writeReport(small)));
+		assertEquals(1, statements(() -> writeReport(large)));
+	}
+
+	private void writeReport(LocalDate day) {
+		try {
+			adminService.writeDailyReport(day, new ByteArrayOutputStream());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Test
+	void dailyReportPrintsOnlyThatDaysRows() throws Exception {
+		LocalDate day = LocalDate.of(2099, 7, 4);
+		employeeWithTasks(3, day);
+		employeeWithTasks(2, day.plusDays(1));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		adminService.writeDailyReport(day, out);
+
+		PdfReader reader = new PdfReader(out.toByteArray());
+		String text = PdfTextExtractor.getTextFromPage(reader, 1);
+		reader.close();
+		// employees are named "Worker <number of tasks>"
+		assertTrue(text.contains("Worker 3"));
+		assertTrue(text.contains("Done 2"));
+		assertFalse(text.contains("Worker 2"));
+	}
+}
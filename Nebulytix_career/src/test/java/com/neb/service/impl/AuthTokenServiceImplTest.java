@@ -0,0 +1,101 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.neb.dto.AuthUser;
+
+class AuthTokenServiceImplTest {
+
+	private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+	private static AuthTokenServiceImpl service(String secret, long ttlMinutes) {
+		AuthTokenServiceImpl service = new AuthTokenServiceImpl();
+		ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(service, "secret", secret);
+		ReflectionTestUtils.setField(service, "ttlMinutes", ttlMinutes);
+		service.initKey();
+		return service;
+	}
+
+	private static String b64(String json) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void issuedTokenVerifies() {
+		AuthTokenServiceImpl service = service(SECRET, 60);
+		AuthUser user = service.verify(service.issue(7L, "a@neb.com", "hr"));
+
+		assertNotNull(user);
+		assertEquals(7L, user.id());
+		assertEquals("a@neb.com", user.email());
+		assertEquals("hr", user.role());
+	}
+
+	@Test
+	void tamperedPayloadIsRejected() {
+		AuthTokenServiceImpl service = service(SECRET, 60);
+		String[] parts = service.issue(7L, "a@neb.com", "employee").split("\\.");
+		String payload = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+				.replace("\"employee\"", "\"admin\"");
+
+		assertNull(service.verify(parts[0] + "." + b64(payload) + "." + parts[2]));
+	}
+
+	@Test
+	void tokenOfAnotherSecretIsRejected() {
+		String token = service("fedcba9876543210fedcba9876543210", 60).issue(7L, "a@neb.com", "admin");
+
+		assertNull(service(SECRET, 60).verify(token));
+	}
+
+	@Test
+	void unsignedTokenIsRejected() {
+		AuthTokenServiceImpl service = service(SECRET, 60);
+		String payload = service.issue(7L, "a@neb.com", "admin").split("\\.")[1];
+
+		assertNull(service.verify(b64("{\"alg\":\"none\",\"typ\":\"JWT\"}") + "." + payload + "."));
+	}
+
+	@Test
+	void expiredTokenIsRejected() {
+		AuthTokenServiceImpl service = service(SECRET, -1);
+
+		assertNull(service.verify(service.issue(7L, "a@neb.com", "admin")));
+	}
+
+	@Test
+	void revokedTokenIsRejected() {
+		AuthTokenServiceImpl service = service(SECRET, 60);
+		String token = service.issue(7L, "a@neb.com", "admin");
+		service.revoke(service.verify(token));
+
+		assertNull(service.verify(token));
+		assertNotNull(service.verify(service.issue(7L, "a@neb.com", "admin")));
+	}
+
+	@Test
+	void malformedTokensAreRejected() {
+		AuthTokenServiceImpl service = service(SECRET, 60);
+
+		assertNull(service.verify(null));
+		assertNull(service.verify(""));
+		assertNull(service.verify("a.b.c"));
+		assertNull(service.verify(service.issue(7L, "a@neb.com", "admin") + "!"));
+	}
+
+	@Test
+	void shortSecretFailsStartup() {
+		assertThrows(IllegalStateException.class, () -> service("too-short", 60));
+	}
+}
@@ -0,0 +1,133 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.neb.dto.EmployeeResponseDto;
+import com.neb.dto.LoginRequestDto;
+import com.neb.entity.Employee;
+import com.neb.exception.CustomeException;
+import com.neb.repo.EmployeeRepository;
+import com.neb.service.AuthenticationService;
+import com.neb.util.PasswordHasher;
+
+@SpringBootTest(properties = {
+		"auth.login.max-failures=3",
+		"auth.login.max-failures-per-email=6",
+		"auth.password.iterations=100000" })
+class AuthenticationServiceImplTest {
+
+	private static final String ADDRESS = "10.0.0.1";
+
+	@Autowired
+	private AuthenticationService authService;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	private Employee employee(String email, String storedPassword) {
+		Employee emp = new Employee();
+		emp.setFirstName("Test");
+		emp.setEmail(email);
+		emp.setLoginRole("hr");
+		emp.setPassword(storedPassword);
+		return empRepo.save(emp);
+	}
+
+	private static LoginRequestDto login(String email, String password) {
+		LoginRequestDto req = new LoginRequestDto();
+		req.setEmail(email);
+		req.setPassword(password);
+		req.setLoginRole("hr");
+		return req;
+	}
+
+	private void fail(String email, String address) {
+		CustomeException e = assertThrows(CustomeException.class,
+				() -> authService.login(login(email, "wrong"), address));
+		assertTrue(e.getMessage().startsWith("Invalid credentials"), e.getMessage());
+	}
+
+	@Test
+	void correctPasswordReturnsToken() {
+		employee("ok@neb.test", authService.encodePassword("right"));
+
+		EmployeeResponseDto res = authService.login(login(" ok@neb.test ", "right"), ADDRESS);
+
+		assertNotNull(res.getToken());
+	}
+
+	@Test
+	void repeatedFailuresLockOutEvenTheRightPassword() {
+		employee("locked@neb.test", authService.encodePassword("right"));
+		for (int i = 0; i < 3; i++) {
+			fail("locked@neb.test", ADDRESS);
+		}
+
+		CustomeException e = assertThrows(CustomeException.class,
+				() -> authService.login(login("LOCKED@neb.test", "right"), ADDRESS));
+		assertTrue(e.getMessage().startsWith("Too many failed login attempts"), e.getMessage());
+	}
+
+	@Test
+	void lockoutIsPerClientAddress() {
+		employee("elsewhere@neb.test", authService.encodePassword("right"));
+		for (int i = 0; i < 3; i++) {
+			fail("elsewhere@neb.test", "10.0.0.66");
+		}
+
+		assertNotNull(authService.login(login("elsewhere@neb.test", "right"), ADDRESS).getToken());
+	}
+
+	@Test
+	void failuresFromManyAddressesLockTheEmail() {
+		employee("spread@neb.test", authService.encodePassword("right"));
+		for (int i = 0; i < 6; i++) {
+			fail("spread@neb.test", "10.0.1." + i);
+		}
+
+		CustomeException e = assertThrows(CustomeException.class,
+				() -> authService.login(login("spread@neb.test", "right"), ADDRESS));
+		assertTrue(e.getMessage().startsWith("Too many failed login attempts"), e.getMessage());
+	}
+
+	@Test
+	void successResetsTheFailureCount() {
+		employee("reset@neb.test", authService.encodePassword("right"));
+		fail("reset@neb.test", ADDRESS);
+		fail("reset@neb.test", ADDRESS);
+		authService.login(login("reset@neb.test", "right"), ADDRESS);
+		fail("reset@neb.test", ADDRESS);
+		fail("reset@neb.test", ADDRESS);
+
+		assertNotNull(authService.login(login("reset@neb.test", "right"), ADDRESS).getToken());
+	}
+
+	@Test
+	void unknownEmailCountsAsFailure() {
+		for (int i = 0; i < 3; i++) {
+			fail("nobody@neb.test", ADDRESS);
+		}
+
+		CustomeException e = assertThrows(CustomeException.class,
+				() -> authService.login(login("nobody@neb.test", "wrong"), ADDRESS));
+		assertTrue(e.getMessage().startsWith("Too many failed login attempts"), e.getMessage());
+	}
+
+	@Test
+	void plaintextPasswordIsHashedOnLogin() {
+		Employee emp = employee("legacy@neb.test", "legacy-pw");
+
+		authService.login(login("legacy@neb.test", "legacy-pw"), ADDRESS);
+
+		String stored = empRepo.findById(emp.getId()).orElseThrow().getPassword();
+		assertTrue(stored.startsWith(PasswordHasher.PREFIX), stored);
+		assertEquals(emp.getId(), authService.login(login("legacy@neb.test", "legacy-pw"), ADDRESS).getId());
+	}
+}
@@ -0,0 +1,154 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.neb.constants.BackgroundJobType;
+import com.neb.dto.AuthUser;
+import com.neb.dto.BackgroundJobDto;
+import com.neb.exception.CustomeException;
+import com.neb.service.BackgroundJobService;
+import com.neb.service.BackgroundJobService.JobResult;
+import com.neb.service.StorageService;
+
+@SpringBootTest(properties = {
+		"background.jobs.worker-threads=1",
+		"background.jobs.queue-capacity=1",
+		"storage.local.root=${java.io.tmpdir}/neb-test-storage" })
+class BackgroundJobServiceImplTest {
+
+	private static final AuthUser HR = new AuthUser(1L, "hr@neb.test", "hr", "t1", Instant.MAX);
+	private static final AuthUser EMPLOYEE = new AuthUser(2L, "emp@neb.test", "employee", "t2", Instant.MAX);
+	private static final AuthUser OTHER_EMPLOYEE = new AuthUser(3L, "other@neb.test", "employee", "t3", Instant.MAX);
+
+	@Autowired
+	private BackgroundJobService jobService;
+
+	@Autowired
+	private StorageService storage;
+
+	private BackgroundJobDto await(Long jobId, String status) throws InterruptedException {
+		BackgroundJobDto job = jobService.getJob(jobId, HR);
+		for (int i = 0; i < 100 && !status.equals(job.getStatus()); i++) {
+			Thread.sleep(50);
+			job = jobService.getJob(jobId, HR);
+		}
+		assertEquals(status, job.getStatus(), job.getMessage());
+		return job;
+	}
+
+	@Test
+	void completedJobKeepsItsResult() throws Exception {
+		BackgroundJobDto job = jobService.submit(BackgroundJobType.DAILY_REPORT, "complete", EMPLOYEE, context -> {
+			context.update(1, 2);
+			String key = context.resultKey("report.txt");
+			storage.write(key, "done".getBytes(StandardCharsets.UTF_8));
+			return new JobResult("Report ready", key, "report.txt", "text/plain", null);
+		});
+
+		BackgroundJobDto done = await(job.getId(), "COMPLETED");
+
+		assertEquals(100, done.getProgress());
+		assertEquals("Report ready", done.getMessage());
+		assertTrue(storage.exists("jobs/" + job.getId() + "/report.txt"));
+	}
+
+	@Test
+	void runningJobIsCancelledAndItsFilesDeleted() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicReference<String> key = new AtomicReference<>();
+		BackgroundJobDto job = jobService.submit(BackgroundJobType.DAILY_REPORT, "cancel-running", EMPLOYEE, context -> {
+			key.set(context.resultKey("partial.txt"));
+			storage.write(key.get(), "partial".getBytes(StandardCharsets.UTF_8));
+			started.countDown();
+			for (int i = 0; i < 1000; i++) {
+				context.update(i, 1000);
+				Thread.sleep(20);
+			}
+			return JobResult.message("should not finish");
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		await(job.getId(), "RUNNING");
+
+		jobService.cancel(job.getId(), EMPLOYEE);
+
+		BackgroundJobDto cancelled = await(job.getId(), "CANCELLED");
+		assertEquals("Cancelled while running", cancelled.getMessage());
+		assertFalse(storage.exists(key.get()));
+	}
+
+	@Test
+	void queuedJobIsCancelledBeforeItRuns() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean queuedRan = new AtomicBoolean();
+		BackgroundJobDto blocker = jobService.submit(BackgroundJobType.DAILY_REPORT, "blocker", HR, context -> {
+			release.await(10, TimeUnit.SECONDS);
+			return null;
+		});
+		await(blocker.getId(), "RUNNING");
+		BackgroundJobDto queued = jobService.submit(BackgroundJobType.DAILY_REPORT, "queued", HR, context -> {
+			queuedRan.set(true);
+			return null;
+		});
+		assertEquals("QUEUED", queued.getStatus());
+
+		// one worker busy, one job waiting: the queue is full
+		assertThrows(CustomeException.class, () -> jobService.submit(BackgroundJobType.DAILY_REPORT, "rejected", HR,
+				context -> null));
+
+		assertEquals("CANCELLED", jobService.cancel(queued.getId(), HR).getStatus());
+		release.countDown();
+		await(blocker.getId(), "COMPLETED");
+		assertFalse(queuedRan.get());
+		assertEquals("Cancelled before it started", jobService.getJob(queued.getId(), HR).getMessage());
+	}
+
+	@Test
+	void failingJobIsMarkedFailed() throws Exception {
+		BackgroundJobDto job = jobService.submit(BackgroundJobType.DAILY_REPORT, "fail", HR, context -> {
+			throw new IllegalStateException("No works submitted");
+		});
+
+		assertEquals("No works submitted", await(job.getId(), "FAILED").getMessage());
+	}
+
+	@Test
+	void sameActiveJobIsReturnedInsteadOfASecondOne() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		BackgroundJobDto first = jobService.submit(BackgroundJobType.DAILY_REPORT, "same", HR, context -> {
+			release.await(10, TimeUnit.SECONDS);
+			return null;
+		});
+		try {
+			assertEquals(first.getId(), jobService.submit(BackgroundJobType.DAILY_REPORT, "same", HR,
+					context -> null).getId());
+		} finally {
+			release.countDown();
+		}
+		await(first.getId(), "COMPLETED");
+	}
+
+	@Test
+	void otherEmployeesCannotSeeOrCancelAJob() throws Exception {
+		BackgroundJobDto job = jobService.submit(BackgroundJobType.DAILY_REPORT, "private", EMPLOYEE,
+				context -> null);
+
+		assertThrows(CustomeException.class, () -> jobService.getJob(job.getId(), OTHER_EMPLOYEE));
+		assertThrows(CustomeException.class, () -> jobService.cancel(job.getId(), OTHER_EMPLOYEE));
+		assertEquals(job.getId(), jobService.getJob(job.getId(), EMPLOYEE).getId());
+		await(job.getId(), "COMPLETED");
+	}
+}
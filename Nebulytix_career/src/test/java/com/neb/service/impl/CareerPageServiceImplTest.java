@@ -0,0 +1,107 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.neb.dto.AddJobRequestDto;
+import com.neb.dto.JobSummaryDto;
+import com.neb.entity.Job;
+import com.neb.repo.JobRepository;
+import com.neb.service.CareerPageService;
+import com.neb.service.HrService;
+
+@SpringBootTest(properties = "storage.local.root=${java.io.tmpdir}/neb-test-storage")
+class CareerPageServiceImplTest {
+
+	@Autowired
+	private CareerPageService careerPageService;
+
+	@Autowired
+	private HrService hrService;
+
+	@Autowired
+	private JobRepository jobRepository;
+
+	// a domain of its own keeps other test classes' jobs out of the listings
+	private final String domain = "jobs-" + UUID.randomUUID();
+
+	private Long addJob(String title, String jobType, String level, LocalDate posted, LocalDate closing) {
+		AddJobRequestDto req = new AddJobRequestDto();
+		req.setJobTitle(title);
+		req.setDomain(domain);
+		req.setJobType(jobType);
+		req.setExperienceLevel(level);
+		req.setPostedDate(posted);
+		req.setClosingDate(closing);
+		return hrService.addJob(req).getId();
+	}
+
+	// saved behind the service's back, so no cache eviction happens
+	private Job saveDirectly(String title, boolean active, LocalDate closing) {
+		Job job = new Job();
+		job.setJobTitle(title);
+		job.setDomain(domain);
+		job.setJobType("FULL_TIME");
+		job.setExperienceLevel("ENTRY");
+		job.setIsActive(active);
+		job.setPostedDate(LocalDate.now());
+		job.setClosingDate(closing);
+		return jobRepository.save(job);
+	}
+
+	private List<String> titles(String jobType, String level, Boolean active) {
+		return careerPageService.listJobs(domain, jobType, level, active, 0, 20).getContent().stream()
+				.map(JobSummaryDto::getJobTitle)
+				.toList();
+	}
+
+	@Test
+	void filtersAndNewestFirst() {
+		LocalDate today = LocalDate.now();
+		addJob("Old intern", "PART_TIME", "ENTRY", today.minusDays(10), today.plusDays(30));
+		addJob("New senior", "FULL_TIME", "SENIOR", today.minusDays(1), today.plusDays(30));
+		addJob("Closed", "FULL_TIME", "ENTRY", today.minusDays(40), today.minusDays(5));
+
+		assertEquals(List.of("New senior", "Old intern", "Closed"), titles(null, null, null));
+		assertEquals(List.of("New senior", "Closed"), titles("FULL_TIME", null, null));
+		assertEquals(List.of("Old intern"), titles(null, "ENTRY", true));
+		assertEquals(List.of("Closed"), titles(null, null, false));
+	}
+
+	@Test
+	void addJobEvictsTheCachedListing() {
+		addJob("First", "FULL_TIME", "ENTRY", LocalDate.now(), null);
+		assertEquals(List.of("First"), titles(null, null, null));
+
+		saveDirectly("Unseen", true, null);
+		// still served from the cache
+		assertEquals(List.of("First"), titles(null, null, null));
+
+		addJob("Second", "FULL_TIME", "ENTRY", LocalDate.now(), null);
+		List<String> after = titles(null, null, null);
+		assertEquals(3, after.size());
+		assertTrue(after.containsAll(List.of("First", "Second", "Unseen")));
+	}
+
+	@Test
+	void closingExpiredJobsEvictsTheCachedListing() {
+		saveDirectly("Expired but flagged active", true, LocalDate.now().minusDays(1));
+		saveDirectly("Still open", true, LocalDate.now().plusDays(1));
+		assertEquals(2, titles(null, null, true).size());
+
+		assertTrue(hrService.closeExpiredJobs() >= 1);
+
+		List<String> active = titles(null, null, true);
+		assertEquals(List.of("Still open"), active);
+		assertFalse(titles(null, null, false).isEmpty());
+	}
+}
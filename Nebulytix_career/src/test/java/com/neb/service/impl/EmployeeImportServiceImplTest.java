@@ -0,0 +1,126 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.neb.dto.EmployeeImportErrorDto;
+import com.neb.dto.EmployeeImportReportDto;
+import com.neb.entity.Employee;
+import com.neb.exception.CustomeException;
+import com.neb.repo.EmployeeRepository;
+import com.neb.service.EmployeeImportService;
+
+@SpringBootTest(properties = {
+		"employee.import.batch-size=3",
+		"auth.password.iterations=100000" })
+class EmployeeImportServiceImplTest {
+
+	@Autowired
+	private EmployeeImportService importService;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	private static MockMultipartFile file(String name, String content) {
+		return new MockMultipartFile("file", name, null, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static List<Integer> errorRows(EmployeeImportReportDto report) {
+		return report.getErrors().stream().map(EmployeeImportErrorDto::getRow).toList();
+	}
+
+	@Test
+	void csvRowsAreSavedInBatchesAndBadRowsReported() {
+		Employee existing = new Employee();
+		existing.setFirstName("Existing");
+		existing.setEmail("taken@import.test");
+		existing.setLoginRole("employee");
+		empRepo.save(existing);
+
+		String csv = "first_name,Last Name,email,jobRole,salary,password\n"
+				+ "Asha,Rao,asha@import.test,developer,30000,secret\n"
+				+ "Ben,Lee,ben@import.test,developer,31000,\n"
+				+ "Dup,Lee,BEN@import.test,developer,31000,\n"       // 4: earlier in the file
+				+ "Old,Hand,TAKEN@import.test,developer,1,\n"        // 5: already an employee
+				+ "Cara,Diaz,not-an-email,developer,1,\n"            // 6: invalid email
+				+ "Dev,Nair,dev@import.test,developer,abc,\n"        // 7: invalid salary
+				+ "Eva,Sen,eva@import.test,,1,\n"                    // 8: no jobRole
+				+ "Finn,Ray,finn@import.test,tester,1,\n"
+				+ "Gita,Roy,gita@import.test,tester,1,\n"
+				+ "\"Hari, Jr.\",Pal,hari@import.test,tester,1,\n";
+
+		EmployeeImportReportDto report = importService.importEmployees(file("staff.csv", csv), "employee", false);
+
+		assertEquals("CSV", report.getFormat());
+		assertEquals(10, report.getTotalRows());
+		assertEquals(5, report.getImported());
+		assertEquals(2, report.getDuplicates());
+		assertEquals(3, report.getInvalid());
+		assertEquals(0, report.getFailed());
+		assertEquals(List.of(4, 5, 6, 7, 8), errorRows(report));
+
+		Employee asha = empRepo.findByEmail("asha@import.test").orElseThrow();
+		assertEquals("employee", asha.getLoginRole());
+		assertEquals(30000.0, asha.getSalary());
+		assertNotNull(asha.getPassword());
+		assertNotEquals("secret", asha.getPassword());
+		assertEquals("Hari, Jr.", empRepo.findByEmail("hari@import.test").orElseThrow().getFirstName());
+		assertTrue(empRepo.findByEmail("ben@import.test").isPresent());
+	}
+
+	@Test
+	void jsonWithABadElementImportsTheRest() {
+		String json = "[{\"firstName\":\"Ira\",\"email\":\"ira@import.test\",\"jobRole\":\"hr\"},"
+				+ "42,"
+				+ "{\"firstName\":\"Jay\",\"email\":\"jay@import.test\",\"salary\":\"lots\"},"
+				+ "{\"firstName\":\"Kim\",\"email\":\"kim@import.test\"}]";
+
+		EmployeeImportReportDto report = importService.importEmployees(file("staff.json", json), "hr", false);
+
+		assertEquals("JSON", report.getFormat());
+		assertEquals(4, report.getTotalRows());
+		assertEquals(2, report.getImported());
+		assertEquals(List.of(2, 3), errorRows(report));
+		assertEquals("jay@import.test", report.getErrors().get(1).getEmail());
+		assertEquals("hr", empRepo.findByEmail("kim@import.test").orElseThrow().getLoginRole());
+	}
+
+	@Test
+	void validateOnlySavesNothing() {
+		String csv = "firstName,email,jobRole\nLeo,leo@import.test,developer\nMia,mia@import.test,developer\n";
+
+		EmployeeImportReportDto report = importService.importEmployees(file("check.csv", csv), "employee", true);
+
+		assertTrue(report.isValidateOnly());
+		assertEquals(2, report.getImported());
+		assertTrue(empRepo.findByEmail("leo@import.test").isEmpty());
+		assertTrue(empRepo.findByEmail("mia@import.test").isEmpty());
+	}
+
+	@Test
+	void badFilesAreRejectedUpFront() {
+		assertThrows(CustomeException.class, () -> importService.importEmployees(
+				file("x.csv", "firstName,email,shoeSize\nA,a@import.test,9\n"), "employee", false));
+		assertThrows(CustomeException.class, () -> importService.importEmployees(
+				file("x.csv", "lastName,email\nB,b@import.test\n"), "employee", false));
+		assertThrows(CustomeException.class, () -> importService.importEmployees(
+				file("x.csv", "firstName,email\nC,c@import.test\n"), "admin", false));
+		assertThrows(CustomeException.class, () -> importService.importEmployees(
+				file("x.xlsx", "whatever"), "employee", false));
+		assertThrows(CustomeException.class, () -> importService.importEmployees(
+				file("x.json", "{\"firstName\":\"D\"}"), "employee", false));
+		assertThrows(CustomeException.class, () -> importService.importEmployees(
+				file("x.csv", ""), "employee", false));
+	}
+}
@@ -0,0 +1,67 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.neb.service.FileIngestService;
+import com.neb.service.StorageService;
+
+@SpringBootTest(properties = "storage.local.root=${java.io.tmpdir}/neb-test-storage")
+class FileIngestServiceImplTest {
+
+	@Autowired
+	private FileIngestService fileIngestService;
+
+	@Autowired
+	private StorageService storage;
+
+	private static byte[] randomBytes(int size) {
+		byte[] content = new byte[size];
+		new Random().nextBytes(content);
+		return content;
+	}
+
+	private byte[] stored(String key) throws Exception {
+		try (InputStream in = storage.load(key).getInputStream()) {
+			return in.readAllBytes();
+		}
+	}
+
+	@Test
+	void storesUnderTheChecksumOfTheContent() throws Exception {
+		// one upload kept in memory, one above the in-memory limit
+		for (int size : new int[] { 1024, 1024 * 1024 }) {
+			byte[] content = randomBytes(size);
+			String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)) + ".pdf";
+
+			String fileName = fileIngestService.store(new MockMultipartFile("file", "CV.PDF", "application/pdf", content),
+					"ingest-test");
+
+			assertEquals(expected, fileName);
+			assertArrayEquals(content, stored("ingest-test/" + fileName));
+		}
+	}
+
+	@Test
+	void sameContentIsStoredOnce() throws Exception {
+		byte[] content = randomBytes(512 * 1024);
+
+		String first = fileIngestService.store(new MockMultipartFile("file", "a.txt", "text/plain", content), "ingest-test");
+		String second = fileIngestService.store(new MockMultipartFile("file", "b.txt", "text/plain", content), "ingest-test");
+
+		assertEquals(first, second);
+		assertTrue(storage.exists("ingest-test/" + first));
+		assertArrayEquals(content, stored("ingest-test/" + first));
+	}
+}
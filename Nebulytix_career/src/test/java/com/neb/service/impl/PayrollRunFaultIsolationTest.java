@@ -0,0 +1,89 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.neb.dto.PayrollRunReportDto;
+import com.neb.dto.PayslipFailureDto;
+import com.neb.entity.Employee;
+import com.neb.repo.EmployeeRepository;
+import com.neb.repo.PayslipRepository;
+import com.neb.service.PayrollRunService;
+
+// eager mode writes every PDF during the run, so a bad storage key fails that one employee
+@SpringBootTest(properties = {
+		"payslip.pdf.mode=eager",
+		"payslip.bulk.worker-threads=2",
+		"storage.local.root=${java.io.tmpdir}/neb-test-storage" })
+class PayrollRunFaultIsolationTest {
+
+	private static final String MONTH = "April 2099";
+
+	@Autowired
+	private PayrollRunService payrollRunService;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	@Autowired
+	private PayslipRepository payslipRepo;
+
+	private Employee employee(int i, String cardNumber) {
+		Employee emp = new Employee();
+		emp.setFirstName("Isolated" + i);
+		emp.setLastName("Test");
+		emp.setLoginRole("employee");
+		emp.setDomain("Java");
+		emp.setJobRole("developer");
+		emp.setCardNumber(cardNumber);
+		emp.setSalary(25000.0 + i);
+		emp.setDaysPresent(22);
+		return empRepo.save(emp);
+	}
+
+	private Set<Long> paid(Set<Long> employeeIds) {
+		Set<Long> paid = new HashSet<>(payslipRepo.findEmployeeIdsByPayslipMonth(MONTH));
+		paid.retainAll(employeeIds);
+		return paid;
+	}
+
+	@Test
+	void oneFailingEmployeeDoesNotStopTheRun() {
+		List<Employee> good = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			good.add(employee(i, "ISO" + i));
+		}
+		// the PDF key escapes the storage root, so storing it is refused
+		Employee bad = employee(5, "../../../outside");
+		Set<Long> goodIds = new HashSet<>();
+		good.forEach(e -> goodIds.add(e.getId()));
+
+		PayrollRunReportDto first = payrollRunService.runMonthlyPayroll(MONTH);
+
+		List<Long> failedIds = first.getFailures().stream().map(PayslipFailureDto::getEmployeeId).toList();
+		assertTrue(failedIds.contains(bad.getId()), String.valueOf(first.getFailures()));
+		assertEquals(first.getFailures().size(), first.getFailed());
+		assertEquals("COMPLETED_WITH_ERRORS", first.getStatus());
+		assertEquals(goodIds, paid(goodIds));
+		assertTrue(paid(Set.of(bad.getId())).isEmpty());
+
+		bad.setCardNumber("ISO5");
+		empRepo.save(bad);
+
+		PayrollRunReportDto retried = payrollRunService.runMonthlyPayroll(MONTH);
+
+		assertFalse(retried.getFailures().stream().anyMatch(f -> bad.getId().equals(f.getEmployeeId())));
+		assertTrue(retried.getGenerated() >= 1);
+		assertEquals(Set.of(bad.getId()), paid(Set.of(bad.getId())));
+	}
+}
@@ -0,0 +1,240 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.neb.constants.PayrollRunStatus;
+import com.neb.dto.PayrollPreviewDto;
+import com.neb.dto.PayrollPreviewLineDto;
+import com.neb.dto.PayrollRunReportDto;
+import com.neb.entity.Employee;
+import com.neb.entity.PayrollRun;
+import com.neb.exception.PayslipGenerationException;
+import com.neb.repo.EmployeeRepository;
+import com.neb.repo.PayrollRunItemRepository;
+import com.neb.repo.PayrollRunRepository;
+import com.neb.repo.PayslipRepository;
+import com.neb.service.PayrollRunService;
+
+@SpringBootTest(properties = {
+		"payslip.pdf.mode=lazy",
+		"payslip.bulk.worker-threads=2",
+		"storage.local.root=${java.io.tmpdir}/neb-test-storage" })
+class PayrollRunServiceImplTest {
+
+	@Autowired
+	private PayrollRunService payrollRunService;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	@Autowired
+	private PayslipRepository payslipRepo;
+
+	@Autowired
+	private PayrollRunRepository runRepo;
+
+	@Autowired
+	private PayrollRunItemRepository itemRepo;
+
+	// employees of this test; the database may hold others from other test classes
+	private final List<Long> employeeIds = new ArrayList<>();
+
+	@BeforeEach
+	void employees() {
+		List<Employee> employees = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			Employee emp = new Employee();
+			emp.setFirstName("Run" + i);
+			emp.setLoginRole("employee");
+			emp.setDomain("Java");
+			emp.setJobRole("developer");
+			emp.setSalary(30000.0 + i);
+			emp.setDaysPresent(22);
+			employees.add(emp);
+		}
+		empRepo.saveAll(employees).forEach(e -> employeeIds.add(e.getId()));
+	}
+
+	private Set<Long> paid(String month) {
+		Set<Long> paid = new HashSet<>(payslipRepo.findEmployeeIdsByPayslipMonth(month));
+		paid.retainAll(employeeIds);
+		return paid;
+	}
+
+	@Test
+	void runGeneratesEveryPayslipOnce() {
+		PayrollRunReportDto first = payrollRunService.runMonthlyPayroll("January 2099");
+
+		assertEquals(first.getTotalEmployees(), first.getGenerated() + first.getSkipped() + first.getFailed());
+		assertEquals(new HashSet<>(employeeIds), paid("January 2099"));
+		assertEquals(1, first.getAttempt());
+
+		PayrollRunReportDto second = payrollRunService.runMonthlyPayroll("January 2099");
+
+		assertEquals(0, second.getGenerated());
+		assertEquals(2, second.getAttempt());
+		assertEquals(first.getGenerated() + first.getSkipped(), second.getSkipped());
+	}
+
+	@Test
+	void cancelledRunKeepsItsPayslipsAndResumes() {
+		CancellationException e = assertThrows(CancellationException.class,
+				() -> payrollRunService.runMonthlyPayroll("February 2099", (done, total) -> {
+					if (done >= 5) {
+						throw new CancellationException("Job was cancelled");
+					}
+				}));
+		assertEquals("Job was cancelled", e.getMessage());
+		assertEquals(PayrollRunStatus.CANCELLED, runRepo.findByPayslipMonth("February 2099").orElseThrow().getStatus());
+		int kept = payslipRepo.findEmployeeIdsByPayslipMonth("February 2099").size();
+		assertTrue(kept >= 5, "kept " + kept);
+
+		PayrollRunReportDto resumed = payrollRunService.runMonthlyPayroll("February 2099");
+
+		assertEquals(2, resumed.getAttempt());
+		assertEquals(kept, resumed.getSkipped());
+		assertEquals(resumed.getTotalEmployees() - kept - resumed.getFailed(), resumed.getGenerated());
+		assertEquals(new HashSet<>(employeeIds), paid("February 2099"));
+		assertNotEquals(PayrollRunStatus.CANCELLED, runRepo.findByPayslipMonth("February 2099").orElseThrow().getStatus());
+	}
+
+	@Test
+	void sameMonthCannotRunTwiceAtOnce() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			Future<PayrollRunReportDto> first = pool.submit(() -> payrollRunService.runMonthlyPayroll("March 2099",
+					(done, total) -> {
+						started.countDown();
+						try {
+							release.await(10, TimeUnit.SECONDS);
+						} catch (InterruptedException ex) {
+							Thread.currentThread().interrupt();
+						}
+					}));
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+
+			assertThrows(PayslipGenerationException.class, () -> payrollRunService.runMonthlyPayroll("March 2099"));
+
+			release.countDown();
+			assertTrue(first.get(30, TimeUnit.SECONDS).getGenerated() >= employeeIds.size());
+			assertEquals(new HashSet<>(employeeIds), paid("March 2099"));
+		} finally {
+			release.countDown();
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void runClaimedElsewhereIsRefusedUntilItsLeaseLapses() {
+		// as left by another server that is still running the month, then by one that crashed
+		PayrollRun other = new PayrollRun();
+		other.setPayslipMonth("April 2099");
+		other.setStatus(PayrollRunStatus.RUNNING);
+		other.setClaimToken("other-server");
+		other.setLeaseUntil(LocalDateTime.now().plusMinutes(5));
+		other.setAttempts(1);
+		other = runRepo.save(other);
+
+		assertThrows(PayslipGenerationException.class, () -> payrollRunService.runMonthlyPayroll("April 2099"));
+		assertTrue(paid("April 2099").isEmpty());
+
+		other.setLeaseUntil(LocalDateTime.now().minusSeconds(1));
+		runRepo.save(other);
+
+		PayrollRunReportDto report = payrollRunService.runMonthlyPayroll("April 2099");
+
+		assertEquals(2, report.getAttempt());
+		assertEquals(new HashSet<>(employeeIds), paid("April 2099"));
+		PayrollRun finished = runRepo.findByPayslipMonth("April 2099").orElseThrow();
+		assertNotEquals(PayrollRunStatus.RUNNING, finished.getStatus());
+		assertEquals(null, finished.getClaimToken());
+	}
+
+	@Test
+	void resumedRunDoesNotCountDeletedEmployeesAsFailed() {
+		// a new employee that the cancelled attempt never reaches, deleted before the resume
+		Employee leaver = new Employee();
+		leaver.setFirstName("Leaver");
+		leaver.setLoginRole("employee");
+		leaver.setSalary(30000.0);
+		leaver = empRepo.save(leaver);
+		assertThrows(CancellationException.class,
+				() -> payrollRunService.runMonthlyPayroll("May 2099", (done, total) -> {
+					throw new CancellationException("Job was cancelled");
+				}));
+		empRepo.deleteById(leaver.getId());
+
+		PayrollRunReportDto resumed = payrollRunService.runMonthlyPayroll("May 2099");
+
+		PayrollRun run = runRepo.findByPayslipMonth("May 2099").orElseThrow();
+		assertEquals(resumed.getTotalEmployees(), run.getTotalEmployees());
+		assertEquals(resumed.getFailed(), run.getFailedCount());
+		assertEquals(resumed.getTotalEmployees() - resumed.getFailed(), run.getCompletedCount());
+		assertEquals(new HashSet<>(employeeIds), paid("May 2099"));
+	}
+
+	@Test
+	void previewCalculatesWithoutWritingAnything() {
+		String jobRole = "preview-" + UUID.randomUUID();
+		List<Employee> selected = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Employee emp = new Employee();
+			emp.setFirstName("Preview" + i);
+			emp.setLoginRole("employee");
+			emp.setDomain("Java");
+			emp.setJobRole(jobRole);
+			emp.setSalary(45000.0 + i * 1000);
+			emp.setDaysPresent(22);
+			selected.add(empRepo.save(emp));
+		}
+		long payslips = payslipRepo.count();
+		long runs = runRepo.count();
+		long items = itemRepo.count();
+
+		PayrollPreviewDto preview = payrollRunService.previewMonthlyPayroll("September 2099", null, jobRole, true);
+
+		assertEquals(3, preview.getEmployees());
+		assertEquals(0, preview.getPayslipsExisting());
+		assertEquals(3, preview.getLines().size());
+		assertEquals(preview.getTotalNet(), preview.getLines().stream()
+				.map(PayrollPreviewLineDto::getNetSalary).reduce(BigDecimal.ZERO, BigDecimal::add));
+		assertTrue(preview.getTotalNet().signum() > 0);
+
+		assertEquals(payslips, payslipRepo.count());
+		assertEquals(runs, runRepo.count());
+		assertEquals(items, itemRepo.count());
+		assertTrue(runRepo.findByPayslipMonth("September 2099").isEmpty());
+
+		// after the real run the same selection is reported as already paid
+		payrollRunService.runMonthlyPayroll("September 2099");
+		PayrollPreviewDto after = payrollRunService.previewMonthlyPayroll("September 2099", null, jobRole, false);
+
+		assertEquals(3, after.getPayslipsExisting());
+		assertTrue(after.getLines().isEmpty());
+		assertEquals(preview.getTotalNet(), after.getTotalNet());
+	}
+}
@@ -0,0 +1,103 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.neb.entity.Employee;
+import com.neb.entity.Payslip;
+import com.neb.repo.EmployeeRepository;
+import com.neb.repo.PayslipRepository;
+import com.neb.service.ReportExportService;
+import com.neb.util.export.ReportFormat;
+
+@SpringBootTest
+class ReportExportServiceImplTest {
+
+	private static final String MONTH = "Register Test 2099";
+	private static final int ROWS = 200;
+
+	@Autowired
+	private ReportExportService exportService;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	@Autowired
+	private PayslipRepository payslipRepo;
+
+	@BeforeEach
+	void payslips() {
+		if (!payslipRepo.findEmployeeIdsByPayslipMonth(MONTH).isEmpty()) {
+			return;
+		}
+		List<Employee> employees = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			Employee emp = new Employee();
+			// the first one sorts first by card number
+			emp.setFirstName(i == 0 ? "Rao, Jr." : "Emp");
+			emp.setCardNumber(i == 0 ? "=HYPERLINK(\"x\")" : String.format("REG%04d", i));
+			emp.setEmail("register" + i + "@neb.test");
+			emp.setLoginRole("employee");
+			employees.add(emp);
+		}
+
+		List<Payslip> payslips = new ArrayList<>();
+		for (Employee emp : empRepo.saveAll(employees)) {
+			Payslip p = new Payslip();
+			p.setEmployee(emp);
+			p.setPayslipMonth(MONTH);
+			p.setGrossSalary(1234.57);
+			p.setTotalDeductions(0.1);
+			p.setNetSalary(1234.47);
+			payslips.add(p);
+		}
+		payslipRepo.saveAll(payslips);
+	}
+
+	private byte[] export(ReportFormat format) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.exportPayrollRegister(MONTH, format, out);
+		return out.toByteArray();
+	}
+
+	@Test
+	void csvTotalsAreExactToThePaisa() throws Exception {
+		String[] lines = new String(export(ReportFormat.CSV), StandardCharsets.UTF_8).split("\r\n");
+
+		assertEquals(ROWS + 2, lines.length);
+		assertEquals("Total,,,,,,,,,,,246914.00,,,20.00,246894.00", lines[lines.length - 1]);
+	}
+
+	@Test
+	void csvQuotesSeparatorsAndDefusesFormulas() throws Exception {
+		String[] lines = new String(export(ReportFormat.CSV), StandardCharsets.UTF_8).split("\r\n");
+
+		assertEquals("\"'=HYPERLINK(\"\"x\"\")\",\"Rao, Jr.\",,,,,,,,,,1234.57,,,0.10,1234.47", lines[1]);
+	}
+
+	@Test
+	void xlsxTotalsAreNumbers() throws Exception {
+		try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(export(ReportFormat.XLSX)))) {
+			Sheet sheet = workbook.getSheetAt(0);
+			Row total = sheet.getRow(sheet.getLastRowNum());
+
+			assertEquals("Total", total.getCell(0).getStringCellValue());
+			assertEquals(246914.00, total.getCell(11).getNumericCellValue());
+			assertEquals(20.00, total.getCell(14).getNumericCellValue());
+			assertEquals(246894.00, total.getCell(15).getNumericCellValue());
+		}
+	}
+}
@@ -0,0 +1,155 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.neb.dto.FreeSlotDto;
+import com.neb.dto.ScheduleDTO;
+import com.neb.entity.Employee;
+import com.neb.exception.CustomeException;
+import com.neb.repo.EmployeeRepository;
+import com.neb.service.ScheduleService;
+
+@SpringBootTest
+class ScheduleServiceImplTest {
+
+	// far from now, so the schedule timer leaves these alone
+	private static final LocalDateTime DAY = LocalDateTime.of(2099, 3, 2, 0, 0);
+
+	@Autowired
+	private ScheduleService scheduleService;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	private Long employee() {
+		Employee emp = new Employee();
+		emp.setFirstName("Sched");
+		emp.setLoginRole("employee");
+		return empRepo.save(emp).getId();
+	}
+
+	private static ScheduleDTO schedule(Long employeeId, int fromHour, int toHour) {
+		ScheduleDTO dto = new ScheduleDTO();
+		dto.setTitle("Meeting");
+		dto.setEmployeeId(employeeId);
+		dto.setStartTime(DAY.plusHours(fromHour));
+		dto.setEndTime(DAY.plusHours(toHour));
+		return dto;
+	}
+
+	@Test
+	void overlappingScheduleIsRejected() {
+		Long emp = employee();
+		Long first = scheduleService.createSchedule(schedule(emp, 10, 12), false).getId();
+
+		CustomeException e = assertThrows(CustomeException.class,
+				() -> scheduleService.createSchedule(schedule(emp, 11, 13), false));
+		assertTrue(e.getMessage().contains("[" + first + "]"), e.getMessage());
+		assertThrows(CustomeException.class, () -> scheduleService.createSchedule(schedule(emp, 9, 15), false));
+		assertThrows(CustomeException.class, () -> scheduleService.createSchedule(schedule(emp, 10, 11), false));
+	}
+
+	@Test
+	void adjacentSchedulesAndOtherEmployeesDoNotConflict() {
+		Long emp = employee();
+		scheduleService.createSchedule(schedule(emp, 10, 12), false);
+
+		assertNull(scheduleService.createSchedule(schedule(emp, 12, 13), false).getConflictingScheduleIds());
+		assertNull(scheduleService.createSchedule(schedule(emp, 8, 10), false).getConflictingScheduleIds());
+		assertNotNull(scheduleService.createSchedule(schedule(employee(), 10, 12), false).getId());
+	}
+
+	@Test
+	void longEarlierScheduleStillConflicts() {
+		Long emp = employee();
+		scheduleService.createSchedule(schedule(emp, -20, 3), false);   // 23 hours, started the day before
+
+		assertThrows(CustomeException.class, () -> scheduleService.createSchedule(schedule(emp, 2, 4), false));
+	}
+
+	@Test
+	void allowOverlapSavesAndListsConflicts() {
+		Long emp = employee();
+		Long first = scheduleService.createSchedule(schedule(emp, 10, 12), false).getId();
+		Long second = scheduleService.createSchedule(schedule(emp, 11, 12), true).getId();
+
+		ScheduleDTO third = scheduleService.createSchedule(schedule(emp, 11, 14), true);
+
+		assertEquals(List.of(first, second), third.getConflictingScheduleIds());
+		assertEquals(3, scheduleService.getSchedulesByEmployee(emp, DAY, DAY.plusDays(1)).size());
+	}
+
+	@Test
+	void invalidRangesAreRejected() {
+		Long emp = employee();
+
+		assertThrows(CustomeException.class, () -> scheduleService.createSchedule(schedule(emp, 12, 12), false));
+		assertThrows(CustomeException.class, () -> scheduleService.createSchedule(schedule(emp, 12, 11), false));
+		assertThrows(CustomeException.class, () -> scheduleService.createSchedule(schedule(emp, 0, 25), false));
+		assertThrows(CustomeException.class, () -> scheduleService.createSchedule(schedule(null, 1, 2), false));
+		assertThrows(CustomeException.class, () -> scheduleService.createSchedule(schedule(-1L, 1, 2), false));
+	}
+
+	@Test
+	void concurrentBookingsOfOneSlotSaveOnlyOne() throws Exception {
+		Long emp = employee();
+		int threads = 8;
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Long>> results = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				results.add(pool.submit(() -> {
+					start.await();
+					try {
+						return scheduleService.createSchedule(schedule(emp, 10, 11), false).getId();
+					} catch (CustomeException e) {
+						return null;
+					}
+				}));
+			}
+			start.countDown();
+
+			int saved = 0;
+			for (Future<Long> result : results) {
+				saved += result.get() != null ? 1 : 0;
+			}
+			assertEquals(1, saved);
+			assertEquals(1, scheduleService.getSchedulesByEmployee(emp, DAY, DAY.plusDays(1)).size());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void freeSlotsAreTheGapsOfAllEmployees() {
+		Long a = employee();
+		Long b = employee();
+		scheduleService.createSchedule(schedule(a, 9, 10), false);
+		scheduleService.createSchedule(schedule(b, 11, 12), false);
+		scheduleService.createSchedule(schedule(a, 11, 13), false);
+
+		List<FreeSlotDto> slots = scheduleService.findFreeSlots(List.of(a, b), DAY.plusHours(8), DAY.plusHours(18), 30);
+
+		assertEquals(List.of(
+				new FreeSlotDto(DAY.plusHours(8), DAY.plusHours(9)),
+				new FreeSlotDto(DAY.plusHours(10), DAY.plusHours(11)),
+				new FreeSlotDto(DAY.plusHours(13), DAY.plusHours(18))), slots);
+	}
+}
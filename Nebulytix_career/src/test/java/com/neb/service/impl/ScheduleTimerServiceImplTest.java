@@ -0,0 +1,108 @@
+package com.neb.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.neb.dto.ScheduleDTO;
+import com.neb.entity.Employee;
+import com.neb.entity.Schedule;
+import com.neb.repo.EmployeeRepository;
+import com.neb.repo.ScheduleRepository;
+import com.neb.service.ScheduleService;
+import com.neb.service.ScheduleTimerService;
+
+@SpringBootTest(properties = "schedule.timer.tick-ms=100")
+class ScheduleTimerServiceImplTest {
+
+	@Autowired
+	private ScheduleTimerService timerService;
+
+	@Autowired
+	private ScheduleService scheduleService;
+
+	@Autowired
+	private ScheduleRepository scheduleRepository;
+
+	@Autowired
+	private EmployeeRepository empRepo;
+
+	private Employee employee() {
+		Employee emp = new Employee();
+		emp.setFirstName("Timer");
+		emp.setLoginRole("employee");
+		return empRepo.save(emp);
+	}
+
+	// the scheduled tick runs too, so wait for the row rather than for one tick() result
+	private String statusAfterTicks(Long scheduleId) throws InterruptedException {
+		for (int i = 0; i < 50; i++) {
+			timerService.tick();
+			String status = scheduleRepository.findById(scheduleId).orElseThrow().getStatus();
+			if (!"UPCOMING".equals(status)) {
+				return status;
+			}
+			Thread.sleep(100);
+		}
+		return "UPCOMING";
+	}
+
+	@Test
+	void createdScheduleIsCompletedAfterItEnds() throws Exception {
+		ScheduleDTO dto = new ScheduleDTO();
+		dto.setTitle("Stand-up");
+		dto.setEmployeeId(employee().getId());
+		dto.setStartTime(LocalDateTime.now().minusMinutes(15));
+		dto.setEndTime(LocalDateTime.now().plusSeconds(1));
+
+		Long id = scheduleService.createSchedule(dto, false).getId();
+
+		assertEquals("UPCOMING", scheduleRepository.findById(id).orElseThrow().getStatus());
+		assertEquals("COMPLETED", statusAfterTicks(id));
+	}
+
+	@Test
+	void loadDuePicksUpUntrackedSchedules() throws Exception {
+		Schedule s = new Schedule();
+		s.setTitle("Saved elsewhere");
+		s.setEmployee(employee());
+		s.setStatus("UPCOMING");
+		s.setStartTime(LocalDateTime.now().minusHours(1));
+		s.setEndTime(LocalDateTime.now().minusMinutes(1));
+		Long id = scheduleRepository.save(s).getId();
+
+		assertTrue(timerService.loadDue() >= 1);
+		assertEquals("COMPLETED", statusAfterTicks(id));
+	}
+
+	@Test
+	void laterAndCancelledSchedulesAreLeftAlone() throws Exception {
+		Schedule later = new Schedule();
+		later.setTitle("Tomorrow");
+		later.setEmployee(employee());
+		later.setStatus("UPCOMING");
+		later.setStartTime(LocalDateTime.now().plusDays(1));
+		later.setEndTime(LocalDateTime.now().plusDays(1).plusHours(1));
+		Long laterId = scheduleRepository.save(later).getId();
+
+		Schedule cancelled = new Schedule();
+		cancelled.setTitle("Called off");
+		cancelled.setEmployee(employee());
+		cancelled.setStatus("CANCELLED");
+		cancelled.setStartTime(LocalDateTime.now().minusHours(2));
+		cancelled.setEndTime(LocalDateTime.now().minusHours(1));
+		Long cancelledId = scheduleRepository.save(cancelled).getId();
+
+		timerService.loadDue();
+		Thread.sleep(300);
+		timerService.tick();
+
+		assertEquals("UPCOMING", scheduleRepository.findById(laterId).orElseThrow().getStatus());
+		assertEquals("CANCELLED", scheduleRepository.findById(cancelledId).orElseThrow().getStatus());
+	}
+}
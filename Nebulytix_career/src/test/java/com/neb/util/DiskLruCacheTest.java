@@ -0,0 +1,142 @@
+package com.neb.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DiskLruCacheTest {
+
+	@TempDir
+	Path dir;
+
+	private static byte[] bytes(int size) {
+		return new byte[size];
+	}
+
+	@Test
+	void missLoadsOnceThenHits() throws IOException {
+		DiskLruCache cache = new DiskLruCache(dir, 1000, 0);
+		AtomicInteger loads = new AtomicInteger();
+
+		Path first = cache.get("a.pdf", out -> {
+			loads.incrementAndGet();
+			out.write(new byte[] { 1, 2, 3 });
+		});
+		Path second = cache.get("a.pdf", out -> {
+			loads.incrementAndGet();
+			out.write(new byte[] { 9 });
+		});
+
+		assertEquals(first, second);
+		assertEquals(1, loads.get());
+		assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(first));
+		assertEquals(3, cache.getTotalBytes());
+	}
+
+	@Test
+	void leastRecentlyUsedIsEvictedOverTheLimit() throws IOException {
+		DiskLruCache cache = new DiskLruCache(dir, 250, 0);
+		Path a = cache.get("a", out -> out.write(bytes(100)));
+		Path b = cache.get("b", out -> out.write(bytes(100)));
+		cache.get("a", out -> out.write(bytes(100)));   // a is now more recent than b
+
+		Path c = cache.get("c", out -> out.write(bytes(100)));
+
+		assertTrue(Files.exists(a));
+		assertFalse(Files.exists(b));
+		assertTrue(Files.exists(c));
+		assertEquals(2, cache.size());
+		assertEquals(200, cache.getTotalBytes());
+	}
+
+	@Test
+	void pinnedFilesSurviveEviction() throws IOException {
+		DiskLruCache cache = new DiskLruCache(dir, 150, 60_000);
+		Path a = cache.get("a", out -> out.write(bytes(100)));
+
+		Path b = cache.get("b", out -> out.write(bytes(100)));
+
+		// both pinned: briefly over the limit rather than deleting a file about to be read
+		assertTrue(Files.exists(a));
+		assertTrue(Files.exists(b));
+		assertEquals(200, cache.getTotalBytes());
+	}
+
+	@Test
+	void concurrentMissesRunTheLoaderOnce() throws Exception {
+		DiskLruCache cache = new DiskLruCache(dir, 1000, 0);
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Path>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(pool.submit(() -> {
+					start.await();
+					return cache.get("same", out -> {
+						loads.incrementAndGet();
+						Thread.sleep(100);
+						out.write(bytes(10));
+					});
+				}));
+			}
+			start.countDown();
+
+			for (Future<Path> result : results) {
+				assertEquals(dir.resolve("same"), result.get());
+			}
+			assertEquals(1, loads.get());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void existingFilesAreIndexedOldestFirstAndPartsRemoved() throws IOException {
+		Path old = Files.write(dir.resolve("old"), bytes(100));
+		Files.setLastModifiedTime(old, FileTime.fromMillis(1_000));
+		Path recent = Files.write(dir.resolve("recent"), bytes(100));
+		Path part = Files.write(dir.resolve("crashed-1.part"), bytes(50));
+
+		DiskLruCache cache = new DiskLruCache(dir, 150, 0);
+
+		assertFalse(Files.exists(part));
+		assertFalse(Files.exists(old));
+		assertTrue(Files.exists(recent));
+		assertEquals(100, cache.getTotalBytes());
+	}
+
+	@Test
+	void badKeysAndFailingLoadersLeaveNothingBehind() throws IOException {
+		DiskLruCache cache = new DiskLruCache(dir, 1000, 0);
+
+		assertThrows(IllegalArgumentException.class, () -> cache.get("../escape", out -> out.write(bytes(1))));
+		assertThrows(IllegalArgumentException.class, () -> cache.get("x.part", out -> out.write(bytes(1))));
+		IOException e = assertThrows(IOException.class, () -> cache.get("broken", out -> {
+			throw new IllegalStateException("render failed");
+		}));
+		assertTrue(e.getMessage().contains("render failed"), e.getMessage());
+
+		assertEquals(0, cache.size());
+		try (var files = Files.list(dir)) {
+			assertEquals(0, files.count());
+		}
+	}
+}
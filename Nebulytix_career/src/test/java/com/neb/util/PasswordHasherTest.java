@@ -0,0 +1,69 @@
+package com.neb.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PasswordHasherTest {
+
+	private final PasswordHasher hasher = new PasswordHasher(PasswordHasher.MIN_ITERATIONS);
+
+	@Test
+	void hashVerifiesOnlyTheSamePassword() {
+		String stored = hasher.hash("s3cret!");
+
+		assertTrue(stored.startsWith(PasswordHasher.PREFIX + PasswordHasher.MIN_ITERATIONS + "$"));
+		assertTrue(hasher.verify("s3cret!", stored));
+		assertFalse(hasher.verify("s3cret", stored));
+		assertFalse(hasher.verify(null, stored));
+	}
+
+	@Test
+	void samePasswordGetsADifferentSalt() {
+		assertNotEquals(hasher.hash("s3cret!"), hasher.hash("s3cret!"));
+	}
+
+	@Test
+	void hashVerifiesWithTheCostItWasMadeWith() {
+		String stored = hasher.hash("s3cret!");
+
+		assertTrue(new PasswordHasher(200_000).verify("s3cret!", stored));
+	}
+
+	@Test
+	void legacyPlaintextStillVerifies() {
+		assertTrue(hasher.verify("plain", "plain"));
+		assertFalse(hasher.verify("plain", "Plain"));
+	}
+
+	@Test
+	void malformedHashDoesNotVerify() {
+		assertFalse(hasher.verify("x", PasswordHasher.PREFIX + "abc$def"));
+		assertFalse(hasher.verify("x", PasswordHasher.PREFIX + "x$AAAA$AAAA"));
+		assertFalse(hasher.verify("x", PasswordHasher.PREFIX + "0$AAAA$AAAA"));
+		assertFalse(hasher.verify("x", PasswordHasher.PREFIX + "100000$!!$AAAA"));
+	}
+
+	@Test
+	void costBelowTheFloorIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> new PasswordHasher(PasswordHasher.MIN_ITERATIONS - 1));
+		assertEquals(PasswordHasher.MIN_ITERATIONS, hasher.getIterations());
+	}
+
+	@Test
+	void plaintextAndCheaperHashesNeedRehash() {
+		String cheap = hasher.hash("s3cret!");
+		PasswordHasher stronger = new PasswordHasher(200_000);
+
+		assertTrue(hasher.needsRehash("plain"));
+		assertTrue(hasher.needsRehash(null));
+		assertTrue(hasher.needsRehash(PasswordHasher.PREFIX + "abc"));
+		assertFalse(hasher.needsRehash(cheap));
+		assertTrue(stronger.needsRehash(cheap));
+		assertFalse(hasher.needsRehash(stronger.hash("s3cret!")));
+	}
+}
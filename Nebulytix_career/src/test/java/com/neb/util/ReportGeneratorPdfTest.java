@@ -0,0 +1,99 @@
+package com.neb.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+import com.neb.constants.WorkStatus;
+import com.neb.dto.DailyReportRow;
+
+class ReportGeneratorPdfTest {
+
+	private static final LocalDate DAY = LocalDate.of(2099, 8, 1);
+
+	// remembers whether the generator closed it
+	private static class OpenAwareStream extends ByteArrayOutputStream {
+		boolean closed;
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+
+	private static DailyReportRow row(int i) {
+		return new DailyReportRow(String.format("NEB%04d", i), "First" + i, "Last" + i, "developer",
+				"Task " + i, WorkStatus.COMPLETED, "Details " + i);
+	}
+
+	private static String text(byte[] pdf) throws Exception {
+		PdfReader reader = new PdfReader(pdf);
+		try {
+			StringBuilder text = new StringBuilder();
+			for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+				text.append(PdfTextExtractor.getTextFromPage(reader, page)).append('\n');
+			}
+			return text.toString();
+		} finally {
+			reader.close();
+		}
+	}
+
+	@Test
+	void earlyRowsAreWrittenBeforeTheLastOnesAreRead() throws Exception {
+		OpenAwareStream out = new OpenAwareStream();
+		int[] writtenWhenRead = new int[450];
+		Stream<DailyReportRow> rows = IntStream.range(0, 450)
+				.mapToObj(ReportGeneratorPdfTest::row)
+				.peek(r -> writtenWhenRead[Integer.parseInt(r.cardNumber().substring(3))] = out.size());
+
+		new ReportGeneratorPdf().writeDailyReportPDF(rows, DAY, out);
+
+		// the first 400 rows reached the output while the rest were still unread
+		assertTrue(writtenWhenRead[400] > writtenWhenRead[0],
+				writtenWhenRead[0] + " bytes before the first row, " + writtenWhenRead[400] + " before row 400");
+		assertFalse(out.closed);
+
+		String text = text(out.toByteArray());
+		assertTrue(text.contains("NEB0000"));
+		assertTrue(text.contains("NEB0449"));
+		assertTrue(text.contains("Task 449"));
+	}
+
+	@Test
+	void rowsKeepTheirOrderAcrossFlushes() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		new ReportGeneratorPdf().writeDailyReportPDF(IntStream.range(0, 250).mapToObj(ReportGeneratorPdfTest::row), DAY,
+				out);
+
+		String text = text(out.toByteArray());
+		int previous = -1;
+		for (int i = 0; i < 250; i++) {
+			int at = text.indexOf(String.format("NEB%04d", i));
+			assertTrue(at > previous, "row " + i + " out of order");
+			previous = at;
+		}
+	}
+
+	@Test
+	void emptyDaySaysSo() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		new ReportGeneratorPdf().writeDailyReportPDF(Stream.empty(), DAY, out);
+
+		String text = text(out.toByteArray());
+		assertTrue(text.contains("No reports were submitted on this date."));
+		assertTrue(text.contains("Submitted Date: " + DAY));
+		assertEquals(1, new PdfReader(out.toByteArray()).getNumberOfPages());
+	}
+}
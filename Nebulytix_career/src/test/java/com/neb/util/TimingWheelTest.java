@@ -0,0 +1,108 @@
+package com.neb.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+	@Test
+	void timerNeverFiresBeforeItsDeadline() {
+		TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+		wheel.add("a", 1050);
+
+		assertTrue(wheel.advance(1000).isEmpty());
+		assertTrue(wheel.advance(1099).isEmpty());
+		assertEquals(List.of("a"), wheel.advance(1100));
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void timerSeveralTurnsAwayWaitsForItsTurn() {
+		TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+		wheel.add("later", 200);   // tick 20, same slot as tick 4 and 12
+
+		assertTrue(wheel.advance(45).isEmpty());
+		assertTrue(wheel.advance(125).isEmpty());
+		assertEquals(1, wheel.size());
+		assertEquals(List.of("later"), wheel.advance(200));
+	}
+
+	@Test
+	void everythingDueFiresAfterALongPause() {
+		TimingWheel<Integer> wheel = new TimingWheel<>(10, 8, 0);
+		Set<Integer> added = new HashSet<>();
+		for (int deadline = 5; deadline <= 5000; deadline += 7) {
+			wheel.add(deadline, deadline);
+			added.add(deadline);
+		}
+		wheel.add(-1, 1_000_000);
+
+		// no advance() for many turns of the wheel, e.g. a stalled scheduler thread
+		List<Integer> expired = wheel.advance(100_000);
+
+		assertEquals(added, new HashSet<>(expired));
+		assertEquals(added.size(), expired.size());
+		assertEquals(1, wheel.size());
+	}
+
+	@Test
+	void pauseDoesNotFireLaterTimers() {
+		TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+		wheel.add("due", 300);
+		wheel.add("not yet", 5010);
+
+		assertEquals(List.of("due"), wheel.advance(5000));
+		assertEquals(List.of("not yet"), wheel.advance(5010));
+	}
+
+	@Test
+	void timerAddedInThePastFiresOnNextTick() {
+		TimingWheel<String> wheel = new TimingWheel<>(10, 8, 0);
+		wheel.advance(500);
+		wheel.add("overdue", 100);
+
+		assertTrue(wheel.advance(505).isEmpty());
+		assertEquals(List.of("overdue"), wheel.advance(510));
+	}
+
+	@Test
+	void clockGoingBackFiresNothing() {
+		TimingWheel<String> wheel = new TimingWheel<>(10, 8, 1_000);
+		wheel.add("a", 1_050);
+		wheel.advance(1_040);
+
+		assertTrue(wheel.advance(1_000).isEmpty());
+		assertEquals(List.of("a"), wheel.advance(1_050));
+	}
+
+	@Test
+	void advanceInSmallStepsMatchesDeadlines() {
+		TimingWheel<Long> wheel = new TimingWheel<>(10, 4, 0);
+		for (long deadline = 0; deadline < 500; deadline += 13) {
+			wheel.add(deadline, deadline);
+		}
+
+		List<Long> order = new ArrayList<>();
+		for (long now = 0; now <= 500; now += 10) {
+			for (Long deadline : wheel.advance(now)) {
+				assertTrue(deadline <= now, deadline + " fired at " + now);
+				assertTrue(deadline > now - 10, deadline + " fired late at " + now);
+				order.add(deadline);
+			}
+		}
+		assertEquals(39, order.size());
+	}
+
+	@Test
+	void tickMustBePositive() {
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(0, 8, 0));
+	}
+}
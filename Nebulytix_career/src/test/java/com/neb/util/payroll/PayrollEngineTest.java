@@ -0,0 +1,129 @@
+package com.neb.util.payroll;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.neb.entity.Employee;
+
+class PayrollEngineTest {
+
+	private static Employee employee(Double salary, String domain, String jobRole) {
+		Employee emp = new Employee();
+		emp.setSalary(salary);
+		emp.setDomain(domain);
+		emp.setJobRole(jobRole);
+		return emp;
+	}
+
+	@Test
+	void standardRuleSplitsToThePaisa() {
+		PayrollBatch b = PayrollEngine.standard().calculate(List.of(employee(12345.67, "Java", "developer")));
+
+		assertEquals(1234567, b.salary(0));
+		assertEquals(654321, b.basic(0));     // 53%, 654320.51 rounded half-up
+		assertEquals(246913, b.hra(0));       // 20%, 246913.40 rounded half-up
+		assertEquals(333333, b.flexi(0));     // remainder
+		assertEquals(1234567, b.gross(0));
+		assertEquals(78519, b.pf(0));         // 12% of basic
+		assertEquals(20000, b.profTax(0));
+		assertEquals(98519, b.deductions(0));
+		assertEquals(1136048, b.net(0));
+		assertEquals(56802, b.taxCredit(0));  // 5% of net
+	}
+
+	@Test
+	void grossEqualsSalaryWhenSharesAddUpToHundred() {
+		long[] salaries = { 1, 3, 99, 100001, 3333333, 123456789 };
+		PayrollBatch b = PayrollEngine.standard().calculate(salaries, new String[6], new String[6]);
+
+		for (int i = 0; i < b.size(); i++) {
+			assertEquals(salaries[i], b.gross(i));
+			assertEquals(b.basic(i) + b.hra(i) + b.flexi(i), b.gross(i));
+			assertEquals(b.gross(i) - b.deductions(i), b.net(i));
+		}
+	}
+
+	@Test
+	void sharesBelowHundredAreEachRounded() {
+		PayrollRules rules = PayrollRules.parse("basic=60, hra=25, flexi=10, prof-tax=0", null);
+		PayrollBatch b = new PayrollEngine(rules).calculate(List.of(employee(50000.0, null, null)));
+
+		assertEquals(3000000, b.basic(0));
+		assertEquals(1250000, b.hra(0));
+		assertEquals(500000, b.flexi(0));
+		assertEquals(4750000, b.gross(0));
+		assertEquals(360000, b.deductions(0));
+	}
+
+	@Test
+	void rulesApplyByRoleThenDomain() {
+		PayrollRules rules = PayrollRules.parse("", "domain:Java -> pf=10; role:intern -> pf=0;"
+				+ " Java/lead -> pf=15, prof-tax=250.50");
+		PayrollEngine engine = new PayrollEngine(rules);
+		PayrollBatch b = engine.calculate(List.of(
+				employee(1000.0, "java ", "developer"),
+				employee(1000.0, "Java", "intern"),
+				employee(1000.0, "Java", "Lead"),
+				employee(1000.0, ".Net", "developer")));
+
+		assertEquals(5300, b.pf(0));   // 10% of 53000
+		assertEquals(0, b.pf(1));
+		assertEquals(7950, b.pf(2));   // 15% of 53000
+		assertEquals(25050, b.profTax(2));
+		assertEquals(6360, b.pf(3));   // default 12%
+		assertEquals(20000, b.profTax(3));
+	}
+
+	@Test
+	void columnarInputMatchesEmployees() {
+		PayrollEngine engine = new PayrollEngine(PayrollRules.parse("", "role:intern -> basic=40, hra=10, flexi=50"));
+		PayrollBatch fromEmployees = engine.calculate(List.of(
+				employee(25000.5, "Java", "intern"), employee(81234.99, "Python", "developer")));
+		PayrollBatch fromColumns = engine.calculate(new long[] { 2500050, 8123499 },
+				new String[] { "Java", "Python" }, new String[] { "intern", "developer" });
+
+		for (int i = 0; i < 2; i++) {
+			assertArrayEquals(
+					new long[] { fromEmployees.basic(i), fromEmployees.hra(i), fromEmployees.flexi(i),
+							fromEmployees.net(i), fromEmployees.taxCredit(i) },
+					new long[] { fromColumns.basic(i), fromColumns.hra(i), fromColumns.flexi(i),
+							fromColumns.net(i), fromColumns.taxCredit(i) });
+		}
+	}
+
+	@Test
+	void totalsAreExactSums() {
+		PayrollBatch b = PayrollEngine.standard().calculate(List.of(
+				employee(0.1, null, null), employee(0.2, null, null), employee(30000.0, null, null)));
+
+		assertEquals(3000030, b.totalGross());
+		assertEquals(b.net(0) + b.net(1) + b.net(2), b.totalNet());
+		assertEquals(b.totalGross() - b.totalDeductions(), b.totalNet());
+		assertEquals(new BigDecimal("30000.30"), PayrollBatch.toDecimal(b.totalGross()));
+	}
+
+	@Test
+	void salariesConvertToPaiseHalfUp() {
+		assertEquals(30, PayrollEngine.toPaise(0.1 + 0.2));
+		assertEquals(1234568, PayrollEngine.toPaise(12345.675));
+		assertEquals(-150, PayrollEngine.toPaise(-1.5));
+		assertEquals(0, PayrollEngine.toPaise(null));
+		assertEquals(0, PayrollEngine.toPaise(Double.NaN));
+	}
+
+	@Test
+	void invalidRulesAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> PayrollRules.parse("basic=60, hra=50", null));
+		assertThrows(IllegalArgumentException.class, () -> PayrollRules.parse("basic=53.125", null));
+		assertThrows(IllegalArgumentException.class, () -> PayrollRules.parse("bonus=5", null));
+		assertThrows(IllegalArgumentException.class, () -> PayrollRules.parse("pf=-1", null));
+		assertThrows(IllegalArgumentException.class, () -> PayrollRules.parse("", "team:x -> pf=1"));
+		assertThrows(IllegalArgumentException.class, () -> PayrollRules.parse("", "domain:Java pf=1"));
+	}
+}